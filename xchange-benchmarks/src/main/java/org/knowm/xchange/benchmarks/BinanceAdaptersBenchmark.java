@@ -0,0 +1,107 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.binance.BinanceAdapters;
+import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
+import org.knowm.xchange.binance.dto.trade.BinanceOrder;
+import org.knowm.xchange.binance.service.BinanceMarketDataService;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BinanceAdapters} on the Binance module's order fixture, and a depth snapshot read either
+ * through {@link BinanceOrderbook} or straight into a {@link ScaledOrderBook}. There is no depth
+ * fixture, so the snapshot is generated: 100 levels a side, the default depth of the endpoint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinanceAdaptersBenchmark {
+
+  private static final int LEVELS = 100;
+
+  private byte[] orderJson;
+  private BinanceOrder order;
+  private byte[] depthJson;
+  private ScaledOrderBook scaledBook;
+
+  @Setup
+  public void setUp() {
+
+    orderJson = Fixtures.load("/filled-market-order.json");
+    order = Fixtures.parse(orderJson, BinanceOrder.class);
+    depthJson = depthSnapshot().getBytes(StandardCharsets.UTF_8);
+    scaledBook = new ScaledOrderBook(CurrencyPair.BTC_USDT, 8, 8);
+  }
+
+  private static String depthSnapshot() {
+
+    Random random = new Random(1);
+    StringBuilder json = new StringBuilder("{\"lastUpdateId\":1027024,\"bids\":[");
+    for (int i = 0; i < LEVELS; i++) {
+      level(json, i, 9000 - i * 0.01, random);
+    }
+    json.append("],\"asks\":[");
+    for (int i = 0; i < LEVELS; i++) {
+      level(json, i, 9000.01 + i * 0.01, random);
+    }
+    return json.append("]}").toString();
+  }
+
+  private static void level(StringBuilder json, int i, double price, Random random) {
+
+    if (i > 0) {
+      json.append(',');
+    }
+    json.append(
+        String.format(Locale.ROOT, "[\"%.8f\",\"%.8f\",[]]", price, random.nextDouble() * 10));
+  }
+
+  @Benchmark
+  public Order adaptOrder() {
+
+    return BinanceAdapters.adaptOrder(order);
+  }
+
+  @Benchmark
+  public Order parseAndAdaptOrder() {
+
+    return BinanceAdapters.adaptOrder(Fixtures.parse(orderJson, BinanceOrder.class));
+  }
+
+  @Benchmark
+  public OrderBook parseAndAdaptOrderBook() {
+
+    return BinanceMarketDataService.convertOrderBook(
+        Fixtures.parse(depthJson, BinanceOrderbook.class), CurrencyPair.BTC_USDT);
+  }
+
+  @Benchmark
+  public ScaledOrderBook parseScaledOrderBook() throws IOException {
+
+    try (JsonParser parser = Fixtures.MAPPER.getFactory().createParser(depthJson)) {
+      BinanceAdapters.adaptOrderBook(parser, scaledBook);
+    }
+    return scaledBook;
+  }
+}
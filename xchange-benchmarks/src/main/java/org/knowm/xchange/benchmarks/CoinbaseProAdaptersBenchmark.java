@@ -0,0 +1,70 @@
+package org.knowm.xchange.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductStats;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductTicker;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProFill;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProOrder;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link CoinbaseProAdapters} on the Coinbase Pro module's fixtures, parsing included. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoinbaseProAdaptersBenchmark {
+
+  private static final String DTO = "/org/knowm/xchange/coinbasepro/dto/";
+
+  private byte[] tickerJson;
+  private byte[] statsJson;
+  private byte[] fillsJson;
+  private byte[] orderJson;
+
+  @Setup
+  public void setUp() {
+
+    tickerJson = Fixtures.load(DTO + "marketdata/example-ticker-data.json");
+    statsJson = Fixtures.load(DTO + "marketdata/example-stats-data.json");
+    fillsJson = Fixtures.load(DTO + "trade/example-fills.json");
+    orderJson = Fixtures.load(DTO + "order/example-limit-order-filled.json");
+  }
+
+  @Benchmark
+  public Ticker parseAndAdaptTicker() {
+
+    return CoinbaseProAdapters.adaptTicker(
+        Fixtures.parse(tickerJson, CoinbaseProProductTicker.class),
+        Fixtures.parse(statsJson, CoinbaseProProductStats.class),
+        CurrencyPair.BTC_USD);
+  }
+
+  @Benchmark
+  public UserTrades parseAndAdaptFills() {
+
+    return CoinbaseProAdapters.adaptTradeHistory(
+        Fixtures.parse(fillsJson, CoinbaseProFill[].class));
+  }
+
+  @Benchmark
+  public Order parseAndAdaptOrder() {
+
+    return CoinbaseProAdapters.adaptOrder(Fixtures.parse(orderJson, CoinbaseProOrder.class));
+  }
+}
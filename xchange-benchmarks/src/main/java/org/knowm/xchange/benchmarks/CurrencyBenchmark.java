@@ -0,0 +1,62 @@
+package org.knowm.xchange.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of currency pair symbols and lookup of currency codes, which adapters do for every
+ * ticker, trade and order they convert.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyBenchmark {
+
+  public String pair = "BTC/USD";
+  public String code = "BTC";
+  public String lowerCaseCode = "btc";
+  public String alternativeCode = "XBT";
+
+  @Benchmark
+  public CurrencyPair currencyPairFromString() {
+
+    return new CurrencyPair(pair);
+  }
+
+  @Benchmark
+  public Currency getInstance() {
+
+    return Currency.getInstance(code);
+  }
+
+  @Benchmark
+  public Currency getInstanceLowerCase() {
+
+    return Currency.getInstance(lowerCaseCode);
+  }
+
+  @Benchmark
+  public Currency getInstanceAlternativeCode() {
+
+    return Currency.getInstance(alternativeCode);
+  }
+
+  @Benchmark
+  public Currency getInstanceFromChars() {
+
+    return Currency.getInstanceNoCreate(pair, 0, 3);
+  }
+}
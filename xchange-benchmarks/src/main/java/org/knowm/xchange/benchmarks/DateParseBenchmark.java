@@ -0,0 +1,53 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.utils.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading an ISO timestamp, as every trade in a history download does: with a new {@link
+ * SimpleDateFormat} per call, as {@link DateUtils} did, against the fixed format reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParseBenchmark {
+
+  private final String timestamp = "2019-03-14T09:26:53.589Z";
+
+  @Benchmark
+  public Date simpleDateFormat() throws ParseException {
+
+    SimpleDateFormat isoDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    isoDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    return isoDateFormat.parse(timestamp);
+  }
+
+  @Benchmark
+  public Date fixedFormat() throws InvalidFormatException {
+
+    return DateUtils.fromISODateString(timestamp);
+  }
+
+  @Benchmark
+  public long fixedFormatMillis() throws InvalidFormatException {
+
+    return DateUtils.millisFromISODateString(timestamp);
+  }
+}
@@ -0,0 +1,172 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicOrder;
+import org.knowm.xchange.utils.jackson.DecimalLevelsReader;
+import org.knowm.xchange.utils.jackson.PriceAmountListsDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binding one side of a depth snapshot with {@link DecimalLevelsReader}, against the approaches it
+ * replaced: a {@link JsonNode} tree per level, as Kraken did, untyped arrays converted through
+ * strings, as Binance did, and Jackson's default binding of {@code List<List<BigDecimal>>}, as
+ * Poloniex and Bitstamp did. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepthDeserializationBenchmark {
+
+  private static final TypeReference<List<List<BigDecimal>>> LISTS =
+      new TypeReference<List<List<BigDecimal>>>() {};
+  private static final TypeReference<List<Object[]>> OBJECT_ARRAYS =
+      new TypeReference<List<Object[]>>() {};
+  private static final PriceAmountListsDeserializer LISTS_DESERIALIZER =
+      new PriceAmountListsDeserializer();
+
+  @Param({"100", "500"})
+  public int levels;
+
+  private byte[] krakenJson;
+  private byte[] binanceJson;
+  private byte[] listsJson;
+
+  @Setup
+  public void setUp() {
+
+    Random random = new Random(1);
+    StringBuilder kraken = new StringBuilder("[");
+    StringBuilder binance = new StringBuilder("[");
+    StringBuilder lists = new StringBuilder("[");
+    for (int i = 0; i < levels; i++) {
+      if (i > 0) {
+        kraken.append(',');
+        binance.append(',');
+        lists.append(',');
+      }
+      double price = 9000 - i * 0.1;
+      double amount = random.nextDouble() * 10;
+      kraken.append(
+          String.format(
+              Locale.ROOT,
+              "[\"%.1f\",\"%.3f\",%d]",
+              price,
+              amount,
+              1546300800 + random.nextInt(86400)));
+      binance.append(String.format(Locale.ROOT, "[\"%.8f\",\"%.8f\",[]]", price, amount));
+      lists.append(String.format(Locale.ROOT, "[\"%.8f\",\"%.8f\"]", price, amount));
+    }
+    krakenJson = kraken.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    binanceJson = binance.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    listsJson = lists.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public KrakenPublicOrder[] krakenStreaming() {
+
+    return Fixtures.parse(krakenJson, KrakenPublicOrder[].class);
+  }
+
+  @Benchmark
+  public TreeKrakenOrder[] krakenTree() {
+
+    return Fixtures.parse(krakenJson, TreeKrakenOrder[].class);
+  }
+
+  @Benchmark
+  public List<List<BigDecimal>> listsStreaming() throws IOException {
+
+    try (JsonParser parser = Fixtures.MAPPER.getFactory().createParser(listsJson)) {
+      parser.nextToken();
+      return LISTS_DESERIALIZER.deserialize(parser, null);
+    }
+  }
+
+  @Benchmark
+  public List<List<BigDecimal>> listsDefault() throws IOException {
+
+    return Fixtures.MAPPER.readValue(listsJson, LISTS);
+  }
+
+  @Benchmark
+  public List<List<BigDecimal>> binanceStreaming() throws IOException {
+
+    try (JsonParser parser = Fixtures.MAPPER.getFactory().createParser(binanceJson)) {
+      parser.nextToken();
+      return LISTS_DESERIALIZER.deserialize(parser, null);
+    }
+  }
+
+  @Benchmark
+  public List<BigDecimal[]> binanceObjectArrays() throws IOException {
+
+    List<Object[]> levels = Fixtures.MAPPER.readValue(binanceJson, OBJECT_ARRAYS);
+    List<BigDecimal[]> result = new ArrayList<>(levels.size());
+    for (Object[] level : levels) {
+      result.add(
+          new BigDecimal[] {
+            new BigDecimal(level[0].toString()), new BigDecimal(level[1].toString())
+          });
+    }
+    return result;
+  }
+
+  /** How {@link KrakenPublicOrder} was bound before it read the tokens directly. */
+  @JsonDeserialize(using = TreeKrakenOrderDeserializer.class)
+  public static final class TreeKrakenOrder {
+
+    final BigDecimal price;
+    final BigDecimal volume;
+    final long timestamp;
+
+    TreeKrakenOrder(BigDecimal price, BigDecimal volume, long timestamp) {
+
+      this.price = price;
+      this.volume = volume;
+      this.timestamp = timestamp;
+    }
+  }
+
+  static final class TreeKrakenOrderDeserializer extends JsonDeserializer<TreeKrakenOrder> {
+
+    @Override
+    public TreeKrakenOrder deserialize(JsonParser jsonParser, DeserializationContext ctxt)
+        throws IOException {
+
+      JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+      if (!node.isArray()) {
+        return null;
+      }
+      return new TreeKrakenOrder(
+          new BigDecimal(node.path(0).asText()),
+          new BigDecimal(node.path(1).asText()),
+          node.path(2).asLong());
+    }
+  }
+}
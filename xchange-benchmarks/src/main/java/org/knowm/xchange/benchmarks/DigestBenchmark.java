@@ -0,0 +1,227 @@
+package org.knowm.xchange.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.HeaderParam;
+import org.knowm.xchange.binance.service.BinanceHmacDigest;
+import org.knowm.xchange.bitmex.service.BitmexDigest;
+import org.knowm.xchange.coinbasepro.service.CoinbaseProDigest;
+import org.knowm.xchange.kraken.service.KrakenDigest;
+import org.knowm.xchange.service.BaseParamsDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import si.mazi.rescu.RestInvocation;
+
+/**
+ * Signing of a typical order placement by each exchange's HMAC digest.
+ *
+ * <p>xchange-poloniex is not part of the default build, so its case signs with {@link
+ * PoloniexDigest}, a copy of that module's digest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+  private static final String KRAKEN_SECRET =
+      "kQH5HW/8p1uGOVjbgWA7FunAmGO8lsSUXNsu3eow76sz84Q18fWxnyRzBHCd3pd5nE9qa99HAZtuZuj6F1huXg==";
+  private static final String BINANCE_SECRET =
+      "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+  private static final String BITMEX_SECRET = "chNOOS4KvNXR_Xq4k4c9qsfoKWvnDecLATCRlcBwyKDYnWgO";
+  private static final String COINBASE_PRO_SECRET =
+      Base64.getEncoder().encodeToString("coinbase-pro-secret".getBytes());
+  private static final String POLONIEX_SECRET =
+      "4a1c9e8f0b5d3e7a6c2f9b8d1e4a7c3f5b2d8e6a9c1f4b7d3e5a8c2f6b9d1e4a"
+          + "7c3f5b2d8e6a9c1f4b7d3e5a8c2f6b9d1e4a7c3f5b2d8e6a9c1f4b7d3e5a8c2f";
+
+  private KrakenDigest krakenDigest;
+  private RestInvocation krakenInvocation;
+  private BinanceHmacDigest binanceDigest;
+  private RestInvocation binanceInvocation;
+  private BitmexDigest bitmexDigest;
+  private RestInvocation bitmexInvocation;
+  private CoinbaseProDigest coinbaseProDigest;
+  private RestInvocation coinbaseProInvocation;
+  private PoloniexDigest poloniexDigest;
+  private RestInvocation poloniexInvocation;
+
+  @Setup
+  public void setUp() {
+
+    krakenDigest = KrakenDigest.createInstance(KRAKEN_SECRET);
+    krakenInvocation =
+        new StubInvocation(
+            "https://api.kraken.com",
+            "0/private/AddOrder",
+            "POST",
+            "nonce=1616492376594&ordertype=limit&pair=XBTUSD&price=37500&type=buy&volume=1.25",
+            FormParam.class,
+            "nonce",
+            1616492376594L);
+
+    binanceDigest = BinanceHmacDigest.createInstance(BINANCE_SECRET);
+    binanceInvocation =
+        new StubInvocation(
+            "https://api.binance.com",
+            "api/v3/order",
+            "POST",
+            "symbol=LTCBTC&side=BUY&type=LIMIT&timeInForce=GTC&quantity=1&price=0.1"
+                + "&recvWindow=5000&timestamp=1499827319559",
+            null,
+            null,
+            null);
+
+    bitmexDigest = BitmexDigest.createInstance(BITMEX_SECRET);
+    bitmexInvocation =
+        new StubInvocation(
+            "https://www.bitmex.com",
+            "api/v1/order",
+            "POST",
+            "{\"symbol\":\"XBTUSD\",\"price\":219.0,\"clOrdID\":\"mm_bitmex_1a/oemUeQ4CAJZgP3fjHsA\","
+                + "\"orderQty\":98}",
+            HeaderParam.class,
+            "api-expires",
+            1518064238L);
+
+    coinbaseProDigest = CoinbaseProDigest.createInstance(COINBASE_PRO_SECRET);
+    coinbaseProInvocation =
+        new StubInvocation(
+            "https://api.pro.coinbase.com",
+            "orders",
+            "POST",
+            "{\"size\":\"0.01\",\"price\":\"0.100\",\"side\":\"buy\",\"product_id\":\"BTC-USD\"}",
+            HeaderParam.class,
+            "CB-ACCESS-TIMESTAMP",
+            "1540000000.123");
+
+    poloniexDigest = new PoloniexDigest(POLONIEX_SECRET);
+    poloniexInvocation =
+        new StubInvocation(
+            "https://poloniex.com",
+            "tradingApi",
+            "POST",
+            "command=buy&nonce=1616492376594&currencyPair=BTC_ETH&rate=0.0312&amount=1.25",
+            FormParam.class,
+            "nonce",
+            1616492376594L);
+  }
+
+  @Benchmark
+  public String kraken() {
+
+    return krakenDigest.digestParams(krakenInvocation);
+  }
+
+  @Benchmark
+  public String binance() {
+
+    return binanceDigest.digestParams(binanceInvocation);
+  }
+
+  @Benchmark
+  public String bitmex() {
+
+    return bitmexDigest.digestParams(bitmexInvocation);
+  }
+
+  @Benchmark
+  public String coinbasePro() {
+
+    return coinbaseProDigest.digestParams(coinbaseProInvocation);
+  }
+
+  @Benchmark
+  public String poloniex() {
+
+    return poloniexDigest.digestParams(poloniexInvocation);
+  }
+
+  /** As {@code org.knowm.xchange.poloniex.service.PoloniexDigest}. */
+  private static final class PoloniexDigest extends BaseParamsDigest {
+
+    PoloniexDigest(String secretKey) {
+
+      super(secretKey, HMAC_SHA_512);
+    }
+
+    @Override
+    public String digestParams(RestInvocation restInvocation) {
+
+      return getSigner().append(restInvocation.getRequestBody()).hmacHex();
+    }
+  }
+
+  /** A request as rescu would present it to a digest, with at most one parameter. */
+  private static final class StubInvocation extends RestInvocation {
+
+    private final String baseUrl;
+    private final String path;
+    private final String httpMethod;
+    private final String body;
+    private final Class<? extends Annotation> paramType;
+    private final String paramName;
+    private final Object paramValue;
+
+    StubInvocation(
+        String baseUrl,
+        String path,
+        String httpMethod,
+        String body,
+        Class<? extends Annotation> paramType,
+        String paramName,
+        Object paramValue) {
+
+      super(null, null, null, null, baseUrl + "/" + path, null, path, null);
+      this.baseUrl = baseUrl;
+      this.path = path;
+      this.httpMethod = httpMethod;
+      this.body = body;
+      this.paramType = paramType;
+      this.paramName = paramName;
+      this.paramValue = paramValue;
+    }
+
+    @Override
+    public String getBaseUrl() {
+
+      return baseUrl;
+    }
+
+    @Override
+    public String getPath() {
+
+      return path;
+    }
+
+    @Override
+    public String getHttpMethod() {
+
+      return httpMethod;
+    }
+
+    @Override
+    public String getRequestBody() {
+
+      return body;
+    }
+
+    @Override
+    public Object getParamValue(Class<? extends Annotation> type, String name) {
+
+      return type.equals(paramType) && name.equals(paramName) ? paramValue : null;
+    }
+  }
+}
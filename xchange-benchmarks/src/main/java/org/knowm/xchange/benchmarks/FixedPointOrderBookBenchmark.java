@@ -0,0 +1,179 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.jackson.FixedPointLevelsReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link BigDecimal} tick-to-book path with the fixed point one: parsing a depth
+ * snapshot into an {@link OrderBook} versus streaming it into a reused {@link ScaledOrderBook}, and
+ * applying deltas to each. Run with {@code -prof gc}, as the interesting figure is {@code
+ * gc.alloc.rate.norm} (bytes per operation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedPointOrderBookBenchmark {
+
+  private static final int UPDATES = 1 << 12;
+
+  @Param({"100", "1000"})
+  public int levels;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  private byte[] snapshot;
+  private ScaledOrderBook scaledOrderBook;
+  private OrderBook orderBook;
+  private OrderBookUpdate[] updates;
+  private long[] updatePrices;
+  private long[] updateAmounts;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+
+    Random random = new Random(99);
+    StringBuilder json = new StringBuilder("{\"bids\":[");
+    appendLevels(json, random, -1);
+    json.append("],\"asks\":[");
+    appendLevels(json, random, 1);
+    json.append("]}");
+    snapshot = json.toString().getBytes(StandardCharsets.UTF_8);
+
+    scaledOrderBook = new ScaledOrderBook(CurrencyPair.BTC_USD, 2, 8);
+    readScaled();
+    orderBook = readBigDecimal();
+
+    updates = new OrderBookUpdate[UPDATES];
+    updatePrices = new long[UPDATES];
+    updateAmounts = new long[UPDATES];
+    for (int i = 0; i < UPDATES; i++) {
+      updatePrices[i] = 1000000 + 1 + random.nextInt(levels * 2);
+      updateAmounts[i] = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(100000000);
+      BigDecimal amount = BigDecimal.valueOf(updateAmounts[i], 8);
+      updates[i] =
+          new OrderBookUpdate(
+              OrderType.ASK,
+              amount,
+              CurrencyPair.BTC_USD,
+              BigDecimal.valueOf(updatePrices[i], 2),
+              new Date(),
+              amount);
+    }
+  }
+
+  @Benchmark
+  public OrderBook parseBigDecimal() throws IOException {
+
+    return readBigDecimal();
+  }
+
+  @Benchmark
+  public ScaledOrderBook parseFixedPoint() throws IOException {
+
+    return readScaled();
+  }
+
+  @Benchmark
+  public OrderBook updateBigDecimal() {
+
+    orderBook.update(updates[cursor++ & (UPDATES - 1)]);
+    return orderBook;
+  }
+
+  @Benchmark
+  public ScaledOrderBook updateFixedPoint() {
+
+    int i = cursor++ & (UPDATES - 1);
+    scaledOrderBook.update(OrderType.ASK, updatePrices[i], updateAmounts[i]);
+    return scaledOrderBook;
+  }
+
+  // The usual shape of adapter code: build a tree, then convert each level via strings.
+  private OrderBook readBigDecimal() throws IOException {
+
+    JsonNode node = objectMapper.readTree(snapshot);
+    return new OrderBook(
+        null, toOrders(node.get("asks"), OrderType.ASK), toOrders(node.get("bids"), OrderType.BID));
+  }
+
+  private static List<LimitOrder> toOrders(JsonNode levels, OrderType type) {
+
+    List<LimitOrder> result = new ArrayList<>(levels.size());
+    for (JsonNode level : levels) {
+      result.add(
+          new LimitOrder(
+              type,
+              new BigDecimal(level.path(1).asText()),
+              CurrencyPair.BTC_USD,
+              "",
+              null,
+              new BigDecimal(level.path(0).asText())));
+    }
+    return result;
+  }
+
+  private ScaledOrderBook readScaled() throws IOException {
+
+    scaledOrderBook.clear();
+    try (JsonParser parser = jsonFactory.createParser(snapshot)) {
+      parser.nextToken();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        OrderType type = "asks".equals(parser.getCurrentName()) ? OrderType.ASK : OrderType.BID;
+        parser.nextToken();
+        FixedPointLevelsReader.readLevels(parser, scaledOrderBook, type);
+      }
+    }
+    return scaledOrderBook;
+  }
+
+  private void appendLevels(StringBuilder json, Random random, int direction) {
+
+    for (int i = 0; i < levels; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      BigDecimal price = BigDecimal.valueOf(1000000 + direction * (i + 1), 2);
+      BigDecimal amount = BigDecimal.valueOf(1 + random.nextInt(100000000), 8);
+      json.append("[\"")
+          .append(price.toPlainString())
+          .append("\",\"")
+          .append(amount.toPlainString())
+          .append("\"]");
+    }
+  }
+}
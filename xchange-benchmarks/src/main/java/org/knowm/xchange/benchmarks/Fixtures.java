@@ -0,0 +1,48 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/** Loads the exchange modules' JSON test fixtures, which the build copies onto the classpath. */
+final class Fixtures {
+
+  /** Configured as rescu configures the mapper it binds responses with. */
+  static final ObjectMapper MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private Fixtures() {}
+
+  /**
+   * @param path the path of the fixture under the module's {@code src/test/resources}
+   * @return the content of the fixture
+   */
+  static byte[] load(String path) {
+
+    try (InputStream is = Fixtures.class.getResourceAsStream(path)) {
+      if (is == null) {
+        throw new IllegalStateException("Fixture not found: " + path);
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      for (int read = is.read(buffer); read != -1; read = is.read(buffer)) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static <T> T parse(byte[] json, Class<T> type) {
+
+    try {
+      return MAPPER.readValue(json, type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.kraken.KrakenAdapters;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenDepth;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenPublicTradesResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenTickerResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link KrakenAdapters} on the Kraken module's fixtures, both binding the JSON and adapting the
+ * bound DTOs, and reading depth straight into a {@link ScaledOrderBook}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KrakenAdaptersBenchmark {
+
+  private static final String MARKET_DATA = "/org/knowm/xchange/kraken/dto/marketdata/";
+
+  private byte[] depthJson;
+  private byte[] tickerJson;
+  private byte[] tradesJson;
+  private KrakenDepth depth;
+  private ScaledOrderBook scaledBook;
+
+  @Setup
+  public void setUp() {
+
+    depthJson = Fixtures.load(MARKET_DATA + "example-depth-data.json");
+    tickerJson = Fixtures.load(MARKET_DATA + "example-ticker-data.json");
+    tradesJson = Fixtures.load(MARKET_DATA + "example-trades-data.json");
+    depth = Fixtures.parse(depthJson, KrakenDepthResult.class).getResult().get("XXBTZEUR");
+    scaledBook = new ScaledOrderBook(CurrencyPair.BTC_EUR, 5, 3);
+  }
+
+  @Benchmark
+  public OrderBook adaptOrderBook() {
+
+    return KrakenAdapters.adaptOrderBook(depth, CurrencyPair.BTC_EUR);
+  }
+
+  @Benchmark
+  public OrderBook parseAndAdaptOrderBook() {
+
+    KrakenDepthResult result = Fixtures.parse(depthJson, KrakenDepthResult.class);
+    return KrakenAdapters.adaptOrderBook(result.getResult().get("XXBTZEUR"), CurrencyPair.BTC_EUR);
+  }
+
+  @Benchmark
+  public ScaledOrderBook parseScaledOrderBook() throws IOException {
+
+    try (JsonParser parser = Fixtures.MAPPER.getFactory().createParser(depthJson)) {
+      KrakenAdapters.adaptOrderBook(parser, scaledBook);
+    }
+    return scaledBook;
+  }
+
+  @Benchmark
+  public Ticker parseAndAdaptTicker() {
+
+    KrakenTickerResult result = Fixtures.parse(tickerJson, KrakenTickerResult.class);
+    return KrakenAdapters.adaptTicker(result.getResult().get("XXBTZEUR"), CurrencyPair.BTC_EUR);
+  }
+
+  @Benchmark
+  public Trades parseAndAdaptTrades() {
+
+    KrakenPublicTradesResult result = Fixtures.parse(tradesJson, KrakenPublicTradesResult.class);
+    return KrakenAdapters.adaptTrades(
+        result.getResult().getTrades(), CurrencyPair.BTC_USD, result.getResult().getLast());
+  }
+}
@@ -0,0 +1,322 @@
+package org.knowm.xchange.benchmarks;
+
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.HALF_UP;
+import static java.util.UUID.randomUUID;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.Multimap;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderStatus;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.exceptions.ExchangeException;
+
+/**
+ * The list-based matching engine which the simulated exchange used before its books were indexed by
+ * price, kept as the baseline for {@link MatchingEngineBenchmark}. Order placement, matching and
+ * level 2 reads are as they were. Account balances are left out, since the simulated exchange keeps
+ * them package private, and so are the operations the benchmark does not use.
+ */
+final class LegacyMatchingEngine {
+
+  private static final BigDecimal FEE_RATE = new BigDecimal("0.001");
+  private static final int TRADE_HISTORY_SIZE = 50;
+
+  private final CurrencyPair currencyPair;
+  private final int priceScale;
+  private final BigDecimal minimumAmount;
+
+  private final List<BookLevel> asks = new LinkedList<>();
+  private final List<BookLevel> bids = new LinkedList<>();
+  private final Deque<Trade> publicTrades = new ConcurrentLinkedDeque<>();
+  private final Multimap<String, UserTrade> userTrades = LinkedListMultimap.create();
+
+  private volatile Ticker ticker = new Ticker.Builder().build();
+
+  LegacyMatchingEngine(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
+    this.currencyPair = currencyPair;
+    this.priceScale = priceScale;
+    this.minimumAmount = minimumAmount;
+  }
+
+  synchronized LimitOrder postOrder(String apiKey, LimitOrder original) {
+    validate(original);
+    BookOrder takerOrder = new BookOrder(original, apiKey);
+    switch (takerOrder.type) {
+      case ASK:
+        chewBook(bids, takerOrder);
+        if (!takerOrder.isDone()) {
+          insertIntoBook(asks, takerOrder, ASK);
+        }
+        break;
+      case BID:
+        chewBook(asks, takerOrder);
+        if (!takerOrder.isDone()) {
+          insertIntoBook(bids, takerOrder, BID);
+        }
+        break;
+      default:
+        throw new ExchangeException("Unsupported order type: " + takerOrder.type);
+    }
+    return takerOrder.toOrder(currencyPair);
+  }
+
+  private void validate(LimitOrder order) {
+    if (order.getOriginalAmount().compareTo(minimumAmount) < 0) {
+      throw new ExchangeException(
+          "Trade amount is " + order.getOriginalAmount() + ", minimum is " + minimumAmount);
+    }
+    if (order.getLimitPrice() == null) {
+      throw new ExchangeException("No price");
+    }
+    if (order.getLimitPrice().compareTo(ZERO) <= 0) {
+      throw new ExchangeException("Limit price is " + order.getLimitPrice() + ", must be positive");
+    }
+    int scale = order.getLimitPrice().stripTrailingZeros().scale();
+    if (scale > priceScale) {
+      throw new ExchangeException("Price scale is " + scale + ", maximum is " + priceScale);
+    }
+  }
+
+  private void insertIntoBook(List<BookLevel> book, BookOrder order, OrderType type) {
+
+    int i = 0;
+    boolean insert = false;
+
+    Iterator<BookLevel> iter = book.iterator();
+    while (iter.hasNext()) {
+      BookLevel level = iter.next();
+      int signum = level.price.compareTo(order.limitPrice);
+      if (signum == 0) {
+        level.orders.add(order);
+        return;
+      } else if (signum < 0 && type == BID || signum > 0 && type == ASK) {
+        insert = true;
+        break;
+      }
+      i++;
+    }
+
+    BookLevel newLevel = new BookLevel(order.limitPrice);
+    newLevel.orders.add(order);
+    if (insert) {
+      book.add(i, newLevel);
+    } else {
+      book.add(newLevel);
+    }
+
+    ticker = newTickerFromBook().last(ticker.getLast()).build();
+  }
+
+  private Ticker.Builder newTickerFromBook() {
+    return new Ticker.Builder()
+        .ask(asks.isEmpty() ? null : asks.get(0).price)
+        .bid(bids.isEmpty() ? null : bids.get(0).price);
+  }
+
+  private void chewBook(Iterable<BookLevel> makerOrders, BookOrder takerOrder) {
+    Iterator<BookLevel> levelIter = makerOrders.iterator();
+    while (levelIter.hasNext()) {
+      BookLevel level = levelIter.next();
+      Iterator<BookOrder> orderIter = level.orders.iterator();
+      while (orderIter.hasNext() && !takerOrder.isDone()) {
+        BookOrder makerOrder = orderIter.next();
+
+        if (!makerOrder.matches(takerOrder)) {
+          return;
+        }
+
+        BigDecimal tradeAmount =
+            takerOrder.getRemainingAmount().compareTo(makerOrder.getRemainingAmount()) > 0
+                ? makerOrder.getRemainingAmount()
+                : takerOrder.getRemainingAmount();
+
+        matchOff(takerOrder, makerOrder, tradeAmount);
+
+        if (makerOrder.isDone()) {
+          orderIter.remove();
+          if (level.orders.isEmpty()) {
+            levelIter.remove();
+          }
+        }
+      }
+    }
+  }
+
+  private void matchOff(BookOrder takerOrder, BookOrder makerOrder, BigDecimal tradeAmount) {
+    Date timestamp = new Date();
+
+    UserTrade takerTrade =
+        userTrade(takerOrder, makerOrder, takerOrder.type, tradeAmount, timestamp);
+    accumulate(takerOrder, takerTrade);
+
+    OrderType makerType = takerOrder.type == ASK ? BID : ASK;
+    UserTrade makerTrade = userTrade(makerOrder, makerOrder, makerType, tradeAmount, timestamp);
+    accumulate(makerOrder, makerTrade);
+
+    userTrades.put(takerOrder.apiKey, takerTrade);
+    recordPublicTrade(makerTrade);
+    userTrades.put(makerOrder.apiKey, makerTrade);
+
+    ticker = newTickerFromBook().last(makerOrder.limitPrice).build();
+  }
+
+  private UserTrade userTrade(
+      BookOrder order,
+      BookOrder makerOrder,
+      OrderType type,
+      BigDecimal tradeAmount,
+      Date timestamp) {
+    return new UserTrade.Builder()
+        .currencyPair(currencyPair)
+        .id(randomUUID().toString())
+        .originalAmount(tradeAmount)
+        .price(makerOrder.limitPrice)
+        .timestamp(timestamp)
+        .type(type)
+        .orderId(order.id)
+        .feeAmount(
+            type == ASK
+                ? tradeAmount.multiply(makerOrder.limitPrice).multiply(FEE_RATE)
+                : tradeAmount.multiply(FEE_RATE))
+        .feeCurrency(type == ASK ? currencyPair.counter : currencyPair.base)
+        .build();
+  }
+
+  private void accumulate(BookOrder bookOrder, UserTrade trade) {
+    BigDecimal amount = trade.getOriginalAmount();
+    BigDecimal price = trade.getPrice();
+    BigDecimal newTotal = bookOrder.cumulativeAmount.add(amount);
+
+    if (bookOrder.cumulativeAmount.compareTo(ZERO) == 0) {
+      bookOrder.averagePrice = price;
+    } else {
+      bookOrder.averagePrice =
+          bookOrder
+              .averagePrice
+              .multiply(bookOrder.cumulativeAmount)
+              .add(price.multiply(amount))
+              .divide(newTotal, priceScale, HALF_UP);
+    }
+
+    bookOrder.cumulativeAmount = newTotal;
+    bookOrder.fee = bookOrder.fee.add(trade.getFeeAmount());
+  }
+
+  // XChange is unusual in this respect (see https://github.com/knowm/XChange/issues/2468)
+  private void recordPublicTrade(UserTrade makerTrade) {
+    publicTrades.push(makerTrade);
+    if (publicTrades.size() > TRADE_HISTORY_SIZE) {
+      publicTrades.removeLast();
+    }
+  }
+
+  synchronized OrderBook level2() {
+    return new OrderBook(new Date(), accumulateBookSide(asks), accumulateBookSide(bids));
+  }
+
+  private List<LimitOrder> accumulateBookSide(List<BookLevel> book) {
+    BigDecimal price = null;
+    BigDecimal amount = ZERO;
+    List<LimitOrder> result = new ArrayList<>();
+    Iterator<BookOrder> iter = book.stream().flatMap(v -> v.orders.stream()).iterator();
+    while (iter.hasNext()) {
+      BookOrder bookOrder = iter.next();
+      amount = amount.add(bookOrder.getRemainingAmount());
+      if (price != null && bookOrder.limitPrice.compareTo(price) != 0) {
+        result.add(
+            new LimitOrder.Builder(ASK, currencyPair)
+                .originalAmount(amount)
+                .limitPrice(price)
+                .build());
+        amount = ZERO;
+      }
+      price = bookOrder.limitPrice;
+    }
+    if (price != null) {
+      result.add(
+          new LimitOrder.Builder(ASK, currencyPair)
+              .originalAmount(amount)
+              .limitPrice(price)
+              .build());
+    }
+    return result;
+  }
+
+  private static final class BookLevel {
+
+    private final BigDecimal price;
+    private final List<BookOrder> orders = new LinkedList<>();
+
+    BookLevel(BigDecimal price) {
+      this.price = price;
+    }
+  }
+
+  private static final class BookOrder {
+
+    private final String apiKey;
+    private final String id = randomUUID().toString();
+    private final Date timestamp = new Date();
+    private final BigDecimal originalAmount;
+    private final BigDecimal limitPrice;
+    private final OrderType type;
+    private volatile BigDecimal cumulativeAmount = ZERO;
+    private volatile BigDecimal averagePrice;
+    private volatile BigDecimal fee = ZERO;
+
+    BookOrder(LimitOrder original, String apiKey) {
+      this.apiKey = apiKey;
+      this.originalAmount = original.getOriginalAmount();
+      this.limitPrice = original.getLimitPrice();
+      this.type = original.getType();
+    }
+
+    BigDecimal getRemainingAmount() {
+      return originalAmount.subtract(cumulativeAmount);
+    }
+
+    boolean isDone() {
+      return originalAmount.compareTo(cumulativeAmount) == 0;
+    }
+
+    boolean matches(BookOrder takerOrder) {
+      return type == ASK
+          ? limitPrice.compareTo(takerOrder.limitPrice) <= 0
+          : limitPrice.compareTo(takerOrder.limitPrice) >= 0;
+    }
+
+    LimitOrder toOrder(CurrencyPair currencyPair) {
+      return new LimitOrder.Builder(type, currencyPair)
+          .id(id)
+          .averagePrice(averagePrice)
+          .cumulativeAmount(cumulativeAmount)
+          .fee(fee)
+          .limitPrice(limitPrice)
+          .orderStatus(
+              cumulativeAmount.compareTo(ZERO) == 0
+                  ? OrderStatus.NEW
+                  : cumulativeAmount.compareTo(originalAmount) == 0
+                      ? OrderStatus.FILLED
+                      : OrderStatus.PARTIALLY_FILLED)
+          .originalAmount(originalAmount)
+          .timestamp(timestamp)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package org.knowm.xchange.benchmarks;
+
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.simulated.AccountFactory;
+import org.knowm.xchange.simulated.MatchingEngineFactory;
+import org.knowm.xchange.simulated.SimulatedExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The simulated exchange's matching engine against the {@link LegacyMatchingEngine} it replaced, on
+ * a deep synthetic book. Each trade operation rests an ask at a random depth and then crosses the
+ * spread with a bid of the same size, so the book stays the same size. The level 2 operations read
+ * the book while it is unchanged, as a market data poller would between trades.
+ *
+ * <p>The current engine is package private, so it is reached through the exchange's trade and
+ * market data services. Its figures therefore include balance checks and reservations, which the
+ * baseline copy leaves out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingEngineBenchmark {
+
+  private static final int ORDERS = 1 << 12;
+  private static final int PRICE_SCALE = 2;
+  private static final long TOP_OF_BOOK = 1000000;
+  private static final BigDecimal AMOUNT = BigDecimal.ONE;
+  private static final BigDecimal FUNDS = new BigDecimal("1e15");
+  private static final int MAKER = 0;
+  private static final int TAKER = 1;
+
+  @Param({"1000", "10000"})
+  public int levels;
+
+  @Param({"legacy", "current"})
+  public String engine;
+
+  private LimitOrder[] asks;
+  private LimitOrder bid;
+  private Engine book;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUpOrders() {
+
+    Random random = new Random(99);
+    asks = new LimitOrder[ORDERS];
+    for (int i = 0; i < ORDERS; i++) {
+      asks[i] = limitOrder(ASK, TOP_OF_BOOK + random.nextInt(levels));
+    }
+    bid = limitOrder(BID, TOP_OF_BOOK + levels);
+  }
+
+  // Trade history grows with every fill, so start afresh for each iteration.
+  @Setup(Level.Iteration)
+  public void setUpBooks() {
+
+    book = "legacy".equals(engine) ? legacyEngine() : currentEngine();
+    for (int i = 0; i < levels; i++) {
+      book.post(MAKER, limitOrder(ASK, TOP_OF_BOOK + i));
+      book.post(MAKER, limitOrder(BID, TOP_OF_BOOK - i - 1));
+    }
+  }
+
+  @Benchmark
+  public String trade() {
+
+    book.post(MAKER, asks[cursor++ & (ORDERS - 1)]);
+    return book.post(TAKER, bid);
+  }
+
+  @Benchmark
+  public OrderBook level2() {
+
+    return book.level2();
+  }
+
+  // Prices are in ticks of 0.01
+  private static LimitOrder limitOrder(OrderType type, long ticks) {
+
+    return new LimitOrder.Builder(type, BTC_USD)
+        .originalAmount(AMOUNT)
+        .limitPrice(BigDecimal.valueOf(ticks, PRICE_SCALE))
+        .build();
+  }
+
+  private static Engine legacyEngine() {
+
+    LegacyMatchingEngine legacy = new LegacyMatchingEngine(BTC_USD, PRICE_SCALE, AMOUNT);
+    return new Engine() {
+      @Override
+      public String post(int user, LimitOrder order) {
+        return legacy.postOrder(Integer.toString(user), order).getId();
+      }
+
+      @Override
+      public OrderBook level2() {
+        return legacy.level2();
+      }
+    };
+  }
+
+  /** A maker and a taker with more funds than any run can spend, sharing one engine. */
+  private static Engine currentEngine() {
+
+    AccountFactory accountFactory = new AccountFactory();
+    MatchingEngineFactory engineFactory = new MatchingEngineFactory(accountFactory);
+    SimulatedExchange[] users = {
+      simulatedExchange("maker", accountFactory, engineFactory),
+      simulatedExchange("taker", accountFactory, engineFactory)
+    };
+    for (SimulatedExchange user : users) {
+      user.getAccountService().deposit(Currency.BTC, FUNDS);
+      user.getAccountService().deposit(Currency.USD, FUNDS);
+    }
+    return new Engine() {
+      @Override
+      public String post(int user, LimitOrder order) {
+        return users[user].getTradeService().placeLimitOrderUnrestricted(order);
+      }
+
+      @Override
+      public OrderBook level2() {
+        try {
+          return users[MAKER].getMarketDataService().getOrderBook(BTC_USD);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    };
+  }
+
+  private static SimulatedExchange simulatedExchange(
+      String apiKey, AccountFactory accountFactory, MatchingEngineFactory engineFactory) {
+
+    ExchangeSpecification specification = new ExchangeSpecification(SimulatedExchange.class);
+    specification.setApiKey(apiKey);
+    specification.setExchangeSpecificParametersItem(
+        SimulatedExchange.ACCOUNT_FACTORY_PARAM, accountFactory);
+    specification.setExchangeSpecificParametersItem(
+        SimulatedExchange.ENGINE_FACTORY_PARAM, engineFactory);
+    return (SimulatedExchange) ExchangeFactory.INSTANCE.createExchange(specification);
+  }
+
+  /** The operations both engines are measured on. */
+  private interface Engine {
+
+    String post(int user, LimitOrder order);
+
+    OrderBook level2();
+  }
+}
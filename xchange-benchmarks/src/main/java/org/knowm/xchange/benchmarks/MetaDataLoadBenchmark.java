@@ -0,0 +1,76 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaDataBinary;
+import org.knowm.xchange.dto.meta.ExchangeMetaDataLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The metadata each exchange instance loads at startup, from the largest packaged files: parsed
+ * with a new {@link ObjectMapper} per instance as {@code BaseExchange} used to, parsed with the
+ * shared mapper, read from the precompiled binary form, and copied from {@link
+ * ExchangeMetaDataLoader}'s cache as {@code BaseExchange} now does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaDataLoadBenchmark {
+
+  @Param({"yobit", "ccex", "huobi"})
+  public String exchange;
+
+  private byte[] json;
+  private byte[] binary;
+
+  @Setup
+  public void setUp() throws IOException {
+
+    json = Fixtures.load("/metadata/" + exchange + ".json");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ExchangeMetaDataBinary.write(
+        ExchangeMetaDataLoader.parse(new ByteArrayInputStream(json), ExchangeMetaData.class), out);
+    binary = out.toByteArray();
+  }
+
+  @Benchmark
+  public ExchangeMetaData jsonNewMapper() throws IOException {
+
+    return new ObjectMapper().readValue(json, ExchangeMetaData.class);
+  }
+
+  @Benchmark
+  public ExchangeMetaData jsonSharedMapper() throws IOException {
+
+    return ExchangeMetaDataLoader.parse(new ByteArrayInputStream(json), ExchangeMetaData.class);
+  }
+
+  @Benchmark
+  public ExchangeMetaData binary() throws IOException {
+
+    return ExchangeMetaDataBinary.read(new ByteArrayInputStream(binary));
+  }
+
+  @Benchmark
+  public ExchangeMetaData cached() throws IOException {
+
+    return ExchangeMetaDataLoader.load("metadata/" + exchange);
+  }
+}
@@ -0,0 +1,121 @@
+package org.knowm.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OrderBook#update(LimitOrder)}, {@link OrderBook#update(OrderBookUpdate)} and {@link
+ * LimitOrder#compareTo} on books of various depths. Updates cycle through a fixed random sequence
+ * which changes, adds and removes levels in roughly equal measure, so the book keeps its depth.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookBenchmark {
+
+  private static final int UPDATES = 1 << 14;
+  private static final BigDecimal MID = new BigDecimal(10000);
+  private static final BigDecimal TICK = new BigDecimal("0.01");
+
+  @Param({"10", "100", "1000"})
+  public int levels;
+
+  private OrderBook book;
+  private LimitOrder[] orders;
+  private OrderBookUpdate[] updates;
+  private LimitOrder[] sorted;
+  private int next;
+
+  @Setup
+  public void setUp() {
+
+    Random random = new Random(1);
+    Date timestamp = new Date();
+    List<LimitOrder> asks = new ArrayList<>();
+    List<LimitOrder> bids = new ArrayList<>();
+    for (int i = 1; i <= levels; i++) {
+      asks.add(order(OrderType.ASK, i, BigDecimal.ONE, timestamp));
+      bids.add(order(OrderType.BID, i, BigDecimal.ONE, timestamp));
+    }
+    book = new OrderBook(timestamp, asks, bids);
+
+    orders = new LimitOrder[UPDATES];
+    updates = new OrderBookUpdate[UPDATES];
+    for (int i = 0; i < UPDATES; i++) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      int level = 1 + random.nextInt(levels * 3 / 2);
+      BigDecimal volume =
+          random.nextInt(3) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(random.nextInt(100) + 1);
+      orders[i] = order(type, level, volume, timestamp);
+      updates[i] =
+          new OrderBookUpdate(
+              type, volume, CurrencyPair.BTC_USD, orders[i].getLimitPrice(), timestamp, volume);
+    }
+
+    sorted = asks.toArray(new LimitOrder[0]);
+  }
+
+  private static LimitOrder order(OrderType type, int level, BigDecimal volume, Date timestamp) {
+
+    BigDecimal offset = TICK.multiply(BigDecimal.valueOf(level));
+    BigDecimal price = type == OrderType.ASK ? MID.add(offset) : MID.subtract(offset);
+    return new LimitOrder(type, volume, CurrencyPair.BTC_USD, null, timestamp, price);
+  }
+
+  @Benchmark
+  public OrderBook updateLimitOrder() {
+
+    book.update(orders[next++ & (UPDATES - 1)]);
+    return book;
+  }
+
+  @Benchmark
+  public OrderBook updateOrderBookUpdate() {
+
+    book.update(updates[next++ & (UPDATES - 1)]);
+    return book;
+  }
+
+  @Benchmark
+  public int compareTo() {
+
+    int i = next++ & (UPDATES - 1);
+    return orders[i].compareTo(orders[(i + 1) & (UPDATES - 1)]);
+  }
+
+  /** Sorts a copy of one side of the book, shuffled into the same order every time. */
+  @Benchmark
+  public LimitOrder[] sort() {
+
+    LimitOrder[] copy = new LimitOrder[sorted.length];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = sorted[(i * 7919) % copy.length];
+    }
+    Arrays.sort(copy);
+    return copy;
+  }
+}
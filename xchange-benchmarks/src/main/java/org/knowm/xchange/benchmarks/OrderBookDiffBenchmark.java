@@ -0,0 +1,100 @@
+package org.knowm.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.service.marketdata.OrderBookDiffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OrderBookDiffer#update} fed alternately with two polls of a book of various depths which
+ * differ in a few levels on each side, as between polls a fraction of a second apart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookDiffBenchmark {
+
+  private static final BigDecimal MID = new BigDecimal(10000);
+  private static final BigDecimal TICK = new BigDecimal("0.01");
+
+  @Param({"100", "1000", "5000"})
+  public int levels;
+
+  private final OrderBookDiffer differ = new OrderBookDiffer();
+  private OrderBook[] books;
+  private int next;
+
+  @Setup
+  public void setUp() {
+
+    books = new OrderBook[] {book(new Random(1)), book(new Random(1))};
+    Random random = new Random(2);
+    for (int i = 0; i < 5; i++) {
+      change(books[1].getAsks(), random);
+      change(books[1].getBids(), random);
+    }
+  }
+
+  private OrderBook book(Random random) {
+
+    Date timestamp = new Date();
+    List<LimitOrder> asks = new ArrayList<>();
+    List<LimitOrder> bids = new ArrayList<>();
+    for (int i = 1; i <= levels; i++) {
+      BigDecimal volume = BigDecimal.valueOf(random.nextInt(100) + 1);
+      asks.add(order(OrderType.ASK, i, volume, timestamp));
+      bids.add(order(OrderType.BID, i, volume, timestamp));
+    }
+    return new OrderBook(timestamp, asks, bids);
+  }
+
+  private static void change(List<LimitOrder> side, Random random) {
+
+    int i = random.nextInt(side.size());
+    LimitOrder order = side.get(i);
+    side.set(
+        i,
+        new LimitOrder(
+            order.getType(),
+            order.getOriginalAmount().add(BigDecimal.ONE),
+            order.getCurrencyPair(),
+            null,
+            order.getTimestamp(),
+            order.getLimitPrice()));
+  }
+
+  private static LimitOrder order(OrderType type, int level, BigDecimal volume, Date timestamp) {
+
+    BigDecimal offset = TICK.multiply(BigDecimal.valueOf(level));
+    BigDecimal price = type == OrderType.ASK ? MID.add(offset) : MID.subtract(offset);
+    return new LimitOrder(type, volume, CurrencyPair.BTC_USD, null, timestamp, price);
+  }
+
+  @Benchmark
+  public List<OrderBookUpdate> update() {
+
+    return differ.update(CurrencyPair.BTC_USD, books[next++ & 1]);
+  }
+}
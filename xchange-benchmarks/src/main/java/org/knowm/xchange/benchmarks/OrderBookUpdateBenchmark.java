@@ -0,0 +1,120 @@
+package org.knowm.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.IncrementalOrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares applying {@link OrderBookUpdate}s to {@link OrderBook} and {@link IncrementalOrderBook}
+ * for books of various depths. Updates are a mix of volume changes at existing levels, new levels
+ * and removals, drawn from a fixed pre-generated sequence.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookUpdateBenchmark {
+
+  private static final int UPDATES = 1 << 16;
+  private static final BigDecimal MID = new BigDecimal(10000);
+  private static final BigDecimal TICK = new BigDecimal("0.01");
+
+  @Param({"100", "1000", "10000"})
+  public int levels;
+
+  private OrderBookUpdate[] updates;
+  private OrderBook orderBook;
+  private IncrementalOrderBook incrementalOrderBook;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    Random random = new Random(1234);
+
+    List<LimitOrder> asks = new ArrayList<>(levels);
+    List<LimitOrder> bids = new ArrayList<>(levels);
+    for (int i = 0; i < levels; i++) {
+      asks.add(order(OrderType.ASK, price(OrderType.ASK, i), amount(random)));
+      bids.add(order(OrderType.BID, price(OrderType.BID, i), amount(random)));
+    }
+    orderBook = new OrderBook(new Date(), asks, bids);
+    incrementalOrderBook = new IncrementalOrderBook(CurrencyPair.BTC_USD, orderBook);
+
+    // Levels are drawn from twice the initial depth so that inserts and removals roughly balance
+    // and the book keeps its size over the run.
+    updates = new OrderBookUpdate[UPDATES];
+    for (int i = 0; i < UPDATES; i++) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      BigDecimal price = price(type, random.nextInt(levels * 2));
+      BigDecimal volume = random.nextInt(3) == 0 ? BigDecimal.ZERO : amount(random);
+      updates[i] =
+          new OrderBookUpdate(type, volume, CurrencyPair.BTC_USD, price, new Date(), volume);
+    }
+  }
+
+  @Benchmark
+  public OrderBook orderBookUpdate() {
+
+    orderBook.update(next());
+    return orderBook;
+  }
+
+  @Benchmark
+  public IncrementalOrderBook incrementalOrderBookUpdate() {
+
+    incrementalOrderBook.update(next());
+    return incrementalOrderBook;
+  }
+
+  @Benchmark
+  public OrderBook incrementalOrderBookTop20() {
+
+    incrementalOrderBook.update(next());
+    return incrementalOrderBook.toOrderBook(20);
+  }
+
+  private OrderBookUpdate next() {
+
+    return updates[cursor++ & (UPDATES - 1)];
+  }
+
+  private static BigDecimal price(OrderType type, int level) {
+
+    BigDecimal offset = TICK.multiply(new BigDecimal(level + 1));
+    return type == OrderType.ASK ? MID.add(offset) : MID.subtract(offset);
+  }
+
+  private static BigDecimal amount(Random random) {
+
+    return new BigDecimal(1 + random.nextInt(10000)).movePointLeft(3);
+  }
+
+  private static LimitOrder order(OrderType type, BigDecimal price, BigDecimal amount) {
+
+    return new LimitOrder(type, amount, CurrencyPair.BTC_USD, "", null, price);
+  }
+}
@@ -0,0 +1,67 @@
+package org.knowm.xchange.benchmarks;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.utils.nonce.ServerClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The timestamp of each signed request: as {@code BinanceBaseService} made it, with two {@link
+ * Date}s and a {@link SimpleDateFormat} for a trace log line, against a {@link ServerClock}, from 4
+ * threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ServerClockBenchmark {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServerClockBenchmark.class);
+
+  private final long deltaServerTime = 1234;
+  private final ServerClock clock =
+      ServerClock.forVenue(
+          "benchmark", () -> System.currentTimeMillis() + 1234, 10, TimeUnit.MINUTES);
+
+  @Benchmark
+  public long datesTimestamp() {
+
+    Date systemTime = new Date(System.currentTimeMillis());
+    Date serverTime = new Date(systemTime.getTime() + deltaServerTime);
+    SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
+    LOG.trace(
+        "getTimestamp: {} + {} => {}",
+        df.format(systemTime),
+        deltaServerTime,
+        df.format(serverTime));
+    return serverTime.getTime();
+  }
+
+  @Benchmark
+  public long clockTimestamp() throws IOException {
+
+    return clock.currentTimeMillis();
+  }
+
+  @Benchmark
+  public long clockNonce() throws IOException {
+
+    return clock.nextNonce();
+  }
+}
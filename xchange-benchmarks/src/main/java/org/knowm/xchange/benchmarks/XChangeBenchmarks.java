@@ -0,0 +1,45 @@
+package org.knowm.xchange.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. Takes the usual JMH command line options, but unless told otherwise writes
+ * the results as JSON to {@code jmh-result.json}, so that runs on different commits can be
+ * compared, for example with the JMH visualizer. Everything runs offline: the adapter benchmarks
+ * read the exchange modules' test fixtures.
+ *
+ * <pre>
+ * mvn -pl xchange-benchmarks -am package -DskipTests
+ * java -jar xchange-benchmarks/target/benchmarks.jar [regexp] [-prof gc] [-rff results.json]
+ * </pre>
+ */
+public class XChangeBenchmarks {
+
+  private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  public static void main(String[] args) throws Exception {
+
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    if (commandLine.shouldHelp()
+        || commandLine.shouldList()
+        || commandLine.shouldListWithParams()
+        || commandLine.shouldListProfilers()
+        || commandLine.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -1,7 +1,13 @@
 package org.knowm.xchange.binance;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
 import java.math.MathContext;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import org.knowm.xchange.binance.dto.marketdata.BinancePriceQuantity;
 import org.knowm.xchange.binance.dto.trade.BinanceOrder;
@@ -12,13 +18,23 @@ import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.utils.jackson.FixedPointLevelsReader;
 
 public class BinanceAdapters {
 
+  /**
+   * Pairs by symbol, since the same few symbols are adapted from every message. Binance lists a few
+   * thousand at most; the limit only guards against unexpected input.
+   */
+  private static final ConcurrentMap<String, CurrencyPair> SYMBOLS = new ConcurrentHashMap<>();
+
+  private static final int MAX_SYMBOLS = 10000;
+
   private BinanceAdapters() {}
 
   public static String toSymbol(CurrencyPair pair) {
@@ -102,6 +118,17 @@ public class BinanceAdapters {
   }
 
   public static CurrencyPair adaptSymbol(String symbol) {
+    CurrencyPair currencyPair = SYMBOLS.get(symbol);
+    if (currencyPair == null) {
+      currencyPair = parseSymbol(symbol);
+      if (SYMBOLS.size() < MAX_SYMBOLS) {
+        SYMBOLS.putIfAbsent(symbol, currencyPair);
+      }
+    }
+    return currencyPair;
+  }
+
+  private static CurrencyPair parseSymbol(String symbol) {
     int pairLength = symbol.length();
     if (symbol.endsWith("USDT")) {
       return new CurrencyPair(symbol.substring(0, pairLength - 4), "USDT");
@@ -160,4 +187,38 @@ public class BinanceAdapters {
         .map(BinanceAdapters::adaptPriceQuantity)
         .collect(Collectors.toList());
   }
+
+  /**
+   * Reads a depth snapshot, as returned by {@code /api/v1/depth}, straight from the JSON tokens
+   * into a fixed point order book, replacing its content. Nothing is allocated once the book has
+   * grown to the depth of the snapshot.
+   *
+   * @param parser a parser positioned before or on the snapshot's {@link JsonToken#START_OBJECT}
+   * @param book the book to fill
+   * @return the {@code lastUpdateId} of the snapshot
+   */
+  public static long adaptOrderBook(JsonParser parser, ScaledOrderBook book) throws IOException {
+    if (parser.currentToken() == null) {
+      parser.nextToken();
+    }
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Expected a depth snapshot object");
+    }
+    book.clear();
+    long lastUpdateId = -1;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if ("lastUpdateId".equals(field)) {
+        lastUpdateId = parser.getLongValue();
+      } else if ("bids".equals(field)) {
+        FixedPointLevelsReader.readLevels(parser, book, OrderType.BID);
+      } else if ("asks".equals(field)) {
+        FixedPointLevelsReader.readLevels(parser, book, OrderType.ASK);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return lastUpdateId;
+  }
 }
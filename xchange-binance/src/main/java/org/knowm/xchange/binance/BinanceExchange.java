@@ -2,9 +2,7 @@ package org.knowm.xchange.binance;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.knowm.xchange.BaseExchange;
@@ -18,22 +16,20 @@ import org.knowm.xchange.binance.service.BinanceMarketDataService;
 import org.knowm.xchange.binance.service.BinanceTradeService;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.meta.CurrencyMetaData;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.utils.AuthUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.knowm.xchange.utils.nonce.ServerClock;
 import si.mazi.rescu.RestProxyFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 public class BinanceExchange extends BaseExchange {
 
-  private static final Logger LOG = LoggerFactory.getLogger(BinanceExchange.class);
-
-  private BinanceExchangeInfo exchangeInfo;
-  private Long deltaServerTimeExpire;
-  private Long deltaServerTime;
+  private volatile BinanceExchangeInfo exchangeInfo;
+  private ServerClock serverClock;
 
   @Override
   protected void initServices() {
@@ -41,6 +37,13 @@ public class BinanceExchange extends BaseExchange {
     this.marketDataService = new BinanceMarketDataService(this);
     this.tradeService = new BinanceTradeService(this);
     this.accountService = new BinanceAccountService(this);
+    String sslUri = getExchangeSpecification().getSslUri();
+    this.serverClock =
+        ServerClock.forVenue(
+            sslUri,
+            () -> RestProxyFactory.createProxy(Binance.class, sslUri).time().getServerTimeMillis(),
+            10,
+            TimeUnit.MINUTES);
   }
 
   @Override
@@ -62,9 +65,44 @@ public class BinanceExchange extends BaseExchange {
     return spec;
   }
 
+  /**
+   * @return the exchange info which {@link #remoteInit()} loaded, or if this instance took its
+   *     metadata from a {@link org.knowm.xchange.MetaDataRefresher}, which is fetched the first
+   *     time it is asked for
+   */
   public BinanceExchangeInfo getExchangeInfo() {
 
-    return exchangeInfo;
+    BinanceExchangeInfo info = exchangeInfo;
+    if (info == null) {
+      synchronized (this) {
+        info = exchangeInfo;
+        if (info == null) {
+          try {
+            info = loadExchangeInfo();
+          } catch (IOException e) {
+            throw new ExchangeException("Failed to load exchange info: " + e.getMessage(), e);
+          }
+          exchangeInfo = info;
+        }
+      }
+    }
+    return info;
+  }
+
+  protected BinanceExchangeInfo loadExchangeInfo() throws IOException {
+
+    return ((BinanceMarketDataService) marketDataService).getExchangeInfo();
+  }
+
+  /**
+   * The exchange info is not part of the shared metadata, so any this instance loaded before is
+   * dropped, to be fetched again by {@link #getExchangeInfo()}.
+   */
+  @Override
+  protected void applyRemoteMetaData(ExchangeMetaData metaData, SymbolMap symbolMap) {
+
+    super.applyRemoteMetaData(metaData, symbolMap);
+    exchangeInfo = null;
   }
 
   @Override
@@ -75,9 +113,8 @@ public class BinanceExchange extends BaseExchange {
       Map<CurrencyPair, CurrencyPairMetaData> currencyPairs = exchangeMetaData.getCurrencyPairs();
       Map<Currency, CurrencyMetaData> currencies = exchangeMetaData.getCurrencies();
 
-      BinanceMarketDataService marketDataService =
-          (BinanceMarketDataService) this.marketDataService;
-      exchangeInfo = marketDataService.getExchangeInfo();
+      BinanceExchangeInfo exchangeInfo = loadExchangeInfo();
+      this.exchangeInfo = exchangeInfo;
       Symbol[] symbols = exchangeInfo.getSymbols();
 
       BinanceAccountService accountService = (BinanceAccountService) getAccountService();
@@ -165,35 +202,21 @@ public class BinanceExchange extends BaseExchange {
     return new BigDecimal(value).stripTrailingZeros().scale();
   }
 
-  public void clearDeltaServerTime() {
+  /** @return Binance's clock, shared by all instances using the same URI */
+  public ServerClock getServerClock() {
 
-    deltaServerTime = null;
+    return serverClock;
   }
 
-  public long deltaServerTime() throws IOException {
-
-    if (deltaServerTime == null || deltaServerTimeExpire <= System.currentTimeMillis()) {
-
-      // Do a little warm up
-      Binance binance =
-          RestProxyFactory.createProxy(Binance.class, getExchangeSpecification().getSslUri());
-      Date serverTime = new Date(binance.time().getServerTime().getTime());
-
-      // Assume that we are closer to the server time when we get the repose
-      Date systemTime = new Date(System.currentTimeMillis());
+  /** Reads Binance's clock again when next used. */
+  public void clearDeltaServerTime() {
 
-      // Expire every 10min
-      deltaServerTimeExpire = systemTime.getTime() + TimeUnit.MINUTES.toMillis(10);
-      deltaServerTime = serverTime.getTime() - systemTime.getTime();
+    serverClock.invalidate();
+  }
 
-      SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
-      LOG.trace(
-          "deltaServerTime: {} - {} => {}",
-          df.format(serverTime),
-          df.format(systemTime),
-          deltaServerTime);
-    }
+  /** @return how far Binance's clock is ahead of ours in milliseconds */
+  public long deltaServerTime() throws IOException {
 
-    return deltaServerTime;
+    return serverClock.getOffsetMillis();
   }
 }
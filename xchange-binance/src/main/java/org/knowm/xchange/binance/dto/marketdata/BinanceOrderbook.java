@@ -1,6 +1,7 @@
 package org.knowm.xchange.binance.dto.marketdata;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
+import org.knowm.xchange.utils.jackson.PriceAmountListsDeserializer;
 
 public final class BinanceOrderbook {
 
@@ -17,15 +19,13 @@ public final class BinanceOrderbook {
 
   public BinanceOrderbook(
       @JsonProperty("lastUpdateId") long lastUpdateId,
-      @JsonProperty("bids") List<Object[]> bidsJson,
-      @JsonProperty("asks") List<Object[]> asksJson) {
+      @JsonProperty("bids") @JsonDeserialize(using = PriceAmountListsDeserializer.class)
+          List<List<BigDecimal>> bidsJson,
+      @JsonProperty("asks") @JsonDeserialize(using = PriceAmountListsDeserializer.class)
+          List<List<BigDecimal>> asksJson) {
     this.lastUpdateId = lastUpdateId;
-    BiConsumer<Object[], Map<BigDecimal, BigDecimal>> entryProcessor =
-        (obj, col) -> {
-          BigDecimal price = new BigDecimal(obj[0].toString());
-          BigDecimal qty = new BigDecimal(obj[1].toString());
-          col.put(price, qty);
-        };
+    BiConsumer<List<BigDecimal>, Map<BigDecimal, BigDecimal>> entryProcessor =
+        (level, col) -> col.put(level.get(0), level.get(1));
 
     TreeMap<BigDecimal, BigDecimal> bids = new TreeMap<>((k1, k2) -> -k1.compareTo(k2));
     TreeMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
@@ -1,20 +1,21 @@
 package org.knowm.xchange.binance.service;
 
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.binance.BinanceAuthenticated;
+import org.knowm.xchange.binance.BinanceErrorAdapter;
 import org.knowm.xchange.binance.BinanceExchange;
+import org.knowm.xchange.binance.dto.BinanceException;
 import org.knowm.xchange.binance.dto.meta.exchangeinfo.BinanceExchangeInfo;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.utils.nonce.ServerClock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestProxyFactory;
 
-public class BinanceBaseService extends BaseExchangeService implements BaseService {
+public class BinanceBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final Logger LOG = LoggerFactory.getLogger(getClass());
 
@@ -29,7 +30,8 @@ public class BinanceBaseService extends BaseExchangeService implements BaseServi
         RestProxyFactory.createProxy(
             BinanceAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
-            getClientConfig());
+            getClientConfig(),
+            getInterceptors());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator =
         BinanceHmacDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
@@ -37,16 +39,12 @@ public class BinanceBaseService extends BaseExchangeService implements BaseServi
 
   public long getTimestamp() throws IOException {
 
-    long deltaServerTime = ((BinanceExchange) exchange).deltaServerTime();
-    Date systemTime = new Date(System.currentTimeMillis());
-    Date serverTime = new Date(systemTime.getTime() + deltaServerTime);
-    SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS");
-    LOG.trace(
-        "getTimestamp: {} + {} => {}",
-        df.format(systemTime),
-        deltaServerTime,
-        df.format(serverTime));
-    return serverTime.getTime();
+    ServerClock clock = ((BinanceExchange) exchange).getServerClock();
+    long timestamp = clock.currentTimeMillis();
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("getTimestamp: {} ({}ms ahead of local time)", timestamp, clock.getOffsetMillis());
+    }
+    return timestamp;
   }
 
   /**
@@ -61,4 +59,12 @@ public class BinanceBaseService extends BaseExchangeService implements BaseServi
 
     return binance.exchangeInfo();
   }
+
+  @Override
+  protected Throwable adaptError(Throwable error) {
+
+    return error instanceof BinanceException
+        ? BinanceErrorAdapter.adapt((BinanceException) error)
+        : error;
+  }
 }
@@ -1,10 +1,6 @@
 package org.knowm.xchange.binance.service;
 
-import static org.knowm.xchange.utils.DigestUtils.bytesToHex;
-
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
-import javax.crypto.Mac;
 import javax.ws.rs.QueryParam;
 import org.knowm.xchange.binance.BinanceAuthenticated;
 import org.knowm.xchange.service.BaseParamsDigest;
@@ -45,50 +41,43 @@ public class BinanceHmacDigest extends BaseParamsDigest {
 
   @Override
   public String digestParams(RestInvocation restInvocation) {
-    try {
-      final String input;
+    final String input;
 
-      if (restInvocation.getPath().startsWith("wapi/")) {
-        // little dirty hack for /wapi methods
-        input = getQuery(restInvocation);
-      } else {
-        switch (restInvocation.getHttpMethod()) {
-          case "GET":
-          case "DELETE":
-            input = getQuery(restInvocation);
-            break;
-          case "POST":
-            input = restInvocation.getRequestBody();
-            break;
-          default:
-            throw new RuntimeException(
-                "Not support http method: " + restInvocation.getHttpMethod());
-        }
+    if (restInvocation.getPath().startsWith("wapi/")) {
+      // little dirty hack for /wapi methods
+      input = getQuery(restInvocation);
+    } else {
+      switch (restInvocation.getHttpMethod()) {
+        case "GET":
+        case "DELETE":
+          input = getQuery(restInvocation);
+          break;
+        case "POST":
+          input = restInvocation.getRequestBody();
+          break;
+        default:
+          throw new RuntimeException("Not support http method: " + restInvocation.getHttpMethod());
       }
+    }
 
-      Mac mac = getMac();
-      mac.update(input.getBytes("UTF-8"));
-      String printBase64Binary = bytesToHex(mac.doFinal());
-
-      // https://github.com/mmazi/rescu/issues/62
-      // Seems rescu does not support ParamsDigest in QueryParam.
-      // hack to replace the signature in the invocation URL.
-      String invocationUrl = restInvocation.getInvocationUrl();
-      // String newInvocationUrl = UriBuilder.fromUri(invocationUrl).replaceQueryParam("signature",
-      // printBase64Binary).build().toString();
+    String printBase64Binary = getSigner().append(input).hmacHex();
 
-      final String sig = "signature=";
-      int idx = invocationUrl.indexOf(sig);
-      String newInvocationUrl = invocationUrl.substring(0, idx + sig.length()) + printBase64Binary;
-      try {
-        invocationUrlField.set(restInvocation, newInvocationUrl);
-      } catch (IllegalArgumentException | IllegalAccessException e) {
-        throw new RuntimeException(e);
-      }
+    // https://github.com/mmazi/rescu/issues/62
+    // Seems rescu does not support ParamsDigest in QueryParam.
+    // hack to replace the signature in the invocation URL.
+    String invocationUrl = restInvocation.getInvocationUrl();
+    // String newInvocationUrl = UriBuilder.fromUri(invocationUrl).replaceQueryParam("signature",
+    // printBase64Binary).build().toString();
 
-      return printBase64Binary;
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException("Illegal encoding, check the code.", e);
+    final String sig = "signature=";
+    int idx = invocationUrl.indexOf(sig);
+    String newInvocationUrl = invocationUrl.substring(0, idx + sig.length()) + printBase64Binary;
+    try {
+      invocationUrlField.set(restInvocation, newInvocationUrl);
+    } catch (IllegalArgumentException | IllegalAccessException e) {
+      throw new RuntimeException(e);
     }
+
+    return printBase64Binary;
   }
 }
@@ -45,8 +45,10 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
           limitDepth = (Integer) arg0;
         }
       }
-      BinanceOrderbook binanceOrderbook = getBinanceOrderbook(pair, limitDepth);
-      return convertOrderBook(binanceOrderbook, pair);
+      int depth = limitDepth;
+      return adapted(
+          () -> getBinanceOrderbook(pair, depth),
+          binanceOrderbook -> convertOrderBook(binanceOrderbook, pair));
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
@@ -67,7 +69,7 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
   @Override
   public Ticker getTicker(CurrencyPair pair, Object... args) throws IOException {
     try {
-      return ticker24h(pair).toTicker();
+      return adapted(() -> ticker24h(pair), BinanceTicker24h::toTicker);
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
@@ -76,7 +78,9 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
   @Override
   public List<Ticker> getTickers(Params params) throws IOException {
     try {
-      return ticker24h().stream().map(BinanceTicker24h::toTicker).collect(Collectors.toList());
+      return adapted(
+          this::ticker24h,
+          tickers -> tickers.stream().map(BinanceTicker24h::toTicker).collect(Collectors.toList()));
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
@@ -101,26 +105,31 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
       Long startTime = tradesArgument(args, 1, Long::valueOf);
       Long endTime = tradesArgument(args, 2, Long::valueOf);
       Integer limit = tradesArgument(args, 3, Integer::valueOf);
-      List<BinanceAggTrades> aggTrades =
-          binance.aggTrades(BinanceAdapters.toSymbol(pair), fromId, startTime, endTime, limit);
-      List<Trade> trades =
-          aggTrades.stream()
-              .map(
-                  at ->
-                      new Trade(
-                          BinanceAdapters.convertType(at.buyerMaker),
-                          at.quantity,
-                          pair,
-                          at.price,
-                          at.getTimestamp(),
-                          Long.toString(at.aggregateTradeId)))
-              .collect(Collectors.toList());
-      return new Trades(trades, TradeSortType.SortByTimestamp);
+      return adapted(
+          () ->
+              binance.aggTrades(BinanceAdapters.toSymbol(pair), fromId, startTime, endTime, limit),
+          aggTrades -> adaptTrades(aggTrades, pair));
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  private static Trades adaptTrades(List<BinanceAggTrades> aggTrades, CurrencyPair pair) {
+    List<Trade> trades =
+        aggTrades.stream()
+            .map(
+                at ->
+                    new Trade(
+                        BinanceAdapters.convertType(at.buyerMaker),
+                        at.quantity,
+                        pair,
+                        at.price,
+                        at.getTimestamp(),
+                        Long.toString(at.aggregateTradeId)))
+            .collect(Collectors.toList());
+    return new Trades(trades, TradeSortType.SortByTimestamp);
+  }
+
   private <T extends Number> T tradesArgument(
       Object[] args, int index, Function<String, T> converter) {
     if (index >= args.length) {
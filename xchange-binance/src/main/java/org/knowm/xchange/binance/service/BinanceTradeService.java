@@ -30,6 +30,7 @@ import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.*;
 import org.knowm.xchange.service.trade.params.orders.DefaultOpenOrdersParam;
@@ -42,6 +43,9 @@ import org.knowm.xchange.utils.Assert;
 
 public class BinanceTradeService extends BinanceTradeServiceRaw implements TradeService {
 
+  /** The number of trades Binance returns when no limit is given. */
+  private static final int DEFAULT_TRADE_HISTORY_LIMIT = 500;
+
   public BinanceTradeService(Exchange exchange) {
 
     super(exchange);
@@ -71,32 +75,37 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
           (Long)
               exchange.getExchangeSpecification().getExchangeSpecificParametersItem("recvWindow");
 
-      List<BinanceOrder> binanceOpenOrders;
-      if (params instanceof OpenOrdersParamCurrencyPair) {
-        OpenOrdersParamCurrencyPair pairParams = (OpenOrdersParamCurrencyPair) params;
-        CurrencyPair pair = pairParams.getCurrencyPair();
-        binanceOpenOrders = super.openOrders(pair, recvWindow, getTimestamp());
-      } else {
-        binanceOpenOrders = super.openOrders(recvWindow, getTimestamp());
-      }
-
-      List<LimitOrder> limitOrders = new ArrayList<>();
-      List<Order> otherOrders = new ArrayList<>();
-      binanceOpenOrders.forEach(
-          binanceOrder -> {
-            Order order = BinanceAdapters.adaptOrder(binanceOrder);
-            if (order instanceof LimitOrder) {
-              limitOrders.add((LimitOrder) order);
-            } else {
-              otherOrders.add(order);
-            }
-          });
-      return new OpenOrders(limitOrders, otherOrders);
+      CurrencyPair pair =
+          params instanceof OpenOrdersParamCurrencyPair
+              ? ((OpenOrdersParamCurrencyPair) params).getCurrencyPair()
+              : null;
+      return adapted(
+          () ->
+              pair == null
+                  ? super.openOrders(recvWindow, getTimestamp())
+                  : super.openOrders(pair, recvWindow, getTimestamp()),
+          BinanceTradeService::adaptOpenOrders);
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  private static OpenOrders adaptOpenOrders(List<BinanceOrder> binanceOpenOrders) {
+
+    List<LimitOrder> limitOrders = new ArrayList<>();
+    List<Order> otherOrders = new ArrayList<>();
+    binanceOpenOrders.forEach(
+        binanceOrder -> {
+          Order order = BinanceAdapters.adaptOrder(binanceOrder);
+          if (order instanceof LimitOrder) {
+            limitOrders.add((LimitOrder) order);
+          } else {
+            otherOrders.add(order);
+          }
+        });
+    return new OpenOrders(limitOrders, otherOrders);
+  }
+
   @Override
   public String placeMarketOrder(MarketOrder mo) throws IOException {
 
@@ -289,43 +298,118 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
           endTime = ((TradeHistoryParamsTimeSpan) params).getEndTime().getTime();
         }
       }
-      if ((fromId != null) && (startTime != null || endTime != null))
+      if ((fromId != null) && (startTime != null))
         throw new ExchangeException(
-            "You should either specify the id from which you get the user trades from or start and end times. If you specify both, Binance will only honour the fromId parameter.");
+            "You should either specify the id from which you get the user trades from or a start time. If you specify both, Binance will only honour the fromId parameter.");
+      // Binance will not take an end time with the fromId, so trades after it are left out here
+      Long after = fromId == null ? null : endTime;
+      if (after != null) {
+        endTime = null;
+      }
 
       Long recvWindow =
           (Long)
               exchange.getExchangeSpecification().getExchangeSpecificParametersItem("recvWindow");
-      List<BinanceTrade> binanceTrades =
-          super.myTrades(pair, limit, startTime, endTime, fromId, recvWindow, getTimestamp());
-      List<UserTrade> trades =
-          binanceTrades.stream()
-              .map(
-                  t ->
-                      new UserTrade(
-                          BinanceAdapters.convertType(t.isBuyer),
-                          t.qty,
-                          pair,
-                          t.price,
-                          t.getTime(),
-                          Long.toString(t.id),
-                          Long.toString(t.orderId),
-                          t.commission,
-                          Currency.getInstance(t.commissionAsset)))
-              .collect(Collectors.toList());
-      long lastId = binanceTrades.stream().map(t -> t.id).max(Long::compareTo).orElse(0L);
-      return new UserTrades(trades, lastId, Trades.TradeSortType.SortByTimestamp);
+      Integer tradeLimit = limit;
+      Long tradeStartTime = startTime;
+      Long tradeEndTime = endTime;
+      Long tradeFromId = fromId;
+      return adapted(
+          () ->
+              myTrades(
+                  pair,
+                  tradeLimit,
+                  tradeStartTime,
+                  tradeEndTime,
+                  tradeFromId,
+                  recvWindow,
+                  getTimestamp()),
+          binanceTrades -> adaptUserTrades(binanceTrades, pair, after));
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  private static UserTrades adaptUserTrades(
+      List<BinanceTrade> binanceTrades, CurrencyPair pair, Long endTime) {
+
+    List<UserTrade> trades =
+        binanceTrades.stream()
+            .filter(t -> endTime == null || t.time <= endTime)
+            .map(
+                t ->
+                    new UserTrade(
+                        BinanceAdapters.convertType(t.isBuyer),
+                        t.qty,
+                        pair,
+                        t.price,
+                        t.getTime(),
+                        Long.toString(t.id),
+                        Long.toString(t.orderId),
+                        t.commission,
+                        Currency.getInstance(t.commissionAsset)))
+            .collect(Collectors.toList());
+    long lastId = binanceTrades.stream().map(t -> t.id).max(Long::compareTo).orElse(0L);
+    return new UserTrades(trades, lastId, Trades.TradeSortType.SortByTimestamp);
+  }
+
   @Override
   public TradeHistoryParams createTradeHistoryParams() {
 
     return new BinanceTradeHistoryParams();
   }
 
+  /**
+   * Pages forward by trade ID, until a page is not full, from the {@link
+   * TradeHistoryParamsIdSpan#getStartId()}, the {@link TradeHistoryParamsTimeSpan#getStartTime()},
+   * or else the oldest trade. Trades after the {@link TradeHistoryParamsTimeSpan#getEndTime()} are
+   * left out.
+   */
+  @Override
+  public TradeHistoryCursor getTradeHistoryCursor() {
+
+    return new TradeHistoryCursor() {
+      @Override
+      public TradeHistoryParams first(TradeHistoryParams params) {
+
+        if (params instanceof TradeHistoryParamsIdSpan
+            && ((TradeHistoryParamsIdSpan) params).getStartId() == null
+            && !(params instanceof TradeHistoryParamsTimeSpan
+                && ((TradeHistoryParamsTimeSpan) params).getStartTime() != null)) {
+          // without either, Binance returns the most recent trades
+          ((TradeHistoryParamsIdSpan) params).setStartId("0");
+        }
+        return params;
+      }
+
+      @Override
+      public TradeHistoryParams next(TradeHistoryParams params, UserTrades page) {
+
+        if (!(params instanceof TradeHistoryParamsIdSpan)) {
+          return null;
+        }
+        Integer limit =
+            params instanceof TradeHistoryParamLimit
+                ? ((TradeHistoryParamLimit) params).getLimit()
+                : null;
+        if (page.getUserTrades().size() < (limit == null ? DEFAULT_TRADE_HISTORY_LIMIT : limit)) {
+          return null;
+        }
+        if (params instanceof TradeHistoryParamsTimeSpan) {
+          ((TradeHistoryParamsTimeSpan) params).setStartTime(null);
+        }
+        ((TradeHistoryParamsIdSpan) params).setStartId(Long.toString(page.getlastID() + 1));
+        return params;
+      }
+
+      @Override
+      public Direction direction() {
+
+        return Direction.FORWARD;
+      }
+    };
+  }
+
   @Override
   public OpenOrdersParams createOpenOrdersParams() {
 
@@ -356,16 +440,18 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
         }
 
         orders.add(
-            BinanceAdapters.adaptOrder(
-                super.orderStatus(
-                    orderQueryParamCurrencyPair.getCurrencyPair(),
-                    BinanceAdapters.id(orderQueryParamCurrencyPair.getOrderId()),
-                    null,
-                    (Long)
-                        exchange
-                            .getExchangeSpecification()
-                            .getExchangeSpecificParametersItem("recvWindow"),
-                    getTimestamp())));
+            adapted(
+                () ->
+                    super.orderStatus(
+                        orderQueryParamCurrencyPair.getCurrencyPair(),
+                        BinanceAdapters.id(orderQueryParamCurrencyPair.getOrderId()),
+                        null,
+                        (Long)
+                            exchange
+                                .getExchangeSpecification()
+                                .getExchangeSpecificParametersItem("recvWindow"),
+                        getTimestamp()),
+                BinanceAdapters::adaptOrder));
       }
       return orders;
     } catch (BinanceException e) {
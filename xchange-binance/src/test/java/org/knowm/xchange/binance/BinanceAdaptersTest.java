@@ -1,11 +1,18 @@
 package org.knowm.xchange.binance;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import java.math.BigDecimal;
 import org.junit.Test;
 import org.knowm.xchange.binance.dto.trade.BinanceOrder;
+import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.utils.ObjectMapperHelper;
 
@@ -25,4 +32,26 @@ public class BinanceAdaptersTest {
     assertThat(marketOrder.getRemainingAmount()).isEqualByComparingTo(BigDecimal.ZERO);
     assertThat(marketOrder.getAveragePrice()).isEqualByComparingTo("0.01858383");
   }
+
+  @Test
+  public void testAdaptScaledOrderBook() throws Exception {
+    ScaledOrderBook coarseBook = new ScaledOrderBook(CurrencyPair.BTC_USDT, 2, 6);
+    String json =
+        "{\"lastUpdateId\":1027024,"
+            + "\"bids\":[[\"4.00000000\",\"431.00000000\",[]],[\"3.99000000\",\"1.50000000\",[]]],"
+            + "\"asks\":[[\"4.00000200\",\"12.00000000\",[]]]}";
+    try (JsonParser parser = new JsonFactory().createParser(json)) {
+      assertThatThrownBy(() -> BinanceAdapters.adaptOrderBook(parser, coarseBook))
+          .isInstanceOf(JsonParseException.class);
+    }
+
+    ScaledOrderBook book = new ScaledOrderBook(CurrencyPair.BTC_USDT, 8, 6);
+    try (JsonParser parser = new JsonFactory().createParser(json)) {
+      assertThat(BinanceAdapters.adaptOrderBook(parser, book)).isEqualTo(1027024L);
+    }
+    assertThat(book.getDepth(OrderType.BID)).isEqualTo(2);
+    assertThat(book.getPrice(OrderType.BID, 0)).isEqualTo(400000000L);
+    assertThat(book.getAmount(OrderType.BID, 1)).isEqualTo(1500000L);
+    assertThat(book.getPrice(OrderType.ASK, 0)).isEqualTo(400000200L);
+  }
 }
@@ -0,0 +1,68 @@
+package org.knowm.xchange.binance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.MetaDataRefresher;
+import org.knowm.xchange.binance.dto.meta.exchangeinfo.BinanceExchangeInfo;
+import org.knowm.xchange.binance.dto.meta.exchangeinfo.Symbol;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+
+public class BinanceMetaDataRefresherTest {
+
+  @Test
+  public void testExchangeInfoWhenStartedFromRefresher() {
+
+    try (MetaDataRefresher refresher = new MetaDataRefresher.Builder().build()) {
+      LocalBinanceExchange first = create(refresher);
+      LocalBinanceExchange second = create(refresher);
+
+      assertThat(second.getExchangeMetaData().getCurrencyPairs())
+          .containsKey(CurrencyPair.BTC_USDT);
+      assertThat(second.getExchangeInfo().getSymbols()).hasSize(1);
+      assertThat(second.getExchangeInfo()).isSameAs(second.getExchangeInfo());
+      assertThat(second.loads.get()).isEqualTo(1);
+      assertThat(first.getExchangeInfo()).isNotNull();
+    }
+  }
+
+  private static LocalBinanceExchange create(MetaDataRefresher refresher) {
+
+    ExchangeSpecification specification = new ExchangeSpecification(LocalBinanceExchange.class);
+    specification.setMetaDataRefresher(refresher);
+    LocalBinanceExchange exchange = new LocalBinanceExchange();
+    exchange.applySpecification(specification);
+    return exchange;
+  }
+
+  /** Makes up Binance's exchange info rather than calling the API. */
+  public static class LocalBinanceExchange extends BinanceExchange {
+
+    final AtomicInteger loads = new AtomicInteger();
+
+    @Override
+    public void remoteInit() {
+
+      exchangeMetaData
+          .getCurrencyPairs()
+          .put(
+              CurrencyPair.BTC_USDT,
+              new CurrencyPairMetaData(null, null, null, null, null, 8, 2, null, null, null, true));
+    }
+
+    @Override
+    protected BinanceExchangeInfo loadExchangeInfo() {
+
+      loads.incrementAndGet();
+      Symbol symbol = new Symbol();
+      symbol.setBaseAsset("BTC");
+      symbol.setQuoteAsset("USDT");
+      BinanceExchangeInfo info = new BinanceExchangeInfo();
+      info.setSymbols(new Symbol[] {symbol});
+      return info;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package org.knowm.xchange.binance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import si.mazi.rescu.RestInvocation;
+
+public class BinanceHmacDigestTest {
+
+  static final String SECRET = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+  /** The example from Binance's REST API documentation. */
+  @Test
+  public void testDigestParams() {
+
+    BinanceHmacDigest digest = BinanceHmacDigest.createInstance(SECRET);
+
+    String signature = digest.digestParams(newOrder());
+
+    assertThat(signature)
+        .isEqualTo("c8db56825ae71d6d79447849e617115f4a920fa2acdcab2b053c4b2838bd6b71");
+    assertThat(digest.digestParams(newOrder())).isEqualTo(signature);
+  }
+
+  static RestInvocation newOrder() {
+
+    return new RestInvocation(
+        null,
+        null,
+        null,
+        null,
+        "https://api.binance.com/api/v3/order?signature=placeholder",
+        null,
+        "api/v3/order",
+        null) {
+
+      @Override
+      public String getHttpMethod() {
+
+        return "POST";
+      }
+
+      @Override
+      public String getRequestBody() {
+
+        return "symbol=LTCBTC&side=BUY&type=LIMIT&timeInForce=GTC&quantity=1&price=0.1"
+            + "&recvWindow=5000&timestamp=1499827319559";
+      }
+    };
+  }
+}
@@ -0,0 +1,192 @@
+package org.knowm.xchange.binance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.binance.BinanceExchange;
+import org.knowm.xchange.binance.dto.trade.BinanceTrade;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.trade.AsyncTradeServiceAdapter;
+import org.knowm.xchange.service.trade.TradeHistoryIterator;
+import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamsTimeSpan;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamCurrencyPair;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsIdSpan;
+
+public class BinanceTradeHistoryTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final List<Long> fromIds = new ArrayList<>();
+  private LocalTradeService service;
+
+  @Before
+  public void setUp() {
+
+    ExchangeSpecification specification = new ExchangeSpecification(BinanceExchange.class);
+    specification.setShouldLoadRemoteMetaData(false);
+    service = new LocalTradeService(ExchangeFactory.INSTANCE.createExchange(specification));
+  }
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testReadsWholeHistoryForward() {
+
+    List<String> ids = ids(iterator(new BinanceTradeHistoryParams(CurrencyPair.BTC_USDT)));
+
+    assertThat(ids).hasSize(1200);
+    assertThat(ids.get(0)).isEqualTo("1000");
+    assertThat(ids.get(1199)).isEqualTo("2199");
+    assertThat(fromIds).containsExactly(0L, 1500L, 2000L);
+  }
+
+  @Test
+  public void testSinceFiltersRatherThanStops() {
+
+    // the lower bound lies behind the cursor, so the pages before it are read and left out
+    List<String> ids =
+        ids(
+            iterator(new BinanceTradeHistoryParams(CurrencyPair.BTC_USDT))
+                .since(new Date(1700_000)));
+
+    assertThat(ids).hasSize(500);
+    assertThat(ids.get(0)).isEqualTo("1700");
+    assertThat(fromIds).containsExactly(0L, 1500L, 2000L);
+  }
+
+  @Test
+  public void testPagesTimeSpanById() {
+
+    TimeSpanParams params = new TimeSpanParams();
+    params.setStartTime(new Date(1100_000));
+    params.setEndTime(new Date(2049_000));
+
+    List<String> ids = ids(iterator(params));
+
+    assertThat(ids).hasSize(950);
+    assertThat(ids.get(0)).isEqualTo("1100");
+    assertThat(ids.get(949)).isEqualTo("2049");
+    assertThat(fromIds).containsExactly(null, 1600L);
+  }
+
+  private TradeHistoryIterator.Builder iterator(TradeHistoryParams params) {
+
+    return new TradeHistoryIterator.Builder(
+        new AsyncTradeServiceAdapter(service, executor), service.getTradeHistoryCursor(), params);
+  }
+
+  private static List<String> ids(TradeHistoryIterator.Builder builder) {
+
+    return builder.build().stream().map(UserTrade::getId).collect(Collectors.toList());
+  }
+
+  /** Trades with IDs from 1000 to 2199 and seconds to match, served as Binance serves them. */
+  private class LocalTradeService extends BinanceTradeService {
+
+    LocalTradeService(org.knowm.xchange.Exchange exchange) {
+
+      super(exchange);
+    }
+
+    @Override
+    public long getTimestamp() {
+
+      return System.currentTimeMillis();
+    }
+
+    @Override
+    public List<BinanceTrade> myTrades(
+        CurrencyPair pair,
+        Integer limit,
+        Long startTime,
+        Long endTime,
+        Long fromId,
+        Long recvWindow,
+        long timestamp) {
+
+      synchronized (fromIds) {
+        fromIds.add(fromId);
+      }
+      int size = limit == null ? 500 : limit;
+      List<BinanceTrade> trades = new ArrayList<>();
+      for (long id = 1000; id < 2200; id++) {
+        long time = id * 1000;
+        if ((fromId == null || id >= fromId)
+            && (startTime == null || time >= startTime)
+            && (endTime == null || time <= endTime)) {
+          trades.add(
+              new BinanceTrade(
+                  id,
+                  id,
+                  BigDecimal.TEN,
+                  BigDecimal.ONE,
+                  BigDecimal.ZERO,
+                  "BNB",
+                  time,
+                  true,
+                  false,
+                  true));
+        }
+      }
+      if (fromId == null && startTime == null) {
+        // the most recent trades
+        return trades.subList(Math.max(0, trades.size() - size), trades.size());
+      }
+      return trades.subList(0, Math.min(size, trades.size()));
+    }
+  }
+
+  private static class TimeSpanParams extends DefaultTradeHistoryParamsTimeSpan
+      implements TradeHistoryParamCurrencyPair, TradeHistoryParamsIdSpan {
+
+    private CurrencyPair currencyPair = CurrencyPair.BTC_USDT;
+    private String startId;
+    private String endId;
+
+    @Override
+    public CurrencyPair getCurrencyPair() {
+      return currencyPair;
+    }
+
+    @Override
+    public void setCurrencyPair(CurrencyPair currencyPair) {
+      this.currencyPair = currencyPair;
+    }
+
+    @Override
+    public String getStartId() {
+      return startId;
+    }
+
+    @Override
+    public void setStartId(String startId) {
+      this.startId = startId;
+    }
+
+    @Override
+    public String getEndId() {
+      return endId;
+    }
+
+    @Override
+    public void setEndId(String endId) {
+      this.endId = endId;
+    }
+  }
+}
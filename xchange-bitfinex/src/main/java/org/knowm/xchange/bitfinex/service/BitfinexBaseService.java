@@ -1,13 +1,15 @@
 package org.knowm.xchange.bitfinex.service;
 
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.bitfinex.BitfinexErrorAdapter;
+import org.knowm.xchange.bitfinex.dto.BitfinexException;
 import org.knowm.xchange.bitfinex.v1.BitfinexAuthenticated;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestProxyFactory;
 
-public class BitfinexBaseService extends BaseExchangeService implements BaseService {
+public class BitfinexBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final String apiKey;
   protected final BitfinexAuthenticated bitfinex;
@@ -29,7 +31,8 @@ public class BitfinexBaseService extends BaseExchangeService implements BaseServ
         RestProxyFactory.createProxy(
             BitfinexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
-            getClientConfig());
+            getClientConfig(),
+            getInterceptors());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator =
         BitfinexHmacPostBodyDigest.createInstance(
@@ -40,6 +43,15 @@ public class BitfinexBaseService extends BaseExchangeService implements BaseServ
         RestProxyFactory.createProxy(
             org.knowm.xchange.bitfinex.v2.BitfinexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
-            getClientConfig());
+            getClientConfig(),
+            getInterceptors());
+  }
+
+  @Override
+  protected Throwable adaptError(Throwable error) {
+
+    return error instanceof BitfinexException
+        ? BitfinexErrorAdapter.adapt((BitfinexException) error)
+        : error;
   }
 }
@@ -9,10 +9,7 @@ import org.knowm.xchange.Exchange;
 import org.knowm.xchange.bitfinex.BitfinexErrorAdapter;
 import org.knowm.xchange.bitfinex.dto.BitfinexException;
 import org.knowm.xchange.bitfinex.v1.BitfinexUtils;
-import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexDepth;
 import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexLendDepth;
-import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexTrade;
-import org.knowm.xchange.bitfinex.v2.dto.marketdata.BitfinexTicker;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.LoanOrderBook;
 import org.knowm.xchange.dto.marketdata.OrderBook;
@@ -53,8 +50,9 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
 
   private Ticker getTickerV1(CurrencyPair currencyPair, Object... args) throws IOException {
     try {
-      return BitfinexAdapters.adaptTicker(
-          getBitfinexTicker(BitfinexUtils.toPairString(currencyPair)), currencyPair);
+      return adapted(
+          () -> getBitfinexTicker(BitfinexUtils.toPairString(currencyPair)),
+          ticker -> BitfinexAdapters.adaptTicker(ticker, currencyPair));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -62,7 +60,7 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
 
   private Ticker getTickerV2(CurrencyPair currencyPair, Object... args) throws IOException {
     try {
-      return BitfinexAdapters.adaptTicker(getBitfinexTickerV2(currencyPair));
+      return adapted(() -> getBitfinexTickerV2(currencyPair), BitfinexAdapters::adaptTicker);
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -91,12 +89,11 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
         }
       }
 
-      BitfinexDepth bitfinexDepth =
-          getBitfinexOrderBook(BitfinexUtils.toPairString(currencyPair), limitBids, limitAsks);
-
-      OrderBook orderBook = BitfinexAdapters.adaptOrderBook(bitfinexDepth, currencyPair);
-
-      return orderBook;
+      Integer bids = limitBids;
+      Integer asks = limitAsks;
+      return adapted(
+          () -> getBitfinexOrderBook(BitfinexUtils.toPairString(currencyPair), bids, asks),
+          bitfinexDepth -> BitfinexAdapters.adaptOrderBook(bitfinexDepth, currencyPair));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -177,10 +174,10 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
                   + ")");
         }
       }
-      BitfinexTrade[] trades =
-          getBitfinexTrades(BitfinexUtils.toPairString(currencyPair), lastTradeTime);
-
-      return BitfinexAdapters.adaptTrades(trades, currencyPair);
+      long since = lastTradeTime;
+      return adapted(
+          () -> getBitfinexTrades(BitfinexUtils.toPairString(currencyPair), since),
+          trades -> BitfinexAdapters.adaptTrades(trades, currencyPair));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -224,9 +221,13 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
         }
       }
 
-      return BitfinexAdapters.adaptPublicTrades(
-          getBitfinexPublicTrades(currencyPair, limitTrades, startTimestamp, endTimestamp, sort),
-          currencyPair);
+      int limit = limitTrades;
+      long start = startTimestamp;
+      long end = endTimestamp;
+      int order = sort;
+      return adapted(
+          () -> getBitfinexPublicTrades(currencyPair, limit, start, end, order),
+          trades -> BitfinexAdapters.adaptPublicTrades(trades, currencyPair));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -236,14 +237,15 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
   public List<Ticker> getTickers(Params params) throws IOException {
     try {
 
-      BitfinexTicker[] bitfinexTickers =
-          params instanceof CurrencyPairsParam
-              ? getBitfinexTickers(((CurrencyPairsParam) params).getCurrencyPairs())
-              : getBitfinexTickers(null);
-
-      return Arrays.stream(bitfinexTickers)
-          .map(BitfinexAdapters::adaptTicker)
-          .collect(Collectors.toList());
+      return adapted(
+          () ->
+              params instanceof CurrencyPairsParam
+                  ? getBitfinexTickers(((CurrencyPairsParam) params).getCurrencyPairs())
+                  : getBitfinexTickers(null),
+          bitfinexTickers ->
+              Arrays.stream(bitfinexTickers)
+                  .map(BitfinexAdapters::adaptTicker)
+                  .collect(Collectors.toList()));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
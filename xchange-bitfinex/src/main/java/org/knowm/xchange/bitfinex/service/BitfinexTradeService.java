@@ -13,7 +13,6 @@ import org.knowm.xchange.bitfinex.v1.BitfinexOrderType;
 import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexOrderFlags;
 import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexOrderStatusResponse;
 import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexReplaceOrderRequest;
-import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexTradeResponse;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.trade.LimitOrder;
@@ -53,13 +52,12 @@ public class BitfinexTradeService extends BitfinexTradeServiceRaw implements Tra
   @Override
   public OpenOrders getOpenOrders(OpenOrdersParams params) throws IOException {
     try {
-      BitfinexOrderStatusResponse[] activeOrders = getBitfinexOpenOrders();
-
-      if (activeOrders.length <= 0) {
-        return noOpenOrders;
-      } else {
-        return filterOrders(BitfinexAdapters.adaptOrders(activeOrders), params);
-      }
+      return adapted(
+          this::getBitfinexOpenOrders,
+          activeOrders ->
+              activeOrders.length <= 0
+                  ? noOpenOrders
+                  : filterOrders(BitfinexAdapters.adaptOrders(activeOrders), params));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -221,9 +219,12 @@ public class BitfinexTradeService extends BitfinexTradeServiceRaw implements Tra
         limit = tradeHistoryParamLimit.getLimit();
       }
 
-      final BitfinexTradeResponse[] trades =
-          getBitfinexTradeHistory(symbol, startTime, endTime, limit, null);
-      return BitfinexAdapters.adaptTradeHistory(trades, symbol);
+      long since = startTime;
+      Long until = endTime;
+      Integer count = limit;
+      return adapted(
+          () -> getBitfinexTradeHistory(symbol, since, until, count, null),
+          trades -> BitfinexAdapters.adaptTradeHistory(trades, symbol));
     } catch (BitfinexException e) {
       throw BitfinexErrorAdapter.adapt(e);
     }
@@ -247,12 +248,18 @@ public class BitfinexTradeService extends BitfinexTradeServiceRaw implements Tra
 
       for (String orderId : orderIds) {
 
-        BitfinexOrderStatusResponse orderStatus = getBitfinexOrderStatus(orderId);
-        BitfinexOrderStatusResponse[] orderStatuses = new BitfinexOrderStatusResponse[1];
-        if (orderStatus != null) {
-          orderStatuses[0] = orderStatus;
-          OpenOrders orders = BitfinexAdapters.adaptOrders(orderStatuses);
-          openOrders.add(orders.getOpenOrders().get(0));
+        LimitOrder order =
+            adapted(
+                () -> getBitfinexOrderStatus(orderId),
+                orderStatus ->
+                    orderStatus == null
+                        ? null
+                        : BitfinexAdapters.adaptOrders(
+                                new BitfinexOrderStatusResponse[] {orderStatus})
+                            .getOpenOrders()
+                            .get(0));
+        if (order != null) {
+          openOrders.add(order);
         }
       }
       return openOrders;
@@ -1,8 +1,18 @@
 package org.knowm.xchange.bitfinex.v1.dto.marketdata;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
 import java.math.BigDecimal;
+import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexLevel.BitfinexLevelDeserializer;
+import org.knowm.xchange.utils.jackson.DecimalLevelsReader;
 
+@JsonDeserialize(using = BitfinexLevelDeserializer.class)
 public class BitfinexLevel {
 
   private final BigDecimal price;
@@ -52,4 +62,39 @@ public class BitfinexLevel {
         + timestamp
         + "]";
   }
+
+  /** Reads the fields straight from the tokens, since depth responses hold many levels. */
+  static class BitfinexLevelDeserializer extends JsonDeserializer<BitfinexLevel> {
+
+    @Override
+    public BitfinexLevel deserialize(JsonParser jsonParser, DeserializationContext ctxt)
+        throws IOException {
+
+      if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(
+            jsonParser, "Expected a level but found " + jsonParser.currentToken());
+      }
+      BigDecimal price = null;
+      BigDecimal amount = null;
+      BigDecimal timestamp = null;
+      String field;
+      while ((field = jsonParser.nextFieldName()) != null) {
+        jsonParser.nextToken();
+        switch (field) {
+          case "price":
+            price = DecimalLevelsReader.readDecimal(jsonParser);
+            break;
+          case "amount":
+            amount = DecimalLevelsReader.readDecimal(jsonParser);
+            break;
+          case "timestamp":
+            timestamp = DecimalLevelsReader.readDecimal(jsonParser);
+            break;
+          default:
+            jsonParser.skipChildren();
+        }
+      }
+      return new BitfinexLevel(price, amount, timestamp);
+    }
+  }
 }
@@ -1,8 +1,10 @@
 package org.knowm.xchange.bitmex.service;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import org.knowm.xchange.bitmex.BitmexAuthenticated;
 import org.knowm.xchange.bitmex.BitmexException;
 import org.knowm.xchange.bitmex.BitmexExchange;
@@ -10,6 +12,8 @@ import org.knowm.xchange.bitmex.RateLimitUpdateListener;
 import org.knowm.xchange.exceptions.*;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.service.metrics.MetricsInterceptor.RemoteCall;
+import org.knowm.xchange.service.ratelimit.RateLimiter;
 import si.mazi.rescu.HttpResponseAware;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestProxyFactory;
@@ -35,7 +39,8 @@ public class BitmexBaseService extends BaseExchangeService<BitmexExchange> imple
         RestProxyFactory.createProxy(
             BitmexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
-            getClientConfig());
+            getClientConfig(),
+            getInterceptors());
     signatureCreator =
         BitmexDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
@@ -57,6 +62,24 @@ public class BitmexBaseService extends BaseExchangeService<BitmexExchange> imple
     return new ExchangeException(exception);
   }
 
+  @Override
+  protected Throwable adaptError(Throwable error) {
+    return error instanceof BitmexException ? handleError((BitmexException) error) : error;
+  }
+
+  /**
+   * {@link #adapted(org.knowm.xchange.service.metrics.MetricsInterceptor.RemoteCall, Function)} for
+   * the calls made through {@link #updateRateLimit}, which throw an {@link ExchangeException}
+   * rather than an IOException.
+   */
+  protected <R, T> T adaptedResponse(RemoteCall<R> call, Function<? super R, ? extends T> adapter) {
+    try {
+      return adapted(call, adapter);
+    } catch (IOException e) {
+      throw handleError(e);
+    }
+  }
+
   /** see https://www.bitmex.com/app/restAPI#Request-Rate-Limits */
   protected <T extends HttpResponseAware> T updateRateLimit(Supplier<T> httpResponseAwareSupplier) {
     if (rateLimitReset != null) {
@@ -107,6 +130,10 @@ public class BitmexBaseService extends BaseExchangeService<BitmexExchange> imple
         rateLimitsUpdated = true;
       }
       if (rateLimitsUpdated) {
+        RateLimiter rateLimiter = exchange.getPrivateRateLimiter();
+        if (rateLimiter != null) {
+          rateLimiter.recalibrate(rateLimitRemaining, rateLimitReset * 1000);
+        }
         RateLimitUpdateListener rateLimitUpdateListener = exchange.getRateLimitUpdateListener();
         if (rateLimitUpdateListener != null) {
           rateLimitUpdateListener.rateLimitUpdate(rateLimit, rateLimitRemaining, rateLimitReset);
@@ -3,7 +3,6 @@ package org.knowm.xchange.bitmex.service;
 import java.util.Base64;
 import javax.ws.rs.HeaderParam;
 import org.knowm.xchange.service.BaseParamsDigest;
-import org.knowm.xchange.utils.DigestUtils;
 import si.mazi.rescu.RestInvocation;
 
 public class BitmexDigest extends BaseParamsDigest {
@@ -42,14 +41,20 @@ public class BitmexDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    String nonce = restInvocation.getParamValue(HeaderParam.class, "api-expires").toString();
-    String path = restInvocation.getInvocationUrl().split(restInvocation.getBaseUrl())[1];
-    String payload =
-        restInvocation.getHttpMethod() + path + nonce + restInvocation.getRequestBody();
-    return digestString(payload);
+    String invocationUrl = restInvocation.getInvocationUrl();
+    String baseUrl = restInvocation.getBaseUrl();
+    return getSigner()
+        .append(restInvocation.getHttpMethod())
+        .append(
+            invocationUrl,
+            invocationUrl.indexOf(baseUrl) + baseUrl.length(),
+            invocationUrl.length())
+        .append(restInvocation.getParamValue(HeaderParam.class, "api-expires").toString())
+        .append(restInvocation.getRequestBody())
+        .hmacHex();
   }
 
   public String digestString(String payload) {
-    return DigestUtils.bytesToHex(getMac().doFinal(payload.getBytes())).toLowerCase();
+    return getSigner().append(payload).hmacHex();
   }
 }
@@ -6,7 +6,6 @@ import java.util.List;
 import org.knowm.xchange.bitmex.BitmexAdapters;
 import org.knowm.xchange.bitmex.BitmexExchange;
 import org.knowm.xchange.bitmex.dto.account.BitmexTicker;
-import org.knowm.xchange.bitmex.dto.marketdata.BitmexPublicTrade;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
@@ -38,7 +37,11 @@ public class BitmexMarketDataService extends BitmexMarketDataServiceRaw
   public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
 
     String bitmexSymbol = BitmexAdapters.adaptCurrencyPairToSymbol(currencyPair);
-    List<BitmexTicker> bitmexTickers = getTicker(bitmexSymbol);
+    return adapted(
+        () -> getTicker(bitmexSymbol), bitmexTickers -> adaptTicker(bitmexTickers, currencyPair));
+  }
+
+  private static Ticker adaptTicker(List<BitmexTicker> bitmexTickers, CurrencyPair currencyPair) {
 
     if (bitmexTickers.isEmpty()) {
       return null;
@@ -66,7 +69,9 @@ public class BitmexMarketDataService extends BitmexMarketDataServiceRaw
   @Override
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
     String bitmexSymbol = BitmexAdapters.adaptCurrencyPairToSymbol(currencyPair);
-    return BitmexAdapters.adaptOrderBook(getBitmexDepth(bitmexSymbol), currencyPair);
+    return adapted(
+        () -> getBitmexDepth(bitmexSymbol),
+        bitmexDepth -> BitmexAdapters.adaptOrderBook(bitmexDepth, currencyPair));
   }
 
   @Override
@@ -93,7 +98,10 @@ public class BitmexMarketDataService extends BitmexMarketDataServiceRaw
     }
 
     String bitmexSymbol = BitmexAdapters.adaptCurrencyPairToSymbol(currencyPair);
-    List<BitmexPublicTrade> trades = getBitmexTrades(bitmexSymbol, limit, start);
-    return BitmexAdapters.adaptTrades(trades, currencyPair);
+    Integer count = limit;
+    Long from = start;
+    return adapted(
+        () -> getBitmexTrades(bitmexSymbol, count, from),
+        trades -> BitmexAdapters.adaptTrades(trades, currencyPair));
   }
 }
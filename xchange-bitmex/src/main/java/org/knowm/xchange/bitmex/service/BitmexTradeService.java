@@ -7,7 +7,10 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.knowm.xchange.bitmex.BitmexAdapters;
@@ -18,8 +21,10 @@ import org.knowm.xchange.bitmex.dto.trade.BitmexOrderFlags;
 import org.knowm.xchange.bitmex.dto.trade.BitmexPlaceOrderParameters;
 import org.knowm.xchange.bitmex.dto.trade.BitmexPlaceOrderParameters.Builder;
 import org.knowm.xchange.bitmex.dto.trade.BitmexReplaceOrderParameters;
+import org.knowm.xchange.bitmex.dto.trade.PlaceOrderCommand;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.trade.BatchResult;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
@@ -28,8 +33,10 @@ import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.trade.OrderBatches;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelAllOrders;
+import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
 import org.knowm.xchange.service.trade.params.DefaultCancelOrderParamId;
 import org.knowm.xchange.service.trade.params.TradeHistoryParamCurrencyPair;
@@ -49,11 +56,13 @@ public class BitmexTradeService extends BitmexTradeServiceRaw implements TradeSe
   @Override
   public OpenOrders getOpenOrders() throws ExchangeException {
 
-    List<BitmexPrivateOrder> bitmexOrders =
-        super.getBitmexOrders(null, "{\"open\": true}", null, null, null);
-
-    return new OpenOrders(
-        bitmexOrders.stream().map(BitmexAdapters::adaptOrder).collect(Collectors.toList()));
+    return adaptedResponse(
+        () -> super.getBitmexOrders(null, "{\"open\": true}", null, null, null),
+        bitmexOrders ->
+            new OpenOrders(
+                bitmexOrders.stream()
+                    .map(BitmexAdapters::adaptOrder)
+                    .collect(Collectors.toList())));
   }
 
   @Override
@@ -83,6 +92,42 @@ public class BitmexTradeService extends BitmexTradeServiceRaw implements TradeSe
 
   @Override
   public String placeLimitOrder(LimitOrder limitOrder) throws ExchangeException {
+    return placeOrder(limitOrderParameters(limitOrder)).getId();
+  }
+
+  /** Places the orders in one request. */
+  @Override
+  public List<BatchResult<LimitOrder, String>> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws ExchangeException {
+    if (limitOrders.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<PlaceOrderCommand> commands =
+        limitOrders.stream()
+            .map(limitOrder -> new PlaceOrderCommand(limitOrderParameters(limitOrder)))
+            .collect(Collectors.toList());
+    List<BitmexPrivateOrder> orders = placeOrderBulk(commands);
+
+    List<BatchResult<LimitOrder, String>> results = new ArrayList<>(limitOrders.size());
+    for (int i = 0; i < limitOrders.size(); i++) {
+      LimitOrder limitOrder = limitOrders.get(i);
+      BitmexPrivateOrder order = i < orders.size() ? orders.get(i) : null;
+      if (order == null) {
+        results.add(BatchResult.failure(limitOrder, new ExchangeException("No order returned")));
+      } else if (order.getError() != null) {
+        results.add(BatchResult.failure(limitOrder, new ExchangeException(order.getError())));
+      } else if (order.getOrderStatus() == BitmexPrivateOrder.OrderStatus.Rejected) {
+        results.add(
+            BatchResult.failure(
+                limitOrder, new ExchangeException("Rejected: " + order.getOrdRejReason())));
+      } else {
+        results.add(BatchResult.success(limitOrder, order.getId()));
+      }
+    }
+    return results;
+  }
+
+  private BitmexPlaceOrderParameters limitOrderParameters(LimitOrder limitOrder) {
     String symbol = BitmexAdapters.adaptCurrencyPairToSymbol(limitOrder.getCurrencyPair());
     BigDecimal priceAfterRounding =
         BigDecimalUtils.roundToStepSize(limitOrder.getLimitPrice(), BigDecimal.valueOf(0.5));
@@ -96,7 +141,7 @@ public class BitmexTradeService extends BitmexTradeServiceRaw implements TradeSe
     if (limitOrder.hasFlag(BitmexOrderFlags.POST)) {
       b.addExecutionInstruction(BitmexExecutionInstruction.PARTICIPATE_DO_NOT_INITIATE);
     }
-    return placeOrder(b.build()).getId();
+    return b.build();
   }
 
   @Override
@@ -155,13 +200,58 @@ public class BitmexTradeService extends BitmexTradeServiceRaw implements TradeSe
         String.format("Unexpected type of parameter: %s", params));
   }
 
+  /** Cancels the orders given by ID in one request, and any others one by one. */
+  @Override
+  public List<BatchResult<CancelOrderParams, Boolean>> cancelOrders(
+      Collection<CancelOrderParams> orderParams) throws IOException {
+
+    List<String> orderIds = new ArrayList<>();
+    List<CancelOrderParams> others = new ArrayList<>();
+    for (CancelOrderParams params : orderParams) {
+      if (params instanceof CancelOrderByIdParams) {
+        orderIds.add(((CancelOrderByIdParams) params).getOrderId());
+      } else {
+        others.add(params);
+      }
+    }
+    Map<String, BitmexPrivateOrder> orders = new HashMap<>();
+    if (!orderIds.isEmpty()) {
+      for (BitmexPrivateOrder order : cancelBitmexOrders(orderIds)) {
+        orders.put(order.getId(), order);
+      }
+    }
+    Iterator<BatchResult<CancelOrderParams, Boolean>> otherResults =
+        OrderBatches.fanOut(others, this::cancelOrder).iterator();
+
+    List<BatchResult<CancelOrderParams, Boolean>> results = new ArrayList<>(orderParams.size());
+    for (CancelOrderParams params : orderParams) {
+      if (!(params instanceof CancelOrderByIdParams)) {
+        results.add(otherResults.next());
+        continue;
+      }
+      BitmexPrivateOrder order = orders.get(((CancelOrderByIdParams) params).getOrderId());
+      if (order != null && order.getError() != null) {
+        results.add(BatchResult.failure(params, new ExchangeException(order.getError())));
+      } else {
+        results.add(
+            BatchResult.success(
+                params,
+                order != null
+                    && order.getOrderStatus() == BitmexPrivateOrder.OrderStatus.Canceled));
+      }
+    }
+    return results;
+  }
+
   @Override
   public Collection<Order> getOrder(String... orderIds) throws ExchangeException {
 
     String filter = "{\"orderID\": [\"" + String.join("\",\"", orderIds) + "\"]}";
 
-    List<BitmexPrivateOrder> privateOrders = getBitmexOrders(null, filter, null, null, null);
-    return privateOrders.stream().map(BitmexAdapters::adaptOrder).collect(Collectors.toList());
+    return adaptedResponse(
+        () -> getBitmexOrders(null, filter, null, null, null),
+        privateOrders ->
+            privateOrders.stream().map(BitmexAdapters::adaptOrder).collect(Collectors.toList()));
   }
 
   @Override
@@ -184,11 +274,19 @@ public class BitmexTradeService extends BitmexTradeServiceRaw implements TradeSe
       endTime = timeSpan.getEndTime();
     }
 
-    List<UserTrade> userTrades =
-        getTradeHistory(symbol, null, null, null, start, false, startTime, endTime).stream()
-            .map(BitmexAdapters::adoptUserTrade)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-    return new UserTrades(userTrades, TradeSortType.SortByTimestamp);
+    String pair = symbol;
+    Long offset = start;
+    Date from = startTime;
+    Date to = endTime;
+    return adapted(
+        () -> getTradeHistory(pair, null, null, null, offset, false, from, to),
+        executions -> {
+          List<UserTrade> userTrades =
+              executions.stream()
+                  .map(BitmexAdapters::adoptUserTrade)
+                  .filter(Objects::nonNull)
+                  .collect(Collectors.toList());
+          return new UserTrades(userTrades, TradeSortType.SortByTimestamp);
+        });
   }
 }
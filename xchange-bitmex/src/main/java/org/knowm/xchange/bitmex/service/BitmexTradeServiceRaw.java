@@ -195,6 +195,17 @@ public class BitmexTradeServiceRaw extends BitmexBaseService {
     return cancelBitmexOrder(orderId, null);
   }
 
+  /**
+   * Cancels the orders in one request.
+   *
+   * @return the orders, with an error for those which could not be cancelled
+   */
+  @Nonnull
+  public List<BitmexPrivateOrder> cancelBitmexOrders(@Nonnull Collection<String> orderIds)
+      throws ExchangeException {
+    return cancelBitmexOrder(ObjectMapperHelper.toCompactJSON(orderIds), null);
+  }
+
   @Nonnull
   public List<BitmexPrivateOrder> cancelBitmexOrder(String orderId, String clOrdId)
       throws ExchangeException {
@@ -0,0 +1,67 @@
+package org.knowm.xchange.bitmex.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Annotation;
+import javax.ws.rs.HeaderParam;
+import org.junit.Test;
+import si.mazi.rescu.RestInvocation;
+
+public class BitmexDigestTest {
+
+  static final String SECRET = "chNOOS4KvNXR_Xq4k4c9qsfoKWvnDecLATCRlcBwyKDYnWgO";
+
+  /** The examples from BitMEX's API key documentation. */
+  @Test
+  public void testDigestParams() {
+
+    BitmexDigest digest = BitmexDigest.createInstance(SECRET, "LAqUlngMIQkIUjXMUreyu3qn");
+
+    assertThat(digest.digestParams(invocation("GET", "/api/v1/instrument", 1518064236L, "")))
+        .isEqualTo("c7682d435d0cfe87c16098df34ef2eb5a549d4c5a3c2b1f0f77b8af73423bf00");
+    assertThat(digest.digestParams(newOrder()))
+        .isEqualTo("1749cd2ccae4aa49048ae09f0b95110cee706e0944e6a14ad0b3a8cb45bd336b");
+  }
+
+  static RestInvocation newOrder() {
+
+    return invocation(
+        "POST",
+        "/api/v1/order",
+        1518064238L,
+        "{\"symbol\":\"XBTM15\",\"price\":219.0,\"clOrdID\":\"mm_bitmex_1a/oemUeQ4CAJZgP3fjHsA\","
+            + "\"orderQty\":98}");
+  }
+
+  private static RestInvocation invocation(
+      String httpMethod, String path, long expires, String body) {
+
+    return new RestInvocation(
+        null, null, null, null, "https://www.bitmex.com" + path, null, null, null) {
+
+      @Override
+      public String getBaseUrl() {
+
+        return "https://www.bitmex.com";
+      }
+
+      @Override
+      public String getHttpMethod() {
+
+        return httpMethod;
+      }
+
+      @Override
+      public Object getParamValue(Class<? extends Annotation> type, String name) {
+
+        return HeaderParam.class.equals(type) && "api-expires".equals(name) ? expires : null;
+      }
+
+      @Override
+      public String getRequestBody() {
+
+        return body;
+      }
+    };
+  }
+}
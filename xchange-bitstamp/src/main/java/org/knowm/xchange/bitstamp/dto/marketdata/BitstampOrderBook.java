@@ -1,9 +1,11 @@
 package org.knowm.xchange.bitstamp.dto.marketdata;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
+import org.knowm.xchange.utils.jackson.PriceAmountListsDeserializer;
 
 /** @author Matija Mazi */
 public class BitstampOrderBook {
@@ -21,8 +23,10 @@ public class BitstampOrderBook {
    */
   public BitstampOrderBook(
       @JsonProperty("timestamp") Long timestamp,
-      @JsonProperty("bids") List<List<BigDecimal>> bids,
-      @JsonProperty("asks") List<List<BigDecimal>> asks) {
+      @JsonProperty("bids") @JsonDeserialize(using = PriceAmountListsDeserializer.class)
+          List<List<BigDecimal>> bids,
+      @JsonProperty("asks") @JsonDeserialize(using = PriceAmountListsDeserializer.class)
+          List<List<BigDecimal>> asks) {
 
     this.bids = bids;
     this.asks = asks;
@@ -2,13 +2,15 @@ package org.knowm.xchange.bittrex.service;
 
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.bittrex.BittrexAuthenticated;
+import org.knowm.xchange.bittrex.BittrexErrorAdapter;
 import org.knowm.xchange.bittrex.BittrexV2;
+import org.knowm.xchange.bittrex.dto.BittrexException;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestProxyFactory;
 
-public class BittrexBaseService extends BaseExchangeService implements BaseService {
+public class BittrexBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final String apiKey;
   protected final BittrexAuthenticated bittrexAuthenticated;
@@ -28,12 +30,24 @@ public class BittrexBaseService extends BaseExchangeService implements BaseServi
         RestProxyFactory.createProxy(
             BittrexAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
-            getClientConfig());
+            getClientConfig(),
+            getInterceptors());
     this.bittrexV2 =
         RestProxyFactory.createProxy(
-            BittrexV2.class, exchange.getExchangeSpecification().getSslUri(), getClientConfig());
+            BittrexV2.class,
+            exchange.getExchangeSpecification().getSslUri(),
+            getClientConfig(),
+            getInterceptors());
     this.apiKey = exchange.getExchangeSpecification().getApiKey();
     this.signatureCreator =
         BittrexDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
+
+  @Override
+  protected Throwable adaptError(Throwable error) {
+
+    return error instanceof BittrexException
+        ? BittrexErrorAdapter.adapt((BittrexException) error)
+        : error;
+  }
 }
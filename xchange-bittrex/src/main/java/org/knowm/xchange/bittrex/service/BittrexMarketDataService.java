@@ -12,7 +12,6 @@ import org.knowm.xchange.bittrex.BittrexUtils;
 import org.knowm.xchange.bittrex.dto.BittrexException;
 import org.knowm.xchange.bittrex.dto.marketdata.BittrexDepth;
 import org.knowm.xchange.bittrex.dto.marketdata.BittrexMarketSummary;
-import org.knowm.xchange.bittrex.dto.marketdata.BittrexTrade;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
@@ -45,12 +44,16 @@ public class BittrexMarketDataService extends BittrexMarketDataServiceRaw
   @Override
   public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
     try {
-      BittrexMarketSummary summary =
-          getBittrexMarketSummary(BittrexUtils.toPairString(currencyPair));
-      if (summary == null) {
-        throw new ExportException("Bittrex didn't return any summary nor an error");
-      }
-      return BittrexAdapters.adaptTicker(summary, currencyPair);
+      return adapted(
+          () -> {
+            BittrexMarketSummary summary =
+                getBittrexMarketSummary(BittrexUtils.toPairString(currencyPair));
+            if (summary == null) {
+              throw new ExportException("Bittrex didn't return any summary nor an error");
+            }
+            return summary;
+          },
+          summary -> BittrexAdapters.adaptTicker(summary, currencyPair));
     } catch (BittrexException e) {
       throw BittrexErrorAdapter.adapt(e);
     }
@@ -63,16 +66,20 @@ public class BittrexMarketDataService extends BittrexMarketDataServiceRaw
           (params instanceof CurrencyPairsParam)
               ? new ArrayList<>(((CurrencyPairsParam) params).getCurrencyPairs())
               : new ArrayList<>();
-      return getBittrexMarketSummaries().stream()
-          .map(
-              bittrexMarketSummary ->
-                  BittrexAdapters.adaptTicker(
-                      bittrexMarketSummary,
-                      BittrexUtils.toCurrencyPair(bittrexMarketSummary.getMarketName())))
-          .filter(
-              ticker ->
-                  currencyPairs.size() == 0 || currencyPairs.contains(ticker.getCurrencyPair()))
-          .collect(Collectors.toList());
+      return adapted(
+          this::getBittrexMarketSummaries,
+          summaries ->
+              summaries.stream()
+                  .map(
+                      bittrexMarketSummary ->
+                          BittrexAdapters.adaptTicker(
+                              bittrexMarketSummary,
+                              BittrexUtils.toCurrencyPair(bittrexMarketSummary.getMarketName())))
+                  .filter(
+                      ticker ->
+                          currencyPairs.size() == 0
+                              || currencyPairs.contains(ticker.getCurrencyPair()))
+                  .collect(Collectors.toList()));
     } catch (BittrexException e) {
       throw BittrexErrorAdapter.adapt(e);
     }
@@ -90,20 +97,26 @@ public class BittrexMarketDataService extends BittrexMarketDataServiceRaw
         }
       }
 
-      BittrexDepth bittrexDepth =
-          getBittrexOrderBook(BittrexUtils.toPairString(currencyPair), depth);
-
-      List<LimitOrder> asks =
-          BittrexAdapters.adaptOrders(bittrexDepth.getAsks(), currencyPair, "ask", "", depth);
-      List<LimitOrder> bids =
-          BittrexAdapters.adaptOrders(bittrexDepth.getBids(), currencyPair, "bid", "", depth);
-
-      return new OrderBook(null, asks, bids);
+      int limit = depth;
+      return adapted(
+          () -> getBittrexOrderBook(BittrexUtils.toPairString(currencyPair), limit),
+          bittrexDepth -> adaptOrderBook(bittrexDepth, currencyPair, limit));
     } catch (BittrexException e) {
       throw BittrexErrorAdapter.adapt(e);
     }
   }
 
+  private static OrderBook adaptOrderBook(
+      BittrexDepth bittrexDepth, CurrencyPair currencyPair, int depth) {
+
+    List<LimitOrder> asks =
+        BittrexAdapters.adaptOrders(bittrexDepth.getAsks(), currencyPair, "ask", "", depth);
+    List<LimitOrder> bids =
+        BittrexAdapters.adaptOrders(bittrexDepth.getBids(), currencyPair, "bid", "", depth);
+
+    return new OrderBook(null, asks, bids);
+  }
+
   /**
    * @param currencyPair The CurrencyPair for which to query trades.
    * @param args no further args are supported by the API
@@ -111,9 +124,9 @@ public class BittrexMarketDataService extends BittrexMarketDataServiceRaw
   @Override
   public Trades getTrades(CurrencyPair currencyPair, Object... args) throws IOException {
     try {
-      List<BittrexTrade> trades = getBittrexTrades(BittrexUtils.toPairString(currencyPair));
-
-      return BittrexAdapters.adaptTrades(trades, currencyPair);
+      return adapted(
+          () -> getBittrexTrades(BittrexUtils.toPairString(currencyPair)),
+          trades -> BittrexAdapters.adaptTrades(trades, currencyPair));
     } catch (BittrexException e) {
       throw BittrexErrorAdapter.adapt(e);
     }
@@ -8,8 +8,6 @@ import org.knowm.xchange.Exchange;
 import org.knowm.xchange.bittrex.BittrexAdapters;
 import org.knowm.xchange.bittrex.BittrexErrorAdapter;
 import org.knowm.xchange.bittrex.dto.BittrexException;
-import org.knowm.xchange.bittrex.dto.trade.BittrexOrder;
-import org.knowm.xchange.bittrex.dto.trade.BittrexUserTrade;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
@@ -68,7 +66,9 @@ public class BittrexTradeService extends BittrexTradeServiceRaw implements Trade
   @Override
   public OpenOrders getOpenOrders(OpenOrdersParams params) throws IOException {
     try {
-      return new OpenOrders(BittrexAdapters.adaptOpenOrders(getBittrexOpenOrders(params)));
+      return adapted(
+          () -> getBittrexOpenOrders(params),
+          openOrders -> new OpenOrders(BittrexAdapters.adaptOpenOrders(openOrders)));
     } catch (BittrexException e) {
       throw BittrexErrorAdapter.adapt(e);
     }
@@ -106,9 +106,13 @@ public class BittrexTradeService extends BittrexTradeServiceRaw implements Trade
         currencyPair = tradeHistoryParamCurrencyPair.getCurrencyPair();
       }
 
-      List<BittrexUserTrade> bittrexTradeHistory = getBittrexTradeHistory(currencyPair);
-      return new UserTrades(
-          BittrexAdapters.adaptUserTrades(bittrexTradeHistory), TradeSortType.SortByTimestamp);
+      CurrencyPair pair = currencyPair;
+      return adapted(
+          () -> getBittrexTradeHistory(pair),
+          bittrexTradeHistory ->
+              new UserTrades(
+                  BittrexAdapters.adaptUserTrades(bittrexTradeHistory),
+                  TradeSortType.SortByTimestamp));
     } catch (BittrexException e) {
       throw BittrexErrorAdapter.adapt(e);
     }
@@ -131,9 +135,11 @@ public class BittrexTradeService extends BittrexTradeServiceRaw implements Trade
 
       for (String orderId : orderIds) {
 
-        BittrexOrder order = getBittrexOrder(orderId);
-        if (order != null) {
-          LimitOrder limitOrder = BittrexAdapters.adaptOrder(order);
+        LimitOrder limitOrder =
+            adapted(
+                () -> getBittrexOrder(orderId),
+                order -> order == null ? null : BittrexAdapters.adaptOrder(order));
+        if (limitOrder != null) {
           orders.add(limitOrder);
         }
       }
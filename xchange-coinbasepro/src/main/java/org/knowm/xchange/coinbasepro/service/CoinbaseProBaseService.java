@@ -12,7 +12,7 @@ import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestProxyFactory;
 
-public class CoinbaseProBaseService extends BaseExchangeService implements BaseService {
+public class CoinbaseProBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected final CoinbasePro coinbasePro;
   protected final ParamsDigest digest;
@@ -25,7 +25,10 @@ public class CoinbaseProBaseService extends BaseExchangeService implements BaseS
     super(exchange);
     coinbasePro =
         RestProxyFactory.createProxy(
-            CoinbasePro.class, exchange.getExchangeSpecification().getSslUri(), getClientConfig());
+            CoinbasePro.class,
+            exchange.getExchangeSpecification().getSslUri(),
+            getClientConfig(),
+            getInterceptors());
     digest = CoinbaseProDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
     apiKey = exchange.getExchangeSpecification().getApiKey();
     passphrase =
@@ -45,4 +48,12 @@ public class CoinbaseProBaseService extends BaseExchangeService implements BaseS
       return new ExchangeException(exception);
     }
   }
+
+  @Override
+  protected Throwable adaptError(Throwable error) {
+
+    return error instanceof CoinbaseProException
+        ? handleError((CoinbaseProException) error)
+        : error;
+  }
 }
@@ -1,10 +1,9 @@
 package org.knowm.xchange.coinbasepro.service;
 
 import java.util.Base64;
-import javax.crypto.Mac;
 import javax.ws.rs.HeaderParam;
-import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.service.BaseParamsDigest;
+import org.knowm.xchange.service.Signer;
 import si.mazi.rescu.RestInvocation;
 
 public class CoinbaseProDigest extends BaseParamsDigest {
@@ -24,23 +23,23 @@ public class CoinbaseProDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    String pathWithQueryString =
-        restInvocation.getInvocationUrl().replace(restInvocation.getBaseUrl(), "");
-    String message =
-        restInvocation.getParamValue(HeaderParam.class, "CB-ACCESS-TIMESTAMP").toString()
-            + restInvocation.getHttpMethod()
-            + pathWithQueryString
-            + (restInvocation.getRequestBody() != null ? restInvocation.getRequestBody() : "");
-
-    Mac mac256 = getMac();
-
-    try {
-      mac256.update(message.getBytes("UTF-8"));
-    } catch (Exception e) {
-      throw new ExchangeException("Digest encoding exception", e);
+    String invocationUrl = restInvocation.getInvocationUrl();
+    String baseUrl = restInvocation.getBaseUrl();
+    Signer signer =
+        getSigner()
+            .append(
+                restInvocation.getParamValue(HeaderParam.class, "CB-ACCESS-TIMESTAMP").toString())
+            .append(restInvocation.getHttpMethod());
+    if (invocationUrl.startsWith(baseUrl)) {
+      signer.append(invocationUrl, baseUrl.length(), invocationUrl.length());
+    } else {
+      signer.append(invocationUrl.replace(baseUrl, ""));
+    }
+    if (restInvocation.getRequestBody() != null) {
+      signer.append(restInvocation.getRequestBody());
     }
 
-    signature = Base64.getEncoder().encodeToString(mac256.doFinal());
+    signature = signer.hmacBase64();
     return signature;
   }
 
@@ -5,7 +5,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProTrades;
-import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductStats;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductTicker;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
@@ -29,10 +28,11 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
 
     // Request data
     CoinbaseProProductTicker ticker = getCoinbaseProProductTicker(currencyPair);
-    CoinbaseProProductStats stats = getCoinbaseProProductStats(currencyPair);
 
     // Adapt to XChange DTOs
-    return CoinbaseProAdapters.adaptTicker(ticker, stats, currencyPair);
+    return adapted(
+        () -> getCoinbaseProProductStats(currencyPair),
+        stats -> CoinbaseProAdapters.adaptTicker(ticker, stats, currencyPair));
   }
 
   @Override
@@ -51,8 +51,10 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
       }
     }
 
-    return CoinbaseProAdapters.adaptOrderBook(
-        getCoinbaseProProductOrderBook(currencyPair, level), currencyPair);
+    int depth = level;
+    return adapted(
+        () -> getCoinbaseProProductOrderBook(currencyPair, depth),
+        book -> CoinbaseProAdapters.adaptOrderBook(book, currencyPair));
   }
 
   /**
@@ -75,7 +77,9 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
 
     if (args.length == 0) {
 
-      return CoinbaseProAdapters.adaptTrades(getCoinbaseProTrades(currencyPair), currencyPair);
+      return adapted(
+          () -> getCoinbaseProTrades(currencyPair),
+          trades -> CoinbaseProAdapters.adaptTrades(trades, currencyPair));
 
     } else if ((args.length == 2) && (args[0] instanceof Long) && (args[1] instanceof Long)) {
 
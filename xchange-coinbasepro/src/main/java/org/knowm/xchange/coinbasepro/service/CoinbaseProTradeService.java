@@ -4,11 +4,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
-import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProFill;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProIdResponse;
-import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProOrder;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProPlaceLimitOrder;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProPlaceMarketOrder;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProPlaceOrder;
@@ -18,8 +17,10 @@ import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
@@ -30,6 +31,9 @@ import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
 
 public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implements TradeService {
 
+  /** The number of fills Coinbase Pro returns in a page. */
+  private static final int FILLS_PAGE_SIZE = 100;
+
   public CoinbaseProTradeService(Exchange exchange) {
     super(exchange);
   }
@@ -48,8 +52,7 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
   @Override
   public OpenOrders getOpenOrders(OpenOrdersParams params) throws IOException {
 
-    CoinbaseProOrder[] coinbaseExOpenOrders = getCoinbaseProOpenOrders();
-    return CoinbaseProAdapters.adaptOpenOrders(coinbaseExOpenOrders);
+    return adapted(this::getCoinbaseProOpenOrders, CoinbaseProAdapters::adaptOpenOrders);
   }
 
   @Override
@@ -94,8 +97,7 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
 
-    CoinbaseProFill[] coinbaseExFills = getCoinbaseProFills(params);
-    return CoinbaseProAdapters.adaptTradeHistory(coinbaseExFills);
+    return adapted(() -> getCoinbaseProFills(params), CoinbaseProAdapters::adaptTradeHistory);
   }
 
   @Override
@@ -104,12 +106,33 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
     return new CoinbaseProTradeHistoryParams();
   }
 
+  /**
+   * Pages back through older fills, after the lowest trade ID of each page, until a page is not
+   * full. Trade IDs only order the fills of one product, so give a currency pair.
+   */
+  @Override
+  public TradeHistoryCursor getTradeHistoryCursor() {
+
+    return (params, page) -> {
+      List<UserTrade> trades = page.getUserTrades();
+      if (!(params instanceof CoinbaseProTradeHistoryParams) || trades.size() < FILLS_PAGE_SIZE) {
+        return null;
+      }
+      int lowest = Integer.MAX_VALUE;
+      for (UserTrade trade : trades) {
+        lowest = Math.min(lowest, Integer.parseInt(trade.getId()));
+      }
+      ((CoinbaseProTradeHistoryParams) params).setAfterTradeId(lowest);
+      return params;
+    };
+  }
+
   @Override
   public Collection<Order> getOrder(String... orderIds) throws IOException {
     Collection<Order> orders = new ArrayList<>(orderIds.length);
 
     for (String orderId : orderIds) {
-      orders.add(CoinbaseProAdapters.adaptOrder(super.getOrder(orderId)));
+      orders.add(adapted(() -> super.getOrder(orderId), CoinbaseProAdapters::adaptOrder));
     }
 
     return orders;
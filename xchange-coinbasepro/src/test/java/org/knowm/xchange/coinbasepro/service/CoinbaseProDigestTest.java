@@ -0,0 +1,93 @@
+package org.knowm.xchange.coinbasepro.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.ws.rs.HeaderParam;
+import org.junit.Test;
+import si.mazi.rescu.RestInvocation;
+
+public class CoinbaseProDigestTest {
+
+  static final String SECRET = Base64.getEncoder().encodeToString("coinbase-pro-secret".getBytes());
+
+  @Test
+  public void testDigestParams() throws Exception {
+
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), mac.getAlgorithm()));
+    String expected =
+        Base64.getEncoder()
+            .encodeToString(
+                mac.doFinal(
+                    ("1540000000.123POST/orders" + newOrder().getRequestBody())
+                        .getBytes(StandardCharsets.UTF_8)));
+    CoinbaseProDigest digest = CoinbaseProDigest.createInstance(SECRET);
+
+    assertThat(digest.digestParams(newOrder())).isEqualTo(expected);
+    assertThat(digest.getSignature()).isEqualTo(expected);
+    assertThat(digest.digestParams(newOrder())).isEqualTo(expected);
+  }
+
+  @Test
+  public void testDigestParamsWithoutBody() throws Exception {
+
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), mac.getAlgorithm()));
+    String expected =
+        Base64.getEncoder()
+            .encodeToString(
+                mac.doFinal(
+                    "1540000000.123GET/fills?product_id=BTC-USD".getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(
+            CoinbaseProDigest.createInstance(SECRET)
+                .digestParams(invocation("GET", "/fills?product_id=BTC-USD", null)))
+        .isEqualTo(expected);
+  }
+
+  static RestInvocation newOrder() {
+
+    return invocation(
+        "POST",
+        "/orders",
+        "{\"size\":\"0.01\",\"price\":\"0.100\",\"side\":\"buy\",\"product_id\":\"BTC-USD\"}");
+  }
+
+  private static RestInvocation invocation(String httpMethod, String path, String body) {
+
+    return new RestInvocation(
+        null, null, null, null, "https://api.pro.coinbase.com" + path, null, null, null) {
+
+      @Override
+      public String getBaseUrl() {
+
+        return "https://api.pro.coinbase.com";
+      }
+
+      @Override
+      public String getHttpMethod() {
+
+        return httpMethod;
+      }
+
+      @Override
+      public Object getParamValue(Class<? extends Annotation> type, String name) {
+
+        return HeaderParam.class.equals(type) && "CB-ACCESS-TIMESTAMP".equals(name)
+            ? "1540000000.123"
+            : null;
+      }
+
+      @Override
+      public String getRequestBody() {
+
+        return body;
+      }
+    };
+  }
+}
@@ -1,32 +1,90 @@
 package org.knowm.xchange;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.io.IOUtils;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaDataLoader;
+import org.knowm.xchange.dto.meta.RateLimit;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.AsyncServiceAdapter;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
+import org.knowm.xchange.service.account.AsyncAccountServiceAdapter;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataServiceAdapter;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.ratelimit.RateLimitMode;
+import org.knowm.xchange.service.ratelimit.RateLimiter;
+import org.knowm.xchange.service.ratelimit.TokenBucketRateLimiter;
+import org.knowm.xchange.service.trade.AsyncTradeService;
+import org.knowm.xchange.service.trade.AsyncTradeServiceAdapter;
 import org.knowm.xchange.service.trade.TradeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public abstract class BaseExchange implements Exchange {
 
+  /**
+   * Whether an exchange class reads its packaged metadata as plain {@link ExchangeMetaData}, in
+   * which case it can share the copy parsed by {@link ExchangeMetaDataLoader}. Classes which
+   * override {@link #loadExchangeMetaData(InputStream)} parse it themselves.
+   */
+  private static final ClassValue<Boolean> USES_SHARED_META_DATA =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+
+          for (Class<?> c = type; c != null && c != BaseExchange.class; c = c.getSuperclass()) {
+            try {
+              c.getDeclaredMethod("loadExchangeMetaData", InputStream.class);
+              return false;
+            } catch (NoSuchMethodException e) {
+              // not overridden here
+            }
+          }
+          return true;
+        }
+      };
+
   protected final Logger logger = LoggerFactory.getLogger(getClass());
   protected ExchangeSpecification exchangeSpecification;
-  protected ExchangeMetaData exchangeMetaData;
+  protected volatile ExchangeMetaData exchangeMetaData;
   protected MarketDataService marketDataService;
   protected TradeService tradeService;
   protected AccountService accountService;
+  protected volatile RateLimiter publicRateLimiter;
+  protected volatile RateLimiter privateRateLimiter;
+  protected AsyncMarketDataService asyncMarketDataService;
+  protected AsyncTradeService asyncTradeService;
+  protected AsyncAccountService asyncAccountService;
+  private volatile SymbolMap symbolMap = SymbolMap.empty();
+
+  /** The limits the rate limiters were built from, so they are kept while these are unchanged. */
+  private RateLimit[] builtPrivateRateLimits;
+
+  private RateLimit[] builtPublicRateLimits;
+  private boolean builtSharedRateLimits;
+
+  /** Whether a service has passed the rate limit interceptor to its rescu proxies. */
+  private volatile boolean rateLimitInterceptorInstalled;
+
+  /** Whether a service has passed the metrics interceptor to its rescu proxies. */
+  private volatile boolean metricsInterceptorInstalled;
+
+  private ExecutorService asyncExecutor;
+  private int asyncConcurrency;
 
   protected abstract void initServices();
 
@@ -91,15 +149,27 @@ public abstract class BaseExchange implements Exchange {
     } else if (this.exchangeSpecification.getExchangeName()
         != null) { // load the metadata from the classpath
 
-      InputStream is = null;
-      try {
-        is =
-            BaseExchangeService.class
-                .getClassLoader()
-                .getResourceAsStream(getMetaDataFileName(this.exchangeSpecification) + ".json");
-        loadExchangeMetaData(is);
-      } finally {
-        IOUtils.closeQuietly(is);
+      String name = getMetaDataFileName(this.exchangeSpecification);
+      if (USES_SHARED_META_DATA.get(getClass())) {
+        try {
+          exchangeMetaData = ExchangeMetaDataLoader.load(name);
+          if (exchangeMetaData == null) {
+            logger.warn("No metadata file {}.json found on the classpath.", name);
+          }
+        } catch (IOException e) {
+          exchangeMetaData = null;
+          logger.warn(
+              "An exception occured while loading the metadata file from the classpath. This is just a warning and can be ignored, but it may lead to unexpected results, so it's better to address it.",
+              e);
+        }
+      } else {
+        InputStream is = null;
+        try {
+          is = BaseExchangeService.class.getClassLoader().getResourceAsStream(name + ".json");
+          loadExchangeMetaData(is);
+        } finally {
+          IOUtils.closeQuietly(is);
+        }
       }
 
     } else {
@@ -107,14 +177,23 @@ public abstract class BaseExchange implements Exchange {
           "No \"exchange name\" found in the ExchangeSpecification. The name is used to load the meta data file from the classpath and may lead to unexpected results.");
     }
 
+    initRateLimiters();
     initServices();
+    initAsyncServices();
+    warnOfUninterceptedCalls();
 
     if (this.exchangeSpecification.isShouldLoadRemoteMetaData()) {
-      try {
-        logger.info("Calling Remote Init...");
-        remoteInit();
-      } catch (IOException e) {
-        throw new ExchangeException(e);
+      MetaDataRefresher refresher = this.exchangeSpecification.getMetaDataRefresher();
+      if (refresher != null) {
+        refresher.initialize(this);
+      } else {
+        try {
+          logger.info("Calling Remote Init...");
+          remoteInit();
+        } catch (IOException e) {
+          throw new ExchangeException(e);
+        }
+        initRateLimiters();
       }
     }
   }
@@ -127,6 +206,152 @@ public abstract class BaseExchange implements Exchange {
         exchangeSpecification.getExchangeName());
   }
 
+  /**
+   * Records that a service holds its calls to the exchange's rate limiters, so that setting a
+   * {@link ExchangeSpecification#setRateLimitMode rate limit mode} on an exchange whose services
+   * never do is not silently ignored. Called by {@link
+   * BaseExchangeService#getRateLimitInterceptor()}.
+   */
+  public void rateLimitInterceptorInstalled() {
+
+    rateLimitInterceptorInstalled = true;
+  }
+
+  /**
+   * Records that a service measures its calls, so that setting a {@link
+   * ExchangeSpecification#setMetricsRecorder metrics recorder} on an exchange whose services never
+   * do is not silently ignored. Called by {@link BaseExchangeService#getInterceptors()}.
+   */
+  public void metricsInterceptorInstalled() {
+
+    metricsInterceptorInstalled = true;
+  }
+
+  private void warnOfUninterceptedCalls() {
+
+    if (exchangeSpecification.getRateLimitMode() != RateLimitMode.DISABLED
+        && !rateLimitInterceptorInstalled) {
+      logger.warn(
+          "{} does not hold its calls to rate limits, so rate limit mode {} has no effect",
+          exchangeSpecification.getExchangeName(),
+          exchangeSpecification.getRateLimitMode());
+    }
+    if (exchangeSpecification.getMetricsRecorder() != null && !metricsInterceptorInstalled) {
+      logger.warn(
+          "{} does not measure its calls, so its metrics recorder will receive nothing",
+          exchangeSpecification.getExchangeName());
+    }
+  }
+
+  /**
+   * Builds the rate limiters from the current metadata, called again whenever remote metadata
+   * replaces it. Limiters whose limits have not changed are kept, along with the permits already
+   * taken from them.
+   */
+  synchronized void initRateLimiters() {
+
+    ExchangeMetaData metaData = exchangeMetaData;
+    boolean enabled =
+        exchangeSpecification.getRateLimitMode() != RateLimitMode.DISABLED && metaData != null;
+    RateLimit[] privateLimits = enabled ? validRateLimits(metaData.getPrivateRateLimits()) : null;
+    RateLimit[] publicLimits = enabled ? validRateLimits(metaData.getPublicRateLimits()) : null;
+    boolean shared = enabled && metaData.isShareRateLimits();
+    if (Arrays.equals(privateLimits, builtPrivateRateLimits)
+        && Arrays.equals(publicLimits, builtPublicRateLimits)
+        && shared == builtSharedRateLimits) {
+      return;
+    }
+    builtPrivateRateLimits = privateLimits;
+    builtPublicRateLimits = publicLimits;
+    builtSharedRateLimits = shared;
+
+    RateLimiter privateLimiter = privateLimits == null ? null : createRateLimiter(privateLimits);
+    privateRateLimiter = privateLimiter;
+    publicRateLimiter =
+        shared && privateLimiter != null
+            ? privateLimiter
+            : publicLimits == null ? null : createRateLimiter(publicLimits);
+  }
+
+  /** @return the limits which can be enforced, or null if there are none */
+  private RateLimit[] validRateLimits(RateLimit[] rateLimits) {
+
+    if (rateLimits == null) {
+      return null;
+    }
+    List<RateLimit> valid = new ArrayList<>(rateLimits.length);
+    for (RateLimit rateLimit : rateLimits) {
+      if (rateLimit != null
+          && rateLimit.calls > 0
+          && rateLimit.timeSpan > 0
+          && rateLimit.timeUnit != null) {
+        valid.add(rateLimit);
+      } else {
+        logger.warn("Ignoring invalid rate limit {}", rateLimit);
+      }
+    }
+    return valid.isEmpty() ? null : valid.toArray(new RateLimit[0]);
+  }
+
+  /**
+   * Creates the limiter for a set of rate limits from the {@link ExchangeMetaData}. Override to
+   * plug in a different {@link RateLimiter}.
+   *
+   * @param rateLimits the rate limits, possibly null or empty
+   * @return the limiter, or null if there is nothing to limit
+   */
+  protected RateLimiter createRateLimiter(RateLimit[] rateLimits) {
+
+    return rateLimits == null || rateLimits.length == 0
+        ? null
+        : new TokenBucketRateLimiter(rateLimits);
+  }
+
+  /**
+   * Wraps the blocking services to run on the executor from the {@link ExchangeSpecification}, or
+   * on one of {@link ExchangeSpecification#getAsyncConcurrency()} threads. Exchanges with a
+   * non-blocking transport should override this to set their own implementations.
+   */
+  protected void initAsyncServices() {
+
+    Executor executor = exchangeSpecification.getAsyncExecutor();
+    if (executor == null) {
+      executor = ownAsyncExecutor(exchangeSpecification.getAsyncConcurrency());
+    } else {
+      ownAsyncExecutor(0);
+    }
+    asyncMarketDataService =
+        marketDataService == null
+            ? null
+            : new AsyncMarketDataServiceAdapter(marketDataService, executor);
+    asyncTradeService =
+        tradeService == null ? null : new AsyncTradeServiceAdapter(tradeService, executor);
+    asyncAccountService =
+        accountService == null ? null : new AsyncAccountServiceAdapter(accountService, executor);
+  }
+
+  /**
+   * The executor this exchange creates for its asynchronous services, kept across calls to {@link
+   * #applySpecification} so each exchange has one. It is replaced, after the calls already
+   * submitted to it, if the concurrency changes.
+   *
+   * @param concurrency the number of threads, or zero if the exchange no longer needs its own
+   * @return the executor, or null if the concurrency is zero
+   */
+  private synchronized Executor ownAsyncExecutor(int concurrency) {
+
+    if (asyncExecutor != null && asyncConcurrency != concurrency) {
+      asyncExecutor.shutdown();
+      asyncExecutor = null;
+    }
+    if (asyncExecutor == null && concurrency > 0) {
+      asyncExecutor =
+          AsyncServiceAdapter.newBoundedExecutor(getClass().getSimpleName(), concurrency);
+      asyncConcurrency = concurrency;
+    }
+    return asyncExecutor;
+  }
+
   protected void loadExchangeMetaData(InputStream is) {
 
     exchangeMetaData = loadMetaData(is, ExchangeMetaData.class);
@@ -134,12 +359,9 @@ public abstract class BaseExchange implements Exchange {
 
   protected <T> T loadMetaData(InputStream is, Class<T> type) {
 
-    // Use Jackson to parse it
-    ObjectMapper mapper = new ObjectMapper();
-
     try {
-      T result = mapper.readValue(is, type);
-      logger.debug(result.toString());
+      T result = ExchangeMetaDataLoader.parse(is, type);
+      logger.debug("{}", result);
       return result;
     } catch (Exception e) {
       logger.warn(
@@ -155,6 +377,39 @@ public abstract class BaseExchange implements Exchange {
     return new ArrayList<>(getExchangeMetaData().getCurrencyPairs().keySet());
   }
 
+  @Override
+  public SymbolMap getSymbolMap() {
+
+    return symbolMap;
+  }
+
+  /**
+   * Replaces the symbol map as a whole, so that concurrent readers see either the old or the new
+   * symbols and never a mixture.
+   *
+   * @param symbolMap the symbols compiled from the exchange's listings
+   */
+  protected void setSymbolMap(SymbolMap symbolMap) {
+
+    this.symbolMap = symbolMap;
+  }
+
+  /**
+   * Takes on the metadata which {@link #remoteInit()} loaded on another instance of this exchange,
+   * for a {@link MetaDataRefresher}. Exchanges whose {@link #remoteInit()} sets up more than the
+   * metadata and symbols should override this to derive the rest from them.
+   *
+   * @param metaData a copy of the metadata for this instance to keep, or null to keep its own
+   * @param symbolMap the symbols
+   */
+  protected void applyRemoteMetaData(ExchangeMetaData metaData, SymbolMap symbolMap) {
+
+    if (metaData != null) {
+      exchangeMetaData = metaData;
+    }
+    setSymbolMap(symbolMap);
+  }
+
   public String getMetaDataFileName(ExchangeSpecification exchangeSpecification) {
 
     return exchangeSpecification
@@ -192,6 +447,36 @@ public abstract class BaseExchange implements Exchange {
     return accountService;
   }
 
+  @Override
+  public AsyncMarketDataService getAsyncMarketDataService() {
+
+    return asyncMarketDataService;
+  }
+
+  @Override
+  public AsyncTradeService getAsyncTradeService() {
+
+    return asyncTradeService;
+  }
+
+  @Override
+  public AsyncAccountService getAsyncAccountService() {
+
+    return asyncAccountService;
+  }
+
+  @Override
+  public RateLimiter getPublicRateLimiter() {
+
+    return publicRateLimiter;
+  }
+
+  @Override
+  public RateLimiter getPrivateRateLimiter() {
+
+    return privateRateLimiter;
+  }
+
   @Override
   public String toString() {
 
@@ -3,10 +3,16 @@ package org.knowm.xchange;
 import java.io.IOException;
 import java.util.List;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.ratelimit.RateLimiter;
+import org.knowm.xchange.service.trade.AsyncTradeService;
 import org.knowm.xchange.service.trade.TradeService;
 import si.mazi.rescu.SynchronizedValueFactory;
 
@@ -93,6 +99,66 @@ public interface Exchange {
    */
   AccountService getAccountService();
 
+  /**
+   * The non-blocking version of {@link #getMarketDataService()}. Unless the exchange provides a
+   * non-blocking transport, calls run on a bounded executor; see {@link
+   * ExchangeSpecification#setAsyncExecutor}.
+   *
+   * @return The exchange's asynchronous market data service
+   */
+  default AsyncMarketDataService getAsyncMarketDataService() {
+
+    throw new NotYetImplementedForExchangeException();
+  }
+
+  /**
+   * The non-blocking version of {@link #getTradeService()}.
+   *
+   * @return The exchange's asynchronous trade service
+   */
+  default AsyncTradeService getAsyncTradeService() {
+
+    throw new NotYetImplementedForExchangeException();
+  }
+
+  /**
+   * The non-blocking version of {@link #getAccountService()}.
+   *
+   * @return The exchange's asynchronous account service
+   */
+  default AsyncAccountService getAsyncAccountService() {
+
+    throw new NotYetImplementedForExchangeException();
+  }
+
+  /**
+   * @return the limiter which unauthenticated calls to the exchange wait on, or null if they are
+   *     not limited. See {@link ExchangeSpecification#setRateLimitMode}.
+   */
+  default RateLimiter getPublicRateLimiter() {
+
+    return null;
+  }
+
+  /**
+   * @return the limiter which authenticated calls to the exchange wait on, or null if they are not
+   *     limited. See {@link ExchangeSpecification#setRateLimitMode}.
+   */
+  default RateLimiter getPrivateRateLimiter() {
+
+    return null;
+  }
+
+  /**
+   * @return the translation between the exchange's native symbols and currency pairs and
+   *     currencies, as compiled by {@link #remoteInit()}. Empty for exchanges which do not compile
+   *     one, or before initialization.
+   */
+  default SymbolMap getSymbolMap() {
+
+    return SymbolMap.empty();
+  }
+
   /**
    * Initialize this instance with the remote meta data. Most exchanges require this method to be
    * called before {@link #getExchangeMetaData()}. Some exchanges require it before using some of
@@ -2,6 +2,10 @@ package org.knowm.xchange;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.service.HttpTransport;
+import org.knowm.xchange.service.metrics.MetricsRecorder;
+import org.knowm.xchange.service.ratelimit.RateLimitMode;
 
 /**
  * Specification to provide the following to {@link ExchangeFactory}:
@@ -30,6 +34,12 @@ public class ExchangeSpecification {
   private int httpReadTimeout = 0; // default rescu configuration will be used if value not changed
   private String metaDataJsonFileOverride = null;
   private boolean shouldLoadRemoteMetaData = true; // default value
+  private RateLimitMode rateLimitMode = RateLimitMode.DISABLED;
+  private Executor asyncExecutor;
+  private int asyncConcurrency = 4;
+  private MetaDataRefresher metaDataRefresher;
+  private HttpTransport httpTransport;
+  private MetricsRecorder metricsRecorder;
   /** arbitrary exchange params that can be set for unique cases */
   private Map<String, Object> exchangeSpecificParameters = new HashMap<>();
 
@@ -44,6 +54,42 @@ public class ExchangeSpecification {
     this.exchangeClassName = exchangeClassName;
   }
 
+  /**
+   * Copies another specification, including its exchange specific parameters.
+   *
+   * @param other the specification to copy
+   */
+  ExchangeSpecification(ExchangeSpecification other) {
+
+    this.exchangeClassName = other.exchangeClassName;
+    this.exchangeName = other.exchangeName;
+    this.exchangeDescription = other.exchangeDescription;
+    this.userName = other.userName;
+    this.password = other.password;
+    this.secretKey = other.secretKey;
+    this.apiKey = other.apiKey;
+    this.sslUri = other.sslUri;
+    this.plainTextUri = other.plainTextUri;
+    this.host = other.host;
+    this.port = other.port;
+    this.proxyHost = other.proxyHost;
+    this.proxyPort = other.proxyPort;
+    this.httpConnTimeout = other.httpConnTimeout;
+    this.httpReadTimeout = other.httpReadTimeout;
+    this.metaDataJsonFileOverride = other.metaDataJsonFileOverride;
+    this.shouldLoadRemoteMetaData = other.shouldLoadRemoteMetaData;
+    this.rateLimitMode = other.rateLimitMode;
+    this.asyncExecutor = other.asyncExecutor;
+    this.asyncConcurrency = other.asyncConcurrency;
+    this.metaDataRefresher = other.metaDataRefresher;
+    this.httpTransport = other.httpTransport;
+    this.metricsRecorder = other.metricsRecorder;
+    this.exchangeSpecificParameters =
+        other.exchangeSpecificParameters == null
+            ? null
+            : new HashMap<>(other.exchangeSpecificParameters);
+  }
+
   /**
    * Static binding
    *
@@ -454,4 +500,128 @@ public class ExchangeSpecification {
 
     this.shouldLoadRemoteMetaData = shouldLoadRemoteMetaData;
   }
+
+  /**
+   * By default, calls are not held to the rate limits in the {@link
+   * org.knowm.xchange.dto.meta.ExchangeMetaData}.
+   *
+   * @return
+   */
+  public RateLimitMode getRateLimitMode() {
+
+    return rateLimitMode;
+  }
+
+  /**
+   * Sets whether calls through the exchange's services are held to the public and private rate
+   * limits in the {@link org.knowm.xchange.dto.meta.ExchangeMetaData}, and whether they wait or
+   * fail if they would exceed them. Only applies to exchanges whose services pass {@link
+   * org.knowm.xchange.service.BaseExchangeService#getInterceptors()} to their rescu proxies; other
+   * exchanges log a warning that the mode has no effect.
+   *
+   * @param rateLimitMode
+   */
+  public void setRateLimitMode(RateLimitMode rateLimitMode) {
+
+    this.rateLimitMode = rateLimitMode;
+  }
+
+  /**
+   * @return the executor on which the asynchronous services run blocking calls, or null to use a
+   *     pool of {@link #getAsyncConcurrency()} threads for this exchange
+   */
+  public Executor getAsyncExecutor() {
+
+    return asyncExecutor;
+  }
+
+  /**
+   * Sets the executor on which the asynchronous services, such as {@link
+   * Exchange#getAsyncMarketDataService()}, run the exchange's blocking calls. Its size bounds the
+   * calls in flight, so share one between exchanges only to bound their calls together.
+   *
+   * @param asyncExecutor
+   */
+  public void setAsyncExecutor(Executor asyncExecutor) {
+
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  /** @return the maximum number of asynchronous calls in flight, if there is no executor set */
+  public int getAsyncConcurrency() {
+
+    return asyncConcurrency;
+  }
+
+  /**
+   * Sets the number of threads on which the asynchronous services run blocking calls if no {@link
+   * #setAsyncExecutor executor} is set. Defaults to 4. Threads are only started when needed.
+   *
+   * @param asyncConcurrency
+   */
+  public void setAsyncConcurrency(int asyncConcurrency) {
+
+    this.asyncConcurrency = asyncConcurrency;
+  }
+
+  /**
+   * @return loads the remote metadata in place of {@link Exchange#remoteInit()}, or null for each
+   *     exchange to call that itself
+   */
+  public MetaDataRefresher getMetaDataRefresher() {
+
+    return metaDataRefresher;
+  }
+
+  /**
+   * Sets a refresher to load the remote metadata, if {@link #isShouldLoadRemoteMetaData()}, on
+   * behalf of this and other exchanges sharing it. Exchanges then start from the refresher's saved
+   * or already loaded metadata, make one remote call between them, and are kept up to date. By
+   * default, each exchange calls {@link Exchange#remoteInit()} itself as it starts.
+   *
+   * @param metaDataRefresher
+   */
+  public void setMetaDataRefresher(MetaDataRefresher metaDataRefresher) {
+
+    this.metaDataRefresher = metaDataRefresher;
+  }
+
+  /** @return how the exchange's services connect, or null for {@link HttpTransport#getDefault()} */
+  public HttpTransport getHttpTransport() {
+
+    return httpTransport;
+  }
+
+  /**
+   * Sets the socket factory and hostname verifier the exchange's services connect with. Leave the
+   * default unless the exchange needs its own TLS context or socket options. Only applies to
+   * exchanges whose services create their rescu proxies from {@link
+   * org.knowm.xchange.service.BaseExchangeService#getClientConfig()}.
+   *
+   * @param httpTransport
+   */
+  public void setHttpTransport(HttpTransport httpTransport) {
+
+    this.httpTransport = httpTransport;
+  }
+
+  /** @return receives measurements of the exchange's calls, or null if they are not measured */
+  public MetricsRecorder getMetricsRecorder() {
+
+    return metricsRecorder;
+  }
+
+  /**
+   * Sets a recorder to receive the count, errors and latency of each call the exchange's services
+   * make, such as a {@link org.knowm.xchange.service.metrics.MetricsRegistry}. Calls are not
+   * measured by default. Only applies to exchanges whose services pass {@link
+   * org.knowm.xchange.service.BaseExchangeService#getInterceptors()} to their rescu proxies; other
+   * exchanges log a warning that the recorder will receive nothing.
+   *
+   * @param metricsRecorder
+   */
+  public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+
+    this.metricsRecorder = metricsRecorder;
+  }
 }
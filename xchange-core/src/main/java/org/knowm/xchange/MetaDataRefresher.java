@@ -0,0 +1,456 @@
+package org.knowm.xchange;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaDataBinary;
+import org.knowm.xchange.dto.meta.ExchangeMetaDataLoader;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads remote metadata on behalf of any number of exchange instances, in place of each calling
+ * {@link Exchange#remoteInit()} as it starts. Set one on the {@link
+ * ExchangeSpecification#setMetaDataRefresher specification} of each exchange that should share it.
+ *
+ * <ul>
+ *   <li>Instances of the same exchange class with the same SSL URI share one venue. However many
+ *       start at once, the venue makes one remote call, and all of them take on the result.
+ *   <li>If a {@link Builder#snapshotDirectory snapshot directory} is set, the result is saved
+ *       there, and later instances, in this process or another, start from it immediately.
+ *   <li>A starting instance with nothing to start from waits at most the {@link Builder#timeout
+ *       timeout} before carrying on with its packaged metadata. It takes on the remote metadata
+ *       when it arrives.
+ *   <li>Venues are refreshed every {@link Builder#refreshInterval refresh interval} while they have
+ *       instances. Each refresh replaces the metadata of every instance as a whole, so readers see
+ *       either the old or the new metadata and never a mixture.
+ * </ul>
+ *
+ * <p>The remote call is made by calling {@link Exchange#remoteInit()} on a separate instance of the
+ * exchange, which is then discarded. Instances take on its {@link ExchangeMetaData} and {@link
+ * SymbolMap} through {@link BaseExchange#applyRemoteMetaData}, and rebuild their rate limiters if
+ * the limits have changed; anything else its {@link Exchange#remoteInit()} sets up is not shared
+ * unless the exchange overrides that.
+ */
+public final class MetaDataRefresher implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetaDataRefresher.class);
+
+  /** "XCMS" */
+  private static final int MAGIC = 0x58434d53;
+
+  private static final int VERSION = 1;
+
+  private final File snapshotDirectory;
+  private final long refreshIntervalMillis;
+  private final long timeoutMillis;
+  private final Executor executor;
+  private final ScheduledExecutorService scheduler;
+  private final ConcurrentMap<String, Venue> venues = new ConcurrentHashMap<>();
+
+  private MetaDataRefresher(Builder builder) {
+
+    this.snapshotDirectory = builder.snapshotDirectory;
+    this.refreshIntervalMillis = builder.refreshIntervalMillis;
+    this.timeoutMillis = builder.timeoutMillis;
+    this.executor =
+        builder.executor != null
+            ? builder.executor
+            : AsyncServiceAdapter.newBoundedExecutor("MetaDataRefresher", 4);
+    ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            r -> {
+              Thread thread = new Thread(r, "MetaDataRefresher-scheduler");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.setRemoveOnCancelPolicy(true);
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Starts an exchange with the venue's metadata, called from {@link
+   * BaseExchange#applySpecification} in place of {@link Exchange#remoteInit()}.
+   *
+   * @param exchange the exchange, with its packaged metadata loaded and its services initialised
+   * @throws ExchangeException if there was nothing to start from and the remote call failed
+   */
+  void initialize(BaseExchange exchange) {
+
+    Venue venue = venue(exchange);
+    Snapshot current = venue.subscribe(exchange);
+    if (current == null) {
+      Snapshot saved = venue.loadSnapshot();
+      if (saved != null) {
+        current = venue.publish(saved);
+        if (current.isStale()) {
+          refresh(venue);
+        }
+      }
+    }
+    if (current == null) {
+      CompletableFuture<Snapshot> flight = refresh(venue);
+      try {
+        if (timeoutMillis > 0) {
+          flight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } else {
+          flight.get();
+        }
+      } catch (TimeoutException e) {
+        LOG.warn(
+            "Remote metadata for {} not loaded within {}ms. Carrying on with the packaged metadata.",
+            venue.key,
+            timeoutMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ExchangeException("Interrupted while loading remote metadata", e);
+      } catch (ExecutionException e) {
+        throw new ExchangeException(
+            "Failed to initialize: " + e.getCause().getMessage(), e.getCause());
+      }
+    }
+    venue.schedule();
+  }
+
+  /**
+   * Reloads the remote metadata for the exchange's venue now, and gives it to all its instances.
+   * Joins the call already in flight if there is one.
+   *
+   * @param exchange an exchange using this refresher
+   * @return completes with the new metadata, or exceptionally with why it could not be loaded
+   */
+  public CompletableFuture<ExchangeMetaData> refresh(Exchange exchange) {
+
+    return refresh(venue((BaseExchange) exchange)).thenApply(snapshot -> snapshot.metaData);
+  }
+
+  /** Stops refreshing. Exchanges keep the metadata they have. */
+  @Override
+  public void close() {
+
+    scheduler.shutdownNow();
+  }
+
+  private Venue venue(BaseExchange exchange) {
+
+    ExchangeSpecification specification = exchange.getExchangeSpecification();
+    String key = exchange.getClass().getName() + " " + specification.getSslUri();
+    return venues.computeIfAbsent(
+        key,
+        k ->
+            new Venue(
+                k,
+                exchange.getClass(),
+                new ExchangeSpecification(specification),
+                exchange.getMetaDataFileName(specification)));
+  }
+
+  private CompletableFuture<Snapshot> refresh(Venue venue) {
+
+    while (true) {
+      CompletableFuture<Snapshot> flight = venue.flight.get();
+      if (flight != null) {
+        return flight;
+      }
+      CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+      if (venue.flight.compareAndSet(null, mine)) {
+        try {
+          executor.execute(() -> fly(venue, mine));
+        } catch (RuntimeException e) {
+          venue.flight.set(null);
+          mine.completeExceptionally(e);
+        }
+        return mine;
+      }
+    }
+  }
+
+  private void fly(Venue venue, CompletableFuture<Snapshot> flight) {
+
+    Snapshot snapshot;
+    try {
+      BaseExchange scratch = venue.type.getDeclaredConstructor().newInstance();
+      ExchangeSpecification specification = new ExchangeSpecification(venue.specification);
+      specification.setShouldLoadRemoteMetaData(false);
+      specification.setMetaDataRefresher(null);
+      scratch.applySpecification(specification);
+      scratch.remoteInit();
+      snapshot =
+          new Snapshot(
+              scratch.getExchangeMetaData(), scratch.getSymbolMap(), System.currentTimeMillis());
+    } catch (Throwable t) {
+      venue.flight.set(null);
+      LOG.warn("Failed to load remote metadata for {}", venue.key, t);
+      flight.completeExceptionally(t);
+      return;
+    }
+    venue.publish(snapshot);
+    venue.saveSnapshot(snapshot);
+    venue.flight.set(null);
+    flight.complete(snapshot);
+  }
+
+  /** The remote metadata shared by instances of one exchange at one URI. */
+  private final class Venue {
+
+    final String key;
+    final Class<? extends BaseExchange> type;
+    final ExchangeSpecification specification;
+    final File snapshotFile;
+    final AtomicReference<CompletableFuture<Snapshot>> flight = new AtomicReference<>();
+    private final Set<BaseExchange> exchanges = Collections.newSetFromMap(new WeakHashMap<>());
+    private Snapshot latest;
+    private ScheduledFuture<?> refreshes;
+
+    Venue(
+        String key,
+        Class<? extends BaseExchange> type,
+        ExchangeSpecification specification,
+        String metaDataFileName) {
+
+      this.key = key;
+      this.type = type;
+      this.specification = specification;
+      this.snapshotFile =
+          snapshotDirectory == null
+              ? null
+              : new File(
+                  snapshotDirectory,
+                  metaDataFileName + "-" + Integer.toHexString(key.hashCode()) + ".bin");
+    }
+
+    /** @return the latest metadata, which the exchange has taken on, or null if there is none */
+    synchronized Snapshot subscribe(BaseExchange exchange) {
+
+      exchanges.add(exchange);
+      if (latest != null) {
+        latest.applyTo(exchange);
+      }
+      return latest;
+    }
+
+    /** @return the latest metadata, which is the given metadata unless it is older */
+    synchronized Snapshot publish(Snapshot snapshot) {
+
+      if (latest == null || snapshot.loadedAt >= latest.loadedAt) {
+        latest = snapshot;
+        for (BaseExchange exchange : exchanges) {
+          snapshot.applyTo(exchange);
+        }
+      }
+      return latest;
+    }
+
+    synchronized void schedule() {
+
+      if (refreshIntervalMillis > 0 && refreshes == null && !scheduler.isShutdown()) {
+        refreshes =
+            scheduler.scheduleWithFixedDelay(
+                this::scheduledRefresh,
+                refreshIntervalMillis,
+                refreshIntervalMillis,
+                TimeUnit.MILLISECONDS);
+      }
+    }
+
+    private void scheduledRefresh() {
+
+      synchronized (this) {
+        if (exchanges.isEmpty()) {
+          // every instance has been collected
+          refreshes.cancel(false);
+          refreshes = null;
+          return;
+        }
+      }
+      refresh(this);
+    }
+
+    Snapshot loadSnapshot() {
+
+      if (snapshotFile == null || !snapshotFile.isFile()) {
+        return null;
+      }
+      try (DataInputStream in =
+          new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+        if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+          throw new IOException("Not a metadata snapshot");
+        }
+        if (!key.equals(in.readUTF())) {
+          return null;
+        }
+        long loadedAt = in.readLong();
+        SymbolMap.Builder symbols = new SymbolMap.Builder();
+        for (int i = in.readInt(); i > 0; i--) {
+          String symbol = in.readUTF();
+          symbols.currencyPair(
+              symbol,
+              new CurrencyPair(
+                  Currency.getInstance(in.readUTF()), Currency.getInstance(in.readUTF())));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+          symbols.currency(in.readUTF(), Currency.getInstance(in.readUTF()));
+        }
+        return new Snapshot(ExchangeMetaDataBinary.read(in), symbols.build(), loadedAt);
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Ignoring unreadable metadata snapshot {}", snapshotFile, e);
+        return null;
+      }
+    }
+
+    void saveSnapshot(Snapshot snapshot) {
+
+      if (snapshotFile == null || snapshot.metaData == null) {
+        return;
+      }
+      try {
+        Files.createDirectories(snapshotDirectory.toPath());
+        File temp = File.createTempFile(snapshotFile.getName(), ".tmp", snapshotDirectory);
+        try {
+          try (DataOutputStream out =
+              new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(key);
+            out.writeLong(snapshot.loadedAt);
+            Map<String, CurrencyPair> pairs = snapshot.symbolMap.getCurrencyPairSymbols();
+            out.writeInt(pairs.size());
+            for (Map.Entry<String, CurrencyPair> entry : pairs.entrySet()) {
+              out.writeUTF(entry.getKey());
+              out.writeUTF(entry.getValue().base.getCurrencyCode());
+              out.writeUTF(entry.getValue().counter.getCurrencyCode());
+            }
+            Map<String, Currency> currencies = snapshot.symbolMap.getCurrencySymbols();
+            out.writeInt(currencies.size());
+            for (Map.Entry<String, Currency> entry : currencies.entrySet()) {
+              out.writeUTF(entry.getKey());
+              out.writeUTF(entry.getValue().getCurrencyCode());
+            }
+            ExchangeMetaDataBinary.write(snapshot.metaData, out);
+          }
+          Files.move(
+              temp.toPath(),
+              snapshotFile.toPath(),
+              StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+          Files.deleteIfExists(temp.toPath());
+        }
+      } catch (IOException e) {
+        LOG.warn("Failed to save metadata snapshot {}", snapshotFile, e);
+      }
+    }
+  }
+
+  /** Remote metadata as loaded at one time. Never modified; each exchange takes on a copy. */
+  private final class Snapshot {
+
+    final ExchangeMetaData metaData;
+    final SymbolMap symbolMap;
+    final long loadedAt;
+
+    Snapshot(ExchangeMetaData metaData, SymbolMap symbolMap, long loadedAt) {
+
+      this.metaData = metaData;
+      this.symbolMap = symbolMap;
+      this.loadedAt = loadedAt;
+    }
+
+    boolean isStale() {
+
+      return refreshIntervalMillis <= 0
+          || System.currentTimeMillis() - loadedAt >= refreshIntervalMillis;
+    }
+
+    void applyTo(BaseExchange exchange) {
+
+      exchange.applyRemoteMetaData(
+          metaData == null ? null : ExchangeMetaDataLoader.copy(metaData), symbolMap);
+      exchange.initRateLimiters();
+    }
+  }
+
+  public static class Builder {
+
+    private File snapshotDirectory;
+    private long refreshIntervalMillis;
+    private long timeoutMillis = TimeUnit.SECONDS.toMillis(30);
+    private Executor executor;
+
+    /**
+     * @param snapshotDirectory where to save the metadata of each venue, so that exchanges can
+     *     start from it without waiting for a remote call. Not saved by default.
+     */
+    public Builder snapshotDirectory(File snapshotDirectory) {
+
+      this.snapshotDirectory = snapshotDirectory;
+      return this;
+    }
+
+    /**
+     * @param interval how often to reload each venue's metadata while it has instances, and the age
+     *     at which a saved snapshot is reloaded as soon as it is used. If zero, the default,
+     *     metadata is loaded once per process, and snapshots are always reloaded once used.
+     */
+    public Builder refreshInterval(long interval, TimeUnit unit) {
+
+      this.refreshIntervalMillis = unit.toMillis(interval);
+      return this;
+    }
+
+    /**
+     * @param timeout how long a starting exchange with nothing to start from waits for the remote
+     *     call before carrying on with its packaged metadata. Zero waits as long as it takes. 30
+     *     seconds by default.
+     */
+    public Builder timeout(long timeout, TimeUnit unit) {
+
+      this.timeoutMillis = unit.toMillis(timeout);
+      return this;
+    }
+
+    /**
+     * @param executor runs the remote calls. By default, up to 4 daemon threads which time out when
+     *     idle.
+     */
+    public Builder executor(Executor executor) {
+
+      this.executor = executor;
+      return this;
+    }
+
+    public MetaDataRefresher build() {
+
+      return new MetaDataRefresher(this);
+    }
+  }
+}
@@ -3,21 +3,28 @@ package org.knowm.xchange.currency;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A Currency class roughly modeled after {@link java.util.Currency}. Each object retains the code
  * it was acquired with -- so {@link #getInstance}("BTC").{@link #getCurrencyCode}() will always be
  * "BTC", even though the proposed ISO 4217 code is "XBT"
+ *
+ * <p>Instances are interned in a registry which is safe to use from any thread. Codes can also be
+ * resolved from part of a {@link CharSequence} or byte array, which allocates nothing for known
+ * codes.
  */
 public class Currency implements Comparable<Currency>, Serializable {
 
   private static final long serialVersionUID = -7340731832345284129L;
-  private static final Map<String, Currency> currencies = new HashMap<>();
+  private static final ConcurrentMap<String, Currency> currencies = new ConcurrentHashMap<>();
+  private static final AtomicInteger registrations = new AtomicInteger();
+  private static volatile CurrencyIndex index;
 
   /** Global currency codes */
   // TODO: Load from json resource
@@ -333,10 +340,29 @@ public class Currency implements Comparable<Currency>, Serializable {
   /** Returns a Currency instance for the given currency code. */
   public static Currency getInstance(String currencyCode) {
 
-    Currency currency = getInstanceNoCreate(currencyCode.toUpperCase());
+    Currency currency = getInstanceNoCreate(currencyCode);
 
     if (currency == null) {
-      return createCurrency(currencyCode.toUpperCase(), null, null);
+      return register(currencyCode.toUpperCase());
+    } else {
+      return currency;
+    }
+  }
+
+  /**
+   * Returns a Currency instance for the currency code held in part of a character sequence, such as
+   * a parser's buffer. Allocates nothing if the currency already exists.
+   *
+   * @param chars holds the code
+   * @param start the index of the first character of the code
+   * @param end the index after the last character of the code
+   */
+  public static Currency getInstance(CharSequence chars, int start, int end) {
+
+    Currency currency = getInstanceNoCreate(chars, start, end);
+
+    if (currency == null) {
+      return getInstance(chars.subSequence(start, end).toString());
     } else {
       return currency;
     }
@@ -345,7 +371,68 @@ public class Currency implements Comparable<Currency>, Serializable {
   /** Returns the Currency instance for the given currency code only if one already exists. */
   public static Currency getInstanceNoCreate(String currencyCode) {
 
-    return currencies.get(currencyCode.toUpperCase());
+    Currency currency = currencies.get(currencyCode);
+
+    if (currency == null) {
+      // Codes are registered in upper case, so only fold the case of codes which miss
+      return currencies.get(currencyCode.toUpperCase());
+    } else {
+      return currency;
+    }
+  }
+
+  /**
+   * Returns the Currency instance for the currency code held in part of a character sequence only
+   * if one already exists. Allocates nothing.
+   *
+   * @param chars holds the code
+   * @param start the index of the first character of the code
+   * @param end the index after the last character of the code
+   */
+  public static Currency getInstanceNoCreate(CharSequence chars, int start, int end) {
+
+    return index().get(chars, start, end);
+  }
+
+  /**
+   * Returns the Currency instance for the currency code held as ASCII in part of a byte array only
+   * if one already exists. Allocates nothing.
+   *
+   * @param bytes holds the code
+   * @param offset the index of the first byte of the code
+   * @param length the number of bytes in the code
+   */
+  public static Currency getInstanceNoCreate(byte[] bytes, int offset, int length) {
+
+    return index().get(bytes, offset, length);
+  }
+
+  /**
+   * The registry as a {@link SymbolTable}, rebuilt on first use after a currency is registered.
+   * Currencies are rarely registered after start up, so this is almost always current.
+   */
+  private static SymbolTable<Currency> index() {
+
+    CurrencyIndex current = index;
+    int count = registrations.get();
+    if (current == null || current.registrations != count) {
+      // Anything registered since count was read is picked up on the next call
+      current = new CurrencyIndex(SymbolTable.of(currencies), count);
+      index = current;
+    }
+    return current.table;
+  }
+
+  /** Registers a currency not known in advance, unless another thread has just done so. */
+  private static Currency register(String commonCode) {
+
+    Currency currency = new Currency(commonCode, new CurrencyAttributes(commonCode, null, null));
+    Currency existing = currencies.putIfAbsent(commonCode, currency);
+    if (existing != null) {
+      return existing;
+    }
+    registrations.incrementAndGet();
+    return currency;
   }
 
   /**
@@ -370,12 +457,13 @@ public class Currency implements Comparable<Currency>, Serializable {
 
         currencies.put(code, currency);
 
-      } else if (!currencies.containsKey(code)) {
+      } else {
         // alternative codes will never overwrite common codes
 
-        currencies.put(code, new Currency(code, attributes));
+        currencies.putIfAbsent(code, new Currency(code, attributes));
       }
     }
+    registrations.incrementAndGet();
 
     return currency;
   }
@@ -563,4 +651,16 @@ public class Currency implements Comparable<Currency>, Serializable {
       return true;
     }
   }
+
+  private static final class CurrencyIndex {
+
+    private final SymbolTable<Currency> table;
+    private final int registrations;
+
+    CurrencyIndex(SymbolTable<Currency> table, int registrations) {
+
+      this.table = table;
+      this.registrations = registrations;
+    }
+  }
 }
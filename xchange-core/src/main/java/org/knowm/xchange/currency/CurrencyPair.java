@@ -403,7 +403,8 @@ public class CurrencyPair implements Comparable<CurrencyPair>, Serializable {
   }
 
   /**
-   * Parse currency pair from a string in the same format as returned by toString() method - ABC/XYZ
+   * Parse currency pair from a string in the same format as returned by toString() method -
+   * ABC/XYZ. Allocates nothing beyond the pair itself if both currencies already exist.
    */
   public CurrencyPair(String currencyPair) {
 
@@ -412,11 +413,9 @@ public class CurrencyPair implements Comparable<CurrencyPair>, Serializable {
       throw new IllegalArgumentException(
           "Could not parse currency pair from '" + currencyPair + "'");
     }
-    String base = currencyPair.substring(0, split);
-    String counter = currencyPair.substring(split + 1);
 
-    this.base = Currency.getInstance(base);
-    this.counter = Currency.getInstance(counter);
+    this.base = Currency.getInstance(currencyPair, 0, split);
+    this.counter = Currency.getInstance(currencyPair, split + 1, currencyPair.length());
   }
 
   @Override
@@ -0,0 +1,186 @@
+package org.knowm.xchange.currency;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Translates between an exchange's native symbols and {@link CurrencyPair}s and {@link Currency}s,
+ * in both directions. Exchanges compile an instance from their listings, typically in {@link
+ * org.knowm.xchange.Exchange#remoteInit()}, and replace it as a whole when the listings are
+ * refreshed, so readers always see a complete and consistent set of symbols without locking.
+ *
+ * <p>Instances are immutable. Symbols are looked up ignoring ASCII case and, through {@link
+ * SymbolTable}, without allocating.
+ */
+public final class SymbolMap {
+
+  private static final SymbolMap EMPTY = new Builder().build();
+
+  private final Map<String, CurrencyPair> pairSymbols;
+  private final Map<String, Currency> currencySymbols;
+  private final SymbolTable<CurrencyPair> pairsBySymbol;
+  private final SymbolTable<Currency> currenciesBySymbol;
+  private final Map<CurrencyPair, String> symbolsByPair;
+  private final Map<Currency, String> symbolsByCurrency;
+
+  private SymbolMap(Builder builder) {
+
+    this.pairSymbols = Collections.unmodifiableMap(new LinkedHashMap<>(builder.pairs));
+    this.currencySymbols = Collections.unmodifiableMap(new LinkedHashMap<>(builder.currencies));
+    this.pairsBySymbol = SymbolTable.of(pairSymbols);
+    this.currenciesBySymbol = SymbolTable.of(currencySymbols);
+    this.symbolsByPair = reverse(pairSymbols);
+    this.symbolsByCurrency = reverse(currencySymbols);
+  }
+
+  /** @return an instance with no symbols */
+  public static SymbolMap empty() {
+
+    return EMPTY;
+  }
+
+  private static <T> Map<T, String> reverse(Map<String, T> symbols) {
+
+    Map<T, String> result = new HashMap<>();
+    for (Map.Entry<String, T> entry : symbols.entrySet()) {
+      result.put(entry.getValue(), entry.getKey());
+    }
+    return result;
+  }
+
+  /**
+   * @param symbol the exchange's symbol for a pair
+   * @return the pair, or null if the symbol is unknown
+   */
+  public CurrencyPair getCurrencyPair(CharSequence symbol) {
+
+    return pairsBySymbol.get(symbol);
+  }
+
+  /**
+   * @param chars holds the exchange's symbol for a pair
+   * @param start the index of the first character of the symbol
+   * @param end the index after the last character of the symbol
+   * @return the pair, or null if the symbol is unknown
+   */
+  public CurrencyPair getCurrencyPair(CharSequence chars, int start, int end) {
+
+    return pairsBySymbol.get(chars, start, end);
+  }
+
+  /**
+   * @param bytes holds the exchange's symbol for a pair as ASCII
+   * @param offset the index of the first byte of the symbol
+   * @param length the number of bytes in the symbol
+   * @return the pair, or null if the symbol is unknown
+   */
+  public CurrencyPair getCurrencyPair(byte[] bytes, int offset, int length) {
+
+    return pairsBySymbol.get(bytes, offset, length);
+  }
+
+  /**
+   * @param currencyPair the pair
+   * @return the exchange's symbol for the pair, or null if it does not list it
+   */
+  public String getSymbol(CurrencyPair currencyPair) {
+
+    return symbolsByPair.get(currencyPair);
+  }
+
+  /**
+   * @param symbol the exchange's symbol for a currency
+   * @return the currency, or null if the symbol is unknown
+   */
+  public Currency getCurrency(CharSequence symbol) {
+
+    return currenciesBySymbol.get(symbol);
+  }
+
+  /**
+   * @param currency the currency
+   * @return the exchange's symbol for the currency, or null if it does not list it
+   */
+  public String getSymbol(Currency currency) {
+
+    return symbolsByCurrency.get(currency);
+  }
+
+  /** @return the pairs by the exchange's symbol, in the order they were added */
+  public Map<String, CurrencyPair> getCurrencyPairSymbols() {
+
+    return pairSymbols;
+  }
+
+  /** @return the currencies by the exchange's symbol, in the order they were added */
+  public Map<String, Currency> getCurrencySymbols() {
+
+    return currencySymbols;
+  }
+
+  public boolean isEmpty() {
+
+    return pairSymbols.isEmpty() && currencySymbols.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+
+    return "SymbolMap [pairs="
+        + pairSymbols.size()
+        + ", currencies="
+        + currencySymbols.size()
+        + "]";
+  }
+
+  /**
+   * Where a pair or currency is added under more than one symbol, the last symbol added is the one
+   * it translates back to.
+   */
+  public static class Builder {
+
+    private final Map<String, CurrencyPair> pairs = new LinkedHashMap<>();
+    private final Map<String, Currency> currencies = new LinkedHashMap<>();
+
+    public Builder() {}
+
+    /** @param from symbols to start from */
+    public Builder(SymbolMap from) {
+
+      pairs.putAll(from.pairSymbols);
+      currencies.putAll(from.currencySymbols);
+    }
+
+    public Builder currencyPair(String symbol, CurrencyPair currencyPair) {
+
+      pairs.put(symbol, currencyPair);
+      return this;
+    }
+
+    public Builder currency(String symbol, Currency currency) {
+
+      currencies.put(symbol, currency);
+      return this;
+    }
+
+    public Builder clearCurrencyPairs() {
+
+      pairs.clear();
+      return this;
+    }
+
+    public Builder clearCurrencies() {
+
+      currencies.clear();
+      return this;
+    }
+
+    /** @throws IllegalArgumentException if two symbols differ only in case */
+    public SymbolMap build() {
+
+      return new SymbolMap(this);
+    }
+  }
+}
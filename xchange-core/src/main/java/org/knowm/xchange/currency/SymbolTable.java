@@ -0,0 +1,188 @@
+package org.knowm.xchange.currency;
+
+import java.util.Map;
+
+/**
+ * An immutable map from symbols, such as currency codes or exchange-native pair names, to values.
+ * Symbols are matched ignoring ASCII case, and can be looked up from any range of a {@link
+ * CharSequence} or of a byte array holding ASCII, so a symbol can be resolved from a parser's
+ * buffer without first creating a {@link String}. Lookups allocate nothing and are safe from any
+ * thread.
+ *
+ * @param <V> the type of the values
+ */
+public final class SymbolTable<V> {
+
+  private static final SymbolTable<Object> EMPTY = new SymbolTable<>(new String[1], new Object[1]);
+
+  private final String[] keys;
+  private final Object[] values;
+  private final int mask;
+  private final int size;
+
+  private SymbolTable(String[] keys, Object[] values) {
+
+    this.keys = keys;
+    this.values = values;
+    this.mask = keys.length - 1;
+    int count = 0;
+    for (String key : keys) {
+      if (key != null) {
+        count++;
+      }
+    }
+    this.size = count;
+  }
+
+  /** @return a table with no symbols */
+  @SuppressWarnings("unchecked")
+  public static <V> SymbolTable<V> empty() {
+
+    return (SymbolTable<V>) EMPTY;
+  }
+
+  /**
+   * @param symbols the values by symbol
+   * @return a table of the symbols
+   * @throws IllegalArgumentException if two symbols differ only in case
+   */
+  public static <V> SymbolTable<V> of(Map<String, ? extends V> symbols) {
+
+    int capacity = Integer.highestOneBit(Math.max(1, symbols.size()) * 2 - 1) << 1;
+    String[] keys = new String[capacity];
+    Object[] values = new Object[capacity];
+    int mask = capacity - 1;
+    for (Map.Entry<String, ? extends V> entry : symbols.entrySet()) {
+      String key = entry.getKey();
+      int slot = hash(key, 0, key.length()) & mask;
+      while (keys[slot] != null) {
+        if (keys[slot].equalsIgnoreCase(key)) {
+          throw new IllegalArgumentException(
+              "Symbols differ only in case: " + keys[slot] + ", " + key);
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      values[slot] = entry.getValue();
+    }
+    return new SymbolTable<>(keys, values);
+  }
+
+  /**
+   * @param symbol the symbol
+   * @return the value, or null if the symbol is not in the table
+   */
+  public V get(CharSequence symbol) {
+
+    return get(symbol, 0, symbol.length());
+  }
+
+  /**
+   * @param chars holds the symbol
+   * @param start the index of the first character of the symbol
+   * @param end the index after the last character of the symbol
+   * @return the value, or null if the symbol is not in the table
+   */
+  @SuppressWarnings("unchecked")
+  public V get(CharSequence chars, int start, int end) {
+
+    int length = end - start;
+    for (int slot = hash(chars, start, end) & mask; ; slot = (slot + 1) & mask) {
+      String key = keys[slot];
+      if (key == null) {
+        return null;
+      }
+      if (key.length() == length && matches(key, chars, start)) {
+        return (V) values[slot];
+      }
+    }
+  }
+
+  /**
+   * @param bytes holds the symbol as ASCII
+   * @param offset the index of the first byte of the symbol
+   * @param length the number of bytes in the symbol
+   * @return the value, or null if the symbol is not in the table
+   */
+  @SuppressWarnings("unchecked")
+  public V get(byte[] bytes, int offset, int length) {
+
+    for (int slot = hash(bytes, offset, length) & mask; ; slot = (slot + 1) & mask) {
+      String key = keys[slot];
+      if (key == null) {
+        return null;
+      }
+      if (key.length() == length && matches(key, bytes, offset)) {
+        return (V) values[slot];
+      }
+    }
+  }
+
+  /** @return the number of symbols in the table */
+  public int size() {
+
+    return size;
+  }
+
+  private static boolean matches(String key, CharSequence chars, int start) {
+
+    for (int i = 0; i < key.length(); i++) {
+      if (upperCase(key.charAt(i)) != upperCase(chars.charAt(start + i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matches(String key, byte[] bytes, int offset) {
+
+    for (int i = 0; i < key.length(); i++) {
+      if (upperCase(key.charAt(i)) != upperCase((char) (bytes[offset + i] & 0xff))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(CharSequence chars, int start, int end) {
+
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + upperCase(chars.charAt(i));
+    }
+    return spread(hash);
+  }
+
+  private static int hash(byte[] bytes, int offset, int length) {
+
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + upperCase((char) (bytes[i] & 0xff));
+    }
+    return spread(hash);
+  }
+
+  private static int spread(int hash) {
+
+    return hash ^ (hash >>> 16);
+  }
+
+  private static char upperCase(char c) {
+
+    return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+  }
+
+  @Override
+  public String toString() {
+
+    StringBuilder result = new StringBuilder("SymbolTable {");
+    boolean first = true;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        result.append(first ? "" : ", ").append(keys[i]).append('=').append(values[i]);
+        first = false;
+      }
+    }
+    return result.append('}').toString();
+  }
+}
@@ -0,0 +1,325 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Mutable order book intended for applying a high rate of incremental updates.
+ *
+ * <p>Unlike {@link OrderBook}, which keeps each side as a sorted {@link List} and therefore pays
+ * O(n) array shifting for every insert or removal, each side here is a price-sorted tree of {@link
+ * PriceLevel}s. Inserting, updating and removing a level are O(log n), and updating the volume of
+ * an existing level mutates it in place without allocating. Use {@link #toOrderBook(int)} to take a
+ * snapshot of the top of the book in the usual {@link OrderBook} form.
+ *
+ * <p>This class is not thread safe. Callers sharing an instance between threads must synchronize
+ * externally.
+ */
+public final class IncrementalOrderBook {
+
+  private final CurrencyPair currencyPair;
+
+  /** the asks, lowest price first */
+  private final NavigableMap<BigDecimal, PriceLevel> asks = new TreeMap<>();
+  /** the bids, highest price first */
+  private final NavigableMap<BigDecimal, PriceLevel> bids =
+      new TreeMap<>(Comparator.reverseOrder());
+
+  /** the timestamp of the latest update according to the exchange's server, null if not provided */
+  private Date timeStamp;
+
+  /**
+   * Constructor
+   *
+   * @param currencyPair The currency pair of the book, used when converting back to {@link
+   *     LimitOrder}s
+   */
+  public IncrementalOrderBook(CurrencyPair currencyPair) {
+
+    this.currencyPair = currencyPair;
+  }
+
+  /**
+   * Constructor which copies the levels of an existing order book.
+   *
+   * @param currencyPair The currency pair of the book
+   * @param orderBook The snapshot to start from
+   */
+  public IncrementalOrderBook(CurrencyPair currencyPair, OrderBook orderBook) {
+
+    this(currencyPair);
+    reset(orderBook);
+  }
+
+  /**
+   * Discards the current content of the book and replaces it with the levels from the provided
+   * snapshot. Orders at the same price are aggregated into a single level.
+   *
+   * @param orderBook The snapshot
+   */
+  public void reset(OrderBook orderBook) {
+
+    clear();
+    for (LimitOrder ask : orderBook.getAsks()) {
+      add(asks, ask.getLimitPrice(), ask.getOriginalAmount(), ask.getTimestamp());
+    }
+    for (LimitOrder bid : orderBook.getBids()) {
+      add(bids, bid.getLimitPrice(), bid.getOriginalAmount(), bid.getTimestamp());
+    }
+    this.timeStamp = orderBook.getTimeStamp();
+  }
+
+  /** Removes all levels from both sides of the book. */
+  public void clear() {
+
+    asks.clear();
+    bids.clear();
+    timeStamp = null;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public Date getTimeStamp() {
+
+    return timeStamp;
+  }
+
+  /**
+   * Applies an {@link OrderBookUpdate}, replacing the volume at the update's price, adding a level
+   * if none exists or removing the level if the total volume is zero.
+   *
+   * @param orderBookUpdate the update
+   */
+  public void update(OrderBookUpdate orderBookUpdate) {
+
+    LimitOrder limitOrder = orderBookUpdate.getLimitOrder();
+    update(
+        limitOrder.getType(),
+        limitOrder.getLimitPrice(),
+        orderBookUpdate.getTotalVolume(),
+        limitOrder.getTimestamp());
+  }
+
+  /**
+   * Replaces the volume at the limit order's price with the limit order's original amount, adding a
+   * level if none exists or removing the level if the amount is zero.
+   *
+   * @param limitOrder the new LimitOrder
+   */
+  public void update(LimitOrder limitOrder) {
+
+    update(
+        limitOrder.getType(),
+        limitOrder.getLimitPrice(),
+        limitOrder.getOriginalAmount(),
+        limitOrder.getTimestamp());
+  }
+
+  /**
+   * Sets the total volume at a price level. timeStamp will be updated if the new timestamp is
+   * non-null and in the future.
+   *
+   * @param type the side of the book
+   * @param price the price of the level
+   * @param totalVolume the new total volume at the price, zero to remove the level
+   * @param timestamp the timestamp of the update, may be null
+   */
+  public void update(OrderType type, BigDecimal price, BigDecimal totalVolume, Date timestamp) {
+
+    NavigableMap<BigDecimal, PriceLevel> side = side(type);
+    if (totalVolume.signum() == 0) {
+      side.remove(price);
+    } else {
+      PriceLevel level = side.get(price);
+      if (level == null) {
+        side.put(price, new PriceLevel(price, totalVolume, timestamp));
+      } else {
+        level.amount = totalVolume;
+        level.timestamp = timestamp;
+      }
+    }
+    updateDate(timestamp);
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the best level on that side, or null if the side is empty
+   */
+  public PriceLevel getBest(OrderType type) {
+
+    Map.Entry<BigDecimal, PriceLevel> entry = side(type).firstEntry();
+    return entry == null ? null : entry.getValue();
+  }
+
+  public PriceLevel getBestAsk() {
+
+    return getBest(OrderType.ASK);
+  }
+
+  public PriceLevel getBestBid() {
+
+    return getBest(OrderType.BID);
+  }
+
+  /**
+   * @param type the side of the book
+   * @param price the price of the level
+   * @return the level at exactly that price, or null if there is none
+   */
+  public PriceLevel getLevel(OrderType type, BigDecimal price) {
+
+    return side(type).get(price);
+  }
+
+  /**
+   * @param type the side of the book
+   * @return a read-only view of the levels on that side, best price first
+   */
+  public Collection<PriceLevel> getLevels(OrderType type) {
+
+    return Collections.unmodifiableCollection(side(type).values());
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the number of price levels on that side
+   */
+  public int getDepth(OrderType type) {
+
+    return side(type).size();
+  }
+
+  /**
+   * Takes a snapshot of the whole book.
+   *
+   * @return a new {@link OrderBook}, independent of this instance
+   */
+  public OrderBook toOrderBook() {
+
+    return toOrderBook(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Takes a snapshot of the top of the book. Only the requested number of levels are visited, so
+   * the cost is proportional to {@code depth} rather than to the size of the book.
+   *
+   * @param depth the maximum number of levels to include on each side
+   * @return a new {@link OrderBook}, independent of this instance
+   */
+  public OrderBook toOrderBook(int depth) {
+
+    return new OrderBook(
+        timeStamp, toLimitOrders(OrderType.ASK, depth), toLimitOrders(OrderType.BID, depth));
+  }
+
+  private List<LimitOrder> toLimitOrders(OrderType type, int depth) {
+
+    NavigableMap<BigDecimal, PriceLevel> side = side(type);
+    List<LimitOrder> result = new ArrayList<>(Math.min(depth, side.size()));
+    Iterator<PriceLevel> iterator = side.values().iterator();
+    while (result.size() < depth && iterator.hasNext()) {
+      PriceLevel level = iterator.next();
+      result.add(
+          new LimitOrder(type, level.amount, currencyPair, "", level.timestamp, level.price));
+    }
+    return result;
+  }
+
+  private NavigableMap<BigDecimal, PriceLevel> side(OrderType type) {
+
+    return type == OrderType.ASK ? asks : bids;
+  }
+
+  private static void add(
+      NavigableMap<BigDecimal, PriceLevel> side,
+      BigDecimal price,
+      BigDecimal amount,
+      Date timestamp) {
+
+    PriceLevel level = side.get(price);
+    if (level == null) {
+      side.put(price, new PriceLevel(price, amount, timestamp));
+    } else {
+      level.amount = level.amount.add(amount);
+    }
+  }
+
+  // Replace timeStamp if the provided date is non-null and in the future
+  private void updateDate(Date updateDate) {
+
+    if (updateDate != null && (timeStamp == null || updateDate.after(timeStamp))) {
+      this.timeStamp = updateDate;
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "IncrementalOrderBook [currencyPair="
+        + currencyPair
+        + ", timestamp="
+        + timeStamp
+        + ", asks="
+        + asks.values()
+        + ", bids="
+        + bids.values()
+        + "]";
+  }
+
+  /** The aggregated volume at a single price. Instances are owned and mutated by the book. */
+  public static final class PriceLevel {
+
+    private final BigDecimal price;
+    private BigDecimal amount;
+    private Date timestamp;
+
+    private PriceLevel(BigDecimal price, BigDecimal amount, Date timestamp) {
+
+      this.price = price;
+      this.amount = amount;
+      this.timestamp = timestamp;
+    }
+
+    public BigDecimal getPrice() {
+
+      return price;
+    }
+
+    public BigDecimal getAmount() {
+
+      return amount;
+    }
+
+    public Date getTimestamp() {
+
+      return timestamp;
+    }
+
+    @Override
+    public String toString() {
+
+      return "PriceLevel [price="
+          + price.toPlainString()
+          + ", amount="
+          + amount.toPlainString()
+          + ", timestamp="
+          + timestamp
+          + "]";
+    }
+  }
+}
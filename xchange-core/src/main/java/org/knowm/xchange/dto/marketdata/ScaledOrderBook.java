@@ -0,0 +1,368 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.FixedPointDecimals;
+
+/**
+ * Order book holding prices and amounts as fixed point {@code long} mantissas (see {@link
+ * FixedPointDecimals}), for use on market data paths where {@link java.math.BigDecimal} churn
+ * matters.
+ *
+ * <p>Each side is a pair of primitive arrays kept sorted with the best price last, so that the
+ * frequent updates near the top of the book move very little memory. Once the arrays have grown to
+ * the depth of the book, {@link #update(org.knowm.xchange.dto.Order.OrderType, long, long)} does
+ * not allocate. Use {@link #toOrderBook(int)} to convert the top of the book into a regular {@link
+ * OrderBook}.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class ScaledOrderBook {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final CurrencyPair currencyPair;
+  private final int priceScale;
+  private final int amountScale;
+  private final Side asks = new Side(true);
+  private final Side bids = new Side(false);
+
+  /** epoch millis of the latest update according to the exchange's server, 0 if not provided */
+  private long timestamp;
+
+  /**
+   * @param currencyPair the currency pair of the book
+   * @param priceScale the scale of price mantissas
+   * @param amountScale the scale of amount mantissas
+   */
+  public ScaledOrderBook(CurrencyPair currencyPair, int priceScale, int amountScale) {
+
+    this.currencyPair = currencyPair;
+    this.priceScale = priceScale;
+    this.amountScale = amountScale;
+  }
+
+  /**
+   * Creates a book using the price and base scales from the pair's metadata.
+   *
+   * @param currencyPair the currency pair of the book
+   * @param metaData the metadata for the pair
+   * @return the new book
+   * @throws IllegalArgumentException if the metadata does not define both scales
+   */
+  public static ScaledOrderBook create(CurrencyPair currencyPair, CurrencyPairMetaData metaData) {
+
+    if (metaData == null || metaData.getPriceScale() == null || metaData.getBaseScale() == null) {
+      throw new IllegalArgumentException(
+          "Price and base scale are required for a fixed point order book on " + currencyPair);
+    }
+    return new ScaledOrderBook(currencyPair, metaData.getPriceScale(), metaData.getBaseScale());
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public int getPriceScale() {
+
+    return priceScale;
+  }
+
+  public int getAmountScale() {
+
+    return amountScale;
+  }
+
+  public long getTimestamp() {
+
+    return timestamp;
+  }
+
+  /**
+   * Replaces timestamp if the provided one is later.
+   *
+   * @param timestamp epoch millis
+   */
+  public void updateTimestamp(long timestamp) {
+
+    if (timestamp > this.timestamp) {
+      this.timestamp = timestamp;
+    }
+  }
+
+  /** Removes all levels from both sides of the book. */
+  public void clear() {
+
+    asks.clear();
+    bids.clear();
+    timestamp = 0;
+  }
+
+  /**
+   * Removes all levels from one side of the book.
+   *
+   * @param type the side
+   */
+  public void clear(OrderType type) {
+
+    side(type).clear();
+  }
+
+  /**
+   * Sets the total amount at a price level, adding the level if it is missing or removing it if the
+   * amount is zero.
+   *
+   * @param type the side of the book
+   * @param price the price mantissa
+   * @param amount the amount mantissa
+   */
+  public void update(OrderType type, long price, long amount) {
+
+    side(type).update(price, amount);
+  }
+
+  /**
+   * Applies an {@link OrderBookUpdate}, converting its values to this book's scales.
+   *
+   * @param orderBookUpdate the update
+   * @throws ArithmeticException if the values cannot be represented at this book's scales
+   */
+  public void update(OrderBookUpdate orderBookUpdate) {
+
+    LimitOrder limitOrder = orderBookUpdate.getLimitOrder();
+    update(
+        limitOrder.getType(),
+        FixedPointDecimals.fromBigDecimal(limitOrder.getLimitPrice(), priceScale),
+        FixedPointDecimals.fromBigDecimal(orderBookUpdate.getTotalVolume(), amountScale));
+    if (limitOrder.getTimestamp() != null) {
+      updateTimestamp(limitOrder.getTimestamp().getTime());
+    }
+  }
+
+  /**
+   * @param type the side of the book
+   * @return the number of price levels on that side
+   */
+  public int getDepth(OrderType type) {
+
+    return side(type).size;
+  }
+
+  /**
+   * @param type the side of the book
+   * @param level the level, 0 being the best price
+   * @return the price mantissa at that level
+   * @throws IndexOutOfBoundsException if the side has fewer levels
+   */
+  public long getPrice(OrderType type, int level) {
+
+    Side side = side(type);
+    return side.price(side.index(level));
+  }
+
+  /**
+   * @param type the side of the book
+   * @param level the level, 0 being the best price
+   * @return the amount mantissa at that level
+   * @throws IndexOutOfBoundsException if the side has fewer levels
+   */
+  public long getAmount(OrderType type, int level) {
+
+    Side side = side(type);
+    return side.amounts[side.index(level)];
+  }
+
+  /**
+   * @param type the side of the book
+   * @param price the price mantissa
+   * @return the amount mantissa at exactly that price, or zero if there is no such level
+   */
+  public long getAmountAt(OrderType type, long price) {
+
+    Side side = side(type);
+    int idx = side.search(price);
+    return idx >= 0 ? side.amounts[idx] : 0;
+  }
+
+  /**
+   * Takes a snapshot of the whole book.
+   *
+   * @return a new {@link OrderBook}, independent of this instance
+   */
+  public OrderBook toOrderBook() {
+
+    return toOrderBook(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Takes a snapshot of the top of the book.
+   *
+   * @param depth the maximum number of levels to include on each side
+   * @return a new {@link OrderBook}, independent of this instance
+   */
+  public OrderBook toOrderBook(int depth) {
+
+    Date date = timestamp == 0 ? null : new Date(timestamp);
+    return new OrderBook(
+        date, toLimitOrders(OrderType.ASK, depth, date), toLimitOrders(OrderType.BID, depth, date));
+  }
+
+  private List<LimitOrder> toLimitOrders(OrderType type, int depth, Date date) {
+
+    Side side = side(type);
+    int count = Math.min(depth, side.size);
+    List<LimitOrder> result = new ArrayList<>(count);
+    for (int level = 0; level < count; level++) {
+      int idx = side.index(level);
+      result.add(
+          new LimitOrder(
+              type,
+              FixedPointDecimals.toBigDecimal(side.amounts[idx], amountScale),
+              currencyPair,
+              "",
+              date,
+              FixedPointDecimals.toBigDecimal(side.price(idx), priceScale)));
+    }
+    return result;
+  }
+
+  private Side side(OrderType type) {
+
+    return type == OrderType.ASK ? asks : bids;
+  }
+
+  @Override
+  public String toString() {
+
+    return "ScaledOrderBook [currencyPair="
+        + currencyPair
+        + ", timestamp="
+        + timestamp
+        + ", asks="
+        + asks.size
+        + " levels, bids="
+        + bids.size
+        + " levels]";
+  }
+
+  /**
+   * One side of the book. Keys are kept in ascending order with the best price last; for asks the
+   * key is the negated price so that the lowest ask sorts last. Levels occupy the middle of the
+   * arrays with free space on both sides, so that inserting at either end, as happens when loading
+   * a snapshot best price first or when new levels appear at the top, does not shift the others.
+   */
+  private static final class Side {
+
+    private final boolean negate;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private int head = INITIAL_CAPACITY / 2;
+    private int size;
+
+    private Side(boolean negate) {
+
+      this.negate = negate;
+    }
+
+    private void clear() {
+
+      size = 0;
+      head = keys.length / 2;
+    }
+
+    private int search(long price) {
+
+      return Arrays.binarySearch(keys, head, head + size, negate ? -price : price);
+    }
+
+    private long price(int idx) {
+
+      return negate ? -keys[idx] : keys[idx];
+    }
+
+    private int index(int level) {
+
+      if (level < 0 || level >= size) {
+        throw new IndexOutOfBoundsException("Level " + level + " of " + size);
+      }
+      return head + size - 1 - level;
+    }
+
+    private void update(long price, long amount) {
+
+      int idx = search(price);
+      if (idx >= 0) {
+        if (amount == 0) {
+          remove(idx);
+        } else {
+          amounts[idx] = amount;
+        }
+      } else if (amount != 0) {
+        insert(-idx - 1, negate ? -price : price, amount);
+      }
+    }
+
+    private void remove(int idx) {
+
+      int left = idx - head;
+      int right = head + size - 1 - idx;
+      if (left < right) {
+        System.arraycopy(keys, head, keys, head + 1, left);
+        System.arraycopy(amounts, head, amounts, head + 1, left);
+        head++;
+      } else {
+        System.arraycopy(keys, idx + 1, keys, idx, right);
+        System.arraycopy(amounts, idx + 1, amounts, idx, right);
+      }
+      size--;
+    }
+
+    private void insert(int idx, long key, long amount) {
+
+      int left = idx - head;
+      int right = size - left;
+      boolean shiftLeft = left <= right;
+      if (shiftLeft ? head == 0 : head + size == keys.length) {
+        int offset = head;
+        recentre();
+        idx += head - offset;
+      }
+      if (shiftLeft) {
+        System.arraycopy(keys, head, keys, head - 1, left);
+        System.arraycopy(amounts, head, amounts, head - 1, left);
+        head--;
+        idx--;
+      } else {
+        System.arraycopy(keys, idx, keys, idx + 1, right);
+        System.arraycopy(amounts, idx, amounts, idx + 1, right);
+      }
+      keys[idx] = key;
+      amounts[idx] = amount;
+      size++;
+    }
+
+    // Moves the levels back to the middle of the arrays, growing them if more than half full.
+    private void recentre() {
+
+      long[] newKeys = keys;
+      long[] newAmounts = amounts;
+      if (size >= keys.length / 2) {
+        newKeys = new long[keys.length * 2];
+        newAmounts = new long[keys.length * 2];
+      }
+      int newHead = (newKeys.length - size) / 2;
+      System.arraycopy(keys, head, newKeys, newHead, size);
+      System.arraycopy(amounts, head, newAmounts, newHead, size);
+      keys = newKeys;
+      amounts = newAmounts;
+      head = newHead;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.util.Date;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.utils.FixedPointDecimals;
+
+/**
+ * Mutable, reusable counterpart of {@link Trade} holding price and amount as fixed point {@code
+ * long} mantissas (see {@link FixedPointDecimals}). A single instance can be refilled with {@link
+ * #set(org.knowm.xchange.dto.Order.OrderType, long, long, long, long)} for every trade on a stream,
+ * so that consuming trades does not allocate. Use {@link #toTrade()} where a regular {@link Trade}
+ * is required.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class ScaledTrade {
+
+  private final CurrencyPair currencyPair;
+  private final int priceScale;
+  private final int amountScale;
+
+  private OrderType type;
+  private long price;
+  private long amount;
+  private long timestamp;
+  private long id;
+
+  /**
+   * @param currencyPair the currency pair traded
+   * @param priceScale the scale of price mantissas
+   * @param amountScale the scale of amount mantissas
+   */
+  public ScaledTrade(CurrencyPair currencyPair, int priceScale, int amountScale) {
+
+    this.currencyPair = currencyPair;
+    this.priceScale = priceScale;
+    this.amountScale = amountScale;
+  }
+
+  /**
+   * Creates an instance using the price and base scales from the pair's metadata.
+   *
+   * @param currencyPair the currency pair traded
+   * @param metaData the metadata for the pair
+   * @return the new instance
+   * @throws IllegalArgumentException if the metadata does not define both scales
+   */
+  public static ScaledTrade create(CurrencyPair currencyPair, CurrencyPairMetaData metaData) {
+
+    if (metaData == null || metaData.getPriceScale() == null || metaData.getBaseScale() == null) {
+      throw new IllegalArgumentException(
+          "Price and base scale are required for fixed point trades on " + currencyPair);
+    }
+    return new ScaledTrade(currencyPair, metaData.getPriceScale(), metaData.getBaseScale());
+  }
+
+  /**
+   * Refills this instance.
+   *
+   * @param type the taker side
+   * @param price the price mantissa
+   * @param amount the amount mantissa
+   * @param timestamp epoch millis according to the exchange's server, 0 if not provided
+   * @param id the numeric trade id
+   * @return this
+   */
+  public ScaledTrade set(OrderType type, long price, long amount, long timestamp, long id) {
+
+    this.type = type;
+    this.price = price;
+    this.amount = amount;
+    this.timestamp = timestamp;
+    this.id = id;
+    return this;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+
+    return currencyPair;
+  }
+
+  public int getPriceScale() {
+
+    return priceScale;
+  }
+
+  public int getAmountScale() {
+
+    return amountScale;
+  }
+
+  public OrderType getType() {
+
+    return type;
+  }
+
+  public long getPrice() {
+
+    return price;
+  }
+
+  public long getAmount() {
+
+    return amount;
+  }
+
+  public long getTimestamp() {
+
+    return timestamp;
+  }
+
+  public long getId() {
+
+    return id;
+  }
+
+  /** @return a new {@link Trade} with the current values */
+  public Trade toTrade() {
+
+    return new Trade.Builder()
+        .type(type)
+        .originalAmount(FixedPointDecimals.toBigDecimal(amount, amountScale))
+        .currencyPair(currencyPair)
+        .price(FixedPointDecimals.toBigDecimal(price, priceScale))
+        .timestamp(timestamp == 0 ? null : new Date(timestamp))
+        .id(Long.toString(id))
+        .build();
+  }
+
+  @Override
+  public String toString() {
+
+    StringBuilder sb = new StringBuilder(96);
+    sb.append("ScaledTrade [type=").append(type).append(", price=");
+    FixedPointDecimals.append(sb, price, priceScale).append(", amount=");
+    FixedPointDecimals.append(sb, amount, amountScale);
+    return sb.append(", currencyPair=")
+        .append(currencyPair)
+        .append(", timestamp=")
+        .append(timestamp)
+        .append(", id=")
+        .append(id)
+        .append("]")
+        .toString();
+  }
+}
@@ -1,5 +1,7 @@
 package org.knowm.xchange.dto.marketdata;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.Date;
@@ -13,6 +15,9 @@ public class Trade implements Serializable {
 
   private static final long serialVersionUID = -4078893146776655648L;
 
+  /** The {@link #getTimestampMillis()} of a trade without a timestamp. */
+  public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
   /** Did this trade result from the execution of a bid or a ask? */
   protected final OrderType type;
 
@@ -28,6 +33,12 @@ public class Trade implements Serializable {
   /** The timestamp of the trade according to the exchange's server, null if not provided */
   protected final Date timestamp;
 
+  /**
+   * The timestamp in milliseconds since the epoch, {@link #NO_TIMESTAMP} if not provided. Not
+   * serialized, so that the serialized form is unchanged, but derived again when deserialized.
+   */
+  private transient long timestampMillis;
+
   /** The trade id */
   protected final String id;
 
@@ -60,9 +71,21 @@ public class Trade implements Serializable {
     this.currencyPair = currencyPair;
     this.price = price;
     this.timestamp = timestamp;
+    this.timestampMillis = millis(timestamp);
     this.id = id;
   }
 
+  private static long millis(Date timestamp) {
+
+    return timestamp == null ? NO_TIMESTAMP : timestamp.getTime();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+    in.defaultReadObject();
+    timestampMillis = millis(timestamp);
+  }
+
   public OrderType getType() {
 
     return type;
@@ -88,6 +111,14 @@ public class Trade implements Serializable {
     return timestamp;
   }
 
+  /**
+   * @return the timestamp in milliseconds since the epoch, {@link #NO_TIMESTAMP} if not provided
+   */
+  public long getTimestampMillis() {
+
+    return timestampMillis;
+  }
+
   public String getId() {
 
     return id;
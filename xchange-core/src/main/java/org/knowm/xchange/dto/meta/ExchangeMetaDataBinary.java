@@ -0,0 +1,304 @@
+package org.knowm.xchange.dto.meta;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.account.Fee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A compact binary form of {@link ExchangeMetaData}, which loads far faster than the JSON it is
+ * compiled from. {@link ExchangeMetaDataLoader} prefers a {@code <name>.bin} resource to {@code
+ * <name>.json} where both exist.
+ *
+ * <p>Run {@link #main} as a build step to compile a module's metadata, for example with the
+ * exec-maven-plugin after {@code process-resources}:
+ *
+ * <pre>
+ * java org.knowm.xchange.dto.meta.ExchangeMetaDataBinary target/classes
+ * </pre>
+ *
+ * <p>JSON files which hold anything other than plain {@link ExchangeMetaData}, such as an
+ * exchange's own subclass of it, are left alone.
+ */
+public final class ExchangeMetaDataBinary {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExchangeMetaDataBinary.class);
+
+  /** "XCMD" */
+  private static final int MAGIC = 0x58434d44;
+
+  private static final int VERSION = 1;
+
+  private ExchangeMetaDataBinary() {}
+
+  /**
+   * Compiles each {@code <name>.json} holding {@link ExchangeMetaData} in the given directories to
+   * {@code <name>.bin} alongside it.
+   *
+   * @param args the directories
+   */
+  public static void main(String[] args) throws IOException {
+
+    for (String arg : args) {
+      File[] files = new File(arg).listFiles((dir, name) -> name.endsWith(".json"));
+      if (files == null) {
+        continue;
+      }
+      for (File json : files) {
+        ExchangeMetaData metaData;
+        try (InputStream is = new FileInputStream(json)) {
+          metaData = ExchangeMetaDataLoader.parse(is, ExchangeMetaData.class);
+        } catch (IOException e) {
+          LOG.info("Skipped {}: {}", json, e.getMessage());
+          continue;
+        }
+        String name = json.getName();
+        File bin = new File(json.getParentFile(), name.substring(0, name.length() - 5) + ".bin");
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(bin))) {
+          write(metaData, os);
+        }
+        LOG.info("Compiled {} ({} bytes) to {} ({} bytes)", json, json.length(), bin, bin.length());
+      }
+    }
+  }
+
+  /**
+   * @param metaData the metadata
+   * @param os receives the binary form. Not closed.
+   */
+  public static void write(ExchangeMetaData metaData, OutputStream os) throws IOException {
+
+    DataOutputStream out = new DataOutputStream(os);
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+
+    Map<CurrencyPair, CurrencyPairMetaData> pairs = metaData.getCurrencyPairs();
+    out.writeInt(pairs == null ? -1 : pairs.size());
+    if (pairs != null) {
+      for (Map.Entry<CurrencyPair, CurrencyPairMetaData> entry : pairs.entrySet()) {
+        out.writeUTF(entry.getKey().base.getCurrencyCode());
+        out.writeUTF(entry.getKey().counter.getCurrencyCode());
+        writePair(out, entry.getValue());
+      }
+    }
+
+    Map<Currency, CurrencyMetaData> currencies = metaData.getCurrencies();
+    out.writeInt(currencies == null ? -1 : currencies.size());
+    if (currencies != null) {
+      for (Map.Entry<Currency, CurrencyMetaData> entry : currencies.entrySet()) {
+        out.writeUTF(entry.getKey().getCurrencyCode());
+        CurrencyMetaData currency = entry.getValue();
+        out.writeBoolean(currency != null);
+        if (currency != null) {
+          writeInteger(out, currency.getScale());
+          writeDecimal(out, currency.getWithdrawalFee());
+        }
+      }
+    }
+
+    writeRateLimits(out, metaData.getPublicRateLimits());
+    writeRateLimits(out, metaData.getPrivateRateLimits());
+    out.writeBoolean(metaData.isShareRateLimits());
+    out.flush();
+  }
+
+  /**
+   * @param is the binary form, as written by {@link #write}. Not closed.
+   * @return the metadata
+   * @throws IOException if the stream is not in the binary form or is of an unknown version
+   */
+  public static ExchangeMetaData read(InputStream is) throws IOException {
+
+    DataInputStream in =
+        new DataInputStream(is instanceof BufferedInputStream ? is : new BufferedInputStream(is));
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not exchange metadata");
+    }
+    int version = in.readUnsignedByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported exchange metadata version " + version);
+    }
+
+    Map<CurrencyPair, CurrencyPairMetaData> pairs = null;
+    int pairCount = in.readInt();
+    if (pairCount >= 0) {
+      pairs = new LinkedHashMap<>(pairCount * 4 / 3 + 1);
+      for (int i = 0; i < pairCount; i++) {
+        CurrencyPair pair =
+            new CurrencyPair(
+                Currency.getInstance(in.readUTF()), Currency.getInstance(in.readUTF()));
+        pairs.put(pair, readPair(in));
+      }
+    }
+
+    Map<Currency, CurrencyMetaData> currencies = null;
+    int currencyCount = in.readInt();
+    if (currencyCount >= 0) {
+      currencies = new LinkedHashMap<>(currencyCount * 4 / 3 + 1);
+      for (int i = 0; i < currencyCount; i++) {
+        Currency currency = Currency.getInstance(in.readUTF());
+        currencies.put(
+            currency,
+            in.readBoolean() ? new CurrencyMetaData(readInteger(in), readDecimal(in)) : null);
+      }
+    }
+
+    RateLimit[] publicRateLimits = readRateLimits(in);
+    RateLimit[] privateRateLimits = readRateLimits(in);
+    boolean shareRateLimits = in.readBoolean();
+    return new ExchangeMetaData(
+        pairs, currencies, publicRateLimits, privateRateLimits, shareRateLimits);
+  }
+
+  private static void writePair(DataOutput out, CurrencyPairMetaData pair) throws IOException {
+
+    out.writeBoolean(pair != null);
+    if (pair == null) {
+      return;
+    }
+    writeDecimal(out, pair.getTradingFee());
+    writeDecimal(out, pair.getMinimumAmount());
+    writeDecimal(out, pair.getMaximumAmount());
+    writeDecimal(out, pair.getCounterMinimumAmount());
+    writeDecimal(out, pair.getCounterMaximumAmount());
+    writeInteger(out, pair.getBaseScale());
+    writeInteger(out, pair.getPriceScale());
+    FeeTier[] feeTiers = pair.getFeeTiers();
+    out.writeInt(feeTiers == null ? -1 : feeTiers.length);
+    if (feeTiers != null) {
+      for (FeeTier feeTier : feeTiers) {
+        writeDecimal(out, feeTier.beginQuantity);
+        out.writeBoolean(feeTier.fee != null);
+        if (feeTier.fee != null) {
+          writeDecimal(out, feeTier.fee.getMakerFee());
+          writeDecimal(out, feeTier.fee.getTakerFee());
+        }
+      }
+    }
+    writeDecimal(out, pair.getAmountStepSize());
+    Currency feeCurrency = pair.getTradingFeeCurrency();
+    out.writeBoolean(feeCurrency != null);
+    if (feeCurrency != null) {
+      out.writeUTF(feeCurrency.getCurrencyCode());
+    }
+    out.writeBoolean(pair.isMarketOrderEnabled());
+  }
+
+  private static CurrencyPairMetaData readPair(DataInput in) throws IOException {
+
+    if (!in.readBoolean()) {
+      return null;
+    }
+    BigDecimal tradingFee = readDecimal(in);
+    BigDecimal minimumAmount = readDecimal(in);
+    BigDecimal maximumAmount = readDecimal(in);
+    BigDecimal counterMinimumAmount = readDecimal(in);
+    BigDecimal counterMaximumAmount = readDecimal(in);
+    Integer baseScale = readInteger(in);
+    Integer priceScale = readInteger(in);
+    FeeTier[] feeTiers = null;
+    int feeTierCount = in.readInt();
+    if (feeTierCount >= 0) {
+      feeTiers = new FeeTier[feeTierCount];
+      for (int i = 0; i < feeTierCount; i++) {
+        BigDecimal beginQuantity = readDecimal(in);
+        Fee fee = in.readBoolean() ? new Fee(readDecimal(in), readDecimal(in)) : null;
+        feeTiers[i] = new FeeTier(beginQuantity, fee);
+      }
+    }
+    BigDecimal amountStepSize = readDecimal(in);
+    Currency feeCurrency = in.readBoolean() ? Currency.getInstance(in.readUTF()) : null;
+    return new CurrencyPairMetaData(
+        tradingFee,
+        minimumAmount,
+        maximumAmount,
+        counterMinimumAmount,
+        counterMaximumAmount,
+        baseScale,
+        priceScale,
+        feeTiers,
+        amountStepSize,
+        feeCurrency,
+        in.readBoolean());
+  }
+
+  private static void writeRateLimits(DataOutput out, RateLimit[] rateLimits) throws IOException {
+
+    out.writeInt(rateLimits == null ? -1 : rateLimits.length);
+    if (rateLimits != null) {
+      for (RateLimit rateLimit : rateLimits) {
+        out.writeInt(rateLimit.calls);
+        out.writeInt(rateLimit.timeSpan);
+        out.writeByte(rateLimit.timeUnit.ordinal());
+      }
+    }
+  }
+
+  private static RateLimit[] readRateLimits(DataInput in) throws IOException {
+
+    int count = in.readInt();
+    if (count < 0) {
+      return null;
+    }
+    RateLimit[] rateLimits = new RateLimit[count];
+    for (int i = 0; i < count; i++) {
+      rateLimits[i] =
+          new RateLimit(in.readInt(), in.readInt(), TimeUnit.values()[in.readUnsignedByte()]);
+    }
+    return rateLimits;
+  }
+
+  private static void writeInteger(DataOutput out, Integer value) throws IOException {
+
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeInt(value);
+    }
+  }
+
+  private static Integer readInteger(DataInput in) throws IOException {
+
+    return in.readBoolean() ? in.readInt() : null;
+  }
+
+  private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+
+    if (value == null) {
+      out.writeShort(-1);
+      return;
+    }
+    byte[] unscaled = value.unscaledValue().toByteArray();
+    out.writeShort(unscaled.length);
+    out.write(unscaled);
+    out.writeInt(value.scale());
+  }
+
+  private static BigDecimal readDecimal(DataInput in) throws IOException {
+
+    int length = in.readShort();
+    if (length < 0) {
+      return null;
+    }
+    byte[] unscaled = new byte[length];
+    in.readFully(unscaled);
+    return new BigDecimal(new BigInteger(unscaled), in.readInt());
+  }
+}
@@ -0,0 +1,115 @@
+package org.knowm.xchange.dto.meta;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/**
+ * Loads the {@link ExchangeMetaData} packaged with each exchange, parsing each resource only once
+ * per process however many exchange instances are created.
+ *
+ * <p>The parsed metadata is kept as a master which is never handed out. Each caller gets its own
+ * copy of the maps and rate limits, since exchanges merge their remote metadata into those in
+ * place. The copy shares the immutable {@link CurrencyPairMetaData} and {@link CurrencyMetaData}
+ * entries, so is cheap compared to parsing.
+ */
+public final class ExchangeMetaDataLoader {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Stands in for resources which do not exist, since the cache cannot hold null. */
+  private static final ExchangeMetaData MISSING =
+      new ExchangeMetaData(null, null, null, null, null);
+
+  private static final ConcurrentMap<String, ExchangeMetaData> CACHE = new ConcurrentHashMap<>();
+
+  private ExchangeMetaDataLoader() {}
+
+  /**
+   * @param name the name of the resource, without an extension. {@code <name>.bin}, as compiled by
+   *     {@link ExchangeMetaDataBinary}, is used if it exists, otherwise {@code <name>.json}.
+   * @return a copy of the metadata for the caller to keep, or null if there is no such resource
+   * @throws IOException if the resource cannot be read. Failures are not cached.
+   */
+  public static ExchangeMetaData load(String name) throws IOException {
+
+    ExchangeMetaData master;
+    try {
+      master = CACHE.computeIfAbsent(name, ExchangeMetaDataLoader::loadResource);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return master == MISSING ? null : copy(master);
+  }
+
+  /**
+   * Parses metadata JSON with a shared mapper.
+   *
+   * @param is the JSON. Not closed.
+   * @param type the type to bind, {@link ExchangeMetaData} or an exchange's own metadata class
+   * @return the metadata
+   */
+  public static <T> T parse(InputStream is, Class<T> type) throws IOException {
+
+    return MAPPER.readValue(is, type);
+  }
+
+  /**
+   * @param metaData the metadata
+   * @return a copy whose maps and rate limits can be modified without affecting the original
+   */
+  public static ExchangeMetaData copy(ExchangeMetaData metaData) {
+
+    Map<CurrencyPair, CurrencyPairMetaData> pairs = metaData.getCurrencyPairs();
+    Map<Currency, CurrencyMetaData> currencies = metaData.getCurrencies();
+    return new ExchangeMetaData(
+        pairs == null ? null : new LinkedHashMap<>(pairs),
+        currencies == null ? null : new LinkedHashMap<>(currencies),
+        copy(metaData.getPublicRateLimits()),
+        copy(metaData.getPrivateRateLimits()),
+        metaData.isShareRateLimits());
+  }
+
+  /** Forgets everything loaded so far, so the next load of each resource reads it again. */
+  public static void clearCache() {
+
+    CACHE.clear();
+  }
+
+  private static RateLimit[] copy(RateLimit[] rateLimits) {
+
+    if (rateLimits == null) {
+      return null;
+    }
+    RateLimit[] result = new RateLimit[rateLimits.length];
+    for (int i = 0; i < rateLimits.length; i++) {
+      RateLimit rateLimit = rateLimits[i];
+      result[i] = new RateLimit(rateLimit.calls, rateLimit.timeSpan, rateLimit.timeUnit);
+    }
+    return result;
+  }
+
+  private static ExchangeMetaData loadResource(String name) {
+
+    ClassLoader classLoader = ExchangeMetaDataLoader.class.getClassLoader();
+    try {
+      try (InputStream is = classLoader.getResourceAsStream(name + ".bin")) {
+        if (is != null) {
+          return ExchangeMetaDataBinary.read(is);
+        }
+      }
+      try (InputStream is = classLoader.getResourceAsStream(name + ".json")) {
+        return is == null ? MISSING : parse(is, ExchangeMetaData.class);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
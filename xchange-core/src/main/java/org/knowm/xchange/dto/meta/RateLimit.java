@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /** Describe a call rate limit as a number of calls per some time span. */
@@ -56,6 +57,23 @@ public class RateLimit implements Serializable {
     return timeUnit.toMillis(timeSpan) / calls;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RateLimit that = (RateLimit) o;
+    return calls == that.calls && timeSpan == that.timeSpan && timeUnit == that.timeUnit;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(calls, timeSpan, timeUnit);
+  }
+
   @Override
   public String toString() {
     return "RateLimit [calls=" + calls + ", timeSpan=" + timeSpan + ", timeUnit=" + timeUnit + "]";
@@ -0,0 +1,70 @@
+package org.knowm.xchange.dto.trade;
+
+import java.io.Serializable;
+
+/**
+ * The outcome of one request of a batch, such as one order of {@link
+ * org.knowm.xchange.service.trade.TradeService#placeLimitOrders}: either its result or what went
+ * wrong.
+ *
+ * @param <T> the type of the requests
+ * @param <R> the type of the results
+ */
+public final class BatchResult<T, R> implements Serializable {
+
+  private static final long serialVersionUID = -3361407203153466478L;
+
+  private final T request;
+  private final R result;
+  private final Exception error;
+
+  private BatchResult(T request, R result, Exception error) {
+
+    this.request = request;
+    this.result = result;
+    this.error = error;
+  }
+
+  public static <T, R> BatchResult<T, R> success(T request, R result) {
+
+    return new BatchResult<>(request, result, null);
+  }
+
+  public static <T, R> BatchResult<T, R> failure(T request, Exception error) {
+
+    return new BatchResult<>(request, null, error);
+  }
+
+  /** @return the request, as it was passed in the batch */
+  public T getRequest() {
+
+    return request;
+  }
+
+  /** @return the result of the request, or null if it failed */
+  public R getResult() {
+
+    return result;
+  }
+
+  /** @return why the request failed, or null if it succeeded */
+  public Exception getError() {
+
+    return error;
+  }
+
+  /** @return whether the request succeeded */
+  public boolean isSuccess() {
+
+    return error == null;
+  }
+
+  @Override
+  public String toString() {
+
+    return "BatchResult [request="
+        + request
+        + (error == null ? ", result=" + result : ", error=" + error)
+        + "]";
+  }
+}
@@ -0,0 +1,85 @@
+package org.knowm.xchange.service;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base for the asynchronous services which run the blocking implementations of an exchange's
+ * services on an {@link Executor}. The size of the executor bounds the number of calls in flight to
+ * the exchange; further calls queue without holding a thread of the caller.
+ */
+public abstract class AsyncServiceAdapter {
+
+  private final Executor executor;
+
+  /** @param executor runs the blocking calls */
+  protected AsyncServiceAdapter(Executor executor) {
+
+    this.executor = executor;
+  }
+
+  /**
+   * Creates an executor of daemon threads which time out when idle, so that an exchange whose
+   * asynchronous services are unused holds no threads.
+   *
+   * @param name the prefix of the thread names
+   * @param threads the maximum number of calls in flight
+   * @return the executor
+   */
+  public static ExecutorService newBoundedExecutor(String name, int threads) {
+
+    AtomicInteger count = new AtomicInteger();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+              Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * @param call the blocking call
+   * @return completes with the result of the call, or exceptionally with what it threw, including
+   *     {@link IOException}s. Also fails if the executor rejects the call.
+   */
+  protected <T> CompletableFuture<T> submit(BlockingCall<T> call) {
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            if (result.isDone()) {
+              return;
+            }
+            try {
+              result.complete(call.call());
+            } catch (Throwable t) {
+              result.completeExceptionally(t);
+            }
+          });
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  @FunctionalInterface
+  protected interface BlockingCall<T> {
+
+    T call() throws IOException;
+  }
+}
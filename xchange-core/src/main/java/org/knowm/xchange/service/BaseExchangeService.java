@@ -1,13 +1,21 @@
 package org.knowm.xchange.service;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.function.Function;
+import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.service.metrics.MetricsInterceptor;
+import org.knowm.xchange.service.metrics.MetricsInterceptor.RemoteCall;
+import org.knowm.xchange.service.metrics.MetricsRecorder;
+import org.knowm.xchange.service.ratelimit.RateLimitInterceptor;
 import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.Interceptor;
 
 /** Top of the hierarchy abstract class for an "exchange service" */
 public abstract class BaseExchangeService<E extends Exchange> {
@@ -44,8 +52,9 @@ public abstract class BaseExchangeService<E extends Exchange> {
   /**
    * Get a ClientConfig object which contains exchange-specific timeout values
    * (<i>httpConnTimeout</i> and <i>httpReadTimeout</i>) if they were present in the
-   * ExchangeSpecification of this instance. Subclasses are encouraged to use this config object
-   * when creating a RestCU proxy.
+   * ExchangeSpecification of this instance, and which connects through the specification's {@link
+   * HttpTransport} and times reading responses if calls are measured. Subclasses are encouraged to
+   * use this config object when creating a RestCU proxy.
    *
    * @return a rescu client config object
    */
@@ -69,7 +78,86 @@ public abstract class BaseExchangeService<E extends Exchange> {
     if (exchange.getExchangeSpecification().getProxyPort() != null) {
       rescuConfig.setProxyPort(exchange.getExchangeSpecification().getProxyPort());
     }
-    return rescuConfig;
+    if (exchange.getExchangeSpecification().getMetricsRecorder() != null) {
+      rescuConfig.setJacksonObjectMapperFactory(MetricsInterceptor.objectMapperFactory());
+    }
+    HttpTransport transport = exchange.getExchangeSpecification().getHttpTransport();
+    return (transport == null ? HttpTransport.getDefault() : transport).configure(rescuConfig);
+  }
+
+  /**
+   * Get an interceptor which holds calls through a rescu proxy to the exchange's rate limits, as
+   * configured by {@link org.knowm.xchange.ExchangeSpecification#setRateLimitMode}. Subclasses are
+   * encouraged to pass it when creating a RestCU proxy.
+   *
+   * @return a rescu interceptor
+   */
+  public Interceptor getRateLimitInterceptor() {
+
+    if (exchange instanceof BaseExchange) {
+      ((BaseExchange) exchange).rateLimitInterceptorInstalled();
+    }
+    return new RateLimitInterceptor(exchange);
+  }
+
+  /**
+   * Get the interceptors to pass when creating a RestCU proxy: the {@link
+   * #getRateLimitInterceptor() rate limit interceptor} and, if the ExchangeSpecification has a
+   * {@link MetricsRecorder}, one which measures each call.
+   *
+   * @return rescu interceptors
+   */
+  public Interceptor[] getInterceptors() {
+
+    MetricsRecorder recorder = exchange.getExchangeSpecification().getMetricsRecorder();
+    if (recorder == null) {
+      return new Interceptor[] {getRateLimitInterceptor()};
+    }
+    if (exchange instanceof BaseExchange) {
+      ((BaseExchange) exchange).metricsInterceptorInstalled();
+    }
+    return new Interceptor[] {
+      getRateLimitInterceptor(),
+      new MetricsInterceptor(
+          recorder,
+          exchange.getExchangeSpecification().getExchangeName(),
+          getClass().getSimpleName(),
+          this::adaptError)
+    };
+  }
+
+  /**
+   * Makes a call to the exchange and converts its result into XChange's DTOs. If calls are
+   * measured, how long the conversion took is recorded as the {@link
+   * org.knowm.xchange.service.metrics.MetricsRecorder.Phase#ADAPT} phase of the last call through a
+   * proxy made by {@code call}, and anything it throws as an error of that call.
+   *
+   * @param call the call
+   * @param adapter the conversion of its result
+   * @return the result of the conversion
+   * @throws IOException if the call fails
+   */
+  protected <R, T> T adapted(RemoteCall<R> call, Function<? super R, ? extends T> adapter)
+      throws IOException {
+
+    MetricsRecorder recorder = exchange.getExchangeSpecification().getMetricsRecorder();
+    return recorder == null
+        ? adapter.apply(call.call())
+        : MetricsInterceptor.adapt(recorder, call, adapter);
+  }
+
+  /**
+   * Converts what a call through a proxy threw into what the service throws, so that failed calls
+   * are {@link MetricsRecorder#recordError counted} by the class of the latter. Services whose
+   * exchange has its own exception type should return the {@link
+   * org.knowm.xchange.exceptions.ExchangeException} they adapt it into.
+   *
+   * @param error what the proxy threw
+   * @return what the service throws in its place, by default the same
+   */
+  protected Throwable adaptError(Throwable error) {
+
+    return error;
   }
 
   protected final void verifyOrder(Order order, ExchangeMetaData exchangeMetaData) {
@@ -17,7 +17,7 @@ public abstract class BaseParamsDigest implements ParamsDigest {
   public static final String HMAC_SHA_1 = "HmacSHA1";
   public static final String HMAC_MD5 = "HmacMD5";
 
-  private final ThreadLocal<Mac> threadLocalMac;
+  private final ThreadLocal<Signer> threadLocalSigner;
 
   /**
    * Constructor
@@ -30,25 +30,9 @@ public abstract class BaseParamsDigest implements ParamsDigest {
       throws IllegalArgumentException {
 
     try {
-      final SecretKey secretKey = new SecretKeySpec(secretKeyBase64.getBytes("UTF-8"), hmacString);
-      threadLocalMac =
-          new ThreadLocal<Mac>() {
-
-            @Override
-            protected Mac initialValue() {
-
-              try {
-                Mac mac = Mac.getInstance(hmacString);
-                mac.init(secretKey);
-                return mac;
-              } catch (InvalidKeyException e) {
-                throw new IllegalArgumentException("Invalid key for hmac initialization.", e);
-              } catch (NoSuchAlgorithmException e) {
-                throw new RuntimeException(
-                    "Illegal algorithm for post body digest. Check the implementation.");
-              }
-            }
-          };
+      threadLocalSigner =
+          createThreadLocalSigner(
+              new SecretKeySpec(secretKeyBase64.getBytes("UTF-8"), hmacString), hmacString);
     } catch (UnsupportedEncodingException e) {
       throw new RuntimeException("Illegal encoding, check the code.", e);
     }
@@ -64,25 +48,26 @@ public abstract class BaseParamsDigest implements ParamsDigest {
   protected BaseParamsDigest(byte[] secretKeyBase64, final String hmacString)
       throws IllegalArgumentException {
 
-    final SecretKey secretKey = new SecretKeySpec(secretKeyBase64, hmacString);
-    threadLocalMac =
-        new ThreadLocal<Mac>() {
+    threadLocalSigner =
+        createThreadLocalSigner(new SecretKeySpec(secretKeyBase64, hmacString), hmacString);
+  }
 
-          @Override
-          protected Mac initialValue() {
+  private static ThreadLocal<Signer> createThreadLocalSigner(
+      final SecretKey secretKey, final String hmacString) {
 
-            try {
-              Mac mac = Mac.getInstance(hmacString);
-              mac.init(secretKey);
-              return mac;
-            } catch (InvalidKeyException e) {
-              throw new IllegalArgumentException("Invalid key for hmac initialization.", e);
-            } catch (NoSuchAlgorithmException e) {
-              throw new RuntimeException(
-                  "Illegal algorithm for post body digest. Check the implementation.");
-            }
+    return ThreadLocal.withInitial(
+        () -> {
+          try {
+            Mac mac = Mac.getInstance(hmacString);
+            mac.init(secretKey);
+            return new Signer(mac);
+          } catch (InvalidKeyException e) {
+            throw new IllegalArgumentException("Invalid key for hmac initialization.", e);
+          } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(
+                "Illegal algorithm for post body digest. Check the implementation.");
           }
-        };
+        });
   }
 
   protected static byte[] decodeBase64(String secretKey) {
@@ -91,6 +76,17 @@ public abstract class BaseParamsDigest implements ParamsDigest {
 
   protected Mac getMac() {
 
-    return threadLocalMac.get();
+    return getSigner().getMac();
+  }
+
+  /**
+   * @return this thread's {@link Signer}, which signs with the same {@link Mac} as {@link
+   *     #getMac()} but without allocating buffers for each message
+   */
+  protected Signer getSigner() {
+
+    Signer signer = threadLocalSigner.get();
+    signer.reset();
+    return signer;
   }
 }
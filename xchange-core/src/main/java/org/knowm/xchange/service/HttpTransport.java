@@ -0,0 +1,231 @@
+package org.knowm.xchange.service;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Supplier;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import si.mazi.rescu.ClientConfig;
+
+/**
+ * The socket factory and hostname verifier which the rescu proxies of the exchange services connect
+ * with.
+ *
+ * <p>A transport wraps the socket factory of its TLS context, to turn off Nagle's algorithm on each
+ * socket, which otherwise holds back the body of a POST behind its headers. It can also set the
+ * size and timeout of the context's TLS session cache. Connections are otherwise made, kept alive
+ * and reused by {@link java.net.HttpURLConnection} just as they would be without it.
+ *
+ * <p>Unless it is given its own {@link Builder#sslContext TLS context}, a transport opens each
+ * connection through {@link HttpsURLConnection#getDefaultSSLSocketFactory()}, as it is when the
+ * connection is made, so it honours a default factory set by the application.
+ *
+ * <p>Exchanges use {@link #getDefault()} unless their {@link
+ * org.knowm.xchange.ExchangeSpecification#setHttpTransport specification} has another.
+ */
+public final class HttpTransport {
+
+  private static final HttpTransport DEFAULT = new Builder().build();
+
+  private final SSLSocketFactory sslSocketFactory;
+  private final HostnameVerifier hostnameVerifier;
+
+  private HttpTransport(SSLSocketFactory sslSocketFactory, HostnameVerifier hostnameVerifier) {
+
+    this.sslSocketFactory = sslSocketFactory;
+    this.hostnameVerifier = hostnameVerifier;
+  }
+
+  /** @return the transport of exchanges which have not been given another */
+  public static HttpTransport getDefault() {
+
+    return DEFAULT;
+  }
+
+  /**
+   * Sets the config to connect through this transport, unless it already has its own socket
+   * factory.
+   *
+   * @param config a rescu client config
+   * @return the config
+   */
+  public ClientConfig configure(ClientConfig config) {
+
+    if (config.getSslSocketFactory() == null) {
+      config.setSslSocketFactory(sslSocketFactory);
+    }
+    if (config.getHostnameVerifier() == null && hostnameVerifier != null) {
+      config.setHostnameVerifier(hostnameVerifier);
+    }
+    return config;
+  }
+
+  /** @return the socket factory of HTTPS connections through this transport */
+  public SSLSocketFactory getSslSocketFactory() {
+
+    return sslSocketFactory;
+  }
+
+  public static class Builder {
+
+    private SSLContext sslContext;
+    private HostnameVerifier hostnameVerifier;
+    private boolean tcpNoDelay = true;
+    private int sessionCacheSize = -1;
+    private int sessionTimeoutSeconds = -1;
+
+    /**
+     * Sets the TLS context of the connections, such as one trusting a private certificate. Defaults
+     * to the context of {@link HttpsURLConnection#getDefaultSSLSocketFactory()}.
+     */
+    public Builder sslContext(SSLContext sslContext) {
+
+      this.sslContext = sslContext;
+      return this;
+    }
+
+    /** Sets the hostname verifier of the connections. Defaults to the JVM's default verifier. */
+    public Builder hostnameVerifier(HostnameVerifier hostnameVerifier) {
+
+      this.hostnameVerifier = hostnameVerifier;
+      return this;
+    }
+
+    /** Sets whether Nagle's algorithm is turned off on the connections. Defaults to true. */
+    public Builder tcpNoDelay(boolean tcpNoDelay) {
+
+      this.tcpNoDelay = tcpNoDelay;
+      return this;
+    }
+
+    /**
+     * Sets the number of TLS sessions kept for resumption, 0 for no limit. Applies to the whole
+     * {@link #sslContext TLS context}, so by default to the JVM's default context.
+     */
+    public Builder sessionCacheSize(int sessionCacheSize) {
+
+      this.sessionCacheSize = sessionCacheSize;
+      return this;
+    }
+
+    /**
+     * Sets how long TLS sessions may be resumed for, 0 for no limit. Applies to the whole {@link
+     * #sslContext TLS context}, so by default to the JVM's default context.
+     */
+    public Builder sessionTimeoutSeconds(int sessionTimeoutSeconds) {
+
+      this.sessionTimeoutSeconds = sessionTimeoutSeconds;
+      return this;
+    }
+
+    public HttpTransport build() {
+
+      if (sessionCacheSize >= 0 || sessionTimeoutSeconds >= 0) {
+        SSLSessionContext sessions = context().getClientSessionContext();
+        if (sessions != null && sessionCacheSize >= 0) {
+          sessions.setSessionCacheSize(sessionCacheSize);
+        }
+        if (sessions != null && sessionTimeoutSeconds >= 0) {
+          sessions.setSessionTimeout(sessionTimeoutSeconds);
+        }
+      }
+      Supplier<SSLSocketFactory> factory;
+      if (sslContext == null) {
+        factory = HttpsURLConnection::getDefaultSSLSocketFactory;
+      } else {
+        SSLSocketFactory contextFactory = sslContext.getSocketFactory();
+        factory = () -> contextFactory;
+      }
+      return new HttpTransport(new TunedSSLSocketFactory(factory, tcpNoDelay), hostnameVerifier);
+    }
+
+    private SSLContext context() {
+
+      if (sslContext != null) {
+        return sslContext;
+      }
+      try {
+        return SSLContext.getDefault();
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("No default TLS context", e);
+      }
+    }
+  }
+
+  /** Sets the socket options of the transport on each socket made. */
+  private static final class TunedSSLSocketFactory extends SSLSocketFactory {
+
+    private final Supplier<SSLSocketFactory> delegate;
+    private final boolean tcpNoDelay;
+
+    private TunedSSLSocketFactory(Supplier<SSLSocketFactory> delegate, boolean tcpNoDelay) {
+
+      this.delegate = delegate;
+      this.tcpNoDelay = tcpNoDelay;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+
+      return delegate.get().getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+
+      return delegate.get().getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+
+      return tune(delegate.get().createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket socket, String host, int port, boolean autoClose)
+        throws IOException {
+
+      return tune(delegate.get().createSocket(socket, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+
+      return tune(delegate.get().createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+        throws IOException {
+
+      return tune(delegate.get().createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+
+      return tune(delegate.get().createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(
+        InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+
+      return tune(delegate.get().createSocket(address, port, localAddress, localPort));
+    }
+
+    private Socket tune(Socket socket) throws IOException {
+
+      if (tcpNoDelay) {
+        socket.setTcpNoDelay(true);
+      }
+      return socket;
+    }
+  }
+}
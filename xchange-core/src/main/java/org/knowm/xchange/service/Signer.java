@@ -0,0 +1,234 @@
+package org.knowm.xchange.service;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import org.knowm.xchange.utils.DigestUtils;
+
+/**
+ * Per-thread signing state of a {@link BaseParamsDigest}: its {@link Mac}, a SHA-256 {@link
+ * MessageDigest}, and reusable buffers for the message and the encoded signature.
+ *
+ * <p>Build the message with the {@code append} methods, which encode text as UTF-8, then finish
+ * with {@link #hmacHex()} or {@link #hmacBase64()}. Once the message buffer has grown to fit the
+ * largest message, signing allocates nothing but the resulting String.
+ *
+ * <p>Obtain instances from {@link BaseParamsDigest#getSigner()}. They must not be shared between
+ * threads.
+ */
+public final class Signer {
+
+  private static final int INITIAL_CAPACITY = 512;
+
+  private final Mac mac;
+  private final byte[] macResult;
+  private final char[] encoded;
+  private final byte[] sha256Result = new byte[32];
+  private MessageDigest sha256;
+  private byte[] message = new byte[INITIAL_CAPACITY];
+  private int length;
+
+  Signer(Mac mac) {
+
+    this.mac = mac;
+    this.macResult = new byte[mac.getMacLength()];
+    this.encoded =
+        new char[Math.max(macResult.length * 2, DigestUtils.base64Length(macResult.length))];
+  }
+
+  /** @return the keyed {@link Mac}, for digests which drive it directly */
+  public Mac getMac() {
+
+    return mac;
+  }
+
+  /**
+   * Discards the message built so far. The finishing methods do this anyway, so this is only needed
+   * to recover from a failure part way through building a message.
+   *
+   * @return this
+   */
+  public Signer reset() {
+
+    length = 0;
+    return this;
+  }
+
+  /**
+   * @param c a character, which must not be part of a surrogate pair
+   * @return this
+   */
+  public Signer append(char c) {
+
+    ensureCapacity(3);
+    encode(c);
+    return this;
+  }
+
+  /**
+   * @param text the text to append as UTF-8
+   * @return this
+   */
+  public Signer append(CharSequence text) {
+
+    return append(text, 0, text.length());
+  }
+
+  /**
+   * @param text the text to append as UTF-8
+   * @param start the index of the first character to append
+   * @param end the index after the last character to append
+   * @return this
+   */
+  public Signer append(CharSequence text, int start, int end) {
+
+    ensureCapacity((end - start) * 3);
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (Character.isHighSurrogate(c)
+          && i + 1 < end
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, text.charAt(++i));
+        message[length++] = (byte) (0xF0 | codePoint >> 18);
+        message[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        message[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        message[length++] = (byte) (0x80 | codePoint & 0x3F);
+      } else {
+        encode(c);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * @param value a number to append in decimal
+   * @return this
+   */
+  public Signer append(long value) {
+
+    if (value == Long.MIN_VALUE) {
+      return append(Long.toString(value));
+    }
+    ensureCapacity(20);
+    if (value < 0) {
+      message[length++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long v = value; v >= 10; v /= 10) {
+      digits++;
+    }
+    for (int i = length + digits - 1; i >= length; i--) {
+      message[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    length += digits;
+    return this;
+  }
+
+  /**
+   * @param bytes raw bytes to append
+   * @param offset the offset of the first byte
+   * @param count the number of bytes
+   * @return this
+   */
+  public Signer append(byte[] bytes, int offset, int count) {
+
+    ensureCapacity(count);
+    System.arraycopy(bytes, offset, message, length, count);
+    length += count;
+    return this;
+  }
+
+  /**
+   * Hashes the message with SHA-256 and clears it.
+   *
+   * @return the hash, in a buffer which is overwritten by the next call
+   */
+  public byte[] sha256() {
+
+    if (sha256 == null) {
+      try {
+        sha256 = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new RuntimeException(
+            "Illegal algorithm for post body digest. Check the implementation.", e);
+      }
+    }
+    sha256.update(message, 0, length);
+    length = 0;
+    try {
+      sha256.digest(sha256Result, 0, sha256Result.length);
+    } catch (DigestException e) {
+      throw new IllegalStateException(e);
+    }
+    return sha256Result;
+  }
+
+  /**
+   * Signs the message with the {@link Mac} and clears it.
+   *
+   * @return the signature, in a buffer which is overwritten by the next call
+   */
+  public byte[] hmac() {
+
+    mac.update(message, 0, length);
+    length = 0;
+    try {
+      mac.doFinal(macResult, 0);
+    } catch (ShortBufferException e) {
+      throw new IllegalStateException(e);
+    }
+    return macResult;
+  }
+
+  /**
+   * Signs the message with the {@link Mac} and clears it.
+   *
+   * @return the signature in lower case hex
+   */
+  public String hmacHex() {
+
+    hmac();
+    return new String(encoded, 0, DigestUtils.toHex(macResult, 0, macResult.length, encoded, 0));
+  }
+
+  /**
+   * Signs the message with the {@link Mac} and clears it.
+   *
+   * @return the signature in padded standard Base64
+   */
+  public String hmacBase64() {
+
+    hmac();
+    return new String(encoded, 0, DigestUtils.toBase64(macResult, 0, macResult.length, encoded, 0));
+  }
+
+  private void encode(char c) {
+
+    if (c < 0x80) {
+      message[length++] = (byte) c;
+    } else if (c < 0x800) {
+      message[length++] = (byte) (0xC0 | c >> 6);
+      message[length++] = (byte) (0x80 | c & 0x3F);
+    } else if (Character.isSurrogate(c)) {
+      // Unpaired, replaced as String.getBytes() would
+      message[length++] = '?';
+    } else {
+      message[length++] = (byte) (0xE0 | c >> 12);
+      message[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+      message[length++] = (byte) (0x80 | c & 0x3F);
+    }
+  }
+
+  private void ensureCapacity(int extra) {
+
+    if (length + extra > message.length) {
+      byte[] grown = new byte[Math.max(message.length * 2, length + extra)];
+      System.arraycopy(message, 0, grown, 0, length);
+      message = grown;
+    }
+  }
+}
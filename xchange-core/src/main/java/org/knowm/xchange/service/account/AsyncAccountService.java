@@ -0,0 +1,46 @@
+package org.knowm.xchange.service.account;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.dto.account.AccountInfo;
+import org.knowm.xchange.dto.account.AddressWithTag;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
+
+/**
+ * The non-blocking counterpart of {@link AccountService}. Each method starts the same call and
+ * returns at once; the future fails with whatever the blocking method would have thrown, including
+ * {@link java.io.IOException}s.
+ *
+ * <p>By default the blocking service is run on a bounded executor by {@link
+ * AsyncAccountServiceAdapter}. Exchanges with a non-blocking transport may implement this directly.
+ */
+public interface AsyncAccountService {
+
+  /** @see AccountService#getAccountInfo() */
+  CompletableFuture<AccountInfo> getAccountInfoAsync();
+
+  /** @see AccountService#withdrawFunds(Currency, BigDecimal, String) */
+  CompletableFuture<String> withdrawFundsAsync(
+      Currency currency, BigDecimal amount, String address);
+
+  /** @see AccountService#withdrawFunds(Currency, BigDecimal, AddressWithTag) */
+  CompletableFuture<String> withdrawFundsAsync(
+      Currency currency, BigDecimal amount, AddressWithTag address);
+
+  /** @see AccountService#withdrawFunds(WithdrawFundsParams) */
+  CompletableFuture<String> withdrawFundsAsync(WithdrawFundsParams params);
+
+  /** @see AccountService#requestDepositAddress(Currency, String...) */
+  CompletableFuture<String> requestDepositAddressAsync(Currency currency, String... args);
+
+  /** @see AccountService#requestDepositAddressData(Currency, String...) */
+  CompletableFuture<AddressWithTag> requestDepositAddressDataAsync(
+      Currency currency, String... args);
+
+  /** @see AccountService#getFundingHistory(TradeHistoryParams) */
+  CompletableFuture<List<FundingRecord>> getFundingHistoryAsync(TradeHistoryParams params);
+}
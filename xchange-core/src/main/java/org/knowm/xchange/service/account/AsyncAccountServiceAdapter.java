@@ -0,0 +1,74 @@
+package org.knowm.xchange.service.account;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.dto.account.AccountInfo;
+import org.knowm.xchange.dto.account.AddressWithTag;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
+
+/** Runs the calls of a blocking {@link AccountService} on an {@link Executor}. */
+public class AsyncAccountServiceAdapter extends AsyncServiceAdapter implements AsyncAccountService {
+
+  private final AccountService service;
+
+  /**
+   * @param service the blocking service
+   * @param executor runs the blocking calls
+   */
+  public AsyncAccountServiceAdapter(AccountService service, Executor executor) {
+
+    super(executor);
+    this.service = service;
+  }
+
+  @Override
+  public CompletableFuture<AccountInfo> getAccountInfoAsync() {
+
+    return submit(service::getAccountInfo);
+  }
+
+  @Override
+  public CompletableFuture<String> withdrawFundsAsync(
+      Currency currency, BigDecimal amount, String address) {
+
+    return submit(() -> service.withdrawFunds(currency, amount, address));
+  }
+
+  @Override
+  public CompletableFuture<String> withdrawFundsAsync(
+      Currency currency, BigDecimal amount, AddressWithTag address) {
+
+    return submit(() -> service.withdrawFunds(currency, amount, address));
+  }
+
+  @Override
+  public CompletableFuture<String> withdrawFundsAsync(WithdrawFundsParams params) {
+
+    return submit(() -> service.withdrawFunds(params));
+  }
+
+  @Override
+  public CompletableFuture<String> requestDepositAddressAsync(Currency currency, String... args) {
+
+    return submit(() -> service.requestDepositAddress(currency, args));
+  }
+
+  @Override
+  public CompletableFuture<AddressWithTag> requestDepositAddressDataAsync(
+      Currency currency, String... args) {
+
+    return submit(() -> service.requestDepositAddressData(currency, args));
+  }
+
+  @Override
+  public CompletableFuture<List<FundingRecord>> getFundingHistoryAsync(TradeHistoryParams params) {
+
+    return submit(() -> service.getFundingHistory(params));
+  }
+}
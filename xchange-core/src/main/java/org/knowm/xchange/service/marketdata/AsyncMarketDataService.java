@@ -0,0 +1,37 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.service.marketdata.params.Params;
+
+/**
+ * The non-blocking counterpart of {@link MarketDataService}. Each method starts the same call and
+ * returns at once; the future fails with whatever the blocking method would have thrown, including
+ * {@link java.io.IOException}s.
+ *
+ * <p>By default the blocking service is run on a bounded executor by {@link
+ * AsyncMarketDataServiceAdapter}. Exchanges with a non-blocking transport may implement this
+ * directly.
+ */
+public interface AsyncMarketDataService {
+
+  /** @see MarketDataService#getTicker(CurrencyPair, Object...) */
+  CompletableFuture<Ticker> getTickerAsync(CurrencyPair currencyPair, Object... args);
+
+  /** @see MarketDataService#getTickers(Params) */
+  CompletableFuture<List<Ticker>> getTickersAsync(Params params);
+
+  /** @see MarketDataService#getOrderBook(CurrencyPair, Object...) */
+  CompletableFuture<OrderBook> getOrderBookAsync(CurrencyPair currencyPair, Object... args);
+
+  /** @see MarketDataService#getOrderBooks(Params, Object...) */
+  CompletableFuture<Map<CurrencyPair, OrderBook>> getOrderBooksAsync(Params params, Object... args);
+
+  /** @see MarketDataService#getTrades(CurrencyPair, Object...) */
+  CompletableFuture<Trades> getTradesAsync(CurrencyPair currencyPair, Object... args);
+}
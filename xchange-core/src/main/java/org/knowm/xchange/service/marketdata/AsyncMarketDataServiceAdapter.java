@@ -0,0 +1,60 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+import org.knowm.xchange.service.marketdata.params.Params;
+
+/** Runs the calls of a blocking {@link MarketDataService} on an {@link Executor}. */
+public class AsyncMarketDataServiceAdapter extends AsyncServiceAdapter
+    implements AsyncMarketDataService {
+
+  private final MarketDataService service;
+
+  /**
+   * @param service the blocking service
+   * @param executor runs the blocking calls
+   */
+  public AsyncMarketDataServiceAdapter(MarketDataService service, Executor executor) {
+
+    super(executor);
+    this.service = service;
+  }
+
+  @Override
+  public CompletableFuture<Ticker> getTickerAsync(CurrencyPair currencyPair, Object... args) {
+
+    return submit(() -> service.getTicker(currencyPair, args));
+  }
+
+  @Override
+  public CompletableFuture<List<Ticker>> getTickersAsync(Params params) {
+
+    return submit(() -> service.getTickers(params));
+  }
+
+  @Override
+  public CompletableFuture<OrderBook> getOrderBookAsync(CurrencyPair currencyPair, Object... args) {
+
+    return submit(() -> service.getOrderBook(currencyPair, args));
+  }
+
+  @Override
+  public CompletableFuture<Map<CurrencyPair, OrderBook>> getOrderBooksAsync(
+      Params params, Object... args) {
+
+    return submit(() -> service.getOrderBooks(params, args));
+  }
+
+  @Override
+  public CompletableFuture<Trades> getTradesAsync(CurrencyPair currencyPair, Object... args) {
+
+    return submit(() -> service.getTrades(currencyPair, args));
+  }
+}
@@ -0,0 +1,301 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
+import org.knowm.xchange.service.marketdata.params.Params;
+
+/**
+ * Wraps any exchange's {@link MarketDataService} to share the results of its calls. A call made
+ * while the same call, with equal arguments, is in flight waits for that one rather than calling
+ * the exchange again, and a result is then reused until its time to live has passed. Failures are
+ * passed to all the callers waiting, but not kept.
+ *
+ * <pre>{@code
+ * MarketDataService marketDataService =
+ *     new CachingMarketDataService.Builder(exchange.getMarketDataService())
+ *         .ttl(1, TimeUnit.SECONDS)
+ *         .ttl(Call.ORDER_BOOK, 200, TimeUnit.MILLISECONDS)
+ *         .build();
+ * }</pre>
+ *
+ * <p>Calls taking {@link Params} are the same if they ask for the same {@link
+ * CurrencyPairsParam#getCurrencyPairs currency pairs}, in the same order. Other params are compared
+ * with {@code equals}, which for most is identity, so pass the same instance to share their
+ * results.
+ *
+ * <p>Callers share the objects returned, so must not change them. The least recently used results
+ * are dropped beyond the {@link Builder#maximumSize maximum size}.
+ */
+public class CachingMarketDataService implements MarketDataService {
+
+  /** The calls which are cached. */
+  public enum Call {
+    TICKER,
+    TICKERS,
+    ORDER_BOOK,
+    ORDER_BOOKS,
+    TRADES
+  }
+
+  private final MarketDataService service;
+  private final Map<Call, Long> ttlNanos;
+  private final LongSupplier nanoClock;
+  private final Map<Key, Entry> entries;
+
+  private CachingMarketDataService(
+      MarketDataService service,
+      Map<Call, Long> ttlNanos,
+      int maximumSize,
+      LongSupplier nanoClock) {
+
+    this.service = service;
+    this.ttlNanos = ttlNanos;
+    this.nanoClock = nanoClock;
+    this.entries =
+        new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+
+            return size() > maximumSize;
+          }
+        };
+  }
+
+  @Override
+  public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
+
+    return get(
+        new Key(Call.TICKER, currencyPair, args), () -> service.getTicker(currencyPair, args));
+  }
+
+  @Override
+  public List<Ticker> getTickers(Params params) throws IOException {
+
+    return get(new Key(Call.TICKERS, target(params), null), () -> service.getTickers(params));
+  }
+
+  @Override
+  public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
+
+    return get(
+        new Key(Call.ORDER_BOOK, currencyPair, args),
+        () -> service.getOrderBook(currencyPair, args));
+  }
+
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Params params, Object... args)
+      throws IOException {
+
+    return get(
+        new Key(Call.ORDER_BOOKS, target(params), args), () -> service.getOrderBooks(params, args));
+  }
+
+  @Override
+  public Trades getTrades(CurrencyPair currencyPair, Object... args) throws IOException {
+
+    return get(
+        new Key(Call.TRADES, currencyPair, args), () -> service.getTrades(currencyPair, args));
+  }
+
+  /** Drops all the results kept. Calls in flight are still shared. */
+  public void invalidateAll() {
+
+    synchronized (entries) {
+      entries.values().removeIf(entry -> entry.future.isDone());
+    }
+  }
+
+  /** Compares params by their currency pairs, since they don't implement equals. */
+  private static Object target(Params params) {
+
+    if (params instanceof CurrencyPairsParam) {
+      Collection<CurrencyPair> currencyPairs = ((CurrencyPairsParam) params).getCurrencyPairs();
+      return currencyPairs == null ? null : new ArrayList<>(currencyPairs);
+    }
+    return params;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(Key key, Fetch<T> fetch) throws IOException {
+
+    Entry entry;
+    boolean owner = false;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (entry == null || entry.isExpired(nanoClock.getAsLong())) {
+        entry = new Entry();
+        entries.put(key, entry);
+        owner = true;
+      }
+    }
+    if (owner) {
+      fetch(key, entry, fetch);
+    }
+    return (T) await(entry.future);
+  }
+
+  private void fetch(Key key, Entry entry, Fetch<?> fetch) {
+
+    try {
+      Object result = fetch.fetch();
+      entry.expiresAt = nanoClock.getAsLong() + ttlNanos.get(key.call);
+      entry.future.complete(result);
+    } catch (Throwable t) {
+      synchronized (entries) {
+        entries.remove(key, entry);
+      }
+      entry.future.completeExceptionally(t);
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> future) throws IOException {
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExchangeException("Interrupted waiting for market data", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExchangeException("Failed to fetch market data", cause);
+    }
+  }
+
+  public static class Builder {
+
+    private final MarketDataService service;
+    private final Map<Call, Long> ttlNanos = new EnumMap<>(Call.class);
+    private int maximumSize = 1000;
+    private LongSupplier nanoClock = System::nanoTime;
+
+    /** @param service the service to wrap */
+    public Builder(MarketDataService service) {
+
+      this.service = service;
+      ttl(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sets how long the results of all calls are reused for. Defaults to a second. With 0, only
+     * calls in flight at the same time are shared.
+     */
+    public Builder ttl(long duration, TimeUnit unit) {
+
+      for (Call call : Call.values()) {
+        ttl(call, duration, unit);
+      }
+      return this;
+    }
+
+    /** Sets how long the results of one call are reused for. */
+    public Builder ttl(Call call, long duration, TimeUnit unit) {
+
+      if (duration < 0) {
+        throw new IllegalArgumentException("The time to live must not be negative");
+      }
+      ttlNanos.put(call, unit.toNanos(duration));
+      return this;
+    }
+
+    /** Sets the number of results kept. Defaults to 1000. */
+    public Builder maximumSize(int maximumSize) {
+
+      if (maximumSize < 1) {
+        throw new IllegalArgumentException("The maximum size must be positive");
+      }
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    Builder nanoClock(LongSupplier nanoClock) {
+
+      this.nanoClock = nanoClock;
+      return this;
+    }
+
+    public CachingMarketDataService build() {
+
+      return new CachingMarketDataService(service, new EnumMap<>(ttlNanos), maximumSize, nanoClock);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Fetch<T> {
+
+    T fetch() throws IOException;
+  }
+
+  private static final class Entry {
+
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private volatile long expiresAt;
+
+    private boolean isExpired(long now) {
+
+      return future.isDone() && now - expiresAt >= 0;
+    }
+  }
+
+  /** A call and its arguments, compared element by element. */
+  private static final class Key {
+
+    private final Call call;
+    private final Object target;
+    private final Object[] args;
+    private final int hashCode;
+
+    private Key(Call call, Object target, Object[] args) {
+
+      this.call = call;
+      this.target = target;
+      this.args = args == null ? new Object[0] : args.clone();
+      this.hashCode =
+          31 * (31 * call.hashCode() + (target == null ? 0 : target.hashCode()))
+              + Arrays.deepHashCode(this.args);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return call == that.call
+          && (target == null ? that.target == null : target.equals(that.target))
+          && Arrays.deepEquals(args, that.args);
+    }
+
+    @Override
+    public int hashCode() {
+
+      return hashCode;
+    }
+  }
+}
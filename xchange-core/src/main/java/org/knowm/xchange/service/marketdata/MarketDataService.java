@@ -2,6 +2,7 @@ package org.knowm.xchange.service.marketdata;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
@@ -74,6 +75,24 @@ public interface MarketDataService extends BaseService {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Get the order books for the provided parameters in one call, on exchanges which support it
+   *
+   * @param args Optional arguments, as for {@link #getOrderBook(CurrencyPair, Object...)}
+   * @return The order books by currency pair. May include pairs which were not asked for.
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the
+   *     request or response
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the
+   *     requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the
+   *     requested function or data, but it has not yet been implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  default Map<CurrencyPair, OrderBook> getOrderBooks(Params params, Object... args)
+      throws IOException {
+    throw new NotYetImplementedForExchangeException();
+  }
+
   /**
    * Get the trades recently performed by the exchange
    *
@@ -0,0 +1,306 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
+
+/**
+ * Fetches tickers or order books for many currency pairs at once. Uses the exchange's bulk call
+ * ({@link MarketDataService#getTickers} or {@link MarketDataService#getOrderBooks}) where it has
+ * one, and otherwise calls for each pair in parallel, with at most a fixed number of calls in
+ * flight.
+ *
+ * <p>By default the number of calls in flight is the number of public calls the exchange allows per
+ * second, up to {@link #MAX_CONCURRENCY}: calls usually take well under a second, so this stays
+ * near the limit without piling up behind it. Enable {@link
+ * org.knowm.xchange.ExchangeSpecification#setRateLimitMode rate limiting} to hold to the limit
+ * exactly.
+ *
+ * <p>A fetcher created for an {@link Exchange} runs its calls on threads of its own, which {@link
+ * #close()} releases.
+ */
+public class MarketSnapshotFetcher implements AutoCloseable {
+
+  /** The number of calls in flight for exchanges which declare no public rate limits. */
+  public static final int DEFAULT_CONCURRENCY = 4;
+
+  /** The most calls in flight, however generous an exchange's rate limits. */
+  public static final int MAX_CONCURRENCY = 16;
+
+  private final AsyncMarketDataService service;
+  private final ExecutorService executor;
+  private final AtomicBoolean bulkTickers = new AtomicBoolean(true);
+  private final AtomicBoolean bulkOrderBooks = new AtomicBoolean(true);
+
+  /** @param exchange the exchange, whose public rate limits set the number of calls in flight */
+  public MarketSnapshotFetcher(Exchange exchange) {
+
+    this(exchange, concurrency(exchange.getExchangeMetaData()));
+  }
+
+  /**
+   * @param exchange the exchange
+   * @param concurrency the most calls in flight
+   */
+  public MarketSnapshotFetcher(Exchange exchange, int concurrency) {
+
+    this(
+        exchange.getMarketDataService(),
+        AsyncServiceAdapter.newBoundedExecutor(
+            exchange.getClass().getSimpleName() + "-snapshot", concurrency));
+  }
+
+  /** @param service makes the calls, and bounds how many are in flight */
+  public MarketSnapshotFetcher(AsyncMarketDataService service) {
+
+    this.service = service;
+    this.executor = null;
+  }
+
+  private MarketSnapshotFetcher(MarketDataService service, ExecutorService executor) {
+
+    this.service = new AsyncMarketDataServiceAdapter(service, executor);
+    this.executor = executor;
+  }
+
+  /**
+   * @param metaData the exchange's meta data, possibly null
+   * @return the number of public calls the exchange allows per second, between 1 and {@link
+   *     #MAX_CONCURRENCY}, or {@link #DEFAULT_CONCURRENCY} if it declares no limits
+   */
+  public static int concurrency(ExchangeMetaData metaData) {
+
+    RateLimit[] rateLimits = metaData == null ? null : metaData.getPublicRateLimits();
+    if (rateLimits == null || rateLimits.length == 0) {
+      return DEFAULT_CONCURRENCY;
+    }
+    double callsPerSecond = MAX_CONCURRENCY;
+    for (RateLimit rateLimit : rateLimits) {
+      double spanSeconds = rateLimit.timeUnit.toNanos(rateLimit.timeSpan) / 1e9;
+      callsPerSecond = Math.min(callsPerSecond, rateLimit.calls / spanSeconds);
+    }
+    return (int) Math.max(1, Math.ceil(callsPerSecond));
+  }
+
+  /**
+   * @param currencyPairs the pairs
+   * @return the tickers, and the failures of any pairs which could not be fetched
+   * @throws IOException if the exchange's bulk call fails
+   */
+  public Snapshot<Ticker> getTickers(Collection<CurrencyPair> currencyPairs) throws IOException {
+
+    return join(getTickersAsync(currencyPairs));
+  }
+
+  /**
+   * @param currencyPairs the pairs
+   * @return completes with the tickers, and the failures of any pairs which could not be fetched.
+   *     Fails if the exchange's bulk call fails.
+   */
+  public CompletableFuture<Snapshot<Ticker>> getTickersAsync(
+      Collection<CurrencyPair> currencyPairs) {
+
+    Set<CurrencyPair> pairs = new LinkedHashSet<>(currencyPairs);
+    return fetch(
+        pairs,
+        bulkTickers,
+        () -> service.getTickersAsync((CurrencyPairsParam) () -> pairs).thenApply(this::byPair),
+        service::getTickerAsync);
+  }
+
+  /**
+   * @param currencyPairs the pairs
+   * @param args optional arguments, as for {@link MarketDataService#getOrderBook}
+   * @return the order books, and the failures of any pairs which could not be fetched
+   * @throws IOException if the exchange's bulk call fails
+   */
+  public Snapshot<OrderBook> getOrderBooks(Collection<CurrencyPair> currencyPairs, Object... args)
+      throws IOException {
+
+    return join(getOrderBooksAsync(currencyPairs, args));
+  }
+
+  /**
+   * @param currencyPairs the pairs
+   * @param args optional arguments, as for {@link MarketDataService#getOrderBook}
+   * @return completes with the order books, and the failures of any pairs which could not be
+   *     fetched. Fails if the exchange's bulk call fails.
+   */
+  public CompletableFuture<Snapshot<OrderBook>> getOrderBooksAsync(
+      Collection<CurrencyPair> currencyPairs, Object... args) {
+
+    Set<CurrencyPair> pairs = new LinkedHashSet<>(currencyPairs);
+    return fetch(
+        pairs,
+        bulkOrderBooks,
+        () -> service.getOrderBooksAsync((CurrencyPairsParam) () -> pairs, args),
+        pair -> service.getOrderBookAsync(pair, args));
+  }
+
+  /**
+   * Stops the threads this fetcher created, once the calls already made have completed. A fetcher
+   * given its {@link AsyncMarketDataService} leaves it alone.
+   */
+  @Override
+  public void close() {
+
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  private Map<CurrencyPair, Ticker> byPair(List<Ticker> tickers) {
+
+    Map<CurrencyPair, Ticker> result = new LinkedHashMap<>();
+    for (Ticker ticker : tickers) {
+      result.put(ticker.getCurrencyPair(), ticker);
+    }
+    return result;
+  }
+
+  private <T> CompletableFuture<Snapshot<T>> fetch(
+      Set<CurrencyPair> pairs,
+      AtomicBoolean bulkSupported,
+      Supplier<CompletableFuture<Map<CurrencyPair, T>>> bulk,
+      Function<CurrencyPair, CompletableFuture<T>> single) {
+
+    Snapshot<T> snapshot = new Snapshot<>();
+    if (pairs.size() <= 1 || !bulkSupported.get()) {
+      return fanOut(pairs, single, snapshot);
+    }
+    return bulk.get()
+        .handle(
+            (values, error) -> {
+              if (error == null) {
+                Set<CurrencyPair> missing = new LinkedHashSet<>();
+                for (CurrencyPair pair : pairs) {
+                  T value = values.get(pair);
+                  if (value == null) {
+                    missing.add(pair);
+                  } else {
+                    snapshot.values.put(pair, value);
+                  }
+                }
+                return fanOut(missing, single, snapshot);
+              }
+              Throwable cause = unwrap(error);
+              if (cause instanceof NotYetImplementedForExchangeException
+                  || cause instanceof NotAvailableFromExchangeException) {
+                bulkSupported.set(false);
+                return fanOut(pairs, single, snapshot);
+              }
+              CompletableFuture<Snapshot<T>> failed = new CompletableFuture<>();
+              failed.completeExceptionally(cause);
+              return failed;
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private <T> CompletableFuture<Snapshot<T>> fanOut(
+      Set<CurrencyPair> pairs,
+      Function<CurrencyPair, CompletableFuture<T>> single,
+      Snapshot<T> snapshot) {
+
+    CompletableFuture<?>[] calls = new CompletableFuture<?>[pairs.size()];
+    int i = 0;
+    for (CurrencyPair pair : pairs) {
+      calls[i++] =
+          single
+              .apply(pair)
+              .whenComplete(
+                  (value, error) -> {
+                    if (error != null) {
+                      snapshot.failures.put(pair, unwrap(error));
+                    } else if (value != null) {
+                      snapshot.values.put(pair, value);
+                    }
+                  });
+    }
+    return CompletableFuture.allOf(calls).handle((ignored, error) -> snapshot);
+  }
+
+  private static Throwable unwrap(Throwable error) {
+
+    Throwable result = error;
+    while ((result instanceof CompletionException || result instanceof ExecutionException)
+        && result.getCause() != null) {
+      result = result.getCause();
+    }
+    return result;
+  }
+
+  private static <T> T join(CompletableFuture<T> future) throws IOException {
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExchangeException("Interrupted fetching snapshot", e);
+    } catch (ExecutionException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ExchangeException(cause);
+    }
+  }
+
+  /** The values fetched for each currency pair, and the failures of those which were not. */
+  public static final class Snapshot<T> {
+
+    private final Map<CurrencyPair, T> values = new ConcurrentHashMap<>();
+    private final Map<CurrencyPair, Throwable> failures = new ConcurrentHashMap<>();
+    private final long timestamp = System.currentTimeMillis();
+
+    private Snapshot() {}
+
+    public Map<CurrencyPair, T> getValues() {
+
+      return Collections.unmodifiableMap(values);
+    }
+
+    public Map<CurrencyPair, Throwable> getFailures() {
+
+      return Collections.unmodifiableMap(failures);
+    }
+
+    /** @return when the fetch started, in milliseconds since the epoch */
+    public long getTimestamp() {
+
+      return timestamp;
+    }
+
+    @Override
+    public String toString() {
+
+      return "Snapshot [values=" + values.size() + ", failures=" + failures + "]";
+    }
+  }
+}
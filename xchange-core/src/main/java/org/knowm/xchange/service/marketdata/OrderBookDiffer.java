@@ -0,0 +1,242 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Turns order books polled from {@link MarketDataService#getOrderBook} into a stream of {@link
+ * OrderBookUpdate}s, so that consumers only process the levels which changed between polls.
+ *
+ * <pre>{@code
+ * OrderBookDiffer differ = new OrderBookDiffer();
+ * differ.subscribe(updates -> updates.forEach(book::update));
+ * while (running) {
+ *   differ.update(pair, marketDataService.getOrderBook(pair));
+ * }
+ * }</pre>
+ *
+ * <p>The differ keeps the levels of the last order book passed for each currency pair, and compares
+ * each new one with them in a single pass over both sides. Orders at the same price are aggregated
+ * into one level. Each update gives the new total volume at its price, which is zero where the
+ * level was removed, so applying the updates in turn with {@link OrderBook#update(OrderBookUpdate)}
+ * to the previous book gives the new one. The first order book of a pair is diffed against an empty
+ * book, so is published in full.
+ *
+ * <p>This class is thread safe. Order books for different pairs may be passed from different
+ * threads, and the updates for each pair are published in the order the books were passed.
+ */
+public class OrderBookDiffer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OrderBookDiffer.class);
+
+  private final Map<CurrencyPair, Book> books = new ConcurrentHashMap<>();
+  private final List<Consumer<List<OrderBookUpdate>>> subscribers = new CopyOnWriteArrayList<>();
+
+  /**
+   * Adds a subscriber to the updates. It is called, on the thread which passed the order book, with
+   * the updates of each order book which differs from the last one of its pair. The list may not be
+   * changed. Anything the subscriber throws is logged, and does not stop the other subscribers
+   * getting the updates.
+   *
+   * @param subscriber the subscriber
+   */
+  public void subscribe(Consumer<List<OrderBookUpdate>> subscriber) {
+
+    subscribers.add(subscriber);
+  }
+
+  /** @param subscriber a subscriber to remove */
+  public void unsubscribe(Consumer<List<OrderBookUpdate>> subscriber) {
+
+    subscribers.remove(subscriber);
+  }
+
+  /**
+   * Compares an order book with the last one passed for the same pair, and publishes the
+   * differences to the subscribers.
+   *
+   * @param currencyPair the currency pair of the order book
+   * @param orderBook the new order book, with each side sorted best price first
+   * @return the updates published, empty if the order book has not changed
+   */
+  public List<OrderBookUpdate> update(CurrencyPair currencyPair, OrderBook orderBook) {
+
+    Levels current = new Levels(orderBook);
+    List<OrderBookUpdate> updates;
+    Book book = books.computeIfAbsent(currencyPair, pair -> new Book());
+    synchronized (book) {
+      updates = diff(currencyPair, book.levels, current);
+      book.levels = current;
+      if (!updates.isEmpty()) {
+        for (Consumer<List<OrderBookUpdate>> subscriber : subscribers) {
+          try {
+            subscriber.accept(updates);
+          } catch (RuntimeException e) {
+            LOG.error("Order book subscriber failed on updates for {}", currencyPair, e);
+          }
+        }
+      }
+    }
+    return updates;
+  }
+
+  /**
+   * Passes each of a set of order books to {@link #update(CurrencyPair, OrderBook)}, such as the
+   * {@link MarketSnapshotFetcher.Snapshot#getValues values} of {@link
+   * MarketSnapshotFetcher#getOrderBooks}.
+   *
+   * @param orderBooks the order books by currency pair
+   */
+  public void update(Map<CurrencyPair, OrderBook> orderBooks) {
+
+    orderBooks.forEach(this::update);
+  }
+
+  /**
+   * Forgets the last order book of a pair, so the next one is published in full, for example after
+   * polling has stopped for a while or a subscriber has lost its copy.
+   *
+   * @param currencyPair the currency pair
+   */
+  public void reset(CurrencyPair currencyPair) {
+
+    Book book = books.get(currencyPair);
+    if (book != null) {
+      synchronized (book) {
+        book.levels = Levels.EMPTY;
+      }
+    }
+  }
+
+  /**
+   * Computes the updates which turn one order book into another.
+   *
+   * @param currencyPair the currency pair of the order books
+   * @param from the earlier order book
+   * @param to the later order book, whose time stamp the updates are given
+   * @return the updates, asks first, each side best price first
+   */
+  public static List<OrderBookUpdate> diff(
+      CurrencyPair currencyPair, OrderBook from, OrderBook to) {
+
+    return diff(currencyPair, new Levels(from), new Levels(to));
+  }
+
+  private static List<OrderBookUpdate> diff(CurrencyPair currencyPair, Levels from, Levels to) {
+
+    List<OrderBookUpdate> updates = new ArrayList<>();
+    diff(OrderType.ASK, currencyPair, from.asks, to.asks, to.timeStamp, updates);
+    diff(OrderType.BID, currencyPair, from.bids, to.bids, to.timeStamp, updates);
+    return updates.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(updates);
+  }
+
+  /** Merges two sides sorted best price first, asks ascending and bids descending. */
+  private static void diff(
+      OrderType type,
+      CurrencyPair currencyPair,
+      Side from,
+      Side to,
+      Date timeStamp,
+      List<OrderBookUpdate> updates) {
+
+    int direction = type == OrderType.ASK ? 1 : -1;
+    int i = 0;
+    int j = 0;
+    while (i < from.size || j < to.size) {
+      int cmp;
+      if (i == from.size) {
+        cmp = 1;
+      } else if (j == to.size) {
+        cmp = -1;
+      } else {
+        cmp = direction * from.prices[i].compareTo(to.prices[j]);
+      }
+      if (cmp < 0) {
+        updates.add(levelUpdate(type, currencyPair, from.prices[i++], BigDecimal.ZERO, timeStamp));
+      } else if (cmp > 0) {
+        updates.add(levelUpdate(type, currencyPair, to.prices[j], to.volumes[j++], timeStamp));
+      } else {
+        if (from.volumes[i].compareTo(to.volumes[j]) != 0) {
+          updates.add(levelUpdate(type, currencyPair, to.prices[j], to.volumes[j], timeStamp));
+        }
+        i++;
+        j++;
+      }
+    }
+  }
+
+  private static OrderBookUpdate levelUpdate(
+      OrderType type,
+      CurrencyPair currencyPair,
+      BigDecimal price,
+      BigDecimal totalVolume,
+      Date timeStamp) {
+
+    return new OrderBookUpdate(type, totalVolume, currencyPair, price, timeStamp, totalVolume);
+  }
+
+  /** The last order book of a pair, locked while it is diffed and the updates published. */
+  private static final class Book {
+
+    private Levels levels = Levels.EMPTY;
+  }
+
+  /** The aggregated levels of an order book, copied so later changes to the book don't matter. */
+  private static final class Levels {
+
+    private static final Levels EMPTY =
+        new Levels(new OrderBook(null, Collections.emptyList(), Collections.emptyList(), false));
+
+    private final Side asks;
+    private final Side bids;
+    private final Date timeStamp;
+
+    private Levels(OrderBook orderBook) {
+
+      this.asks = new Side(orderBook.getAsks());
+      this.bids = new Side(orderBook.getBids());
+      this.timeStamp = orderBook.getTimeStamp();
+    }
+  }
+
+  private static final class Side {
+
+    private final BigDecimal[] prices;
+    private final BigDecimal[] volumes;
+    private final int size;
+
+    private Side(List<LimitOrder> orders) {
+
+      prices = new BigDecimal[orders.size()];
+      volumes = new BigDecimal[orders.size()];
+      int n = 0;
+      for (LimitOrder order : orders) {
+        BigDecimal volume = order.getOriginalAmount();
+        if (volume == null || volume.signum() == 0) {
+          continue;
+        }
+        if (n > 0 && prices[n - 1].compareTo(order.getLimitPrice()) == 0) {
+          volumes[n - 1] = volumes[n - 1].add(volume);
+        } else {
+          prices[n] = order.getLimitPrice();
+          volumes[n++] = volume;
+        }
+      }
+      size = n;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package org.knowm.xchange.service.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds, in the manner of HdrHistogram: buckets are exact below
+ * 64 and above that 32 to each power of two, so values are kept to within about 3%, from a
+ * nanosecond to the longest call, in a fixed 15KB. Recording is lock free.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR = SUB_BUCKETS * 2;
+  private static final int BUCKETS = LINEAR + (62 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /** @param nanos a duration, negative durations being taken as 0 */
+  public void record(long nanos) {
+
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(index(value));
+    count.incrementAndGet();
+    total.addAndGet(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  /** @return the number of durations recorded */
+  public long getCount() {
+
+    return count.get();
+  }
+
+  /** @return the longest duration recorded, or 0 if none */
+  public long getMax() {
+
+    return max.get();
+  }
+
+  /** @return the mean duration recorded, or 0 if none */
+  public double getMean() {
+
+    long n = count.get();
+    return n == 0 ? 0 : (double) total.get() / n;
+  }
+
+  /**
+   * @param percentile from 0 to 100
+   * @return the duration which that percentage of those recorded did not exceed, to the precision
+   *     of the buckets, or 0 if none were recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+
+    long n = count.get();
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * n));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(highestValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  static int index(long value) {
+
+    if (value < LINEAR) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int top = (int) (value >>> shift);
+    return LINEAR + (shift - 1) * SUB_BUCKETS + top - SUB_BUCKETS;
+  }
+
+  static long highestValue(int index) {
+
+    if (index < LINEAR) {
+      return index;
+    }
+    int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+    long top = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((top + 1) << shift) - 1;
+  }
+
+  @Override
+  public String toString() {
+
+    return "LatencyHistogram [count="
+        + getCount()
+        + ", mean="
+        + (long) getMean()
+        + ", p50="
+        + getValueAtPercentile(50)
+        + ", p99="
+        + getValueAtPercentile(99)
+        + ", max="
+        + getMax()
+        + "]";
+  }
+}
@@ -0,0 +1,63 @@
+package org.knowm.xchange.service.metrics;
+
+import java.util.Objects;
+
+/** Identifies what a measurement is of: a method of a service of an exchange. */
+public final class MetricKey {
+
+  private final String exchange;
+  private final String service;
+  private final String method;
+
+  public MetricKey(String exchange, String service, String method) {
+
+    this.exchange = exchange;
+    this.service = service;
+    this.method = method;
+  }
+
+  /** @return the exchange's name */
+  public String getExchange() {
+
+    return exchange;
+  }
+
+  /** @return the simple class name of the service making the call */
+  public String getService() {
+
+    return service;
+  }
+
+  /** @return the name of the method of the exchange's REST interface */
+  public String getMethod() {
+
+    return method;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MetricKey)) {
+      return false;
+    }
+    MetricKey that = (MetricKey) o;
+    return Objects.equals(exchange, that.exchange)
+        && Objects.equals(service, that.service)
+        && Objects.equals(method, that.method);
+  }
+
+  @Override
+  public int hashCode() {
+
+    return Objects.hash(exchange, service, method);
+  }
+
+  @Override
+  public String toString() {
+
+    return exchange + "." + service + "." + method;
+  }
+}
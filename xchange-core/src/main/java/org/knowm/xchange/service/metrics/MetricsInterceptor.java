@@ -0,0 +1,209 @@
+package org.knowm.xchange.service.metrics;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.knowm.xchange.service.metrics.MetricsRecorder.Phase;
+import si.mazi.rescu.Interceptor;
+import si.mazi.rescu.serialization.jackson.DefaultJacksonObjectMapperFactory;
+import si.mazi.rescu.serialization.jackson.JacksonObjectMapperFactory;
+
+/**
+ * Measures every call through a rescu proxy for a {@link MetricsRecorder}. The time spent reading
+ * the response is taken out of the network time if the proxy reads through an {@link
+ * #objectMapperFactory() object mapper} from here. Calls are keyed by exchange, service and the
+ * name of the proxy's method, and failed calls are counted by the class of the exception the
+ * service adapts what the proxy threw into.
+ */
+public class MetricsInterceptor implements Interceptor {
+
+  /**
+   * The call being measured on each thread, and how long reading its response took. The key is kept
+   * after the call only inside {@link #adapt}, for the conversion of its result.
+   */
+  private static final ThreadLocal<Call> CALL = ThreadLocal.withInitial(Call::new);
+
+  private final MetricsRecorder recorder;
+  private final String exchange;
+  private final String service;
+  private final Function<Throwable, ? extends Throwable> errorAdapter;
+  private final Map<Method, MetricKey> keys = new ConcurrentHashMap<>();
+
+  /**
+   * @param recorder receives the measurements
+   * @param exchange the exchange's name
+   * @param service the simple class name of the service creating the proxy
+   */
+  public MetricsInterceptor(MetricsRecorder recorder, String exchange, String service) {
+
+    this(recorder, exchange, service, Function.identity());
+  }
+
+  /**
+   * @param recorder receives the measurements
+   * @param exchange the exchange's name
+   * @param service the simple class name of the service creating the proxy
+   * @param errorAdapter converts what the proxy throws into what the service throws, usually an
+   *     {@link org.knowm.xchange.exceptions.ExchangeException}, whose class is counted
+   */
+  public MetricsInterceptor(
+      MetricsRecorder recorder,
+      String exchange,
+      String service,
+      Function<Throwable, ? extends Throwable> errorAdapter) {
+
+    this.recorder = recorder;
+    this.exchange = exchange;
+    this.service = service;
+    this.errorAdapter = errorAdapter;
+  }
+
+  /** @return a factory of object mappers which time how long reading each response takes */
+  public static JacksonObjectMapperFactory objectMapperFactory() {
+
+    return new DefaultJacksonObjectMapperFactory() {
+
+      @Override
+      protected ObjectMapper createInstance() {
+
+        return new TimedObjectMapper();
+      }
+    };
+  }
+
+  /**
+   * Makes a call to the exchange and converts its result. The conversion is recorded against the
+   * last call through a measured proxy made by {@code call}: how long it took as the call's {@link
+   * Phase#ADAPT} phase, and what it threw, if anything, as an error of the call. So is what {@code
+   * call} throws after that call has returned, such as an {@link
+   * org.knowm.xchange.exceptions.ExchangeException} for an error in the body of the response.
+   *
+   * @param recorder receives the measurements
+   * @param call the call
+   * @param adapter the conversion of its result
+   * @return the result of the conversion
+   * @throws IOException if the call fails
+   */
+  public static <R, T> T adapt(
+      MetricsRecorder recorder, RemoteCall<R> call, Function<? super R, ? extends T> adapter)
+      throws IOException {
+
+    Call current = CALL.get();
+    MetricKey outer = current.key;
+    current.key = null;
+    current.scopes++;
+    try {
+      R result;
+      try {
+        result = call.call();
+      } catch (IOException | RuntimeException e) {
+        if (current.key != null && !current.failed) {
+          recorder.recordError(current.key, e.getClass());
+        }
+        throw e;
+      }
+      MetricKey key = current.key;
+      if (key == null) {
+        return adapter.apply(result);
+      }
+      long start = System.nanoTime();
+      try {
+        return adapter.apply(result);
+      } catch (RuntimeException e) {
+        recorder.recordError(key, e.getClass());
+        throw e;
+      } finally {
+        recorder.recordLatency(key, Phase.ADAPT, System.nanoTime() - start);
+      }
+    } finally {
+      current.scopes--;
+      current.key = outer;
+    }
+  }
+
+  @Override
+  public Object aroundInvoke(
+      InvocationHandler invocationHandler, Object proxy, Method method, Object[] args)
+      throws Throwable {
+
+    if (method.getDeclaringClass() == Object.class) {
+      return invocationHandler.invoke(proxy, method, args);
+    }
+    MetricKey key =
+        keys.computeIfAbsent(method, m -> new MetricKey(exchange, service, m.getName()));
+    Call call = CALL.get();
+    call.key = key;
+    call.deserializeNanos = 0;
+    call.failed = false;
+    recorder.recordRequest(key);
+    long start = System.nanoTime();
+    try {
+      return invocationHandler.invoke(proxy, method, args);
+    } catch (Throwable t) {
+      call.failed = true;
+      recorder.recordError(key, adaptedType(t));
+      throw t;
+    } finally {
+      long deserializeNanos = call.deserializeNanos;
+      recorder.recordLatency(key, Phase.NETWORK, System.nanoTime() - start - deserializeNanos);
+      if (deserializeNanos > 0) {
+        recorder.recordLatency(key, Phase.DESERIALIZE, deserializeNanos);
+      }
+      call.deserializeNanos = 0;
+      if (call.scopes == 0) {
+        call.key = null;
+      }
+    }
+  }
+
+  private Class<? extends Throwable> adaptedType(Throwable error) {
+
+    try {
+      Throwable adapted = errorAdapter.apply(error);
+      return adapted == null ? error.getClass() : adapted.getClass();
+    } catch (RuntimeException e) {
+      return error.getClass();
+    }
+  }
+
+  /** A call to the exchange through one or more proxies. */
+  @FunctionalInterface
+  public interface RemoteCall<R> {
+
+    R call() throws IOException;
+  }
+
+  private static final class Call {
+
+    private MetricKey key;
+    private long deserializeNanos;
+
+    /** Whether the call failed, so its error has been recorded. */
+    private boolean failed;
+
+    /** How many calls to {@link #adapt} are in progress. */
+    private int scopes;
+  }
+
+  /** Adds the time spent reading each response to the current call. */
+  private static final class TimedObjectMapper extends ObjectMapper {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public <T> T readValue(String content, JavaType valueType) throws IOException {
+
+      long start = System.nanoTime();
+      try {
+        return super.readValue(content, valueType);
+      } finally {
+        CALL.get().deserializeNanos += System.nanoTime() - start;
+      }
+    }
+  }
+}
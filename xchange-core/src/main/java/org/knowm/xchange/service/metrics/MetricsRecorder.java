@@ -0,0 +1,44 @@
+package org.knowm.xchange.service.metrics;
+
+/**
+ * Receives measurements of the calls made by the exchange services, when set on an {@link
+ * org.knowm.xchange.ExchangeSpecification#setMetricsRecorder exchange specification}. Implement it
+ * to export to a metrics library, or use a {@link MetricsRegistry}.
+ *
+ * <p>Methods are called on the calling thread, inside each call, so must be quick and thread safe.
+ */
+public interface MetricsRecorder {
+
+  /** The parts of a call which are timed separately. */
+  enum Phase {
+
+    /** From sending the request to having the response, including waiting on the rate limits. */
+    NETWORK,
+
+    /** Reading the response into the exchange's DTOs. */
+    DESERIALIZE,
+
+    /** Converting the exchange's DTOs into XChange's. */
+    ADAPT
+  }
+
+  /** Counts a call. */
+  void recordRequest(MetricKey key);
+
+  /**
+   * Counts a failed call.
+   *
+   * @param key the call
+   * @param type the class of what it threw
+   */
+  void recordError(MetricKey key, Class<? extends Throwable> type);
+
+  /**
+   * Records how long a phase of a call took.
+   *
+   * @param key the call
+   * @param phase the phase
+   * @param nanos the time taken in nanoseconds
+   */
+  void recordLatency(MetricKey key, Phase phase, long nanos);
+}
@@ -0,0 +1,103 @@
+package org.knowm.xchange.service.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the measurements of the calls made by the exchange services in memory, to be read by the
+ * application. Share one between exchanges to see them all together.
+ *
+ * <pre>{@code
+ * MetricsRegistry metrics = new MetricsRegistry();
+ * specification.setMetricsRecorder(metrics);
+ * ...
+ * for (MetricKey key : metrics.getKeys()) {
+ *   System.out.println(key + " " + metrics.getLatency(key, Phase.NETWORK));
+ * }
+ * }</pre>
+ */
+public class MetricsRegistry implements MetricsRecorder {
+
+  private final Map<MetricKey, Metrics> metrics = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordRequest(MetricKey key) {
+
+    metrics(key).requests.increment();
+  }
+
+  @Override
+  public void recordError(MetricKey key, Class<? extends Throwable> type) {
+
+    metrics(key).errors.computeIfAbsent(type, t -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void recordLatency(MetricKey key, Phase phase, long nanos) {
+
+    metrics(key).latencies.get(phase).record(nanos);
+  }
+
+  /** @return the calls measured so far */
+  public Set<MetricKey> getKeys() {
+
+    return Collections.unmodifiableSet(metrics.keySet());
+  }
+
+  /** @return the number of calls, or 0 if none have been measured */
+  public long getRequestCount(MetricKey key) {
+
+    Metrics m = metrics.get(key);
+    return m == null ? 0 : m.requests.sum();
+  }
+
+  /** @return the number of failed calls by the class of what they threw */
+  public Map<Class<? extends Throwable>, Long> getErrorCounts(MetricKey key) {
+
+    Metrics m = metrics.get(key);
+    if (m == null) {
+      return Collections.emptyMap();
+    }
+    Map<Class<? extends Throwable>, Long> counts = new HashMap<>();
+    m.errors.forEach((type, count) -> counts.put(type, count.sum()));
+    return counts;
+  }
+
+  /** @return the durations of the phase of the calls, or null if none have been measured */
+  public LatencyHistogram getLatency(MetricKey key, Phase phase) {
+
+    Metrics m = metrics.get(key);
+    return m == null ? null : m.latencies.get(phase);
+  }
+
+  /** Forgets all the measurements so far. */
+  public void clear() {
+
+    metrics.clear();
+  }
+
+  private Metrics metrics(MetricKey key) {
+
+    Metrics m = metrics.get(key);
+    return m != null ? m : metrics.computeIfAbsent(key, k -> new Metrics());
+  }
+
+  private static final class Metrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final Map<Class<? extends Throwable>, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<Phase, LatencyHistogram> latencies = new EnumMap<>(Phase.class);
+
+    private Metrics() {
+
+      for (Phase phase : Phase.values()) {
+        latencies.put(phase, new LatencyHistogram());
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package org.knowm.xchange.service.ratelimit;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+import si.mazi.rescu.Interceptor;
+import si.mazi.rescu.ParamsDigest;
+
+/**
+ * Holds every call through a rescu proxy to the rate limits of an {@link Exchange}, according to
+ * its {@link RateLimitMode}. Calls with a {@link ParamsDigest} argument are taken to be
+ * authenticated and wait on {@link Exchange#getPrivateRateLimiter()}; the rest wait on {@link
+ * Exchange#getPublicRateLimiter()}.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+  private final Exchange exchange;
+
+  public RateLimitInterceptor(Exchange exchange) {
+
+    this.exchange = exchange;
+  }
+
+  @Override
+  public Object aroundInvoke(
+      InvocationHandler invocationHandler, Object proxy, Method method, Object[] args)
+      throws Throwable {
+
+    if (method.getDeclaringClass() != Object.class) {
+      RateLimiter rateLimiter =
+          isAuthenticated(args)
+              ? exchange.getPrivateRateLimiter()
+              : exchange.getPublicRateLimiter();
+      if (rateLimiter != null) {
+        if (exchange.getExchangeSpecification().getRateLimitMode() == RateLimitMode.FAIL_FAST) {
+          if (!rateLimiter.tryAcquire()) {
+            throw new RateLimitExceededException();
+          }
+        } else {
+          rateLimiter.acquire();
+        }
+      }
+    }
+    return invocationHandler.invoke(proxy, method, args);
+  }
+
+  private static boolean isAuthenticated(Object[] args) {
+
+    if (args != null) {
+      for (Object arg : args) {
+        if (arg instanceof ParamsDigest) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
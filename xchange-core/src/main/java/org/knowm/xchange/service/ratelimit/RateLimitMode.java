@@ -0,0 +1,22 @@
+package org.knowm.xchange.service.ratelimit;
+
+import org.knowm.xchange.ExchangeSpecification;
+
+/**
+ * How calls are held to an exchange's rate limits. See {@link
+ * ExchangeSpecification#setRateLimitMode}.
+ */
+public enum RateLimitMode {
+
+  /** Calls are made immediately. */
+  DISABLED,
+
+  /** Calls wait until they are within the rate limits. */
+  BLOCK,
+
+  /**
+   * Calls which would exceed a rate limit throw a {@link
+   * org.knowm.xchange.exceptions.RateLimitExceededException}.
+   */
+  FAIL_FAST
+}
@@ -0,0 +1,43 @@
+package org.knowm.xchange.service.ratelimit;
+
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+
+/**
+ * Hands out permits to make remote calls at no more than an exchange's rate limits.
+ *
+ * @see TokenBucketRateLimiter
+ */
+public interface RateLimiter {
+
+  /**
+   * Takes a permit, waiting until one is available.
+   *
+   * @throws RateLimitExceededException if the thread is interrupted while waiting, in which case no
+   *     permit is taken
+   */
+  void acquire();
+
+  /**
+   * Takes a permit if one is available now.
+   *
+   * @return false if the call would exceed the rate limit
+   */
+  boolean tryAcquire();
+
+  /**
+   * Takes a permit without blocking the caller.
+   *
+   * @return completes when the permit may be used
+   */
+  CompletableFuture<Void> acquireAsync();
+
+  /**
+   * Brings the limiter into line with rate limit information returned by the exchange, typically in
+   * response headers. Does nothing by default.
+   *
+   * @param remaining the number of calls the exchange will still accept
+   * @param resetEpochMillis when the exchange will next accept calls if {@code remaining} is 0
+   */
+  default void recalibrate(int remaining, long resetEpochMillis) {}
+}
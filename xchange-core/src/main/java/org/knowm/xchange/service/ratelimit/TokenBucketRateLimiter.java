@@ -0,0 +1,240 @@
+package org.knowm.xchange.service.ratelimit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+
+/**
+ * A lock-free token bucket for each of a set of {@link RateLimit}s. Each bucket holds up to {@link
+ * RateLimit#calls} permits and refills one every {@link RateLimit#getPollDelayMillis()}, so calls
+ * may burst up to the limit and then continue at its average rate. A permit is only granted when
+ * every bucket has one.
+ *
+ * <p>Each bucket is a single {@link AtomicLong}: the time at which it will next be completely full
+ * if no more permits are taken. Taking a permit pushes that time back by the refill interval, and
+ * the caller waits for however far it then lies beyond the bucket's time span.
+ *
+ * <p>Counts of permits, rejections and time spent waiting are kept for monitoring.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+  private final LongSupplier nanoClock;
+  private final Bucket[] buckets;
+  private final LongAdder permits = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * @param rateLimits the limits, all of which must be respected
+   * @throws IllegalArgumentException if there are none, or one allows no calls
+   */
+  public TokenBucketRateLimiter(RateLimit... rateLimits) {
+
+    this(System::nanoTime, rateLimits);
+  }
+
+  TokenBucketRateLimiter(LongSupplier nanoClock, RateLimit... rateLimits) {
+
+    if (rateLimits.length == 0) {
+      throw new IllegalArgumentException("No rate limits");
+    }
+    this.nanoClock = nanoClock;
+    this.buckets = new Bucket[rateLimits.length];
+    long now = nanoClock.getAsLong();
+    for (int i = 0; i < rateLimits.length; i++) {
+      buckets[i] = new Bucket(rateLimits[i], now);
+    }
+  }
+
+  @Override
+  public void acquire() {
+
+    long wait = reserve();
+    if (wait > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      } catch (InterruptedException e) {
+        refund();
+        Thread.currentThread().interrupt();
+        throw new RateLimitExceededException("Interrupted waiting for rate limit", e);
+      }
+    }
+  }
+
+  @Override
+  public boolean tryAcquire() {
+
+    long now = nanoClock.getAsLong();
+    for (int i = 0; i < buckets.length; i++) {
+      if (!buckets[i].tryReserve(now)) {
+        for (int j = 0; j < i; j++) {
+          buckets[j].refund();
+        }
+        rejections.increment();
+        return false;
+      }
+    }
+    permits.increment();
+    return true;
+  }
+
+  @Override
+  public CompletableFuture<Void> acquireAsync() {
+
+    long wait = reserve();
+    if (wait <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    Scheduler.INSTANCE.schedule(() -> permit.complete(null), wait, TimeUnit.NANOSECONDS);
+    return permit;
+  }
+
+  /**
+   * Applies to the bucket with the longest time span, since that is usually the window which
+   * exchanges report on.
+   */
+  @Override
+  public void recalibrate(int remaining, long resetEpochMillis) {
+
+    Bucket longest = buckets[0];
+    for (Bucket bucket : buckets) {
+      if (bucket.spanNanos > longest.spanNanos) {
+        longest = bucket;
+      }
+    }
+    long now = nanoClock.getAsLong();
+    long resetNanos =
+        now + TimeUnit.MILLISECONDS.toNanos(resetEpochMillis - System.currentTimeMillis());
+    longest.recalibrate(now, remaining, resetNanos);
+  }
+
+  /** @return the number of permits granted */
+  public long getPermits() {
+
+    return permits.sum();
+  }
+
+  /** @return the number of times {@link #tryAcquire()} has refused a permit */
+  public long getRejections() {
+
+    return rejections.sum();
+  }
+
+  /** @return the total time callers have been made to wait for permits, in nanoseconds */
+  public long getWaitNanos() {
+
+    return waitNanos.sum();
+  }
+
+  /** @return the longest time a caller has been made to wait for a permit, in nanoseconds */
+  public long getMaxWaitNanos() {
+
+    return maxWaitNanos.get();
+  }
+
+  /** @return how long the caller must wait to use the permit it has taken, in nanoseconds */
+  private long reserve() {
+
+    long now = nanoClock.getAsLong();
+    long wait = 0;
+    for (Bucket bucket : buckets) {
+      wait = Math.max(wait, bucket.reserve(now));
+    }
+    permits.increment();
+    if (wait > 0) {
+      waitNanos.add(wait);
+      maxWaitNanos.accumulate(wait);
+    }
+    return wait;
+  }
+
+  /** Gives back a permit taken by {@link #reserve()} which the caller will not use. */
+  private void refund() {
+
+    for (Bucket bucket : buckets) {
+      bucket.refund();
+    }
+    permits.decrement();
+  }
+
+  private static final class Bucket {
+
+    private final long intervalNanos;
+    private final long spanNanos;
+
+    /** Permits beyond the first which can be taken at once, as a time span. */
+    private final long burstNanos;
+
+    private final AtomicLong fullAt;
+
+    Bucket(RateLimit rateLimit, long now) {
+
+      if (rateLimit.calls <= 0 || rateLimit.timeSpan <= 0 || rateLimit.timeUnit == null) {
+        throw new IllegalArgumentException("Invalid rate limit " + rateLimit);
+      }
+      this.spanNanos = rateLimit.timeUnit.toNanos(rateLimit.timeSpan);
+      this.intervalNanos = spanNanos / rateLimit.calls;
+      this.burstNanos = spanNanos - intervalNanos;
+      this.fullAt = new AtomicLong(now);
+    }
+
+    long reserve(long now) {
+
+      while (true) {
+        long current = fullAt.get();
+        long from = Math.max(current, now);
+        if (fullAt.compareAndSet(current, from + intervalNanos)) {
+          return Math.max(0, from - burstNanos - now);
+        }
+      }
+    }
+
+    boolean tryReserve(long now) {
+
+      while (true) {
+        long current = fullAt.get();
+        long from = Math.max(current, now);
+        if (from - burstNanos > now) {
+          return false;
+        }
+        if (fullAt.compareAndSet(current, from + intervalNanos)) {
+          return true;
+        }
+      }
+    }
+
+    void refund() {
+
+      fullAt.addAndGet(-intervalNanos);
+    }
+
+    void recalibrate(long now, int remaining, long resetNanos) {
+
+      if (remaining <= 0) {
+        fullAt.set(Math.max(now, resetNanos) + burstNanos);
+      } else {
+        fullAt.set(now + Math.max(0, burstNanos - (remaining - 1) * intervalNanos));
+      }
+    }
+  }
+
+  private static final class Scheduler {
+
+    private static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "xchange-rate-limiter");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
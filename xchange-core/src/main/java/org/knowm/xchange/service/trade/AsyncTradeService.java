@@ -0,0 +1,68 @@
+package org.knowm.xchange.service.trade;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.BatchResult;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.dto.trade.OpenOrders;
+import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
+import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+
+/**
+ * The non-blocking counterpart of {@link TradeService}. Each method starts the same call and
+ * returns at once; the future fails with whatever the blocking method would have thrown, including
+ * {@link java.io.IOException}s.
+ *
+ * <p>By default the blocking service is run on a bounded executor by {@link
+ * AsyncTradeServiceAdapter}. Exchanges with a non-blocking transport may implement this directly.
+ */
+public interface AsyncTradeService {
+
+  /** @see TradeService#getOpenOrders() */
+  CompletableFuture<OpenOrders> getOpenOrdersAsync();
+
+  /** @see TradeService#getOpenOrders(OpenOrdersParams) */
+  CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params);
+
+  /** @see TradeService#placeMarketOrder(MarketOrder) */
+  CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder);
+
+  /** @see TradeService#placeLimitOrder(LimitOrder) */
+  CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder);
+
+  /** @see TradeService#placeStopOrder(StopOrder) */
+  CompletableFuture<String> placeStopOrderAsync(StopOrder stopOrder);
+
+  /** @see TradeService#changeOrder(LimitOrder) */
+  CompletableFuture<String> changeOrderAsync(LimitOrder limitOrder);
+
+  /** @see TradeService#cancelOrder(String) */
+  CompletableFuture<Boolean> cancelOrderAsync(String orderId);
+
+  /** @see TradeService#cancelOrder(CancelOrderParams) */
+  CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams);
+
+  /** @see TradeService#placeLimitOrders(List) */
+  CompletableFuture<List<BatchResult<LimitOrder, String>>> placeLimitOrdersAsync(
+      List<LimitOrder> limitOrders);
+
+  /** @see TradeService#cancelOrders(Collection) */
+  CompletableFuture<List<BatchResult<CancelOrderParams, Boolean>>> cancelOrdersAsync(
+      Collection<CancelOrderParams> orderParams);
+
+  /** @see TradeService#getTradeHistory(TradeHistoryParams) */
+  CompletableFuture<UserTrades> getTradeHistoryAsync(TradeHistoryParams params);
+
+  /** @see TradeService#getOrder(String...) */
+  CompletableFuture<Collection<Order>> getOrderAsync(String... orderIds);
+
+  /** @see TradeService#getOrder(OrderQueryParams...) */
+  CompletableFuture<Collection<Order>> getOrderAsync(OrderQueryParams... orderQueryParams);
+}
@@ -0,0 +1,114 @@
+package org.knowm.xchange.service.trade;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.BatchResult;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.dto.trade.OpenOrders;
+import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
+import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+
+/** Runs the calls of a blocking {@link TradeService} on an {@link Executor}. */
+public class AsyncTradeServiceAdapter extends AsyncServiceAdapter implements AsyncTradeService {
+
+  private final TradeService service;
+
+  /**
+   * @param service the blocking service
+   * @param executor runs the blocking calls
+   */
+  public AsyncTradeServiceAdapter(TradeService service, Executor executor) {
+
+    super(executor);
+    this.service = service;
+  }
+
+  @Override
+  public CompletableFuture<OpenOrders> getOpenOrdersAsync() {
+
+    return submit(service::getOpenOrders);
+  }
+
+  @Override
+  public CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+
+    return submit(() -> service.getOpenOrders(params));
+  }
+
+  @Override
+  public CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+
+    return submit(() -> service.placeMarketOrder(marketOrder));
+  }
+
+  @Override
+  public CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+
+    return submit(() -> service.placeLimitOrder(limitOrder));
+  }
+
+  @Override
+  public CompletableFuture<String> placeStopOrderAsync(StopOrder stopOrder) {
+
+    return submit(() -> service.placeStopOrder(stopOrder));
+  }
+
+  @Override
+  public CompletableFuture<String> changeOrderAsync(LimitOrder limitOrder) {
+
+    return submit(() -> service.changeOrder(limitOrder));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> cancelOrderAsync(String orderId) {
+
+    return submit(() -> service.cancelOrder(orderId));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams) {
+
+    return submit(() -> service.cancelOrder(orderParams));
+  }
+
+  @Override
+  public CompletableFuture<List<BatchResult<LimitOrder, String>>> placeLimitOrdersAsync(
+      List<LimitOrder> limitOrders) {
+
+    return submit(() -> service.placeLimitOrders(limitOrders));
+  }
+
+  @Override
+  public CompletableFuture<List<BatchResult<CancelOrderParams, Boolean>>> cancelOrdersAsync(
+      Collection<CancelOrderParams> orderParams) {
+
+    return submit(() -> service.cancelOrders(orderParams));
+  }
+
+  @Override
+  public CompletableFuture<UserTrades> getTradeHistoryAsync(TradeHistoryParams params) {
+
+    return submit(() -> service.getTradeHistory(params));
+  }
+
+  @Override
+  public CompletableFuture<Collection<Order>> getOrderAsync(String... orderIds) {
+
+    return submit(() -> service.getOrder(orderIds));
+  }
+
+  @Override
+  public CompletableFuture<Collection<Order>> getOrderAsync(OrderQueryParams... orderQueryParams) {
+
+    return submit(() -> service.getOrder(orderQueryParams));
+  }
+}
@@ -0,0 +1,130 @@
+package org.knowm.xchange.service.trade;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.knowm.xchange.dto.trade.BatchResult;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+
+/**
+ * Runs a batch of order requests one call each, for exchanges without a batch endpoint, with at
+ * most {@link #MAX_IN_FLIGHT} calls of the batch in flight at once. Each call is still held to the
+ * exchange's rate limits, if they are enforced.
+ */
+public final class OrderBatches {
+
+  /** The most calls in flight for one batch at once. */
+  public static final int MAX_IN_FLIGHT = 8;
+
+  private OrderBatches() {}
+
+  /**
+   * Makes the call for each request, in parallel on threads of the batch's own, and waits for them
+   * all. The threads are released when the batch is done.
+   *
+   * @param requests the requests
+   * @param call makes the call for one request
+   * @return the outcome of each request, in the order of the requests
+   * @throws ExchangeException if interrupted while waiting
+   */
+  public static <T, R> List<BatchResult<T, R>> fanOut(
+      Collection<? extends T> requests, OrderCall<T, R> call) {
+
+    if (requests.size() <= 1) {
+      return fanOut(requests, call, Runnable::run);
+    }
+    ExecutorService executor =
+        AsyncServiceAdapter.newBoundedExecutor(
+            "xchange-order-batch", Math.min(requests.size(), MAX_IN_FLIGHT));
+    try {
+      return fanOut(requests, call, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Makes the call for each request, in parallel on an executor, and waits for them all. The
+   * executor must not be the one running the caller if it is bounded, since the caller's thread is
+   * held until the batch is done.
+   *
+   * @param requests the requests
+   * @param call makes the call for one request
+   * @param executor runs the calls, at most {@link #MAX_IN_FLIGHT} of the batch at once
+   * @return the outcome of each request, in the order of the requests; a request the executor
+   *     rejects fails
+   * @throws ExchangeException if interrupted while waiting
+   */
+  public static <T, R> List<BatchResult<T, R>> fanOut(
+      Collection<? extends T> requests, OrderCall<T, R> call, Executor executor) {
+
+    if (requests.size() == 1) {
+      T request = requests.iterator().next();
+      List<BatchResult<T, R>> results = new ArrayList<>(1);
+      results.add(callOne(request, call));
+      return results;
+    }
+    Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    List<CompletableFuture<BatchResult<T, R>>> futures = new ArrayList<>(requests.size());
+    List<BatchResult<T, R>> results = new ArrayList<>(requests.size());
+    try {
+      for (T request : requests) {
+        inFlight.acquire();
+        CompletableFuture<BatchResult<T, R>> future;
+        try {
+          future =
+              CompletableFuture.supplyAsync(
+                  () -> {
+                    try {
+                      return callOne(request, call);
+                    } finally {
+                      inFlight.release();
+                    }
+                  },
+                  executor);
+        } catch (RejectedExecutionException e) {
+          inFlight.release();
+          future = CompletableFuture.completedFuture(BatchResult.failure(request, e));
+        }
+        futures.add(future);
+      }
+      for (CompletableFuture<BatchResult<T, R>> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExchangeException("Interrupted waiting for a batch of orders", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExchangeException("Failed to run a batch of orders", cause);
+    }
+    return results;
+  }
+
+  private static <T, R> BatchResult<T, R> callOne(T request, OrderCall<T, R> call) {
+
+    try {
+      return BatchResult.success(request, call.call(request));
+    } catch (Exception e) {
+      return BatchResult.failure(request, e);
+    }
+  }
+
+  /** Makes the call for one request of a batch. */
+  @FunctionalInterface
+  public interface OrderCall<T, R> {
+
+    R call(T request) throws IOException;
+  }
+}
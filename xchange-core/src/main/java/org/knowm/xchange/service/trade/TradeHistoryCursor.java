@@ -0,0 +1,111 @@
+package org.knowm.xchange.service.trade;
+
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamNextPageCursor;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamOffset;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamPaging;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+
+/**
+ * Moves {@link TradeHistoryParams} on from one page of {@link TradeService#getTradeHistory} to the
+ * next, for a {@link TradeHistoryIterator}. Each exchange which pages its trade history offers one
+ * from {@link TradeService#getTradeHistoryCursor()}; the static methods here cover the common
+ * paging params.
+ *
+ * <p>Cursors move {@link Direction#BACKWARD backward} from the most recent trade unless they
+ * declare otherwise, which decides which of the bounds of a {@link TradeHistoryIterator} ends the
+ * history.
+ */
+@FunctionalInterface
+public interface TradeHistoryCursor {
+
+  /**
+   * Called once the page has arrived, and before the next is asked for, so the params may be
+   * changed and returned.
+   *
+   * @param params the params the page was fetched with
+   * @param page the page, which is not empty
+   * @return the params for the next page, or null if that was the last
+   */
+  TradeHistoryParams next(TradeHistoryParams params, UserTrades page);
+
+  /** @return the way the pages move through the history, {@link Direction#BACKWARD} by default */
+  default Direction direction() {
+
+    return Direction.BACKWARD;
+  }
+
+  /**
+   * Called before the first page is asked for, so the params may be changed to start where this
+   * moves on from, such as at the oldest trade for a cursor which moves forward.
+   *
+   * @param params the params of the first page
+   * @return the params to fetch the first page with, the given ones by default
+   */
+  default TradeHistoryParams first(TradeHistoryParams params) {
+
+    return params;
+  }
+
+  /**
+   * @param pageSize the number of trades the exchange returns in a full page
+   * @return pages by {@link TradeHistoryParamOffset}, until one is not full
+   */
+  static TradeHistoryCursor offset(int pageSize) {
+
+    return (params, page) -> {
+      int size = page.getUserTrades().size();
+      if (!(params instanceof TradeHistoryParamOffset) || size < pageSize) {
+        return null;
+      }
+      TradeHistoryParamOffset offsetParams = (TradeHistoryParamOffset) params;
+      Long offset = offsetParams.getOffset();
+      offsetParams.setOffset((offset == null ? 0 : offset) + size);
+      return params;
+    };
+  }
+
+  /** @return pages by {@link TradeHistoryParamPaging}, until one is shorter than the page length */
+  static TradeHistoryCursor pageNumber() {
+
+    return (params, page) -> {
+      if (!(params instanceof TradeHistoryParamPaging)) {
+        return null;
+      }
+      TradeHistoryParamPaging pagingParams = (TradeHistoryParamPaging) params;
+      Integer pageLength = pagingParams.getPageLength();
+      Integer pageNumber = pagingParams.getPageNumber();
+      if (pageLength == null || page.getUserTrades().size() < pageLength) {
+        return null;
+      }
+      pagingParams.setPageNumber((pageNumber == null ? 0 : pageNumber) + 1);
+      return params;
+    };
+  }
+
+  /**
+   * @return pages by {@link TradeHistoryParamNextPageCursor}, until a page has no {@link
+   *     UserTrades#getNextPageCursor()}
+   */
+  static TradeHistoryCursor nextPageCursor() {
+
+    return (params, page) -> {
+      String cursor = page.getNextPageCursor();
+      if (!(params instanceof TradeHistoryParamNextPageCursor) || cursor == null) {
+        return null;
+      }
+      ((TradeHistoryParamNextPageCursor) params).setNextPageCursor(cursor);
+      return params;
+    };
+  }
+
+  /** The way a cursor moves through the history. */
+  enum Direction {
+
+    /** From the most recent trade to older ones. */
+    BACKWARD,
+
+    /** From older trades to the most recent. */
+    FORWARD
+  }
+}
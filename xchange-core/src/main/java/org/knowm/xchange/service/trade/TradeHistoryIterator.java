@@ -0,0 +1,274 @@
+package org.knowm.xchange.service.trade;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.ratelimit.RateLimiter;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+
+/**
+ * Iterates over a user's whole trade history, one page of {@link TradeService#getTradeHistory} at a
+ * time. Pages are fetched as they are needed, with the next page fetched while the trades of the
+ * current one are handed out, so no more than two pages are held at once however long the history.
+ *
+ * <p>Trades come in the order of the pages, and within each page in the order of its {@link
+ * UserTrades}. The history ends at an empty page, when the {@link TradeHistoryCursor} has no more
+ * pages, or after the first page with a trade beyond a bound set on the {@link Builder} which lies
+ * ahead in the cursor's {@link TradeHistoryCursor#direction() direction}. Trades outside any bound
+ * are left out.
+ *
+ * <pre>{@code
+ * try (Stream<UserTrade> trades =
+ *     TradeHistoryIterator.from(exchange, params).since(yearAgo).build().stream()) {
+ *   trades.forEach(...);
+ * }
+ * }</pre>
+ *
+ * <p>The params are changed by the cursor as the pages go by. An iterator is for a single thread;
+ * close it to abandon a page being fetched.
+ */
+public final class TradeHistoryIterator implements Iterator<UserTrade>, AutoCloseable {
+
+  private final AsyncTradeService service;
+  private final TradeHistoryCursor cursor;
+  private final RateLimiter rateLimiter;
+  private final Predicate<UserTrade> beyond;
+  private final Predicate<UserTrade> excluded;
+  private TradeHistoryParams params;
+  private CompletableFuture<UserTrades> nextPage;
+  private Iterator<UserTrade> page = Collections.emptyIterator();
+  private UserTrade next;
+  private boolean started;
+
+  private TradeHistoryIterator(Builder builder) {
+
+    this.service = builder.service;
+    this.cursor = builder.cursor;
+    this.rateLimiter = builder.rateLimiter;
+    boolean forward = cursor.direction() == TradeHistoryCursor.Direction.FORWARD;
+    this.beyond = builder.beyond.or(forward ? builder.after : builder.before);
+    this.excluded = beyond.or(forward ? builder.before : builder.after);
+    this.params = builder.params;
+  }
+
+  /**
+   * @param exchange the exchange, whose trade service offers a {@link TradeHistoryCursor}
+   * @param params the params of the first page
+   * @return a builder which fetches pages through the exchange's {@link AsyncTradeService}
+   */
+  public static Builder from(Exchange exchange, TradeHistoryParams params) {
+
+    return new Builder(
+        exchange.getAsyncTradeService(),
+        exchange.getTradeService().getTradeHistoryCursor(),
+        params);
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    if (!started) {
+      started = true;
+      params = cursor.first(params);
+      nextPage = fetch(params);
+    }
+    while (next == null) {
+      if (page.hasNext()) {
+        UserTrade trade = page.next();
+        if (!excluded.test(trade)) {
+          next = trade;
+        }
+      } else if (nextPage == null) {
+        return false;
+      } else {
+        advance();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public UserTrade next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    UserTrade trade = next;
+    next = null;
+    return trade;
+  }
+
+  /** @return the remaining trades, which closes this iterator when closed */
+  public Stream<UserTrade> stream() {
+
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(this::close);
+  }
+
+  /** Stops fetching pages. */
+  @Override
+  public void close() {
+
+    started = true;
+    if (nextPage != null) {
+      nextPage.cancel(true);
+      nextPage = null;
+    }
+    page = Collections.emptyIterator();
+    next = null;
+  }
+
+  private void advance() {
+
+    UserTrades trades = await(nextPage);
+    nextPage = null;
+    List<UserTrade> userTrades = trades.getUserTrades();
+    if (!userTrades.isEmpty() && userTrades.stream().noneMatch(beyond)) {
+      params = cursor.next(params, trades);
+      if (params != null) {
+        nextPage = fetch(params);
+      }
+    }
+    page = userTrades.iterator();
+  }
+
+  private CompletableFuture<UserTrades> fetch(TradeHistoryParams params) {
+
+    return rateLimiter == null
+        ? service.getTradeHistoryAsync(params)
+        : rateLimiter.acquireAsync().thenCompose(v -> service.getTradeHistoryAsync(params));
+  }
+
+  private UserTrades await(CompletableFuture<UserTrades> future) {
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new ExchangeException("Interrupted while fetching trade history", e);
+    } catch (ExecutionException e) {
+      nextPage = null;
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExchangeException("Failed to fetch trade history", cause);
+    }
+  }
+
+  public static class Builder {
+
+    private final AsyncTradeService service;
+    private final TradeHistoryCursor cursor;
+    private final TradeHistoryParams params;
+    private RateLimiter rateLimiter;
+    private Predicate<UserTrade> beyond = trade -> false;
+    private Predicate<UserTrade> before = trade -> false;
+    private Predicate<UserTrade> after = trade -> false;
+
+    /**
+     * @param service fetches the pages
+     * @param cursor moves the params on from page to page
+     * @param params the params of the first page
+     */
+    public Builder(
+        AsyncTradeService service, TradeHistoryCursor cursor, TradeHistoryParams params) {
+
+      this.service = service;
+      this.cursor = cursor;
+      this.params = params;
+    }
+
+    /**
+     * Waits on a limiter before fetching each page. Not needed for exchanges whose services are
+     * already held to their rate limits, as set by {@link
+     * org.knowm.xchange.ExchangeSpecification#setRateLimitMode}.
+     */
+    public Builder rateLimiter(RateLimiter rateLimiter) {
+
+      this.rateLimiter = rateLimiter;
+      return this;
+    }
+
+    /**
+     * Leaves out trades before the time. If the cursor moves backward, stops after the first page
+     * with any.
+     */
+    public Builder since(Date time) {
+
+      long millis = time.getTime();
+      before =
+          before.or(
+              trade ->
+                  trade.getTimestampMillis() != Trade.NO_TIMESTAMP
+                      && trade.getTimestampMillis() < millis);
+      return this;
+    }
+
+    /**
+     * Leaves out trades after the time. If the cursor moves forward, stops after the first page
+     * with any.
+     */
+    public Builder until(Date time) {
+
+      long millis = time.getTime();
+      after = after.or(trade -> trade.getTimestampMillis() > millis);
+      return this;
+    }
+
+    /**
+     * Leaves out trades with lower IDs than the given one. If the cursor moves backward, stops
+     * after the first page with any. For exchanges with numeric trade IDs.
+     */
+    public Builder sinceId(long id) {
+
+      before = before.or(trade -> Long.parseLong(trade.getId()) < id);
+      return this;
+    }
+
+    /**
+     * Leaves out trades with higher IDs than the given one. If the cursor moves forward, stops
+     * after the first page with any. For exchanges with numeric trade IDs.
+     */
+    public Builder untilId(long id) {
+
+      after = after.or(trade -> Long.parseLong(trade.getId()) > id);
+      return this;
+    }
+
+    /**
+     * Leaves out trades beyond a bound, and stops after the first page with any, whichever way the
+     * cursor moves. May be given more than once, to stop at whichever bound comes first.
+     */
+    public Builder stopWhen(Predicate<UserTrade> beyond) {
+
+      this.beyond = this.beyond.or(beyond);
+      return this;
+    }
+
+    public TradeHistoryIterator build() {
+
+      return new TradeHistoryIterator(this);
+    }
+  }
+}
@@ -2,7 +2,9 @@ package org.knowm.xchange.service.trade;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.BatchResult;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
@@ -206,6 +208,40 @@ public interface TradeService extends BaseService {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Places a batch of limit orders, in one request where the exchange has a batch endpoint, and
+   * otherwise by calling {@link #placeLimitOrder} for each order in parallel; see {@link
+   * OrderBatches}.
+   *
+   * @param limitOrders the orders
+   * @return for each order, in the same order, the ID of the placed order or why it failed
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the
+   *     request or response, which applies to the whole batch
+   * @throws IOException - Indication that a networking error occurred, which applies to the whole
+   *     batch
+   */
+  default List<BatchResult<LimitOrder, String>> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws IOException {
+    return OrderBatches.fanOut(limitOrders, this::placeLimitOrder);
+  }
+
+  /**
+   * Cancels a batch of orders, in one request where the exchange has a batch endpoint, and
+   * otherwise by calling {@link #cancelOrder(CancelOrderParams)} for each in parallel; see {@link
+   * OrderBatches}.
+   *
+   * @param orderParams the orders
+   * @return for each order, in the same order, whether it was cancelled or why that failed
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the
+   *     request or response, which applies to the whole batch
+   * @throws IOException - Indication that a networking error occurred, which applies to the whole
+   *     batch
+   */
+  default List<BatchResult<CancelOrderParams, Boolean>> cancelOrders(
+      Collection<CancelOrderParams> orderParams) throws IOException {
+    return OrderBatches.fanOut(orderParams, this::cancelOrder);
+  }
+
   /**
    * Fetch the history of user trades.
    *
@@ -245,6 +281,19 @@ public interface TradeService extends BaseService {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Get the way this exchange pages its trade history, so that the whole history can be read with a
+   * {@link TradeHistoryIterator}.
+   *
+   * @return moves the params of {@link #getTradeHistory(TradeHistoryParams)} on from one page to
+   *     the next
+   * @throws NotYetImplementedForExchangeException - Indication that paging has not yet been
+   *     implemented for the exchange
+   */
+  default TradeHistoryCursor getTradeHistoryCursor() {
+    throw new NotYetImplementedForExchangeException();
+  }
+
   /**
    * Create {@link TradeHistoryParams} object specific to this exchange. Object created by this
    * method may be used to discover supported and required {@link
@@ -0,0 +1,214 @@
+package org.knowm.xchange.store;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.UserTrade;
+
+/** The binary forms of the records in a {@link TradeHistoryStore}. */
+final class RecordCodecs {
+
+  static final RecordLog.Codec<UserTrade> USER_TRADE =
+      new RecordLog.Codec<UserTrade>() {
+
+        @Override
+        public String key(UserTrade trade) {
+
+          if (trade.getId() != null) {
+            return trade.getId();
+          }
+          return "~"
+              + trade.getTimestampMillis()
+              + "/"
+              + trade.getOrderId()
+              + "/"
+              + trade.getPrice()
+              + "/"
+              + trade.getOriginalAmount();
+        }
+
+        @Override
+        public long timestamp(UserTrade trade) {
+
+          return trade.getTimestampMillis();
+        }
+
+        @Override
+        public void write(UserTrade trade, DataOutput out) throws IOException {
+
+          writeString(out, trade.getType() == null ? null : trade.getType().name());
+          writeDecimal(out, trade.getOriginalAmount());
+          writeString(
+              out, trade.getCurrencyPair() == null ? null : trade.getCurrencyPair().toString());
+          writeDecimal(out, trade.getPrice());
+          writeDate(out, trade.getTimestamp());
+          writeString(out, trade.getId());
+          writeString(out, trade.getOrderId());
+          writeDecimal(out, trade.getFeeAmount());
+          writeString(
+              out,
+              trade.getFeeCurrency() == null ? null : trade.getFeeCurrency().getCurrencyCode());
+          writeString(out, trade.getMakerOrderId());
+          writeString(out, trade.getTakerOrderId());
+        }
+
+        @Override
+        public UserTrade read(DataInput in) throws IOException {
+
+          String type = readString(in);
+          BigDecimal originalAmount = readDecimal(in);
+          String currencyPair = readString(in);
+          BigDecimal price = readDecimal(in);
+          Date timestamp = readDate(in);
+          String id = readString(in);
+          String orderId = readString(in);
+          BigDecimal feeAmount = readDecimal(in);
+          String feeCurrency = readString(in);
+          UserTrade trade =
+              new UserTrade(
+                  type == null ? null : OrderType.valueOf(type),
+                  originalAmount,
+                  currencyPair == null ? null : new CurrencyPair(currencyPair),
+                  price,
+                  timestamp,
+                  id,
+                  orderId,
+                  feeAmount,
+                  feeCurrency == null ? null : Currency.getInstance(feeCurrency));
+          trade.setMakerOrderId(readString(in));
+          trade.setTakerOrderId(readString(in));
+          return trade;
+        }
+      };
+
+  static final RecordLog.Codec<FundingRecord> FUNDING_RECORD =
+      new RecordLog.Codec<FundingRecord>() {
+
+        @Override
+        public String key(FundingRecord record) {
+
+          if (record.getInternalId() != null) {
+            return record.getInternalId();
+          }
+          if (record.getBlockchainTransactionHash() != null) {
+            return "#" + record.getBlockchainTransactionHash();
+          }
+          return "~"
+              + timestamp(record)
+              + "/"
+              + record.getType()
+              + "/"
+              + record.getCurrency()
+              + "/"
+              + record.getAmount();
+        }
+
+        @Override
+        public long timestamp(FundingRecord record) {
+
+          return record.getDate() == null ? Trade.NO_TIMESTAMP : record.getDate().getTime();
+        }
+
+        @Override
+        public void write(FundingRecord record, DataOutput out) throws IOException {
+
+          writeString(out, record.getAddress());
+          writeString(out, record.getDestinationTag());
+          writeDate(out, record.getDate());
+          writeString(
+              out, record.getCurrency() == null ? null : record.getCurrency().getCurrencyCode());
+          writeDecimal(out, record.getAmount());
+          writeString(out, record.getInternalId());
+          writeString(out, record.getBlockchainTransactionHash());
+          writeString(out, record.getType() == null ? null : record.getType().name());
+          writeString(out, record.getStatus() == null ? null : record.getStatus().name());
+          writeDecimal(out, record.getBalance());
+          writeDecimal(out, record.getFee());
+          writeString(out, record.getDescription());
+        }
+
+        @Override
+        public FundingRecord read(DataInput in) throws IOException {
+
+          String address = readString(in);
+          String destinationTag = readString(in);
+          Date date = readDate(in);
+          String currency = readString(in);
+          BigDecimal amount = readDecimal(in);
+          String internalId = readString(in);
+          String blockchainTransactionHash = readString(in);
+          String type = readString(in);
+          String status = readString(in);
+          return new FundingRecord(
+              address,
+              destinationTag,
+              date,
+              currency == null ? null : Currency.getInstance(currency),
+              amount,
+              internalId,
+              blockchainTransactionHash,
+              type == null ? null : FundingRecord.Type.valueOf(type),
+              status == null ? null : FundingRecord.Status.valueOf(status),
+              readDecimal(in),
+              readDecimal(in),
+              readString(in));
+        }
+      };
+
+  private RecordCodecs() {}
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readString(DataInput in) throws IOException {
+
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeDate(DataOutput out, Date value) throws IOException {
+
+    out.writeLong(value == null ? Trade.NO_TIMESTAMP : value.getTime());
+  }
+
+  private static Date readDate(DataInput in) throws IOException {
+
+    long millis = in.readLong();
+    return millis == Trade.NO_TIMESTAMP ? null : new Date(millis);
+  }
+
+  private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+
+    if (value == null) {
+      out.writeShort(-1);
+      return;
+    }
+    byte[] unscaled = value.unscaledValue().toByteArray();
+    out.writeShort(unscaled.length);
+    out.write(unscaled);
+    out.writeInt(value.scale());
+  }
+
+  private static BigDecimal readDecimal(DataInput in) throws IOException {
+
+    int length = in.readShort();
+    if (length < 0) {
+      return null;
+    }
+    byte[] unscaled = new byte[length];
+    in.readFully(unscaled);
+    return new BigDecimal(new BigInteger(unscaled), in.readInt());
+  }
+}
@@ -0,0 +1,353 @@
+package org.knowm.xchange.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of records in segment files, read through memory maps, with an index of the
+ * records by key and by timestamp held in primitive arrays.
+ *
+ * <p>Each record is written as its length, a CRC32 of its payload, its timestamp and the payload,
+ * which starts with the key. On opening, the segments are scanned to rebuild the index, and a
+ * record torn by a crash mid-write is cut off.
+ */
+final class RecordLog<T> implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RecordLog.class);
+
+  private static final int HEADER = 16;
+
+  private final File directory;
+  private final Codec<T> codec;
+  private final long segmentSize;
+  private final List<Segment> segments = new ArrayList<>();
+
+  /** By ordinal, the order in which records were appended. */
+  private long[] positions = new long[1024];
+
+  private long[] timestamps = new long[1024];
+  private int[] keyHashes = new int[1024];
+  private int count;
+
+  /** Ordinals by timestamp, then ordinal; covers the first {@code sortedCount} ordinals. */
+  private int[] byTime = new int[0];
+
+  private int sortedCount;
+
+  /** Open addressing table of ordinals plus one, by key hash. */
+  private int[] byKey = new int[2048];
+
+  RecordLog(File directory, Codec<T> codec, long segmentSize) throws IOException {
+
+    this.directory = directory;
+    this.codec = codec;
+    this.segmentSize = segmentSize;
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create " + directory);
+    }
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(".seg"));
+    Arrays.sort(files);
+    for (File file : files) {
+      Segment segment = new Segment(file);
+      segments.add(segment);
+      scan(segments.size() - 1, segment);
+    }
+  }
+
+  /** @return the number of records added, leaving out those whose key is already in the log */
+  synchronized int append(Collection<? extends T> records) throws IOException {
+
+    int added = 0;
+    for (T record : records) {
+      String key = codec.key(record);
+      if (find(key) >= 0) {
+        continue;
+      }
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeUTF(key);
+      codec.write(record, out);
+      byte[] payload = bytes.toByteArray();
+      CRC32 crc = new CRC32();
+      crc.update(payload);
+      long timestamp = codec.timestamp(record);
+
+      Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+      if (segment == null
+          || (segment.size > 0 && segment.size + HEADER + payload.length > segmentSize)) {
+        segment = new Segment(new File(directory, String.format("%08d.seg", segments.size())));
+        segments.add(segment);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(HEADER + payload.length);
+      buffer.putInt(payload.length).putInt((int) crc.getValue()).putLong(timestamp).put(payload);
+      buffer.flip();
+      long offset = segment.size;
+      while (buffer.hasRemaining()) {
+        segment.channel.write(buffer, segment.size + buffer.position());
+      }
+      segment.size += HEADER + payload.length;
+      index(((long) (segments.size() - 1) << 32) | offset, timestamp, key);
+      added++;
+    }
+    return added;
+  }
+
+  /** @return the record with the key, or null if none */
+  synchronized T get(String key) throws IOException {
+
+    int ordinal = find(key);
+    return ordinal < 0 ? null : read(ordinal);
+  }
+
+  /**
+   * @param from the earliest timestamp, inclusive
+   * @param to the latest timestamp, inclusive
+   * @return the records in the range, by timestamp and then the order they were added
+   */
+  synchronized List<T> range(long from, long to) throws IOException {
+
+    sort();
+    int start = lowerBound(from);
+    List<T> result = new ArrayList<>();
+    for (int i = start; i < sortedCount && timestamps[byTime[i]] <= to; i++) {
+      result.add(read(byTime[i]));
+    }
+    return result;
+  }
+
+  /** @return the record with the latest timestamp, the last added of those, or null if none */
+  synchronized T latest() throws IOException {
+
+    sort();
+    return sortedCount == 0 ? null : read(byTime[sortedCount - 1]);
+  }
+
+  synchronized int size() {
+
+    return count;
+  }
+
+  /** Forces what has been appended to the disk. */
+  synchronized void force() throws IOException {
+
+    for (Segment segment : segments) {
+      segment.channel.force(false);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+
+    for (Segment segment : segments) {
+      segment.channel.close();
+    }
+    segments.clear();
+  }
+
+  private void scan(int segmentIndex, Segment segment) throws IOException {
+
+    long offset = 0;
+    while (offset + HEADER <= segment.size) {
+      ByteBuffer map = segment.map(offset + HEADER);
+      int length = map.getInt((int) offset);
+      if (length < 0 || offset + HEADER + length > segment.size) {
+        break;
+      }
+      byte[] payload = new byte[length];
+      ByteBuffer view = map.duplicate();
+      view.position((int) offset + HEADER);
+      view.get(payload);
+      CRC32 crc = new CRC32();
+      crc.update(payload);
+      if ((int) crc.getValue() != map.getInt((int) offset + 4)) {
+        break;
+      }
+      String key = new DataInputStream(new ByteArrayInputStream(payload)).readUTF();
+      index(((long) segmentIndex << 32) | offset, map.getLong((int) offset + 8), key);
+      offset += HEADER + length;
+    }
+    if (offset < segment.size) {
+      LOG.warn("Cutting off a torn record at {} of {}", offset, segment.file);
+      segment.channel.truncate(offset);
+      segment.size = offset;
+      segment.map = null;
+    }
+  }
+
+  private void index(long position, long timestamp, String key) {
+
+    if (count == positions.length) {
+      positions = Arrays.copyOf(positions, count * 2);
+      timestamps = Arrays.copyOf(timestamps, count * 2);
+      keyHashes = Arrays.copyOf(keyHashes, count * 2);
+    }
+    positions[count] = position;
+    timestamps[count] = timestamp;
+    keyHashes[count] = key.hashCode();
+    count++;
+    if (count * 2 > byKey.length) {
+      int[] old = byKey;
+      byKey = new int[old.length * 2];
+      for (int entry : old) {
+        if (entry != 0) {
+          insert(entry - 1);
+        }
+      }
+    }
+    insert(count - 1);
+  }
+
+  private void insert(int ordinal) {
+
+    int mask = byKey.length - 1;
+    int slot = spread(keyHashes[ordinal]) & mask;
+    while (byKey[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    byKey[slot] = ordinal + 1;
+  }
+
+  private int find(String key) throws IOException {
+
+    int hash = key.hashCode();
+    int mask = byKey.length - 1;
+    for (int slot = spread(hash) & mask; byKey[slot] != 0; slot = (slot + 1) & mask) {
+      int ordinal = byKey[slot] - 1;
+      if (keyHashes[ordinal] == hash && key.equals(input(ordinal).readUTF())) {
+        return ordinal;
+      }
+    }
+    return -1;
+  }
+
+  private static int spread(int hash) {
+
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Merges the ordinals added since the last sort into the sorted ones. */
+  private void sort() {
+
+    if (sortedCount == count) {
+      return;
+    }
+    Integer[] added = new Integer[count - sortedCount];
+    for (int i = 0; i < added.length; i++) {
+      added[i] = sortedCount + i;
+    }
+    Arrays.sort(added, (a, b) -> Long.compare(timestamps[a], timestamps[b]));
+    int[] merged = new int[count];
+    int i = 0;
+    int j = 0;
+    int k = 0;
+    while (i < sortedCount && j < added.length) {
+      merged[k++] = timestamps[added[j]] < timestamps[byTime[i]] ? added[j++] : byTime[i++];
+    }
+    while (i < sortedCount) {
+      merged[k++] = byTime[i++];
+    }
+    while (j < added.length) {
+      merged[k++] = added[j++];
+    }
+    byTime = merged;
+    sortedCount = count;
+  }
+
+  private int lowerBound(long timestamp) {
+
+    int low = 0;
+    int high = sortedCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (timestamps[byTime[mid]] < timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private T read(int ordinal) throws IOException {
+
+    DataInput in = input(ordinal);
+    in.readUTF();
+    return codec.read(in);
+  }
+
+  private DataInput input(int ordinal) throws IOException {
+
+    long position = positions[ordinal];
+    Segment segment = segments.get((int) (position >>> 32));
+    int offset = (int) position;
+    ByteBuffer map = segment.map(offset + HEADER);
+    int length = map.getInt(offset);
+    byte[] payload = new byte[length];
+    ByteBuffer view = segment.map(offset + HEADER + length).duplicate();
+    view.position(offset + HEADER);
+    view.get(payload);
+    return new DataInputStream(new ByteArrayInputStream(payload));
+  }
+
+  /** Writes and reads one type of record. */
+  interface Codec<T> {
+
+    /** @return what identifies the record, so that it is only stored once */
+    String key(T record);
+
+    /** @return the time of the record in milliseconds since the epoch */
+    long timestamp(T record);
+
+    void write(T record, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+  }
+
+  private static final class Segment {
+
+    private final File file;
+    private final FileChannel channel;
+    private long size;
+    private MappedByteBuffer map;
+
+    private Segment(File file) throws IOException {
+
+      this.file = file;
+      this.channel =
+          FileChannel.open(
+              file.toPath(),
+              StandardOpenOption.CREATE,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      this.size = channel.size();
+    }
+
+    /** @return a map of the segment which covers at least the given length */
+    private MappedByteBuffer map(long length) throws IOException {
+
+      if (map == null || map.capacity() < length) {
+        map = channel.map(MapMode.READ_ONLY, 0, size);
+      }
+      return map;
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package org.knowm.xchange.store;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.trade.TradeHistoryIterator;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsIdSpan;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsTimeSpan;
+
+/**
+ * The stored trade and funding history of one exchange, account and currency pair, from a {@link
+ * TradeHistoryStore}.
+ *
+ * <p>Records are identified by their IDs, so adding a record again, as happens when a sync overlaps
+ * what is already stored, does nothing. Trades without IDs are identified by their time, order,
+ * price and amount; funding records by their internal ID or transaction hash. Trades are stored as
+ * {@link UserTrade}s, without the fields of exchange specific subclasses.
+ */
+public final class TradeHistoryPartition {
+
+  /** The number of trades added to the store at once while syncing. */
+  private static final int SYNC_BATCH = 1000;
+
+  private final RecordLog<UserTrade> trades;
+  private final RecordLog<FundingRecord> fundingRecords;
+
+  /** Where an unfinished trade sync started from, while there is one. */
+  private final File syncStart;
+
+  TradeHistoryPartition(File directory, long segmentSize) throws IOException {
+
+    this.trades =
+        new RecordLog<>(new File(directory, "trades"), RecordCodecs.USER_TRADE, segmentSize);
+    this.fundingRecords =
+        new RecordLog<>(new File(directory, "funding"), RecordCodecs.FUNDING_RECORD, segmentSize);
+    this.syncStart = new File(directory, "trades.sync");
+  }
+
+  /**
+   * Fetches the trades since the latest stored, or the whole history if there are none, and adds
+   * them. The params are moved on to the latest stored trade: by start time if they have a {@link
+   * TradeHistoryParamsTimeSpan}, otherwise by start ID if they have a {@link
+   * TradeHistoryParamsIdSpan}. The pages are read by a {@link TradeHistoryIterator}, so the
+   * exchange's trade service must offer a cursor.
+   *
+   * <p>Trades are added as they arrive. If a sync fails part way, the next starts again from where
+   * the failed one did, since an exchange which pages back from the most recent trade leaves a gap
+   * behind the trades it has sent so far.
+   *
+   * @param exchange the exchange
+   * @param params the params of the first page, which are changed
+   * @return the number of trades added
+   */
+  public int syncTrades(Exchange exchange, TradeHistoryParams params) throws IOException {
+
+    UserTrade from = readSyncStart();
+    if (from == null) {
+      from = trades.latest();
+      writeSyncStart(from);
+    }
+    TradeHistoryIterator.Builder builder = TradeHistoryIterator.from(exchange, params);
+    if (from != null && from.getTimestamp() != null) {
+      if (params instanceof TradeHistoryParamsTimeSpan) {
+        ((TradeHistoryParamsTimeSpan) params).setStartTime(from.getTimestamp());
+      } else if (params instanceof TradeHistoryParamsIdSpan) {
+        ((TradeHistoryParamsIdSpan) params).setStartId(from.getId());
+      }
+      builder.since(from.getTimestamp());
+    }
+
+    int added = 0;
+    List<UserTrade> batch = new ArrayList<>(SYNC_BATCH);
+    try (TradeHistoryIterator iterator = builder.build()) {
+      while (iterator.hasNext()) {
+        batch.add(iterator.next());
+        if (batch.size() == SYNC_BATCH) {
+          added += trades.append(batch);
+          batch.clear();
+        }
+      }
+    } finally {
+      added += trades.append(batch);
+    }
+    trades.force();
+    Files.delete(syncStart.toPath());
+    return added;
+  }
+
+  /**
+   * Fetches the funding history since the latest stored record, or all of it if there are none, and
+   * adds it. If the params have a {@link TradeHistoryParamsTimeSpan}, the start time is moved on to
+   * the latest stored record.
+   *
+   * @param accountService the exchange's account service
+   * @param params the params, which are changed
+   * @return the number of records added
+   */
+  public int syncFundingRecords(AccountService accountService, TradeHistoryParams params)
+      throws IOException {
+
+    FundingRecord latest = fundingRecords.latest();
+    if (latest != null
+        && latest.getDate() != null
+        && params instanceof TradeHistoryParamsTimeSpan) {
+      ((TradeHistoryParamsTimeSpan) params).setStartTime(latest.getDate());
+    }
+    int added = fundingRecords.append(accountService.getFundingHistory(params));
+    fundingRecords.force();
+    return added;
+  }
+
+  /** @return the number of trades added which were not already stored */
+  public int addTrades(Collection<? extends UserTrade> userTrades) throws IOException {
+
+    return trades.append(userTrades);
+  }
+
+  /** @return the number of records added which were not already stored */
+  public int addFundingRecords(Collection<FundingRecord> records) throws IOException {
+
+    return fundingRecords.append(records);
+  }
+
+  /** @return the trade with the ID, or null if it is not stored */
+  public UserTrade getTrade(String id) throws IOException {
+
+    return trades.get(id);
+  }
+
+  /**
+   * @param from the earliest time, inclusive, or null for the first trade
+   * @param to the latest time, inclusive, or null for the last trade
+   * @return the stored trades in the range, by time
+   */
+  public List<UserTrade> getTrades(Date from, Date to) throws IOException {
+
+    return trades.range(from(from), to(to));
+  }
+
+  /** @return the stored trade with the latest time, or null if there are none */
+  public UserTrade getLatestTrade() throws IOException {
+
+    return trades.latest();
+  }
+
+  /** @return the number of stored trades */
+  public int getTradeCount() {
+
+    return trades.size();
+  }
+
+  /**
+   * @param from the earliest time, inclusive, or null for the first record
+   * @param to the latest time, inclusive, or null for the last record
+   * @return the stored funding records in the range, by time
+   */
+  public List<FundingRecord> getFundingRecords(Date from, Date to) throws IOException {
+
+    return fundingRecords.range(from(from), to(to));
+  }
+
+  /** @return the stored funding record with the latest time, or null if there are none */
+  public FundingRecord getLatestFundingRecord() throws IOException {
+
+    return fundingRecords.latest();
+  }
+
+  /** @return the number of stored funding records */
+  public int getFundingRecordCount() {
+
+    return fundingRecords.size();
+  }
+
+  /** Forces the records added to the disk. */
+  public void flush() throws IOException {
+
+    trades.force();
+    fundingRecords.force();
+  }
+
+  void close() throws IOException {
+
+    try {
+      trades.close();
+    } finally {
+      fundingRecords.close();
+    }
+  }
+
+  /** @return the start of an unfinished sync, an empty trade if it was from the beginning */
+  private UserTrade readSyncStart() throws IOException {
+
+    if (!syncStart.exists()) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new FileInputStream(syncStart))) {
+      long timestamp = in.readLong();
+      String id = in.readBoolean() ? in.readUTF() : null;
+      return new UserTrade.Builder()
+          .timestamp(timestamp == Trade.NO_TIMESTAMP ? null : new Date(timestamp))
+          .id(id)
+          .build();
+    }
+  }
+
+  private void writeSyncStart(UserTrade from) throws IOException {
+
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(syncStart))) {
+      out.writeLong(from == null ? Trade.NO_TIMESTAMP : from.getTimestampMillis());
+      out.writeBoolean(from != null && from.getId() != null);
+      if (from != null && from.getId() != null) {
+        out.writeUTF(from.getId());
+      }
+    }
+  }
+
+  private static long from(Date from) {
+
+    return from == null ? Long.MIN_VALUE : from.getTime();
+  }
+
+  private static long to(Date to) {
+
+    return to == null ? Long.MAX_VALUE : to.getTime();
+  }
+}
@@ -0,0 +1,141 @@
+package org.knowm.xchange.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/**
+ * A local, append-only store of {@link org.knowm.xchange.dto.trade.UserTrade}s and {@link
+ * org.knowm.xchange.dto.account.FundingRecord}s, so that a history downloaded once need only be
+ * brought up to date, and can be queried without calling the exchange.
+ *
+ * <p>The store is a directory with a {@link TradeHistoryPartition} for each exchange, account and
+ * currency pair. A store may only be open once at a time.
+ *
+ * <pre>{@code
+ * try (TradeHistoryStore store = TradeHistoryStore.open(new File("history"))) {
+ *   TradeHistoryPartition partition = store.partition(exchange, "main", CurrencyPair.BTC_USD);
+ *   partition.syncTrades(exchange, params);
+ *   List<UserTrade> lastMonth = partition.getTrades(monthAgo, null);
+ * }
+ * }</pre>
+ */
+public final class TradeHistoryStore implements AutoCloseable {
+
+  /** The size at which a segment file is closed and another begun. */
+  static final long SEGMENT_SIZE = 64L << 20;
+
+  private final File directory;
+  private final FileChannel lockChannel;
+  private final FileLock lock;
+  private final Map<File, TradeHistoryPartition> partitions = new HashMap<>();
+
+  private TradeHistoryStore(File directory, FileChannel lockChannel, FileLock lock) {
+
+    this.directory = directory;
+    this.lockChannel = lockChannel;
+    this.lock = lock;
+  }
+
+  /**
+   * @param directory the directory of the store, which is created if need be
+   * @return the store
+   * @throws IOException if the store cannot be created, or is already open
+   */
+  public static TradeHistoryStore open(File directory) throws IOException {
+
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Cannot create " + directory);
+    }
+    FileChannel channel =
+        FileChannel.open(
+            new File(directory, "lock").toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null;
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    if (lock == null) {
+      channel.close();
+      throw new IOException(directory + " is in use");
+    }
+    return new TradeHistoryStore(directory, channel, lock);
+  }
+
+  /**
+   * @param exchange the exchange, by its {@link
+   *     org.knowm.xchange.ExchangeSpecification#getExchangeName()}
+   * @param account distinguishes accounts on the exchange, or null if there is one
+   * @param currencyPair the pair, or null for the history of all pairs, or of funding
+   * @return the partition
+   */
+  public TradeHistoryPartition partition(
+      Exchange exchange, String account, CurrencyPair currencyPair) throws IOException {
+
+    return partition(exchange.getExchangeSpecification().getExchangeName(), account, currencyPair);
+  }
+
+  /**
+   * @param exchangeName names the exchange
+   * @param account distinguishes accounts on the exchange, or null if there is one
+   * @param currencyPair the pair, or null for the history of all pairs, or of funding
+   * @return the partition
+   */
+  public synchronized TradeHistoryPartition partition(
+      String exchangeName, String account, CurrencyPair currencyPair) throws IOException {
+
+    if (!lock.isValid()) {
+      throw new IllegalStateException("The store is closed");
+    }
+    File partitionDirectory =
+        new File(
+            new File(
+                new File(directory, name(exchangeName)),
+                name(account == null ? "default" : account)),
+            currencyPair == null
+                ? "all"
+                : name(
+                    currencyPair.base.getCurrencyCode()
+                        + "-"
+                        + currencyPair.counter.getCurrencyCode()));
+    TradeHistoryPartition partition = partitions.get(partitionDirectory);
+    if (partition == null) {
+      partition = new TradeHistoryPartition(partitionDirectory, SEGMENT_SIZE);
+      partitions.put(partitionDirectory, partition);
+    }
+    return partition;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+
+    try {
+      for (TradeHistoryPartition partition : partitions.values()) {
+        partition.close();
+      }
+      partitions.clear();
+    } finally {
+      lock.release();
+      lockChannel.close();
+    }
+  }
+
+  /** @return the name as a file name, on any file system */
+  private static String name(String name) {
+
+    return name.replaceAll("[^A-Za-z0-9._-]", "_");
+  }
+}
@@ -16,6 +16,15 @@ import java.util.TimeZone;
  */
 public class DateUtils {
 
+  private static final long INVALID = Long.MIN_VALUE;
+
+  private static final String[] MONTHS = {
+    "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+  };
+
+  /** From Monday, so the epoch, a Thursday, is at 3. */
+  private static final String[] DAYS_OF_WEEK = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
   /** private Constructor */
   private DateUtils() {}
 
@@ -53,14 +62,33 @@ public class DateUtils {
   public static Date fromISODateString(String isoFormattedDate)
       throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
 
+    return new Date(millisFromISODateString(isoFormattedDate));
+  }
+
+  /**
+   * As {@link #fromISODateString(String)}, in milliseconds since the epoch.
+   *
+   * @param isoFormattedDate
+   * @return milliseconds since the epoch
+   * @throws com.fasterxml.jackson.databind.exc.InvalidFormatException
+   */
+  public static long millisFromISODateString(String isoFormattedDate)
+      throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
+
+    if (isoFormattedDate != null
+        && isoFormattedDate.length() >= 24
+        && isoFormattedDate.charAt(19) == '.'
+        && isoFormattedDate.charAt(23) == 'Z') {
+      int millis = digits(isoFormattedDate, 20, 3);
+      long seconds = isoSeconds(isoFormattedDate, 'T');
+      if (millis >= 0 && seconds != INVALID) {
+        return seconds * 1000 + millis;
+      }
+    }
     SimpleDateFormat isoDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
     // set UTC time zone - 'Z' indicates it
     isoDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-    try {
-      return isoDateFormat.parse(isoFormattedDate);
-    } catch (ParseException e) {
-      throw new InvalidFormatException("Error parsing as date", isoFormattedDate, Date.class);
-    }
+    return parse(isoDateFormat, isoFormattedDate);
   }
 
   /**
@@ -74,14 +102,32 @@ public class DateUtils {
   public static Date fromISO8601DateString(String iso8601FormattedDate)
       throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
 
+    return new Date(millisFromISO8601DateString(iso8601FormattedDate));
+  }
+
+  /**
+   * As {@link #fromISO8601DateString(String)}, in milliseconds since the epoch.
+   *
+   * @param iso8601FormattedDate
+   * @return milliseconds since the epoch
+   * @throws com.fasterxml.jackson.databind.exc.InvalidFormatException
+   */
+  public static long millisFromISO8601DateString(String iso8601FormattedDate)
+      throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
+
+    // anything after the seconds is ignored, as SimpleDateFormat does, unless it is more digits
+    if (iso8601FormattedDate != null
+        && iso8601FormattedDate.length() >= 19
+        && (iso8601FormattedDate.length() == 19 || !isDigit(iso8601FormattedDate.charAt(19)))) {
+      long seconds = isoSeconds(iso8601FormattedDate, 'T');
+      if (seconds != INVALID) {
+        return seconds * 1000;
+      }
+    }
     SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
     // set UTC time zone
     iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC"));
-    try {
-      return iso8601Format.parse(iso8601FormattedDate);
-    } catch (ParseException e) {
-      throw new InvalidFormatException("Error parsing as date", iso8601FormattedDate, Date.class);
-    }
+    return parse(iso8601Format, iso8601FormattedDate);
   }
 
   /**
@@ -95,13 +141,44 @@ public class DateUtils {
   public static Date fromRfc1123DateString(String rfc1123FormattedDate, Locale locale)
       throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
 
+    return new Date(millisFromRfc1123DateString(rfc1123FormattedDate, locale));
+  }
+
+  /**
+   * As {@link #fromRfc1123DateString(String, Locale)}, in milliseconds since the epoch.
+   *
+   * @param rfc1123FormattedDate
+   * @return milliseconds since the epoch
+   * @throws com.fasterxml.jackson.databind.exc.InvalidFormatException
+   */
+  public static long millisFromRfc1123DateString(String rfc1123FormattedDate, Locale locale)
+      throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
+
+    // English names in GMT, as in HTTP headers, are read directly
+    if (rfc1123FormattedDate != null
+        && Locale.ENGLISH.getLanguage().equals(locale.getLanguage())
+        && rfc1123FormattedDate.length() >= 29
+        && rfc1123FormattedDate.startsWith(", ", 3)
+        && rfc1123FormattedDate.charAt(7) == ' '
+        && rfc1123FormattedDate.charAt(11) == ' '
+        && rfc1123FormattedDate.charAt(16) == ' '
+        && rfc1123FormattedDate.startsWith(" GMT", 25)
+        && (rfc1123FormattedDate.length() == 29
+            || (rfc1123FormattedDate.charAt(29) != '+'
+                && rfc1123FormattedDate.charAt(29) != '-'))) {
+      int year = digits(rfc1123FormattedDate, 12, 4);
+      int month = indexOf(MONTHS, rfc1123FormattedDate, 8) + 1;
+      int day = digits(rfc1123FormattedDate, 5, 2);
+      long seconds = seconds(rfc1123FormattedDate, 17, ':', year, month, day);
+      if (seconds != INVALID
+          && indexOf(DAYS_OF_WEEK, rfc1123FormattedDate, 0)
+              == (int) Math.floorMod(Math.floorDiv(seconds, 86400) + 3, 7)) {
+        return seconds * 1000;
+      }
+    }
     SimpleDateFormat rfc1123DateFormat =
         new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", locale);
-    try {
-      return rfc1123DateFormat.parse(rfc1123FormattedDate);
-    } catch (ParseException e) {
-      throw new InvalidFormatException("Error parsing as date", rfc1123FormattedDate, Date.class);
-    }
+    return parse(rfc1123DateFormat, rfc1123FormattedDate);
   }
 
   /**
@@ -115,12 +192,144 @@ public class DateUtils {
   public static Date fromRfc3339DateString(String rfc3339FormattedDate)
       throws InvalidFormatException {
 
+    return new Date(millisFromRfc3339DateString(rfc3339FormattedDate));
+  }
+
+  /**
+   * As {@link #fromRfc3339DateString(String)}, in milliseconds since the epoch. The date is read in
+   * the default time zone.
+   *
+   * @param rfc3339FormattedDate RFC3339 formatted Date
+   * @return milliseconds since the epoch
+   * @throws InvalidFormatException the RFC3339 formatted Date is invalid or cannot be parsed.
+   */
+  public static long millisFromRfc3339DateString(String rfc3339FormattedDate)
+      throws InvalidFormatException {
+
+    if (rfc3339FormattedDate != null
+        && rfc3339FormattedDate.length() >= 19
+        && (rfc3339FormattedDate.length() == 19 || !isDigit(rfc3339FormattedDate.charAt(19)))) {
+      long seconds = isoSeconds(rfc3339FormattedDate, ' ');
+      if (seconds != INVALID) {
+        // as Calendar resolves local times: in standard time unless only daylight time fits
+        TimeZone zone = TimeZone.getDefault();
+        long local = seconds * 1000;
+        long standard = local - zone.getRawOffset();
+        int offset = zone.getOffset(standard);
+        if (offset != zone.getRawOffset() && zone.getOffset(local - offset) == offset) {
+          return local - offset;
+        }
+        return standard;
+      }
+    }
     SimpleDateFormat rfc3339DateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    return parse(rfc3339DateFormat, rfc3339FormattedDate);
+  }
+
+  private static long parse(SimpleDateFormat format, String value) throws InvalidFormatException {
+
     try {
-      return rfc3339DateFormat.parse(rfc3339FormattedDate);
+      return format.parse(value).getTime();
     } catch (ParseException e) {
-      throw new InvalidFormatException("Error parsing as date", rfc3339FormattedDate, Date.class);
+      throw new InvalidFormatException("Error parsing as date", value, Date.class);
+    }
+  }
+
+  /**
+   * Reads yyyy-MM-dd?HH:mm:ss from the start of the text, with the given separator between the date
+   * and time.
+   *
+   * @return seconds since the epoch, or {@link #INVALID} if the text does not strictly match
+   */
+  private static long isoSeconds(String text, char separator) {
+
+    if (text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != separator) {
+      return INVALID;
+    }
+    return seconds(text, 11, ':', digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+  }
+
+  /**
+   * Reads HH:mm:ss at the given index, on the given date.
+   *
+   * <p>Only dates and times SimpleDateFormat would read the same way are accepted: Gregorian years
+   * with every field in range. Anything else is left to SimpleDateFormat.
+   *
+   * @return seconds since the epoch, or {@link #INVALID} if anything is out of range
+   */
+  private static long seconds(
+      String text, int index, char separator, int year, int month, int day) {
+
+    if (text.charAt(index + 2) != separator || text.charAt(index + 5) != separator) {
+      return INVALID;
+    }
+    int hour = digits(text, index, 2);
+    int minute = digits(text, index + 3, 2);
+    int second = digits(text, index + 6, 2);
+    if (year < 1600
+        || month < 1
+        || month > 12
+        || day < 1
+        || day > daysInMonth(year, month)
+        || hour < 0
+        || hour > 23
+        || minute < 0
+        || minute > 59
+        || second < 0
+        || second > 59) {
+      return INVALID;
+    }
+    return ((epochDay(year, month, day) * 24 + hour) * 60 + minute) * 60 + second;
+  }
+
+  /** @return the number the digits at the index make, or -1 if they are not all digits */
+  private static int digits(String text, int index, int count) {
+
+    int result = 0;
+    for (int i = index; i < index + count; i++) {
+      char c = text.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  private static boolean isDigit(char c) {
+
+    return c >= '0' && c <= '9';
+  }
+
+  /** @return the index of the name which the text has at the index, or -1 if none */
+  private static int indexOf(String[] names, String text, int index) {
+
+    for (int i = 0; i < names.length; i++) {
+      if (text.startsWith(names[i], index)) {
+        return i;
+      }
     }
+    return -1;
+  }
+
+  private static int daysInMonth(int year, int month) {
+
+    if (month == 2) {
+      return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+    }
+    return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+  }
+
+  /** @return days since the epoch of a date in the proleptic Gregorian calendar */
+  private static long epochDay(int year, int month, int day) {
+
+    // counting from March, so that leap days fall at the end of each year
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400);
+    long yearOfEra = y - era * 400;
+    long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
   }
 
   /** Convert java time long to unix time long, simply by dividing by 1000 */
@@ -2,15 +2,82 @@ package org.knowm.xchange.utils;
 
 public class DigestUtils {
 
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  private static final char[] BASE64 =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
   public static String bytesToHex(byte[] bytes) {
 
-    char[] hexArray = "0123456789abcdef".toCharArray();
     char[] hexChars = new char[bytes.length * 2];
-    for (int j = 0; j < bytes.length; j++) {
-      int v = bytes[j] & 0xFF;
-      hexChars[j * 2] = hexArray[v >>> 4];
-      hexChars[j * 2 + 1] = hexArray[v & 0x0F];
-    }
+    toHex(bytes, 0, bytes.length, hexChars, 0);
     return new String(hexChars);
   }
+
+  /**
+   * Writes the lower case hex representation of bytes into a buffer.
+   *
+   * @param bytes the source
+   * @param offset the offset of the first byte to encode
+   * @param length the number of bytes to encode
+   * @param out the target, with room for {@code 2 * length} chars from {@code outOffset}
+   * @param outOffset the offset at which to start writing
+   * @return the number of chars written
+   */
+  public static int toHex(byte[] bytes, int offset, int length, char[] out, int outOffset) {
+
+    for (int j = 0; j < length; j++) {
+      int v = bytes[offset + j] & 0xFF;
+      out[outOffset + j * 2] = HEX[v >>> 4];
+      out[outOffset + j * 2 + 1] = HEX[v & 0x0F];
+    }
+    return length * 2;
+  }
+
+  /**
+   * Writes the padded standard Base64 representation of bytes into a buffer, as {@link
+   * java.util.Base64#getEncoder()} would.
+   *
+   * @param bytes the source
+   * @param offset the offset of the first byte to encode
+   * @param length the number of bytes to encode
+   * @param out the target, with room for {@link #base64Length(int)} chars from {@code outOffset}
+   * @param outOffset the offset at which to start writing
+   * @return the number of chars written
+   */
+  public static int toBase64(byte[] bytes, int offset, int length, char[] out, int outOffset) {
+
+    int end = offset + length;
+    int i = offset;
+    int o = outOffset;
+    while (end - i >= 3) {
+      int bits = (bytes[i++] & 0xFF) << 16 | (bytes[i++] & 0xFF) << 8 | (bytes[i++] & 0xFF);
+      out[o++] = BASE64[bits >>> 18];
+      out[o++] = BASE64[(bits >>> 12) & 0x3F];
+      out[o++] = BASE64[(bits >>> 6) & 0x3F];
+      out[o++] = BASE64[bits & 0x3F];
+    }
+    if (i < end) {
+      int b0 = bytes[i++] & 0xFF;
+      out[o++] = BASE64[b0 >>> 2];
+      if (i < end) {
+        int b1 = bytes[i] & 0xFF;
+        out[o++] = BASE64[(b0 << 4) & 0x3F | b1 >>> 4];
+        out[o++] = BASE64[(b1 << 2) & 0x3F];
+      } else {
+        out[o++] = BASE64[(b0 << 4) & 0x3F];
+        out[o++] = '=';
+      }
+      out[o++] = '=';
+    }
+    return o - outOffset;
+  }
+
+  /**
+   * @param length a number of bytes
+   * @return the number of chars in their padded Base64 representation
+   */
+  public static int base64Length(int length) {
+
+    return (length + 2) / 3 * 4;
+  }
 }
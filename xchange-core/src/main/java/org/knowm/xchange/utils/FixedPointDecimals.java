@@ -0,0 +1,298 @@
+package org.knowm.xchange.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Helpers for working with fixed point decimals represented as a {@code long} mantissa and an
+ * implied scale, so that {@code mantissa = value * 10^scale}. For prices the scale is normally
+ * {@link org.knowm.xchange.dto.meta.CurrencyPairMetaData#getPriceScale()} and for amounts {@link
+ * org.knowm.xchange.dto.meta.CurrencyPairMetaData#getBaseScale()}.
+ *
+ * <p>Mantissas of the same scale compare and add as plain longs, which avoids the allocation of
+ * {@link BigDecimal} arithmetic on hot paths. None of the parse methods allocate.
+ */
+public final class FixedPointDecimals {
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private FixedPointDecimals() {}
+
+  /**
+   * Parses a decimal string such as {@code "-123.4500"} or {@code "1.5e-3"}.
+   *
+   * @param value the text
+   * @param scale the number of implied decimal places in the result
+   * @return the mantissa
+   * @throws NumberFormatException if the text is not a decimal number
+   * @throws ArithmeticException if the value has more significant decimal places than {@code scale}
+   *     or does not fit in a long at that scale
+   */
+  public static long parse(CharSequence value, int scale) {
+
+    int length = value.length();
+    if (length == 0) {
+      throw new NumberFormatException("Empty decimal");
+    }
+    boolean negative = false;
+    long mantissa = 0;
+    int pendingZeros = 0;
+    int fractionDigits = -1;
+    int exponent = 0;
+    boolean anyDigits = false;
+    int i = 0;
+    char first = value.charAt(0);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+    }
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= '0' && c <= '9') {
+        anyDigits = true;
+        if (fractionDigits >= 0) {
+          fractionDigits++;
+        }
+        if (c == '0') {
+          pendingZeros++;
+        } else {
+          mantissa = appendDigit(scaleUp(mantissa, pendingZeros), c - '0');
+          pendingZeros = 0;
+        }
+      } else if (c == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+      } else if ((c == 'e' || c == 'E') && anyDigits) {
+        exponent = parseExponent(value, i + 1, length);
+        break;
+      } else {
+        throw new NumberFormatException("Invalid decimal: " + value);
+      }
+    }
+    if (!anyDigits) {
+      throw new NumberFormatException("Invalid decimal: " + value);
+    }
+    return finish(negative, mantissa, pendingZeros, fractionDigits, exponent, scale);
+  }
+
+  /**
+   * Parses a decimal held in a character buffer, as returned by {@link
+   * com.fasterxml.jackson.core.JsonParser#getTextCharacters()}.
+   *
+   * @param chars the buffer
+   * @param offset the offset of the first character of the number
+   * @param length the number of characters
+   * @param scale the number of implied decimal places in the result
+   * @return the mantissa
+   * @see #parse(CharSequence, int)
+   */
+  public static long parse(char[] chars, int offset, int length, int scale) {
+
+    if (length == 0) {
+      throw new NumberFormatException("Empty decimal");
+    }
+    int end = offset + length;
+    boolean negative = false;
+    long mantissa = 0;
+    int pendingZeros = 0;
+    int fractionDigits = -1;
+    int exponent = 0;
+    boolean anyDigits = false;
+    int i = offset;
+    char first = chars[offset];
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+    }
+    for (; i < end; i++) {
+      char c = chars[i];
+      if (c >= '0' && c <= '9') {
+        anyDigits = true;
+        if (fractionDigits >= 0) {
+          fractionDigits++;
+        }
+        if (c == '0') {
+          pendingZeros++;
+        } else {
+          mantissa = appendDigit(scaleUp(mantissa, pendingZeros), c - '0');
+          pendingZeros = 0;
+        }
+      } else if (c == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+      } else if ((c == 'e' || c == 'E') && anyDigits) {
+        exponent = parseExponent(chars, i + 1, end);
+        break;
+      } else {
+        throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+      }
+    }
+    if (!anyDigits) {
+      throw new NumberFormatException("Invalid decimal: " + new String(chars, offset, length));
+    }
+    return finish(negative, mantissa, pendingZeros, fractionDigits, exponent, scale);
+  }
+
+  /**
+   * @param value the value
+   * @param scale the number of implied decimal places in the result
+   * @return the mantissa of value at the given scale
+   * @throws ArithmeticException if the value cannot be represented exactly at that scale
+   */
+  public static long fromBigDecimal(BigDecimal value, int scale) {
+
+    return value.setScale(scale).unscaledValue().longValueExact();
+  }
+
+  /**
+   * @param mantissa the mantissa
+   * @param scale its scale
+   * @return the equivalent BigDecimal
+   */
+  public static BigDecimal toBigDecimal(long mantissa, int scale) {
+
+    return BigDecimal.valueOf(mantissa, scale);
+  }
+
+  /**
+   * Changes the scale of a mantissa.
+   *
+   * @param mantissa the mantissa
+   * @param fromScale its current scale
+   * @param toScale the required scale
+   * @return the mantissa at the new scale
+   * @throws ArithmeticException if precision would be lost or the result overflows
+   */
+  public static long rescale(long mantissa, int fromScale, int toScale) {
+
+    if (toScale >= fromScale) {
+      return scaleUp(mantissa, toScale - fromScale);
+    }
+    return scaleDown(mantissa, fromScale - toScale);
+  }
+
+  /**
+   * Appends the plain decimal representation of a mantissa without allocating intermediate strings.
+   *
+   * @param sb the target
+   * @param mantissa the mantissa
+   * @param scale its scale
+   * @return sb
+   */
+  public static StringBuilder append(StringBuilder sb, long mantissa, int scale) {
+
+    if (scale <= 0 || scale >= POWERS_OF_TEN.length || mantissa == Long.MIN_VALUE) {
+      return sb.append(BigDecimal.valueOf(mantissa, scale).toPlainString());
+    }
+    if (mantissa < 0) {
+      sb.append('-');
+      mantissa = -mantissa;
+    }
+    long unit = POWERS_OF_TEN[scale];
+    sb.append(mantissa / unit).append('.');
+    long fraction = mantissa % unit;
+    for (int digit = scale - 1; digit >= 0; digit--) {
+      sb.append((char) ('0' + fraction / POWERS_OF_TEN[digit] % 10));
+    }
+    return sb;
+  }
+
+  /**
+   * @param mantissa the mantissa
+   * @param scale its scale
+   * @return the plain decimal representation
+   */
+  public static String toString(long mantissa, int scale) {
+
+    return append(new StringBuilder(24), mantissa, scale).toString();
+  }
+
+  private static long finish(
+      boolean negative,
+      long mantissa,
+      int pendingZeros,
+      int fractionDigits,
+      int exponent,
+      int scale) {
+
+    // value = mantissa * 10^pendingZeros * 10^(exponent - fractionDigits)
+    long shift = (long) pendingZeros + exponent - Math.max(fractionDigits, 0) + (long) scale;
+    long result = shift >= 0 ? scaleUp(mantissa, shift) : scaleDown(mantissa, -shift);
+    return negative ? -result : result;
+  }
+
+  private static long appendDigit(long mantissa, int digit) {
+
+    return Math.addExact(Math.multiplyExact(mantissa, 10L), digit);
+  }
+
+  private static long scaleUp(long mantissa, long digits) {
+
+    if (mantissa == 0 || digits == 0) {
+      return mantissa;
+    }
+    if (digits >= POWERS_OF_TEN.length) {
+      throw new ArithmeticException("Fixed point overflow");
+    }
+    return Math.multiplyExact(mantissa, POWERS_OF_TEN[(int) digits]);
+  }
+
+  private static long scaleDown(long mantissa, long digits) {
+
+    if (mantissa == 0) {
+      return 0;
+    }
+    if (digits >= POWERS_OF_TEN.length || mantissa % POWERS_OF_TEN[(int) digits] != 0) {
+      throw new ArithmeticException("Rounding necessary");
+    }
+    return mantissa / POWERS_OF_TEN[(int) digits];
+  }
+
+  private static int parseExponent(CharSequence value, int start, int end) {
+
+    boolean negative = false;
+    int i = start;
+    if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+      negative = value.charAt(i) == '-';
+      i++;
+    }
+    if (i == end) {
+      throw new NumberFormatException("Invalid decimal: " + value);
+    }
+    int exponent = 0;
+    for (; i < end; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9' || exponent > 1000) {
+        throw new NumberFormatException("Invalid decimal: " + value);
+      }
+      exponent = exponent * 10 + (c - '0');
+    }
+    return negative ? -exponent : exponent;
+  }
+
+  private static int parseExponent(char[] chars, int start, int end) {
+
+    boolean negative = false;
+    int i = start;
+    if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+      negative = chars[i] == '-';
+      i++;
+    }
+    if (i == end) {
+      throw new NumberFormatException("Invalid decimal exponent");
+    }
+    int exponent = 0;
+    for (; i < end; i++) {
+      char c = chars[i];
+      if (c < '0' || c > '9' || exponent > 1000) {
+        throw new NumberFormatException("Invalid decimal exponent");
+      }
+      exponent = exponent * 10 + (c - '0');
+    }
+    return negative ? -exponent : exponent;
+  }
+}
@@ -0,0 +1,123 @@
+package org.knowm.xchange.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads order book levels straight from JSON tokens as {@link BigDecimal}s, without building a
+ * {@link com.fasterxml.jackson.databind.JsonNode} tree or intermediate strings. Depth DTOs use
+ * this, usually through a {@link LevelsDeserializer}, to bind arrays of {@code [price, amount,
+ * ...]} tuples. See {@link FixedPointLevelsReader} to avoid the {@link BigDecimal}s too.
+ */
+public final class DecimalLevelsReader {
+
+  private DecimalLevelsReader() {}
+
+  /**
+   * Creates one level of an order book.
+   *
+   * @param <T> the type of the level
+   */
+  @FunctionalInterface
+  public interface LevelFactory<T> {
+
+    /**
+     * @param price the price
+     * @param amount the amount
+     * @param timestamp the third element of the tuple if it is a number, otherwise 0
+     * @return the level
+     */
+    T create(BigDecimal price, BigDecimal amount, long timestamp);
+  }
+
+  /**
+   * Reads the current token, which may be a JSON string or number, as a decimal.
+   *
+   * @param parser the parser, positioned on the value
+   * @return the decimal, or null if the value is null or an empty string
+   */
+  public static BigDecimal readDecimal(JsonParser parser) throws IOException {
+
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token != JsonToken.VALUE_STRING
+        && token != JsonToken.VALUE_NUMBER_INT
+        && token != JsonToken.VALUE_NUMBER_FLOAT) {
+      throw new JsonParseException(parser, "Expected a decimal but found " + token);
+    }
+    char[] chars = parser.getTextCharacters();
+    int length = parser.getTextLength();
+    if (length == 0) {
+      return null;
+    }
+    try {
+      return chars == null
+          ? parser.getDecimalValue()
+          : new BigDecimal(chars, parser.getTextOffset(), length);
+    } catch (NumberFormatException e) {
+      throw new JsonParseException(parser, "Not a decimal: " + parser.getText(), e);
+    }
+  }
+
+  /**
+   * Reads one {@code [price, amount, ...]} tuple. Elements after the amount are skipped, except
+   * that a numeric third element is passed on as the level's timestamp.
+   *
+   * @param parser the parser, positioned on the {@link JsonToken#START_ARRAY} of the tuple
+   * @param factory creates the level
+   * @return the level
+   */
+  public static <T> T readLevel(JsonParser parser, LevelFactory<T> factory) throws IOException {
+
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new JsonParseException(parser, "Expected a level but found " + parser.currentToken());
+    }
+    parser.nextToken();
+    BigDecimal price = readDecimal(parser);
+    parser.nextToken();
+    BigDecimal amount = readDecimal(parser);
+    long timestamp = 0;
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      timestamp = parser.getValueAsLong();
+    }
+    while (token != JsonToken.END_ARRAY) {
+      if (token == null) {
+        throw new JsonParseException(parser, "Unexpected end of input");
+      }
+      parser.skipChildren();
+      token = parser.nextToken();
+    }
+    return factory.create(price, amount, timestamp);
+  }
+
+  /**
+   * Reads an array of {@code [price, amount, ...]} tuples, as {@link #readLevel}.
+   *
+   * @param parser the parser, positioned on the {@link JsonToken#START_ARRAY} of the levels
+   * @param factory creates each level
+   * @return the levels, in the order they were read
+   */
+  public static <T> List<T> readLevels(JsonParser parser, LevelFactory<T> factory)
+      throws IOException {
+
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new JsonParseException(parser, "Expected an array of levels");
+    }
+    List<T> levels = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.START_ARRAY) {
+      levels.add(readLevel(parser, factory));
+    }
+    if (parser.currentToken() != JsonToken.END_ARRAY) {
+      throw new JsonParseException(parser, "Expected a level but found " + parser.currentToken());
+    }
+    return levels;
+  }
+}
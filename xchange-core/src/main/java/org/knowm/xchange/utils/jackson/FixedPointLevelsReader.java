@@ -0,0 +1,83 @@
+package org.knowm.xchange.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
+import org.knowm.xchange.utils.FixedPointDecimals;
+
+/**
+ * Reads order book levels straight from JSON tokens into a {@link ScaledOrderBook}, without
+ * building a tree, strings or {@link java.math.BigDecimal}s. Exchange adapters use this to
+ * implement allocation-free depth parsing for their own payload layouts.
+ */
+public final class FixedPointLevelsReader {
+
+  private FixedPointLevelsReader() {}
+
+  /**
+   * Reads the current token, which may be a JSON string or number, as a fixed point decimal.
+   *
+   * @param parser the parser, positioned on the value
+   * @param scale the scale of the result
+   * @return the mantissa
+   */
+  public static long readDecimal(JsonParser parser, int scale) throws IOException {
+
+    JsonToken token = parser.currentToken();
+    if (token != JsonToken.VALUE_STRING
+        && token != JsonToken.VALUE_NUMBER_INT
+        && token != JsonToken.VALUE_NUMBER_FLOAT) {
+      throw new JsonParseException(parser, "Expected a decimal but found " + token);
+    }
+    try {
+      return FixedPointDecimals.parse(
+          parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), scale);
+    } catch (ArithmeticException | NumberFormatException e) {
+      throw new JsonParseException(parser, e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads an array of {@code [price, amount, ...]} tuples into one side of the book. Elements after
+   * the amount are skipped, except that a numeric third element is treated as a per-level
+   * timestamp, as used by some venues, and the largest one is returned.
+   *
+   * @param parser the parser, positioned on the {@link JsonToken#START_ARRAY} of the levels
+   * @param book the book to update
+   * @param type the side of the book the levels belong to
+   * @return the largest third element of the tuples, or 0 if there were none
+   */
+  public static long readLevels(JsonParser parser, ScaledOrderBook book, OrderType type)
+      throws IOException {
+
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new JsonParseException(parser, "Expected an array of levels");
+    }
+    long maxThird = 0;
+    while (parser.nextToken() == JsonToken.START_ARRAY) {
+      parser.nextToken();
+      long price = readDecimal(parser, book.getPriceScale());
+      parser.nextToken();
+      long amount = readDecimal(parser, book.getAmountScale());
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_NUMBER_INT) {
+        maxThird = Math.max(maxThird, parser.getLongValue());
+      }
+      while (token != JsonToken.END_ARRAY) {
+        if (token == null) {
+          throw new JsonParseException(parser, "Unexpected end of input");
+        }
+        parser.skipChildren();
+        token = parser.nextToken();
+      }
+      book.update(type, price, amount);
+    }
+    if (parser.currentToken() != JsonToken.END_ARRAY) {
+      throw new JsonParseException(parser, "Expected a level but found " + parser.currentToken());
+    }
+    return maxThird;
+  }
+}
@@ -0,0 +1,32 @@
+package org.knowm.xchange.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Binds an array of {@code [price, amount, ...]} tuples with {@link DecimalLevelsReader}. Annotate
+ * the DTO's list of levels with a subclass, for example {@code @JsonDeserialize(using =
+ * PriceAmountListsDeserializer.class)}.
+ *
+ * @param <T> the type of each level
+ */
+public abstract class LevelsDeserializer<T> extends JsonDeserializer<List<T>> {
+
+  @Override
+  public List<T> deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+
+    return DecimalLevelsReader.readLevels(parser, this::createLevel);
+  }
+
+  /**
+   * @param price the price
+   * @param amount the amount
+   * @param timestamp the third element of the tuple if it is a number, otherwise 0
+   * @return the level
+   */
+  protected abstract T createLevel(BigDecimal price, BigDecimal amount, long timestamp);
+}
@@ -0,0 +1,19 @@
+package org.knowm.xchange.utils.jackson;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binds {@code [[price, amount], ...]} as {@code List<List<BigDecimal>>}, the representation many
+ * depth DTOs expose, while reading the tokens directly rather than through Jackson's untyped
+ * collections. Each level is a fixed size list of the price and amount.
+ */
+public class PriceAmountListsDeserializer extends LevelsDeserializer<List<BigDecimal>> {
+
+  @Override
+  protected List<BigDecimal> createLevel(BigDecimal price, BigDecimal amount, long timestamp) {
+
+    return Arrays.asList(price, amount);
+  }
+}
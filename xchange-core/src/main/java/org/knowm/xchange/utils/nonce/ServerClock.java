@@ -0,0 +1,209 @@
+package org.knowm.xchange.utils.nonce;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+/**
+ * An exchange's clock, for timestamps and nonces which the exchange will accept.
+ *
+ * <p>A clock for a venue estimates the offset of the exchange's clock from ours by asking it the
+ * time, allowing for half the round trip, and asks again every sync interval. Estimates taken over
+ * round trips much slower than the moving average are discarded as unreliable. The time is read
+ * without locking or allocating; when a sync is due, one caller makes it while others carry on with
+ * the previous offset. Only the first sync holds callers up.
+ *
+ * <p>{@link #nextNonce()} hands out strictly increasing values from the clock, even to concurrent
+ * callers in the same millisecond, so requests sharing a clock never collide. Exchange instances
+ * should share the clock of their venue, from {@link #forVenue}, or take their own {@link #local()}
+ * clock for nonces which need not follow the exchange's time.
+ */
+public final class ServerClock {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServerClock.class);
+
+  /** The weight of each new round trip in the moving average. */
+  private static final double ROUND_TRIP_WEIGHT = 0.2;
+
+  /** How long to wait before trying again after a failed sync. */
+  private static final long RETRY_MILLIS = 1000;
+
+  private static final ServerClock SYSTEM =
+      new ServerClock(null, 0, System::currentTimeMillis, System::nanoTime);
+
+  private static final ConcurrentMap<String, ServerClock> VENUES = new ConcurrentHashMap<>();
+
+  private final ServerTimeSource source;
+  private final long syncIntervalMillis;
+  private final LongSupplier localMillis;
+  private final LongSupplier nanos;
+  private final AtomicLong lastNonce = new AtomicLong();
+  private final AtomicBoolean syncing = new AtomicBoolean();
+  private final SynchronizedValueFactory<Long> nonceFactory;
+  private volatile boolean synced;
+  private volatile long offsetMillis;
+  private volatile long nextSyncMillis;
+  private volatile double roundTripMillis = Double.NaN;
+
+  ServerClock(
+      ServerTimeSource source,
+      long syncIntervalMillis,
+      LongSupplier localMillis,
+      LongSupplier nanos) {
+
+    this.source = source;
+    this.syncIntervalMillis = syncIntervalMillis;
+    this.localMillis = localMillis;
+    this.nanos = nanos;
+    this.synced = source == null;
+    this.nonceFactory =
+        () -> {
+          try {
+            return nextNonce();
+          } catch (IOException e) {
+            throw new ExchangeException("Failed to read the server time", e);
+          }
+        };
+  }
+
+  /** @return the local clock, shared by everything in this process which uses it */
+  public static ServerClock system() {
+
+    return SYSTEM;
+  }
+
+  /**
+   * @return a new clock reading the local time, for an exchange instance's own nonces, which need
+   *     not increase across instances with different keys
+   */
+  public static ServerClock local() {
+
+    return new ServerClock(null, 0, System::currentTimeMillis, System::nanoTime);
+  }
+
+  /**
+   * @param venue identifies the venue, such as its URI
+   * @param source reads the venue's clock. Only the first source given for a venue is used.
+   * @param syncInterval how often to read the venue's clock. Only the first interval given for a
+   *     venue is used.
+   * @return the clock shared by everything in this process which uses the venue
+   */
+  public static ServerClock forVenue(
+      String venue, ServerTimeSource source, long syncInterval, TimeUnit unit) {
+
+    return VENUES.computeIfAbsent(
+        venue,
+        v ->
+            new ServerClock(
+                source, unit.toMillis(syncInterval), System::currentTimeMillis, System::nanoTime));
+  }
+
+  /**
+   * @return the venue's time in milliseconds since the epoch
+   * @throws IOException if the venue's clock has never been read and cannot be now
+   */
+  public long currentTimeMillis() throws IOException {
+
+    long now = localMillis.getAsLong();
+    if (now >= nextSyncMillis && source != null) {
+      sync();
+    }
+    return localMillis.getAsLong() + offsetMillis;
+  }
+
+  /**
+   * @return the venue's time in milliseconds since the epoch, or one more than the last nonce if
+   *     that is not earlier
+   * @throws IOException if the venue's clock has never been read and cannot be now
+   */
+  public long nextNonce() throws IOException {
+
+    return lastNonce.accumulateAndGet(
+        currentTimeMillis(), (last, now) -> now > last ? now : last + 1);
+  }
+
+  /** @return {@link #nextNonce()}, for rescu */
+  public SynchronizedValueFactory<Long> nonceFactory() {
+
+    return nonceFactory;
+  }
+
+  /**
+   * @return how far the venue's clock is ahead of ours in milliseconds
+   * @throws IOException if the venue's clock has never been read and cannot be now
+   */
+  public long getOffsetMillis() throws IOException {
+
+    currentTimeMillis();
+    return offsetMillis;
+  }
+
+  /** @return the moving average of the round trips to read the venue's clock, or NaN if none */
+  public double getRoundTripMillis() {
+
+    return roundTripMillis;
+  }
+
+  /**
+   * Reads the venue's clock again on the next call, such as when the venue has rejected a
+   * timestamp.
+   */
+  public void invalidate() {
+
+    nextSyncMillis = 0;
+  }
+
+  private void sync() throws IOException {
+
+    if (!synced) {
+      synchronized (this) {
+        if (!synced) {
+          readServerTime();
+        }
+      }
+    } else if (syncing.compareAndSet(false, true)) {
+      try {
+        readServerTime();
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Failed to read the server time. Keeping an offset of {}ms.", offsetMillis, e);
+        nextSyncMillis = localMillis.getAsLong() + Math.min(syncIntervalMillis, RETRY_MILLIS);
+      } finally {
+        syncing.set(false);
+      }
+    }
+  }
+
+  private void readServerTime() throws IOException {
+
+    long localStart = localMillis.getAsLong();
+    long start = nanos.getAsLong();
+    long serverTime = source.serverTimeMillis();
+    double roundTrip = (nanos.getAsLong() - start) / 1e6;
+
+    double average = roundTripMillis;
+    if (!synced || roundTrip <= 2 * average) {
+      offsetMillis = serverTime - localStart - Math.round(roundTrip / 2);
+    }
+    roundTripMillis =
+        Double.isNaN(average) ? roundTrip : average + ROUND_TRIP_WEIGHT * (roundTrip - average);
+    LOG.trace("Server time offset {}ms, round trip {}ms", offsetMillis, roundTrip);
+    synced = true;
+    nextSyncMillis = localMillis.getAsLong() + syncIntervalMillis;
+  }
+
+  /** Reads a venue's clock. */
+  @FunctionalInterface
+  public interface ServerTimeSource {
+
+    /** @return the venue's time in milliseconds since the epoch */
+    long serverTimeMillis() throws IOException;
+  }
+}
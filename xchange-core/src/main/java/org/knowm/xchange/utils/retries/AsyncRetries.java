@@ -0,0 +1,200 @@
+package org.knowm.xchange.utils.retries;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.knowm.xchange.exceptions.ExchangeUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retries calls according to a {@link RetryPolicy} without blocking any thread between attempts,
+ * unlike {@link Retries}. Retries are scheduled on a shared {@link ScheduledExecutorService} and
+ * blocking calls run on an {@link Executor}, so a caller which does not wait on the result holds no
+ * thread while an exchange is failing.
+ *
+ * <p>Counts of attempts, successes, retries and failures are kept for monitoring.
+ */
+public class AsyncRetries {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncRetries.class);
+
+  private final ScheduledExecutorService scheduler;
+  private final Executor executor;
+  private final LongAdder attempts = new LongAdder();
+  private final LongAdder successes = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  /**
+   * @param scheduler schedules retries. Its tasks are short so a single thread serves any number of
+   *     calls.
+   * @param executor runs blocking calls
+   */
+  public AsyncRetries(ScheduledExecutorService scheduler, Executor executor) {
+
+    this.scheduler = scheduler;
+    this.executor = executor;
+  }
+
+  /**
+   * @return an instance which schedules on a shared daemon thread and runs blocking calls on the
+   *     common {@link ForkJoinPool}
+   */
+  public static AsyncRetries create() {
+
+    return new AsyncRetries(SharedScheduler.INSTANCE, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Runs a blocking call on the executor, retrying as the policy allows.
+   *
+   * @param action the call
+   * @param policy which failures to retry, and when
+   * @param circuitBreaker the breaker for the exchange called, or null
+   * @return the result of the first successful attempt, or the failure of the last attempt
+   */
+  public <V> CompletableFuture<V> call(
+      Callable<V> action, RetryPolicy policy, CircuitBreaker circuitBreaker) {
+
+    return callAsync(
+        () ->
+            CompletableFuture.supplyAsync(
+                () -> {
+                  try {
+                    return action.call();
+                  } catch (RuntimeException e) {
+                    throw e;
+                  } catch (Exception e) {
+                    throw new CompletionException(e);
+                  }
+                },
+                executor),
+        policy,
+        circuitBreaker);
+  }
+
+  /**
+   * Makes an asynchronous call, retrying as the policy allows.
+   *
+   * @param action starts the call
+   * @param policy which failures to retry, and when
+   * @param circuitBreaker the breaker for the exchange called, or null
+   * @return the result of the first successful attempt, or the failure of the last attempt. Fails
+   *     with an {@link ExchangeUnavailableException} if the circuit breaker is open.
+   */
+  public <V> CompletableFuture<V> callAsync(
+      Supplier<CompletableFuture<V>> action, RetryPolicy policy, CircuitBreaker circuitBreaker) {
+
+    CompletableFuture<V> result = new CompletableFuture<>();
+    attempt(action, policy, circuitBreaker, 1, result);
+    return result;
+  }
+
+  private <V> void attempt(
+      Supplier<CompletableFuture<V>> action,
+      RetryPolicy policy,
+      CircuitBreaker circuitBreaker,
+      int attempt,
+      CompletableFuture<V> result) {
+
+    if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+      failures.increment();
+      result.completeExceptionally(
+          new ExchangeUnavailableException("Not called, circuit breaker open: " + circuitBreaker));
+      return;
+    }
+    attempts.increment();
+    CompletableFuture<V> future;
+    try {
+      future = action.get();
+    } catch (Throwable t) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(t);
+    }
+    future.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            if (circuitBreaker != null) {
+              circuitBreaker.onSuccess();
+            }
+            successes.increment();
+            result.complete(value);
+            return;
+          }
+          Throwable failure = unwrap(error);
+          if (circuitBreaker != null) {
+            if (policy.isRetryable(failure)) {
+              circuitBreaker.onFailure();
+            } else {
+              circuitBreaker.onSuccess();
+            }
+          }
+          long delay = policy.delayMillis(failure, attempt);
+          if (delay < 0) {
+            failures.increment();
+            result.completeExceptionally(failure);
+            return;
+          }
+          retries.increment();
+          log.warn("Attempt {} failed; retrying in {}ms: {}", attempt, delay, failure.toString());
+          scheduler.schedule(
+              () -> attempt(action, policy, circuitBreaker, attempt + 1, result),
+              delay,
+              TimeUnit.MILLISECONDS);
+        });
+  }
+
+  private static Throwable unwrap(Throwable error) {
+
+    Throwable result = error;
+    while ((result instanceof CompletionException || result instanceof ExecutionException)
+        && result.getCause() != null) {
+      result = result.getCause();
+    }
+    return result;
+  }
+
+  /** @return the number of attempts made, including the first of each call */
+  public long getAttempts() {
+
+    return attempts.sum();
+  }
+
+  /** @return the number of calls which succeeded */
+  public long getSuccesses() {
+
+    return successes.sum();
+  }
+
+  /** @return the number of failed attempts which were retried */
+  public long getRetries() {
+
+    return retries.sum();
+  }
+
+  /** @return the number of calls which ultimately failed */
+  public long getFailures() {
+
+    return failures.sum();
+  }
+
+  private static final class SharedScheduler {
+
+    private static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "xchange-retries");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
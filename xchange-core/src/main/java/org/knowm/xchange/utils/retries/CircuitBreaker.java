@@ -0,0 +1,132 @@
+package org.knowm.xchange.utils.retries;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calls to an exchange which keeps failing, so that callers fail immediately rather than
+ * queueing up behind an outage. Share one instance between all the calls to an exchange.
+ *
+ * <p>After a number of consecutive failures the breaker opens and refuses calls. Once it has been
+ * open for a while it lets a single trial call through: if that succeeds the breaker closes,
+ * otherwise it stays open for another period. A trial which never reports back, because its caller
+ * gave up or forgot, is abandoned after the same period and another let through.
+ */
+public class CircuitBreaker {
+
+  private static final long CLOSED = Long.MIN_VALUE;
+  private static final long NO_TRIAL = Long.MIN_VALUE;
+
+  private final int failureThreshold;
+  private final long openNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicLong openedAt = new AtomicLong(CLOSED);
+  private final AtomicLong trialStartedAt = new AtomicLong(NO_TRIAL);
+  private final LongAdder timesOpened = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+  private final LongAdder closedOpenNanos = new LongAdder();
+
+  /**
+   * @param failureThreshold the number of consecutive failures which open the breaker
+   * @param openMillis how long the breaker stays open before letting a trial call through
+   */
+  public CircuitBreaker(int failureThreshold, long openMillis) {
+
+    this(failureThreshold, openMillis, System::nanoTime);
+  }
+
+  CircuitBreaker(int failureThreshold, long openMillis, LongSupplier nanoClock) {
+
+    this.failureThreshold = failureThreshold;
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    this.nanoClock = nanoClock;
+  }
+
+  /** @return whether a call may be made now */
+  public boolean allowRequest() {
+
+    long opened = openedAt.get();
+    if (opened == CLOSED) {
+      return true;
+    }
+    long now = nanoClock.getAsLong();
+    if (now - opened >= openNanos) {
+      long trial = trialStartedAt.get();
+      if ((trial == NO_TRIAL || now - trial >= openNanos)
+          && trialStartedAt.compareAndSet(trial, now)) {
+        return true;
+      }
+    }
+    rejections.increment();
+    return false;
+  }
+
+  /** Records a call which succeeded, or which failed in a way that shows the exchange is up. */
+  public void onSuccess() {
+
+    consecutiveFailures.set(0);
+    long opened = openedAt.getAndSet(CLOSED);
+    if (opened != CLOSED) {
+      closedOpenNanos.add(nanoClock.getAsLong() - opened);
+    }
+    trialStartedAt.set(NO_TRIAL);
+  }
+
+  /** Records a call which failed in a way that suggests the exchange is in trouble. */
+  public void onFailure() {
+
+    long opened = openedAt.get();
+    long now = nanoClock.getAsLong();
+    if (opened != CLOSED) {
+      if (trialStartedAt.get() != NO_TRIAL && openedAt.compareAndSet(opened, now)) {
+        closedOpenNanos.add(now - opened);
+        trialStartedAt.set(NO_TRIAL);
+      }
+      return;
+    }
+    if (consecutiveFailures.incrementAndGet() >= failureThreshold
+        && openedAt.compareAndSet(CLOSED, now)) {
+      timesOpened.increment();
+    }
+  }
+
+  public boolean isOpen() {
+
+    return openedAt.get() != CLOSED;
+  }
+
+  /** @return the number of times the breaker has opened after consecutive failures */
+  public long getTimesOpened() {
+
+    return timesOpened.sum();
+  }
+
+  /** @return the number of calls refused while the breaker was open */
+  public long getRejections() {
+
+    return rejections.sum();
+  }
+
+  /** @return the total time the breaker has been open, in nanoseconds */
+  public long getOpenNanos() {
+
+    long opened = openedAt.get();
+    return closedOpenNanos.sum() + (opened == CLOSED ? 0 : nanoClock.getAsLong() - opened);
+  }
+
+  @Override
+  public String toString() {
+
+    return "CircuitBreaker [failureThreshold="
+        + failureThreshold
+        + ", openMillis="
+        + TimeUnit.NANOSECONDS.toMillis(openNanos)
+        + ", open="
+        + isOpen()
+        + "]";
+  }
+}
@@ -24,7 +24,9 @@ public class Retries {
    *     retryable, then a RunTimeException is thrown after the allowed number of retries is
    *     exhausted.
    * @author Matija Mazi and Bryan Hernandez
+   * @deprecated Blocks the calling thread between attempts. Use {@link AsyncRetries}.
    */
+  @Deprecated
   public static <V> V callWithRetries(
       int nAttempts,
       int initialRetrySec,
@@ -0,0 +1,185 @@
+package org.knowm.xchange.utils.retries;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.knowm.xchange.exceptions.ExchangeUnavailableException;
+import org.knowm.xchange.exceptions.FrequencyLimitExceededException;
+import org.knowm.xchange.exceptions.InternalServerException;
+import org.knowm.xchange.exceptions.NonceException;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+import org.knowm.xchange.exceptions.SystemOverloadException;
+
+/**
+ * Which failures {@link AsyncRetries} retries, and how long it waits before each retry.
+ *
+ * <p>Each retryable exception type has its own initial delay, which grows by the multiplier with
+ * every further attempt up to the maximum delay. A failure is matched to its most specific
+ * registered type, so for example {@link NonceException} can be retried at once while other {@link
+ * org.knowm.xchange.exceptions.ExchangeException}s back off. Failures of types which are not
+ * registered are not retried.
+ */
+public final class RetryPolicy {
+
+  private final int maxAttempts;
+  private final long maxDelayMillis;
+  private final double multiplier;
+  private final double jitter;
+  private final Map<Class<? extends Throwable>, Long> initialDelays;
+
+  private RetryPolicy(Builder builder) {
+
+    this.maxAttempts = builder.maxAttempts;
+    this.maxDelayMillis = builder.maxDelayMillis;
+    this.multiplier = builder.multiplier;
+    this.jitter = builder.jitter;
+    this.initialDelays = new LinkedHashMap<>(builder.initialDelays);
+  }
+
+  /**
+   * @return a policy for failures which are usually transient: nonce errors are retried at once,
+   *     rate limits after a second and outages after 100ms, all backing off exponentially, for up
+   *     to 5 attempts
+   */
+  public static RetryPolicy transientFailures() {
+
+    return new Builder()
+        .retryOn(NonceException.class, 0)
+        .retryOn(RateLimitExceededException.class, 1000)
+        .retryOn(FrequencyLimitExceededException.class, 1000)
+        .retryOn(ExchangeUnavailableException.class, 100)
+        .retryOn(SystemOverloadException.class, 100)
+        .retryOn(InternalServerException.class, 100)
+        .build();
+  }
+
+  public int getMaxAttempts() {
+
+    return maxAttempts;
+  }
+
+  /**
+   * @param failure the failure
+   * @return whether failures of this type are retried
+   */
+  public boolean isRetryable(Throwable failure) {
+
+    return initialDelay(failure) != null;
+  }
+
+  /**
+   * @param failure the failure
+   * @param attempt the number of the attempt which failed, starting at 1
+   * @return the delay before the next attempt in milliseconds, or -1 if there should be no further
+   *     attempt
+   */
+  public long delayMillis(Throwable failure, int attempt) {
+
+    Long initialDelay = initialDelay(failure);
+    if (initialDelay == null || attempt >= maxAttempts) {
+      return -1;
+    }
+    double delay = Math.min(maxDelayMillis, initialDelay * Math.pow(multiplier, attempt - 1.0d));
+    if (jitter > 0) {
+      delay *= 1 - jitter * ThreadLocalRandom.current().nextDouble();
+    }
+    return (long) delay;
+  }
+
+  private Long initialDelay(Throwable failure) {
+
+    for (Class<?> type = failure.getClass(); type != null; type = type.getSuperclass()) {
+      if (initialDelays.containsKey(type)) {
+        return initialDelays.get(type);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+
+    return "RetryPolicy [maxAttempts="
+        + maxAttempts
+        + ", maxDelayMillis="
+        + maxDelayMillis
+        + ", multiplier="
+        + multiplier
+        + ", jitter="
+        + jitter
+        + ", initialDelays="
+        + initialDelays
+        + "]";
+  }
+
+  public static class Builder {
+
+    private int maxAttempts = 5;
+    private long maxDelayMillis = 30000;
+    private double multiplier = 2;
+    private double jitter = 0.2;
+    private final Map<Class<? extends Throwable>, Long> initialDelays = new LinkedHashMap<>();
+
+    /** @param maxAttempts the number of attempts including the first, 5 by default */
+    public Builder maxAttempts(int maxAttempts) {
+
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("maxAttempts must be at least 1");
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /** @param maxDelayMillis the longest delay between attempts, 30 seconds by default */
+    public Builder maxDelayMillis(long maxDelayMillis) {
+
+      this.maxDelayMillis = maxDelayMillis;
+      return this;
+    }
+
+    /** @param multiplier the factor by which each delay exceeds the last, 2 by default */
+    public Builder multiplier(double multiplier) {
+
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /**
+     * @param jitter the fraction by which each delay is randomly shortened, so that clients which
+     *     failed together do not retry together. 0.2 by default.
+     */
+    public Builder jitter(double jitter) {
+
+      if (jitter < 0 || jitter > 1) {
+        throw new IllegalArgumentException("jitter must be between 0 and 1");
+      }
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * @param type failures of this type, or subclasses of it not registered themselves, are retried
+     * @param initialDelayMillis the delay before the first retry
+     */
+    public Builder retryOn(Class<? extends Throwable> type, long initialDelayMillis) {
+
+      initialDelays.put(type, initialDelayMillis);
+      return this;
+    }
+
+    /**
+     * @param type failures of this type are not retried, even if a superclass is registered with
+     *     {@link #retryOn}
+     */
+    public Builder abortOn(Class<? extends Throwable> type) {
+
+      initialDelays.put(type, null);
+      return this;
+    }
+
+    public RetryPolicy build() {
+
+      return new RetryPolicy(this);
+    }
+  }
+}
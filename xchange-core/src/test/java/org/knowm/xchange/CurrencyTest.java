@@ -2,7 +2,16 @@ package org.knowm.xchange;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
 import org.knowm.xchange.currency.Currency;
@@ -45,4 +54,43 @@ public class CurrencyTest {
     assertEquals("XBT", Currency.XBT.toString());
     assertEquals("BTC", Currency.BTC.toString());
   }
+
+  @Test
+  public void testGetInstanceFromChars() {
+    assertSame(Currency.BTC, Currency.getInstanceNoCreate("x:BTC:y", 2, 5));
+    assertSame(Currency.BTC, Currency.getInstanceNoCreate("btc", 0, 3));
+    assertSame(Currency.XBT, Currency.getInstanceNoCreate(new StringBuilder("XBT"), 0, 3));
+    assertNull(Currency.getInstanceNoCreate("BTCX", 0, 4));
+
+    byte[] bytes = "[\"eth\",\"USD\"]".getBytes(StandardCharsets.US_ASCII);
+    assertSame(Currency.ETH, Currency.getInstanceNoCreate(bytes, 2, 3));
+    assertSame(Currency.USD, Currency.getInstanceNoCreate(bytes, 8, 3));
+  }
+
+  @Test
+  public void testGetInstanceFromCharsCreates() {
+    Currency created = Currency.getInstance("pair QQZX/USD", 5, 9);
+    assertEquals("QQZX", created.getCurrencyCode());
+    assertSame(created, Currency.getInstanceNoCreate("QQZX", 0, 4));
+    assertSame(created, Currency.getInstance("qqzx"));
+  }
+
+  @Test
+  public void testConcurrentGetInstance() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<Currency>> tasks = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        tasks.add(() -> Currency.getInstance("ZQXW"));
+      }
+      List<Future<Currency>> results = executor.invokeAll(tasks);
+      Currency first = results.get(0).get();
+      for (Future<Currency> result : results) {
+        assertSame(first, result.get());
+      }
+      assertSame(first, Currency.getInstanceNoCreate("zqxw", 0, 4));
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
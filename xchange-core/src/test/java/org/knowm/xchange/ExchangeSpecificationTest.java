@@ -0,0 +1,76 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.service.HttpTransport;
+
+public class ExchangeSpecificationTest {
+
+  @Test
+  public void testCopiesEveryField() throws Exception {
+
+    ExchangeSpecification original = new ExchangeSpecification(Exchange.class);
+    try (MetaDataRefresher refresher = new MetaDataRefresher.Builder().build()) {
+      for (Field field : ExchangeSpecification.class.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+          continue;
+        }
+        field.setAccessible(true);
+        Object value = value(field, field.get(original), refresher);
+        field.set(original, value);
+        assertThat(field.get(original)).as(field.getName()).isNotEqualTo(defaultValue(field));
+      }
+
+      ExchangeSpecification copy = new ExchangeSpecification(original);
+
+      for (Field field : ExchangeSpecification.class.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          field.setAccessible(true);
+          assertThat(field.get(copy)).as(field.getName()).isEqualTo(field.get(original));
+        }
+      }
+      assertThat(copy.getExchangeSpecificParameters())
+          .isNotSameAs(original.getExchangeSpecificParameters());
+    }
+  }
+
+  /** @return a value for the field which differs from its default */
+  private static Object value(Field field, Object current, MetaDataRefresher refresher) {
+
+    Class<?> type = field.getType();
+    if (type == String.class) {
+      return field.getName();
+    }
+    if (type == int.class || type == Integer.class) {
+      return 12345;
+    }
+    if (type == boolean.class) {
+      return !(Boolean) current;
+    }
+    if (type.isEnum()) {
+      Object[] constants = type.getEnumConstants();
+      return constants[constants.length - 1];
+    }
+    if (type == Map.class) {
+      return Collections.<String, Object>singletonMap("key", "value");
+    }
+    if (type == MetaDataRefresher.class) {
+      return refresher;
+    }
+    if (type == HttpTransport.class) {
+      return new HttpTransport.Builder().build();
+    }
+    return mock(type);
+  }
+
+  private static Object defaultValue(Field field) throws IllegalAccessException {
+
+    return field.get(new ExchangeSpecification(Exchange.class));
+  }
+}
@@ -0,0 +1,233 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.ratelimit.RateLimitMode;
+import org.knowm.xchange.service.ratelimit.RateLimiter;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class MetaDataRefresherTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private final List<MetaDataRefresher> refreshers = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+
+    StubExchange.calls.set(0);
+    StubExchange.generation = 1;
+    StubExchange.release = new CountDownLatch(0);
+    StubExchange.fail = false;
+  }
+
+  @After
+  public void tearDown() {
+
+    StubExchange.release.countDown();
+    refreshers.forEach(MetaDataRefresher::close);
+  }
+
+  @Test
+  public void testConcurrentInstancesMakeOneCall() throws Exception {
+
+    MetaDataRefresher refresher =
+        refresher(new MetaDataRefresher.Builder().timeout(0, TimeUnit.SECONDS));
+    StubExchange.release = new CountDownLatch(1);
+
+    ExecutorService starters = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<StubExchange>> exchanges = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        exchanges.add(starters.submit(() -> create(refresher)));
+      }
+      Thread.sleep(100);
+      StubExchange.release.countDown();
+      for (Future<StubExchange> exchange : exchanges) {
+        assertThat(priceScale(exchange.get(5, TimeUnit.SECONDS))).isEqualTo(1);
+        assertThat(exchange.get().getSymbolMap().getCurrencyPair("XBTUSD"))
+            .isEqualTo(CurrencyPair.BTC_USD);
+      }
+    } finally {
+      starters.shutdownNow();
+    }
+    assertThat(StubExchange.calls).hasValue(1);
+
+    create(refresher);
+    assertThat(StubExchange.calls).hasValue(1);
+  }
+
+  @Test
+  public void testStartsFromSnapshotAndRefreshesInBackground() throws Exception {
+
+    File directory = folder.getRoot();
+    StubExchange first =
+        create(refresher(new MetaDataRefresher.Builder().snapshotDirectory(directory)));
+    assertThat(priceScale(first)).isEqualTo(1);
+    assertThat(directory.listFiles()).hasSize(1);
+
+    // a new process, while the venue is slow
+    StubExchange.generation = 2;
+    StubExchange.release = new CountDownLatch(1);
+    MetaDataRefresher refresher =
+        refresher(
+            new MetaDataRefresher.Builder()
+                .snapshotDirectory(directory)
+                .refreshInterval(1, TimeUnit.HOURS));
+    StubExchange second = create(refresher);
+    assertThat(priceScale(second)).isEqualTo(1);
+    assertThat(second.getSymbolMap().getCurrencyPair("XBTUSD")).isEqualTo(CurrencyPair.BTC_USD);
+
+    // the snapshot is fresh, so it is not reloaded until asked
+    ExchangeMetaData original = second.getExchangeMetaData();
+    StubExchange.release.countDown();
+    assertThat(refresher.refresh(second).get(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(priceScale(second)).isEqualTo(2);
+    assertThat(second.getExchangeMetaData()).isNotSameAs(original);
+    assertThat(priceScale(original)).isEqualTo(1);
+    assertThat(StubExchange.calls).hasValue(2);
+  }
+
+  @Test
+  public void testCarriesOnAfterTimeout() throws Exception {
+
+    StubExchange.release = new CountDownLatch(1);
+    MetaDataRefresher refresher =
+        refresher(new MetaDataRefresher.Builder().timeout(50, TimeUnit.MILLISECONDS));
+
+    StubExchange exchange = create(refresher);
+    assertThat(exchange.getExchangeMetaData()).isNull();
+
+    // taken on when the call completes
+    StubExchange.release.countDown();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (exchange.getExchangeMetaData() == null && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(priceScale(exchange)).isEqualTo(1);
+    assertThat(StubExchange.calls).hasValue(1);
+  }
+
+  @Test
+  public void testBuildsRateLimitersFromRemoteMetaData() throws Exception {
+
+    MetaDataRefresher refresher = refresher(new MetaDataRefresher.Builder());
+    StubExchange exchange = create(refresher);
+    RateLimiter limiter = exchange.getPublicRateLimiter();
+    assertThat(limiter).isNotNull();
+    assertThat(exchange.getPrivateRateLimiter()).isNull();
+
+    // unchanged limits keep the limiter, and the permits taken from it
+    refresher.refresh(exchange).get(5, TimeUnit.SECONDS);
+    assertThat(exchange.getPublicRateLimiter()).isSameAs(limiter);
+  }
+
+  @Test(expected = ExchangeException.class)
+  public void testFailsWithNothingToStartFrom() {
+
+    StubExchange.fail = true;
+    create(refresher(new MetaDataRefresher.Builder()));
+  }
+
+  private MetaDataRefresher refresher(MetaDataRefresher.Builder builder) {
+
+    MetaDataRefresher refresher = builder.build();
+    refreshers.add(refresher);
+    return refresher;
+  }
+
+  private static StubExchange create(MetaDataRefresher refresher) {
+
+    ExchangeSpecification specification = new ExchangeSpecification(StubExchange.class);
+    specification.setExchangeName("Stub");
+    specification.setMetaDataRefresher(refresher);
+    specification.setRateLimitMode(RateLimitMode.BLOCK);
+    StubExchange exchange = new StubExchange();
+    exchange.applySpecification(specification);
+    return exchange;
+  }
+
+  private static int priceScale(Exchange exchange) {
+
+    return priceScale(exchange.getExchangeMetaData());
+  }
+
+  private static int priceScale(ExchangeMetaData metaData) {
+
+    return metaData.getCurrencyPairs().get(CurrencyPair.BTC_USD).getPriceScale();
+  }
+
+  public static class StubExchange extends BaseExchange {
+
+    static final AtomicInteger calls = new AtomicInteger();
+    static volatile int generation;
+    static volatile CountDownLatch release;
+    static volatile boolean fail;
+
+    @Override
+    protected void initServices() {}
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+
+      ExchangeSpecification specification = new ExchangeSpecification(getClass());
+      specification.setExchangeName("Stub");
+      specification.setSslUri("https://stub.example");
+      return specification;
+    }
+
+    @Override
+    public SynchronizedValueFactory<Long> getNonceFactory() {
+
+      return null;
+    }
+
+    @Override
+    public void remoteInit() {
+
+      calls.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (fail) {
+        throw new ExchangeException("Unavailable");
+      }
+      exchangeMetaData =
+          new ExchangeMetaData(
+              Collections.singletonMap(
+                  CurrencyPair.BTC_USD,
+                  new CurrencyPairMetaData(null, null, null, generation, null)),
+              null,
+              // the limit with no calls is ignored
+              new RateLimit[] {
+                new RateLimit(0, 1, TimeUnit.SECONDS), new RateLimit(10, 1, TimeUnit.SECONDS)
+              },
+              null,
+              null);
+      setSymbolMap(new SymbolMap.Builder().currencyPair("XBTUSD", CurrencyPair.BTC_USD).build());
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
+
+public class SymbolMapTest {
+
+  @Test
+  public void testTranslatesBothWays() {
+
+    SymbolMap symbolMap =
+        new SymbolMap.Builder()
+            .currencyPair("XXBTZUSD", CurrencyPair.BTC_USD)
+            .currencyPair("XETHXXBT", CurrencyPair.ETH_BTC)
+            .currency("XXBT", Currency.BTC)
+            .currency("ZUSD", Currency.USD)
+            .build();
+
+    assertThat(symbolMap.getCurrencyPair("XXBTZUSD")).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(symbolMap.getCurrencyPair("[\"XETHXXBT\"]", 2, 10)).isEqualTo(CurrencyPair.ETH_BTC);
+    assertThat(symbolMap.getCurrencyPair("xethxxbt".getBytes(StandardCharsets.US_ASCII), 0, 8))
+        .isEqualTo(CurrencyPair.ETH_BTC);
+    assertThat(symbolMap.getSymbol(CurrencyPair.BTC_USD)).isEqualTo("XXBTZUSD");
+    assertThat(symbolMap.getSymbol(CurrencyPair.ETH_USD)).isNull();
+    assertThat(symbolMap.getCurrency("ZUSD")).isEqualTo(Currency.USD);
+    assertThat(symbolMap.getSymbol(Currency.XBT)).isEqualTo("XXBT");
+  }
+
+  @Test
+  public void testBuilderCopies() {
+
+    SymbolMap first =
+        new SymbolMap.Builder()
+            .currencyPair("BTCUSD", CurrencyPair.BTC_USD)
+            .currency("BTC", Currency.BTC)
+            .build();
+    SymbolMap second =
+        new SymbolMap.Builder(first)
+            .clearCurrencyPairs()
+            .currencyPair("ETHUSD", CurrencyPair.ETH_USD)
+            .build();
+
+    assertThat(first.getCurrencyPair("ETHUSD")).isNull();
+    assertThat(second.getCurrencyPair("BTCUSD")).isNull();
+    assertThat(second.getCurrencyPair("ETHUSD")).isEqualTo(CurrencyPair.ETH_USD);
+    assertThat(second.getCurrency("BTC")).isEqualTo(Currency.BTC);
+    assertThat(SymbolMap.empty().isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,67 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolTable;
+
+public class SymbolTableTest {
+
+  @Test
+  public void testLookups() {
+
+    Map<String, CurrencyPair> symbols = new HashMap<>();
+    symbols.put("XXBTZUSD", CurrencyPair.BTC_USD);
+    symbols.put("ETHBTC", CurrencyPair.ETH_BTC);
+    symbols.put("btc-eur", CurrencyPair.BTC_EUR);
+    SymbolTable<CurrencyPair> table = SymbolTable.of(symbols);
+
+    assertThat(table.size()).isEqualTo(3);
+    assertThat(table.get("XXBTZUSD")).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(table.get("xxbtzusd")).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(table.get("BTC-EUR")).isEqualTo(CurrencyPair.BTC_EUR);
+    assertThat(table.get("{\"s\":\"ETHBTC\"}", 6, 12)).isEqualTo(CurrencyPair.ETH_BTC);
+    assertThat(table.get("ETHBT")).isNull();
+    assertThat(table.get("ETHBTCX")).isNull();
+
+    byte[] bytes = "{\"s\":\"ethbtc\"}".getBytes(StandardCharsets.US_ASCII);
+    assertThat(table.get(bytes, 6, 6)).isEqualTo(CurrencyPair.ETH_BTC);
+    assertThat(table.get(bytes, 6, 5)).isNull();
+  }
+
+  @Test
+  public void testManySymbols() {
+
+    Map<String, Integer> symbols = new HashMap<>();
+    for (int i = 0; i < 5000; i++) {
+      symbols.put("S" + i, i);
+    }
+    SymbolTable<Integer> table = SymbolTable.of(symbols);
+
+    for (int i = 0; i < 5000; i++) {
+      assertThat(table.get("s" + i)).isEqualTo(i);
+    }
+    assertThat(table.get("S5000")).isNull();
+  }
+
+  @Test
+  public void testEmpty() {
+
+    assertThat(SymbolTable.empty().get("BTC")).isNull();
+    assertThat(SymbolTable.of(new HashMap<String, Object>()).get("BTC")).isNull();
+    assertThat(SymbolTable.empty().size()).isZero();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsSymbolsDifferingInCase() {
+
+    Map<String, Integer> symbols = new HashMap<>();
+    symbols.put("btc", 1);
+    symbols.put("BTC", 2);
+    SymbolTable.of(symbols);
+  }
+}
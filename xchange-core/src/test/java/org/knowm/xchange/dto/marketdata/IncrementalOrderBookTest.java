@@ -0,0 +1,130 @@
+package org.knowm.xchange.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class IncrementalOrderBookTest {
+
+  private IncrementalOrderBook orderBook;
+
+  @Before
+  public void setUp() {
+
+    LimitOrder askOrder =
+        new LimitOrder(
+            OrderType.ASK, BigDecimal.ONE, CurrencyPair.BTC_USD, "", null, new BigDecimal("11"));
+    LimitOrder bidOrder =
+        new LimitOrder(
+            OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, "", null, BigDecimal.TEN);
+    orderBook =
+        new IncrementalOrderBook(
+            CurrencyPair.BTC_USD,
+            new OrderBook(
+                new Date(0),
+                new ArrayList<>(Arrays.asList(askOrder)),
+                new ArrayList<>(Arrays.asList(bidOrder))));
+  }
+
+  @Test
+  public void testUpdateAddOrder() {
+
+    orderBook.update(update(OrderType.BID, "9", "1", new Date(0)));
+    orderBook.update(update(OrderType.BID, "9.5", "2", new Date(0)));
+
+    assertThat(orderBook.getDepth(OrderType.BID)).isEqualTo(3);
+    assertThat(orderBook.getBestBid().getPrice()).isEqualByComparingTo("10");
+    assertThat(orderBook.toOrderBook().getBids())
+        .extracting(LimitOrder::getLimitPrice)
+        .usingElementComparator(BigDecimal::compareTo)
+        .containsExactly(new BigDecimal("10"), new BigDecimal("9.5"), new BigDecimal("9"));
+  }
+
+  @Test
+  public void testUpdateRemoveOrder() {
+
+    orderBook.update(update(OrderType.BID, "10", "0", new Date(0)));
+
+    assertThat(orderBook.getDepth(OrderType.BID)).isZero();
+    assertThat(orderBook.getBestBid()).isNull();
+  }
+
+  @Test
+  public void testUpdateAddVolumeInPlace() {
+
+    IncrementalOrderBook.PriceLevel level = orderBook.getBestAsk();
+    orderBook.update(update(OrderType.ASK, "11.00", "10", new Date(0)));
+
+    assertThat(orderBook.getDepth(OrderType.ASK)).isEqualTo(1);
+    assertThat(orderBook.getBestAsk()).isSameAs(level);
+    assertThat(level.getAmount()).isEqualByComparingTo("10");
+  }
+
+  @Test
+  public void testDate() {
+
+    orderBook.update(update(OrderType.BID, "10", "10", new Date(10)));
+    assertThat(orderBook.getTimeStamp()).isEqualTo(new Date(10));
+
+    orderBook.update(update(OrderType.BID, "10", "10", new Date(5)));
+    assertThat(orderBook.getTimeStamp()).isEqualTo(new Date(10));
+  }
+
+  @Test
+  public void testTopOfBook() {
+
+    for (int i = 1; i <= 8; i++) {
+      orderBook.update(update(OrderType.ASK, String.valueOf(11 + i), "1", null));
+      orderBook.update(update(OrderType.BID, String.valueOf(10 - i), "1", null));
+    }
+
+    OrderBook top = orderBook.toOrderBook(5);
+    assertThat(top.getAsks()).hasSize(5);
+    assertThat(top.getBids()).hasSize(5);
+    assertThat(top.getAsks().get(0).getLimitPrice()).isEqualByComparingTo("11");
+    assertThat(top.getAsks().get(4).getLimitPrice()).isEqualByComparingTo("15");
+    assertThat(top.getBids().get(0).getLimitPrice()).isEqualByComparingTo("10");
+    assertThat(top.getBids().get(4).getLimitPrice()).isEqualByComparingTo("6");
+    assertThat(top.getBids().get(0).getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+  }
+
+  @Test
+  public void testMatchesOrderBook() {
+
+    OrderBook reference = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    IncrementalOrderBook incremental = new IncrementalOrderBook(CurrencyPair.BTC_USD);
+    Random random = new Random(42);
+    for (int i = 0; i < 5000; i++) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      int tick = random.nextInt(200);
+      String price = String.valueOf(type == OrderType.ASK ? 1000 + tick : 999 - tick);
+      String volume = random.nextInt(5) == 0 ? "0" : String.valueOf(1 + random.nextInt(100));
+      OrderBookUpdate update = update(type, price, volume, new Date(i));
+      reference.update(update);
+      incremental.update(update);
+    }
+
+    assertThat(incremental.toOrderBook()).isEqualTo(reference);
+  }
+
+  private static OrderBookUpdate update(
+      OrderType type, String price, String totalVolume, Date timestamp) {
+
+    return new OrderBookUpdate(
+        type,
+        BigDecimal.ONE,
+        CurrencyPair.BTC_USD,
+        new BigDecimal(price),
+        timestamp,
+        new BigDecimal(totalVolume));
+  }
+}
@@ -0,0 +1,93 @@
+package org.knowm.xchange.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Random;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.utils.jackson.FixedPointLevelsReader;
+
+public class ScaledOrderBookTest {
+
+  @Test
+  public void testUpdates() {
+
+    ScaledOrderBook book = new ScaledOrderBook(CurrencyPair.BTC_USD, 2, 4);
+    book.update(OrderType.ASK, 10100, 10000);
+    book.update(OrderType.ASK, 10050, 20000);
+    book.update(OrderType.BID, 9900, 5000);
+    book.update(OrderType.BID, 9950, 7000);
+
+    assertThat(book.getPrice(OrderType.ASK, 0)).isEqualTo(10050);
+    assertThat(book.getPrice(OrderType.ASK, 1)).isEqualTo(10100);
+    assertThat(book.getPrice(OrderType.BID, 0)).isEqualTo(9950);
+    assertThat(book.getAmount(OrderType.BID, 1)).isEqualTo(5000);
+
+    book.update(OrderType.ASK, 10050, 0);
+    book.update(OrderType.BID, 9900, 1234);
+    assertThat(book.getDepth(OrderType.ASK)).isEqualTo(1);
+    assertThat(book.getAmountAt(OrderType.BID, 9900)).isEqualTo(1234);
+    assertThat(book.getAmountAt(OrderType.BID, 9901)).isZero();
+
+    OrderBook orderBook = book.toOrderBook(1);
+    assertThat(orderBook.getBids()).hasSize(1);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualByComparingTo("99.50");
+    assertThat(orderBook.getBids().get(0).getOriginalAmount()).isEqualByComparingTo("0.7");
+  }
+
+  @Test
+  public void testMatchesOrderBook() {
+
+    OrderBook reference = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    ScaledOrderBook book = new ScaledOrderBook(CurrencyPair.BTC_USD, 2, 3);
+    Random random = new Random(7);
+    for (int i = 0; i < 5000; i++) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      int tick = random.nextInt(300);
+      BigDecimal price =
+          BigDecimal.valueOf(type == OrderType.ASK ? 100000 + tick : 99999 - tick, 2);
+      BigDecimal volume =
+          random.nextInt(4) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(random.nextInt(5000), 3);
+      OrderBookUpdate update =
+          new OrderBookUpdate(type, volume, CurrencyPair.BTC_USD, price, new Date(i), volume);
+      reference.update(update);
+      book.update(update);
+    }
+
+    OrderBook converted = book.toOrderBook();
+    assertThat(converted.getAsks()).hasSameSizeAs(reference.getAsks());
+    assertThat(converted.getBids()).hasSameSizeAs(reference.getBids());
+    for (int i = 0; i < reference.getBids().size(); i++) {
+      assertThat(converted.getBids().get(i).getLimitPrice())
+          .isEqualByComparingTo(reference.getBids().get(i).getLimitPrice());
+      assertThat(converted.getBids().get(i).getOriginalAmount())
+          .isEqualByComparingTo(reference.getBids().get(i).getOriginalAmount());
+    }
+    for (int i = 0; i < reference.getAsks().size(); i++) {
+      assertThat(converted.getAsks().get(i).getLimitPrice())
+          .isEqualByComparingTo(reference.getAsks().get(i).getLimitPrice());
+    }
+  }
+
+  @Test
+  public void testReadLevels() throws Exception {
+
+    ScaledOrderBook book = new ScaledOrderBook(CurrencyPair.BTC_USD, 5, 3);
+    try (JsonParser parser =
+        new JsonFactory()
+            .createParser("[[\"530.75513\",\"0.248\",1391825343],[530.76,1.014,1391825338,[]]]")) {
+      parser.nextToken();
+      long timestamp = FixedPointLevelsReader.readLevels(parser, book, OrderType.ASK);
+      assertThat(timestamp).isEqualTo(1391825343L);
+    }
+    assertThat(book.getDepth(OrderType.ASK)).isEqualTo(2);
+    assertThat(book.getPrice(OrderType.ASK, 0)).isEqualTo(53075513L);
+    assertThat(book.getAmount(OrderType.ASK, 1)).isEqualTo(1014L);
+  }
+}
@@ -1,7 +1,14 @@
 package org.knowm.xchange.dto.marketdata;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
 import org.junit.Assert;
 import org.junit.Test;
+import org.knowm.xchange.dto.Order.OrderType;
 
 public class TradesTest {
 
@@ -22,4 +29,20 @@ public class TradesTest {
       Assert.fail("Could not compare trades");
     }
   }
+
+  @Test
+  public void testTimestampMillisSurvivesSerialization() throws Exception {
+    Date timestamp = new Date(1500000000000L);
+    Trade trade = new Trade(OrderType.BID, BigDecimal.ONE, null, BigDecimal.TEN, timestamp, "1");
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(trade);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Trade copy = (Trade) in.readObject();
+      Assert.assertEquals(timestamp, copy.getTimestamp());
+      Assert.assertEquals(timestamp.getTime(), copy.getTimestampMillis());
+    }
+  }
 }
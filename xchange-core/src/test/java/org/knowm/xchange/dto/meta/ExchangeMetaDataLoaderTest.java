@@ -0,0 +1,122 @@
+package org.knowm.xchange.dto.meta;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.account.Fee;
+
+public class ExchangeMetaDataLoaderTest {
+
+  private static final String RESOURCE = "org/knowm/xchange/core/meta/exchange-metadata";
+
+  @After
+  public void tearDown() {
+
+    ExchangeMetaDataLoader.clearCache();
+  }
+
+  @Test
+  public void testLoadsCopies() throws IOException {
+
+    ExchangeMetaData first = ExchangeMetaDataLoader.load(RESOURCE);
+    CurrencyPairMetaData pair = first.getCurrencyPairs().get(CurrencyPair.BTC_USD);
+    assertThat(pair.getPriceScale()).isEqualTo(2);
+    assertThat(pair.getMinimumAmount()).isEqualTo(new BigDecimal("0.0001"));
+
+    first.getCurrencyPairs().clear();
+    first.getCurrencyPairs().put(CurrencyPair.ETH_BTC, pair);
+
+    ExchangeMetaData second = ExchangeMetaDataLoader.load(RESOURCE);
+    assertThat(second.getCurrencyPairs()).containsOnlyKeys(CurrencyPair.BTC_USD);
+    assertThat(second.getCurrencyPairs().get(CurrencyPair.BTC_USD)).isSameAs(pair);
+  }
+
+  @Test
+  public void testMissingResource() throws IOException {
+
+    assertThat(ExchangeMetaDataLoader.load("org/knowm/xchange/core/meta/nonexistent")).isNull();
+  }
+
+  @Test
+  public void testCopiesRateLimits() {
+
+    ExchangeMetaData metaData = sample();
+    ExchangeMetaData copy = ExchangeMetaDataLoader.copy(metaData);
+    copy.getPrivateRateLimits()[0].calls = 1;
+
+    assertThat(metaData.getPrivateRateLimits()[0].calls).isEqualTo(10);
+    assertThat(copy.isShareRateLimits()).isTrue();
+    assertThat(copy.getPublicRateLimits()).isNull();
+  }
+
+  @Test
+  public void testBinaryRoundTrip() throws IOException {
+
+    ExchangeMetaData metaData = sample();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ExchangeMetaDataBinary.write(metaData, out);
+
+    ExchangeMetaData read =
+        ExchangeMetaDataBinary.read(new ByteArrayInputStream(out.toByteArray()));
+
+    assertThat(read.toJSONString()).isEqualTo(metaData.toJSONString());
+    assertThat(read.getCurrencyPairs().keySet())
+        .containsExactlyElementsOf(metaData.getCurrencyPairs().keySet());
+    assertThat(read.getCurrencyPairs().get(CurrencyPair.BTC_USD).getMaximumAmount())
+        .isEqualTo(new BigDecimal("123456789012345678901234567890.000000001"));
+    assertThat(read.getCurrencies().get(Currency.ETH)).isNull();
+  }
+
+  @Test(expected = IOException.class)
+  public void testBinaryRejectsJson() throws IOException {
+
+    ExchangeMetaDataBinary.read(new ByteArrayInputStream("{\"currency_pairs\":{}}".getBytes()));
+  }
+
+  private static ExchangeMetaData sample() {
+
+    Map<CurrencyPair, CurrencyPairMetaData> pairs = new LinkedHashMap<>();
+    pairs.put(
+        CurrencyPair.BTC_USD,
+        new CurrencyPairMetaData(
+            new BigDecimal("0.0025"),
+            new BigDecimal("0.0001"),
+            new BigDecimal("123456789012345678901234567890.000000001"),
+            null,
+            new BigDecimal("-5E+3"),
+            8,
+            2,
+            new FeeTier[] {
+              new FeeTier(BigDecimal.ZERO, new Fee(new BigDecimal("0.001"), null)),
+              new FeeTier(new BigDecimal("50000"), null)
+            },
+            new BigDecimal("0.01"),
+            Currency.USD,
+            true));
+    pairs.put(CurrencyPair.ETH_BTC, new CurrencyPairMetaData(null, null, null, null, null));
+    pairs.put(CurrencyPair.LTC_BTC, null);
+
+    Map<Currency, CurrencyMetaData> currencies = new LinkedHashMap<>();
+    currencies.put(Currency.BTC, new CurrencyMetaData(8, new BigDecimal("0.0005")));
+    currencies.put(Currency.USD, new CurrencyMetaData(null, null));
+    currencies.put(Currency.ETH, null);
+
+    return new ExchangeMetaData(
+        pairs,
+        currencies,
+        null,
+        new RateLimit[] {new RateLimit(10, 1, SECONDS), new RateLimit(600, 5, MINUTES)},
+        true);
+  }
+}
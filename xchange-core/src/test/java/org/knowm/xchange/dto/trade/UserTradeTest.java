@@ -43,6 +43,7 @@ public class UserTradeTest {
     assertThat(copy.getCurrencyPair()).isEqualTo(currencyPair);
     assertThat(copy.getPrice()).isEqualTo(price);
     assertThat(copy.getTimestamp()).isEqualTo(timestamp);
+    assertThat(copy.getTimestampMillis()).isEqualTo(timestamp.getTime());
     assertThat(copy.getId()).isEqualTo(id);
     assertThat(copy.getOrderId()).isEqualTo(orderId);
     assertThat(copy.getFeeAmount()).isEqualTo(feeAmount);
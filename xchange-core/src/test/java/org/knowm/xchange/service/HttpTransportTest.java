@@ -0,0 +1,128 @@
+package org.knowm.xchange.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import org.junit.Test;
+import si.mazi.rescu.ClientConfig;
+
+public class HttpTransportTest {
+
+  @Test
+  public void testSharesOneSocketFactory() {
+
+    ClientConfig first = HttpTransport.getDefault().configure(new ClientConfig());
+    ClientConfig second = HttpTransport.getDefault().configure(new ClientConfig());
+
+    assertThat(first.getSslSocketFactory()).isNotNull();
+    assertThat(second.getSslSocketFactory()).isSameAs(first.getSslSocketFactory());
+  }
+
+  @Test
+  public void testKeepsConfiguredSocketFactory() {
+
+    SSLSocketFactory factory = HttpsURLConnection.getDefaultSSLSocketFactory();
+    ClientConfig config = new ClientConfig();
+    config.setSslSocketFactory(factory);
+
+    assertThat(HttpTransport.getDefault().configure(config).getSslSocketFactory())
+        .isSameAs(factory);
+  }
+
+  @Test
+  public void testFollowsTheDefaultSocketFactory() throws Exception {
+
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(null, null, null);
+    SSLSocketFactory applications = context.getSocketFactory();
+    AtomicInteger sockets = new AtomicInteger();
+    SSLSocketFactory original = HttpsURLConnection.getDefaultSSLSocketFactory();
+    SSLSocketFactory transport = new HttpTransport.Builder().build().getSslSocketFactory();
+    try (ServerSocket server = new ServerSocket(0)) {
+      // set by the application after the transport was built
+      HttpsURLConnection.setDefaultSSLSocketFactory(
+          new SSLSocketFactory() {
+            @Override
+            public String[] getDefaultCipherSuites() {
+              return applications.getDefaultCipherSuites();
+            }
+
+            @Override
+            public String[] getSupportedCipherSuites() {
+              return applications.getSupportedCipherSuites();
+            }
+
+            @Override
+            public Socket createSocket(Socket s, String host, int port, boolean autoClose)
+                throws IOException {
+              sockets.incrementAndGet();
+              return applications.createSocket(s, host, port, autoClose);
+            }
+
+            @Override
+            public Socket createSocket(String host, int port) throws IOException {
+              sockets.incrementAndGet();
+              return applications.createSocket(host, port);
+            }
+
+            @Override
+            public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+                throws IOException {
+              sockets.incrementAndGet();
+              return applications.createSocket(host, port, localHost, localPort);
+            }
+
+            @Override
+            public Socket createSocket(InetAddress host, int port) throws IOException {
+              sockets.incrementAndGet();
+              return applications.createSocket(host, port);
+            }
+
+            @Override
+            public Socket createSocket(
+                InetAddress address, int port, InetAddress localAddress, int localPort)
+                throws IOException {
+              sockets.incrementAndGet();
+              return applications.createSocket(address, port, localAddress, localPort);
+            }
+          });
+      try (Socket socket = transport.createSocket("localhost", server.getLocalPort())) {
+        assertThat(sockets).hasValue(1);
+        assertThat(socket.getTcpNoDelay()).isTrue();
+      }
+    } finally {
+      HttpsURLConnection.setDefaultSSLSocketFactory(original);
+    }
+  }
+
+  @Test
+  public void testSetsSocketOptions() throws Exception {
+
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(null, null, null);
+    try (ServerSocket server = new ServerSocket(0)) {
+      SSLSocketFactory tuned =
+          new HttpTransport.Builder().sslContext(context).build().getSslSocketFactory();
+      try (Socket socket = tuned.createSocket("localhost", server.getLocalPort())) {
+        assertThat(socket.getTcpNoDelay()).isTrue();
+      }
+
+      SSLSocketFactory untuned =
+          new HttpTransport.Builder()
+              .sslContext(context)
+              .tcpNoDelay(false)
+              .build()
+              .getSslSocketFactory();
+      try (Socket socket = untuned.createSocket("localhost", server.getLocalPort())) {
+        assertThat(socket.getTcpNoDelay()).isFalse();
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package org.knowm.xchange.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Random;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+import org.knowm.xchange.utils.DigestUtils;
+import si.mazi.rescu.RestInvocation;
+
+public class SignerTest {
+
+  private static final String SECRET = "secret";
+
+  private final TestDigest digest = new TestDigest();
+
+  @Test
+  public void testHmacMatchesMac() throws Exception {
+
+    String message = "POST/api/v1/order{\"symbol\":\"XBTUSD\",\"price\":\"1.5\"}éあ😀";
+    Mac mac = Mac.getInstance(BaseParamsDigest.HMAC_SHA_256);
+    mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), mac.getAlgorithm()));
+    byte[] expected = mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(digest.getSigner().append(message).hmacHex())
+        .isEqualTo(DigestUtils.bytesToHex(expected));
+    assertThat(digest.getSigner().append(message).hmacBase64())
+        .isEqualTo(Base64.getEncoder().encodeToString(expected));
+  }
+
+  @Test
+  public void testAppendPieces() {
+
+    String expected = digest.getSigner().append("/0/private/AddOrder-1234567890123").hmacHex();
+
+    String actual =
+        digest
+            .getSigner()
+            .append('/')
+            .append("xx0/private/AddOrderxx", 2, 20)
+            .append(-1234567890123L)
+            .hmacHex();
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void testSha256() throws Exception {
+
+    byte[] expected =
+        MessageDigest.getInstance("SHA-256")
+            .digest("1234nonce=1234".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(digest.getSigner().append(1234).append("nonce=1234").sha256()).isEqualTo(expected);
+  }
+
+  @Test
+  public void testGrowsForLongMessages() {
+
+    StringBuilder message = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      message.append("param").append(i).append('=').append(i).append('&');
+    }
+    String expected = digest.getSigner().append(message.toString()).hmacHex();
+
+    assertThat(digest.getSigner().append(message).hmacHex()).isEqualTo(expected);
+    assertThat(digest.getSigner().append("short").hmacHex())
+        .isEqualTo(new TestDigest().getSigner().append("short").hmacHex());
+  }
+
+  @Test
+  public void testEncoders() {
+
+    Random random = new Random(1);
+    for (int length = 0; length < 70; length++) {
+      byte[] bytes = new byte[length];
+      random.nextBytes(bytes);
+      char[] out = new char[DigestUtils.base64Length(length) + 1];
+
+      int written = DigestUtils.toBase64(bytes, 0, length, out, 1);
+
+      assertThat(new String(out, 1, written)).isEqualTo(Base64.getEncoder().encodeToString(bytes));
+      if (length > 0) {
+        assertThat(DigestUtils.bytesToHex(bytes))
+            .isEqualTo(String.format("%0" + length * 2 + "x", new BigInteger(1, bytes)));
+      }
+    }
+  }
+
+  private static final class TestDigest extends BaseParamsDigest {
+
+    private TestDigest() {
+
+      super(SECRET, HMAC_SHA_256);
+    }
+
+    @Override
+    public String digestParams(RestInvocation restInvocation) {
+
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+
+public class AsyncMarketDataServiceAdapterTest {
+
+  @Test
+  public void testResult() throws Exception {
+
+    MarketDataService service =
+        new MarketDataService() {
+          @Override
+          public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+            return new Ticker.Builder().currencyPair(currencyPair).build();
+          }
+        };
+    AsyncMarketDataService async =
+        new AsyncMarketDataServiceAdapter(
+            service, AsyncServiceAdapter.newBoundedExecutor("test", 1));
+
+    Ticker ticker = async.getTickerAsync(CurrencyPair.BTC_USD).get(5, TimeUnit.SECONDS);
+
+    assertThat(ticker.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+  }
+
+  @Test
+  public void testFailure() {
+
+    IOException failure = new IOException("Connection reset");
+    MarketDataService service =
+        new MarketDataService() {
+          @Override
+          public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
+            throw failure;
+          }
+        };
+    AsyncMarketDataService async = new AsyncMarketDataServiceAdapter(service, Runnable::run);
+
+    assertThatThrownBy(() -> async.getTickerAsync(CurrencyPair.BTC_USD).get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCause(failure);
+    assertThatThrownBy(() -> async.getTradesAsync(CurrencyPair.BTC_USD).get())
+        .hasCauseInstanceOf(NotYetImplementedForExchangeException.class);
+  }
+
+  @Test
+  public void testRejected() {
+
+    Executor executor =
+        r -> {
+          throw new RejectedExecutionException();
+        };
+    AsyncMarketDataService async =
+        new AsyncMarketDataServiceAdapter(new MarketDataService() {}, executor);
+
+    assertThat(async.getTickerAsync(CurrencyPair.BTC_USD))
+        .hasFailedWithThrowableThat()
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  @Test
+  public void testConcurrencyBounded() throws Exception {
+
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    MarketDataService service =
+        new MarketDataService() {
+          @Override
+          public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+              release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return new Ticker.Builder().currencyPair(currencyPair).build();
+          }
+        };
+    AsyncMarketDataService async =
+        new AsyncMarketDataServiceAdapter(
+            service, AsyncServiceAdapter.newBoundedExecutor("test", 2));
+
+    List<CompletableFuture<Ticker>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(async.getTickerAsync(CurrencyPair.BTC_USD));
+    }
+    Thread.sleep(100);
+    assertThat(futures).noneMatch(CompletableFuture::isDone);
+    release.countDown();
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    assertThat(maxInFlight.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,187 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.service.marketdata.CachingMarketDataService.Call;
+import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
+import org.knowm.xchange.service.marketdata.params.Params;
+
+public class CachingMarketDataServiceTest {
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private final AtomicLong now = new AtomicLong();
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testReusesResultsUntilTheyExpire() throws IOException {
+
+    MarketDataService service =
+        builder(new CountingService()).ttl(Call.TICKER, 100, TimeUnit.MILLISECONDS).build();
+
+    Ticker first = service.getTicker(CurrencyPair.BTC_USD);
+    assertThat(service.getTicker(CurrencyPair.BTC_USD)).isSameAs(first);
+    assertThat(service.getTicker(CurrencyPair.ETH_BTC)).isNotSameAs(first);
+    assertThat(service.getTicker(CurrencyPair.BTC_USD, 5)).isNotSameAs(first);
+    assertThat(calls.get()).isEqualTo(3);
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertThat(service.getTicker(CurrencyPair.BTC_USD)).isNotSameAs(first);
+    assertThat(calls.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void testComparesParamsByCurrencyPairs() throws IOException {
+
+    MarketDataService service = builder(new CountingService()).build();
+
+    List<Ticker> first = service.getTickers(pairs(CurrencyPair.BTC_USD, CurrencyPair.ETH_BTC));
+    assertThat(service.getTickers(pairs(CurrencyPair.BTC_USD, CurrencyPair.ETH_BTC)))
+        .isSameAs(first);
+    assertThat(service.getTickers(pairs(CurrencyPair.BTC_USD))).isNotSameAs(first);
+    assertThat(calls.get()).isEqualTo(2);
+
+    Params params = new Params() {};
+    List<Ticker> other = service.getTickers(params);
+    assertThat(service.getTickers(params)).isSameAs(other);
+    assertThat(service.getTickers(new Params() {})).isNotSameAs(other);
+    assertThat(calls.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void testSharesCallsInFlight() throws Exception {
+
+    CountDownLatch release = new CountDownLatch(1);
+    MarketDataService service =
+        builder(
+                new CountingService() {
+                  @Override
+                  public Ticker getTicker(CurrencyPair currencyPair, Object... args)
+                      throws IOException {
+
+                    try {
+                      release.await();
+                    } catch (InterruptedException e) {
+                      throw new IOException(e);
+                    }
+                    return super.getTicker(currencyPair, args);
+                  }
+                })
+            .ttl(0, TimeUnit.SECONDS)
+            .build();
+
+    CountDownLatch started = new CountDownLatch(4);
+    List<Future<Ticker>> tickers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      tickers.add(
+          executor.submit(
+              () -> {
+                started.countDown();
+                return service.getTicker(CurrencyPair.BTC_USD);
+              }));
+    }
+    started.await(5, TimeUnit.SECONDS);
+    Thread.sleep(100);
+    release.countDown();
+
+    Ticker first = tickers.get(0).get(5, TimeUnit.SECONDS);
+    for (Future<Ticker> ticker : tickers) {
+      assertThat(ticker.get(5, TimeUnit.SECONDS)).isSameAs(first);
+    }
+    assertThat(calls.get()).isEqualTo(1);
+
+    service.getTicker(CurrencyPair.BTC_USD);
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testDoesNotKeepFailures() throws IOException {
+
+    MarketDataService service =
+        builder(
+                new CountingService() {
+                  @Override
+                  public Ticker getTicker(CurrencyPair currencyPair, Object... args)
+                      throws IOException {
+
+                    if (calls.get() == 0) {
+                      calls.incrementAndGet();
+                      throw new IOException("Unavailable");
+                    }
+                    return super.getTicker(currencyPair, args);
+                  }
+                })
+            .build();
+
+    assertThatThrownBy(() -> service.getTicker(CurrencyPair.BTC_USD))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Unavailable");
+    assertThat(service.getTicker(CurrencyPair.BTC_USD)).isNotNull();
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testDropsLeastRecentlyUsed() throws IOException {
+
+    MarketDataService service = builder(new CountingService()).maximumSize(2).build();
+
+    service.getTicker(CurrencyPair.BTC_USD);
+    service.getTicker(CurrencyPair.ETH_BTC);
+    service.getTicker(CurrencyPair.BTC_USD);
+    service.getTicker(CurrencyPair.LTC_BTC);
+    assertThat(calls.get()).isEqualTo(3);
+
+    service.getTicker(CurrencyPair.BTC_USD);
+    assertThat(calls.get()).isEqualTo(3);
+    service.getTicker(CurrencyPair.ETH_BTC);
+    assertThat(calls.get()).isEqualTo(4);
+  }
+
+  private static CurrencyPairsParam pairs(CurrencyPair... currencyPairs) {
+
+    return () -> new ArrayList<>(Arrays.asList(currencyPairs));
+  }
+
+  private CachingMarketDataService.Builder builder(MarketDataService service) {
+
+    return new CachingMarketDataService.Builder(service).nanoClock(now::get);
+  }
+
+  private class CountingService implements MarketDataService {
+
+    @Override
+    public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
+
+      calls.incrementAndGet();
+      return new Ticker.Builder().currencyPair(currencyPair).build();
+    }
+
+    @Override
+    public List<Ticker> getTickers(Params params) throws IOException {
+
+      calls.incrementAndGet();
+      return new ArrayList<>();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.CurrencyPairNotValidException;
+import org.knowm.xchange.service.AsyncServiceAdapter;
+import org.knowm.xchange.service.marketdata.params.Params;
+
+public class MarketSnapshotFetcherTest {
+
+  private static final List<CurrencyPair> PAIRS =
+      Arrays.asList(CurrencyPair.BTC_USD, CurrencyPair.ETH_BTC, CurrencyPair.LTC_BTC);
+
+  private final AtomicInteger bulkCalls = new AtomicInteger();
+  private final AtomicInteger singleCalls = new AtomicInteger();
+
+  @Test
+  public void testUsesBulkCall() throws IOException {
+
+    MarketSnapshotFetcher fetcher =
+        fetcher(
+            new MarketDataService() {
+              @Override
+              public List<Ticker> getTickers(Params params) {
+                bulkCalls.incrementAndGet();
+                return Arrays.asList(
+                    ticker(CurrencyPair.BTC_USD),
+                    ticker(CurrencyPair.ETH_BTC),
+                    ticker(CurrencyPair.XRP_BTC));
+              }
+
+              @Override
+              public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+                singleCalls.incrementAndGet();
+                return ticker(currencyPair);
+              }
+            });
+
+    MarketSnapshotFetcher.Snapshot<Ticker> snapshot = fetcher.getTickers(PAIRS);
+
+    assertThat(snapshot.getValues()).containsOnlyKeys(PAIRS);
+    assertThat(snapshot.getFailures()).isEmpty();
+    assertThat(bulkCalls.get()).isEqualTo(1);
+    assertThat(singleCalls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testFansOutWithoutBulkCall() throws IOException {
+
+    MarketSnapshotFetcher fetcher =
+        fetcher(
+            new MarketDataService() {
+              @Override
+              public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) {
+                singleCalls.incrementAndGet();
+                if (currencyPair.equals(CurrencyPair.LTC_BTC)) {
+                  throw new CurrencyPairNotValidException(currencyPair);
+                }
+                return new OrderBook(null, Collections.emptyList(), Collections.emptyList());
+              }
+            });
+
+    MarketSnapshotFetcher.Snapshot<OrderBook> snapshot = fetcher.getOrderBooks(PAIRS);
+    fetcher.getOrderBooks(PAIRS);
+
+    assertThat(snapshot.getValues()).containsOnlyKeys(CurrencyPair.BTC_USD, CurrencyPair.ETH_BTC);
+    assertThat(snapshot.getFailures().get(CurrencyPair.LTC_BTC))
+        .isInstanceOf(CurrencyPairNotValidException.class);
+    assertThat(singleCalls.get()).isEqualTo(6);
+  }
+
+  @Test
+  public void testBulkFailure() {
+
+    MarketSnapshotFetcher fetcher =
+        fetcher(
+            new MarketDataService() {
+              @Override
+              public List<Ticker> getTickers(Params params) throws IOException {
+                throw new IOException("Connection reset");
+              }
+            });
+
+    assertThatThrownBy(() -> fetcher.getTickers(PAIRS))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Connection reset");
+  }
+
+  @Test
+  public void testConcurrency() {
+
+    ExchangeMetaData metaData =
+        new ExchangeMetaData(
+            null,
+            null,
+            new RateLimit[] {
+              new RateLimit(15, 1, TimeUnit.MINUTES), new RateLimit(1, 1, TimeUnit.SECONDS)
+            },
+            null,
+            null);
+    assertThat(MarketSnapshotFetcher.concurrency(metaData)).isEqualTo(1);
+
+    metaData =
+        new ExchangeMetaData(
+            null, null, new RateLimit[] {new RateLimit(1200, 1, TimeUnit.MINUTES)}, null, null);
+    assertThat(MarketSnapshotFetcher.concurrency(metaData)).isEqualTo(16);
+
+    metaData =
+        new ExchangeMetaData(
+            null, null, new RateLimit[] {new RateLimit(6, 1, TimeUnit.SECONDS)}, null, null);
+    assertThat(MarketSnapshotFetcher.concurrency(metaData)).isEqualTo(6);
+    assertThat(MarketSnapshotFetcher.concurrency(null)).isEqualTo(4);
+  }
+
+  @Test
+  public void testCloseStopsOwnThreads() throws IOException {
+
+    Exchange exchange = mock(Exchange.class);
+    when(exchange.getMarketDataService())
+        .thenReturn(
+            new MarketDataService() {
+              @Override
+              public Ticker getTicker(CurrencyPair currencyPair, Object... args) {
+                return ticker(currencyPair);
+              }
+            });
+    MarketSnapshotFetcher fetcher = new MarketSnapshotFetcher(exchange, 2);
+    List<CurrencyPair> pair = Collections.singletonList(CurrencyPair.BTC_USD);
+    assertThat(fetcher.getTickers(pair).getValues()).containsOnlyKeys(pair);
+
+    fetcher.close();
+
+    assertThat(fetcher.getTickers(pair).getFailures().get(CurrencyPair.BTC_USD))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  private static MarketSnapshotFetcher fetcher(MarketDataService service) {
+
+    return new MarketSnapshotFetcher(
+        new AsyncMarketDataServiceAdapter(
+            service, AsyncServiceAdapter.newBoundedExecutor("test", 2)));
+  }
+
+  private static Ticker ticker(CurrencyPair currencyPair) {
+
+    return new Ticker.Builder().currencyPair(currencyPair).build();
+  }
+}
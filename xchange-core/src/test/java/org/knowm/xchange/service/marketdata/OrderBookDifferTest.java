@@ -0,0 +1,183 @@
+package org.knowm.xchange.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class OrderBookDifferTest {
+
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USD;
+
+  private final OrderBookDiffer differ = new OrderBookDiffer();
+  private final List<OrderBookUpdate> published = new ArrayList<>();
+
+  @Test
+  public void testPublishesOnlyChangedLevels() {
+
+    Consumer<List<OrderBookUpdate>> subscriber = published::addAll;
+    differ.subscribe(subscriber);
+
+    differ.update(
+        PAIR,
+        book(
+            new Date(1),
+            Arrays.asList(ask("101", "1"), ask("102", "2"), ask("103", "3")),
+            Arrays.asList(bid("100", "1"), bid("99", "2"))));
+    assertThat(published).hasSize(5);
+    published.clear();
+
+    Date timestamp = new Date(2);
+    List<OrderBookUpdate> updates =
+        differ.update(
+            PAIR,
+            book(
+                timestamp,
+                Arrays.asList(ask("101", "1.0"), ask("102", "5"), ask("104", "4")),
+                Arrays.asList(bid("100.5", "1"), bid("100", "1"), bid("99", "2"))));
+
+    assertThat(published).isEqualTo(updates);
+    assertThat(updates)
+        .extracting(
+            u -> u.getLimitOrder().getType(),
+            u -> u.getLimitOrder().getLimitPrice().toPlainString(),
+            u -> u.getTotalVolume().toPlainString())
+        .containsExactly(
+            tuple(OrderType.ASK, "102", "5"),
+            tuple(OrderType.ASK, "103", "0"),
+            tuple(OrderType.ASK, "104", "4"),
+            tuple(OrderType.BID, "100.5", "1"));
+    assertThat(updates.get(0).getLimitOrder().getTimestamp()).isEqualTo(timestamp);
+    assertThat(updates.get(0).getLimitOrder().getCurrencyPair()).isEqualTo(PAIR);
+
+    differ.unsubscribe(subscriber);
+    published.clear();
+    differ.update(PAIR, book(timestamp, new ArrayList<>(), new ArrayList<>()));
+    assertThat(published).isEmpty();
+  }
+
+  @Test
+  public void testPublishesNothingForAnUnchangedBook() {
+
+    differ.subscribe(published::addAll);
+    OrderBook book =
+        book(new Date(1), Arrays.asList(ask("101", "1")), Arrays.asList(bid("100", "1")));
+
+    differ.update(PAIR, book);
+    published.clear();
+    assertThat(differ.update(PAIR, book)).isEmpty();
+    assertThat(published).isEmpty();
+
+    differ.reset(PAIR);
+    assertThat(differ.update(PAIR, book)).hasSize(2);
+    assertThat(differ.update(CurrencyPair.ETH_BTC, book)).hasSize(2);
+  }
+
+  @Test
+  public void testKeepsPublishingPastAFailingSubscriber() {
+
+    differ.subscribe(
+        updates -> {
+          throw new IllegalStateException("Subscriber failed");
+        });
+    differ.subscribe(published::addAll);
+
+    differ.update(
+        PAIR, book(new Date(1), Arrays.asList(ask("101", "1")), Arrays.asList(bid("100", "1"))));
+    differ.update(
+        PAIR, book(new Date(2), Arrays.asList(ask("101", "2")), Arrays.asList(bid("100", "1"))));
+
+    assertThat(published)
+        .extracting(u -> u.getLimitOrder().getType(), u -> u.getTotalVolume().toPlainString())
+        .containsExactly(
+            tuple(OrderType.ASK, "1"), tuple(OrderType.BID, "1"), tuple(OrderType.ASK, "2"));
+  }
+
+  @Test
+  public void testAggregatesOrdersAtTheSamePrice() {
+
+    OrderBook from =
+        book(new Date(1), Arrays.asList(ask("101", "1"), ask("101", "2")), new ArrayList<>());
+    OrderBook to = book(new Date(2), Arrays.asList(ask("101", "3")), new ArrayList<>());
+
+    assertThat(OrderBookDiffer.diff(PAIR, from, to)).isEmpty();
+  }
+
+  @Test
+  public void testUpdatesTurnThePreviousBookIntoTheNext() {
+
+    Random random = new Random(1);
+    OrderBook book = randomBook(random, 0);
+    differ.update(PAIR, book);
+    OrderBook applied = book(book.getTimeStamp(), book.getAsks(), book.getBids());
+
+    for (int i = 1; i <= 100; i++) {
+      OrderBook next = randomBook(random, i);
+      differ.update(PAIR, next).forEach(applied::update);
+      assertThat(levels(applied)).isEqualTo(levels(next));
+      assertThat(applied.getTimeStamp()).isEqualTo(next.getTimeStamp());
+    }
+  }
+
+  private static OrderBook randomBook(Random random, int time) {
+
+    List<LimitOrder> asks = new ArrayList<>();
+    List<LimitOrder> bids = new ArrayList<>();
+    for (int level = 1; level <= 50; level++) {
+      if (random.nextInt(4) != 0) {
+        asks.add(ask(String.valueOf(1000 + level), String.valueOf(1 + random.nextInt(3))));
+      }
+      if (random.nextInt(4) != 0) {
+        bids.add(bid(String.valueOf(1000 - level), String.valueOf(1 + random.nextInt(3))));
+      }
+    }
+    return book(new Date(time), asks, bids);
+  }
+
+  private static List<String> levels(OrderBook book) {
+
+    List<String> levels = new ArrayList<>();
+    for (LimitOrder order : book.getAsks()) {
+      levels.add("ask " + order.getLimitPrice() + " " + order.getOriginalAmount());
+    }
+    for (LimitOrder order : book.getBids()) {
+      levels.add("bid " + order.getLimitPrice() + " " + order.getOriginalAmount());
+    }
+    return levels;
+  }
+
+  private static OrderBook book(Date timestamp, List<LimitOrder> asks, List<LimitOrder> bids) {
+
+    return new OrderBook(timestamp, asks, bids);
+  }
+
+  private static LimitOrder ask(String price, String amount) {
+
+    return order(OrderType.ASK, price, amount);
+  }
+
+  private static LimitOrder bid(String price, String amount) {
+
+    return order(OrderType.BID, price, amount);
+  }
+
+  private static LimitOrder order(OrderType type, String price, String amount) {
+
+    return new LimitOrder.Builder(type, PAIR)
+        .originalAmount(new BigDecimal(amount))
+        .limitPrice(new BigDecimal(price))
+        .build();
+  }
+}
@@ -0,0 +1,171 @@
+package org.knowm.xchange.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+import org.knowm.xchange.service.metrics.MetricsRecorder.Phase;
+
+public class MetricsRegistryTest {
+
+  private final MetricsRegistry registry = new MetricsRegistry();
+  private final MetricsInterceptor interceptor =
+      new MetricsInterceptor(registry, "Test", "TestService");
+  private final MetricKey key = new MetricKey("Test", "TestService", "depth");
+
+  @Test
+  public void testHistogramKeepsValuesToThreePercent() {
+
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000);
+    }
+
+    assertThat(histogram.getCount()).isEqualTo(1000);
+    assertThat(histogram.getMax()).isEqualTo(1_000_000);
+    assertThat(histogram.getMean()).isEqualTo(500_500);
+    assertThat(histogram.getValueAtPercentile(50)).isBetween(500_000L, 515_000L);
+    assertThat(histogram.getValueAtPercentile(99)).isBetween(990_000L, 1_000_000L);
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000);
+    assertThat(new LatencyHistogram().getValueAtPercentile(50)).isZero();
+  }
+
+  @Test
+  public void testHistogramBucketsCoverAllValues() {
+
+    for (long value : new long[] {0, 1, 63, 64, 65, 1000, 1L << 40, Long.MAX_VALUE}) {
+      long highest = LatencyHistogram.highestValue(LatencyHistogram.index(value));
+      assertThat(highest).isGreaterThanOrEqualTo(value);
+      assertThat(highest - value).isLessThanOrEqualTo(value / 32);
+    }
+  }
+
+  @Test
+  public void testMeasuresCallPhases() throws Throwable {
+
+    ObjectMapper mapper = MetricsInterceptor.objectMapperFactory().createObjectMapper();
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          TimeUnit.MILLISECONDS.sleep(5);
+          return mapper.readValue("[1,2,3]", mapper.getTypeFactory().constructType(int[].class));
+        };
+
+    String adapted =
+        MetricsInterceptor.adapt(
+            registry, () -> depth(interceptor, handler), result -> result.length + " levels");
+
+    assertThat(adapted).isEqualTo("3 levels");
+    assertThat(registry.getKeys()).containsExactly(key);
+    assertThat(registry.getRequestCount(key)).isEqualTo(1);
+    assertThat(registry.getErrorCounts(key)).isEmpty();
+    assertThat(registry.getLatency(key, Phase.NETWORK).getMax())
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    assertThat(registry.getLatency(key, Phase.DESERIALIZE).getCount()).isEqualTo(1);
+    assertThat(registry.getLatency(key, Phase.ADAPT).getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testForgetsCallsOnceMeasured() throws Throwable {
+
+    depth(interceptor, (proxy, method, args) -> new int[0]);
+
+    // nothing measured is called here, so there is no call to record the conversion against
+    MetricsInterceptor.adapt(registry, () -> new int[0], result -> result.length);
+
+    assertThat(registry.getLatency(key, Phase.ADAPT).getCount()).isZero();
+  }
+
+  @Test
+  public void testCountsErrorsByClass() throws Throwable {
+
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          throw new RateLimitExceededException();
+        };
+
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> interceptor.aroundInvoke(handler, null, depth(), null))
+          .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    assertThat(registry.getRequestCount(key)).isEqualTo(2);
+    assertThat(registry.getErrorCounts(key)).containsEntry(RateLimitExceededException.class, 2L);
+    assertThat(registry.getLatency(key, Phase.DESERIALIZE).getCount()).isZero();
+  }
+
+  @Test
+  public void testCountsErrorsAsTheServiceAdaptsThem() throws Throwable {
+
+    MetricsInterceptor adapting =
+        new MetricsInterceptor(
+            registry,
+            "Test",
+            "TestService",
+            e -> e instanceof IllegalStateException ? new RateLimitExceededException(e) : e);
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          throw new IllegalStateException("Too many requests");
+        };
+
+    assertThatThrownBy(() -> adapting.aroundInvoke(handler, null, depth(), null))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(
+            () ->
+                MetricsInterceptor.adapt(
+                    registry,
+                    () -> depth(adapting, (proxy, method, args) -> new int[0]),
+                    result -> result[0]))
+        .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+
+    // an error in the body of a successful response, found by the service after the call
+    assertThatThrownBy(
+            () ->
+                MetricsInterceptor.adapt(
+                    registry,
+                    () -> {
+                      depth(adapting, (proxy, method, args) -> new int[0]);
+                      throw new FundsExceededException();
+                    },
+                    result -> result))
+        .isInstanceOf(FundsExceededException.class);
+    // what the proxy threw is counted once, as the service adapts it
+    assertThatThrownBy(
+            () -> MetricsInterceptor.adapt(registry, () -> depth(adapting, handler), r -> r))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(registry.getErrorCounts(key))
+        .containsEntry(RateLimitExceededException.class, 2L)
+        .containsEntry(ArrayIndexOutOfBoundsException.class, 1L)
+        .containsEntry(FundsExceededException.class, 1L)
+        .hasSize(3);
+  }
+
+  private static int[] depth(MetricsInterceptor interceptor, InvocationHandler handler)
+      throws IOException {
+
+    try {
+      return (int[]) interceptor.aroundInvoke(handler, null, depth(), null);
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  private static Method depth() throws NoSuchMethodException {
+
+    return Api.class.getMethod("depth");
+  }
+
+  private interface Api {
+
+    int[] depth();
+  }
+}
@@ -0,0 +1,74 @@
+package org.knowm.xchange.service.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+import si.mazi.rescu.ParamsDigest;
+
+public class RateLimitInterceptorTest {
+
+  private final ExchangeSpecification specification = new ExchangeSpecification(Exchange.class);
+  private final TokenBucketRateLimiter publicLimiter =
+      new TokenBucketRateLimiter(new RateLimit(1, 1, TimeUnit.MINUTES));
+  private final TokenBucketRateLimiter privateLimiter =
+      new TokenBucketRateLimiter(new RateLimit(2, 1, TimeUnit.MINUTES));
+  private final InvocationHandler handler = (proxy, method, args) -> "result";
+  private RateLimitInterceptor interceptor;
+  private Method method;
+
+  @Before
+  public void setUp() throws Exception {
+
+    Exchange exchange = mock(Exchange.class);
+    when(exchange.getExchangeSpecification()).thenReturn(specification);
+    when(exchange.getPublicRateLimiter()).thenReturn(publicLimiter);
+    when(exchange.getPrivateRateLimiter()).thenReturn(privateLimiter);
+    interceptor = new RateLimitInterceptor(exchange);
+    method = Runnable.class.getMethod("run");
+    specification.setRateLimitMode(RateLimitMode.FAIL_FAST);
+  }
+
+  @Test
+  public void testPublicAndPrivateCalls() throws Throwable {
+
+    ParamsDigest digest = restInvocation -> "signature";
+
+    assertThat(interceptor.aroundInvoke(handler, null, method, new Object[] {"BTC"}))
+        .isEqualTo("result");
+    assertThat(interceptor.aroundInvoke(handler, null, method, new Object[] {"key", digest}))
+        .isEqualTo("result");
+    assertThat(interceptor.aroundInvoke(handler, null, method, new Object[] {"key", digest}))
+        .isEqualTo("result");
+
+    assertThat(publicLimiter.getPermits()).isEqualTo(1);
+    assertThat(privateLimiter.getPermits()).isEqualTo(2);
+  }
+
+  @Test(expected = RateLimitExceededException.class)
+  public void testFailFast() throws Throwable {
+
+    interceptor.aroundInvoke(handler, null, method, null);
+    interceptor.aroundInvoke(handler, null, method, null);
+  }
+
+  @Test
+  public void testObjectMethodsNotLimited() throws Throwable {
+
+    Method toString = Object.class.getMethod("toString");
+
+    interceptor.aroundInvoke(handler, null, toString, null);
+    interceptor.aroundInvoke(handler, null, toString, null);
+
+    assertThat(publicLimiter.getPermits()).isZero();
+  }
+}
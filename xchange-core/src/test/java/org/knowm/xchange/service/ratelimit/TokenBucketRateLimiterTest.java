@@ -0,0 +1,140 @@
+package org.knowm.xchange.service.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.knowm.xchange.dto.meta.RateLimit;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+
+public class TokenBucketRateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong(1000);
+
+  @Test
+  public void testBurstThenSteadyRate() {
+
+    TokenBucketRateLimiter limiter = limiter(new RateLimit(4, 1, TimeUnit.SECONDS));
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(limiter.tryAcquire()).isTrue();
+    }
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    advanceMillis(249);
+    assertThat(limiter.tryAcquire()).isFalse();
+    advanceMillis(1);
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    advanceMillis(10000);
+    for (int i = 0; i < 4; i++) {
+      assertThat(limiter.tryAcquire()).isTrue();
+    }
+    assertThat(limiter.tryAcquire()).isFalse();
+    assertThat(limiter.getPermits()).isEqualTo(9);
+    assertThat(limiter.getRejections()).isEqualTo(4);
+  }
+
+  @Test
+  public void testAllLimitsApply() {
+
+    TokenBucketRateLimiter limiter =
+        limiter(new RateLimit(2, 1, TimeUnit.SECONDS), new RateLimit(3, 1, TimeUnit.MINUTES));
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    advanceMillis(1000);
+    assertThat(limiter.tryAcquire()).isTrue();
+    // Refused by the per-minute limit, without using up the per-second one
+    assertThat(limiter.tryAcquire()).isFalse();
+    advanceMillis(20000);
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  public void testBlockingWait() {
+
+    TokenBucketRateLimiter limiter =
+        new TokenBucketRateLimiter(new RateLimit(1, 50, TimeUnit.MILLISECONDS));
+
+    long start = System.nanoTime();
+    limiter.acquire();
+    limiter.acquire();
+    limiter.acquire();
+
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    assertThat(limiter.getWaitNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    assertThat(limiter.getMaxWaitNanos()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(40));
+  }
+
+  @Test
+  public void testInterruptedWaitGivesBackPermit() {
+
+    TokenBucketRateLimiter limiter = limiter(new RateLimit(1, 1, TimeUnit.SECONDS));
+    assertThat(limiter.tryAcquire()).isTrue();
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(limiter::acquire).isInstanceOf(RateLimitExceededException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+
+    advanceMillis(1000);
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.getPermits()).isEqualTo(2);
+  }
+
+  @Test
+  public void testAsyncPermits() {
+
+    TokenBucketRateLimiter limiter =
+        new TokenBucketRateLimiter(new RateLimit(1, 50, TimeUnit.MILLISECONDS));
+
+    assertThat(limiter.acquireAsync()).isDone();
+    CompletableFuture<Void> second = limiter.acquireAsync();
+    assertThat(second).isNotDone();
+    second.join();
+  }
+
+  @Test
+  public void testRecalibrate() {
+
+    TokenBucketRateLimiter limiter =
+        limiter(new RateLimit(10, 1, TimeUnit.SECONDS), new RateLimit(60, 1, TimeUnit.MINUTES));
+
+    limiter.recalibrate(2, System.currentTimeMillis() + 5000);
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    limiter.recalibrate(0, System.currentTimeMillis() + 5000);
+    advanceMillis(4000);
+    assertThat(limiter.tryAcquire()).isFalse();
+    advanceMillis(1100);
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsLimitWithNoCalls() {
+
+    limiter(new RateLimit(10, 1, TimeUnit.SECONDS), new RateLimit(0, 1, TimeUnit.SECONDS));
+  }
+
+  private TokenBucketRateLimiter limiter(RateLimit... rateLimits) {
+
+    return new TokenBucketRateLimiter(clock::get, rateLimits);
+  }
+
+  private void advanceMillis(long millis) {
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+}
@@ -0,0 +1,137 @@
+package org.knowm.xchange.service.trade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.BatchResult;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
+import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.DefaultCancelOrderParamId;
+
+public class OrderBatchesTest {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+
+  private final TradeService service =
+      new TradeService() {
+
+        @Override
+        public String placeLimitOrder(LimitOrder limitOrder) throws IOException {
+
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(20);
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          } finally {
+            inFlight.decrementAndGet();
+          }
+          if (limitOrder.getLimitPrice().signum() <= 0) {
+            throw new ExchangeException("Invalid price");
+          }
+          return "id" + limitOrder.getLimitPrice();
+        }
+
+        @Override
+        public boolean cancelOrder(CancelOrderParams orderParams) throws IOException {
+
+          if (!(orderParams instanceof CancelOrderByIdParams)) {
+            throw new IOException("Unavailable");
+          }
+          return !((CancelOrderByIdParams) orderParams).getOrderId().isEmpty();
+        }
+      };
+
+  @Test
+  public void testPlacesOrdersInParallelKeepingTheirOrder() throws IOException {
+
+    List<LimitOrder> orders = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      orders.add(order(i));
+    }
+
+    List<BatchResult<LimitOrder, String>> results = service.placeLimitOrders(orders);
+
+    assertThat(results).hasSize(20);
+    assertThat(results.get(0).isSuccess()).isFalse();
+    assertThat(results.get(0).getError()).hasMessage("Invalid price");
+    for (int i = 1; i < 20; i++) {
+      assertThat(results.get(i).getRequest()).isSameAs(orders.get(i));
+      assertThat(results.get(i).getResult()).isEqualTo("id" + i);
+    }
+    assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(OrderBatches.MAX_IN_FLIGHT);
+  }
+
+  @Test
+  public void testBoundsEachBatchOnTheCallersExecutor() {
+
+    List<LimitOrder> orders = new ArrayList<>();
+    for (int i = 1; i <= 20; i++) {
+      orders.add(order(i));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(20);
+    try {
+      List<BatchResult<LimitOrder, String>> results =
+          OrderBatches.fanOut(orders, service::placeLimitOrder, executor);
+
+      assertThat(results).extracting(BatchResult::getResult).contains("id1", "id20");
+      assertThat(maxInFlight.get())
+          .isGreaterThan(1)
+          .isLessThanOrEqualTo(OrderBatches.MAX_IN_FLIGHT);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    List<BatchResult<LimitOrder, String>> rejected =
+        OrderBatches.fanOut(
+            orders.subList(0, 2),
+            service::placeLimitOrder,
+            command -> {
+              throw new RejectedExecutionException("Shut down");
+            });
+    assertThat(rejected)
+        .extracting(BatchResult::getError)
+        .allMatch(e -> e instanceof RejectedExecutionException);
+  }
+
+  @Test
+  public void testCancelsOrders() throws IOException {
+
+    CancelOrderParams cancelled = new DefaultCancelOrderParamId("1");
+    CancelOrderParams notCancelled = new DefaultCancelOrderParamId("");
+    CancelOrderParams failed = new CancelOrderParams() {};
+
+    List<BatchResult<CancelOrderParams, Boolean>> results =
+        service.cancelOrders(Arrays.asList(cancelled, notCancelled, failed));
+
+    assertThat(results)
+        .extracting(BatchResult::getRequest)
+        .containsExactly(cancelled, notCancelled, failed);
+    assertThat(results.get(0).getResult()).isTrue();
+    assertThat(results.get(1).getResult()).isFalse();
+    assertThat(results.get(2).getError()).isInstanceOf(IOException.class);
+    assertThat(service.cancelOrders(new ArrayList<>())).isEmpty();
+  }
+
+  private static LimitOrder order(int price) {
+
+    return new LimitOrder.Builder(OrderType.BID, CurrencyPair.BTC_USD)
+        .originalAmount(BigDecimal.ONE)
+        .limitPrice(BigDecimal.valueOf(price))
+        .build();
+  }
+}
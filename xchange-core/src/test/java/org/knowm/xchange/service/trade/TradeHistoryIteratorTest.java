@@ -0,0 +1,232 @@
+package org.knowm.xchange.service.trade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamOffset;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+
+public class TradeHistoryIteratorTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final List<Long> offsets = new ArrayList<>();
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testReadsEveryPage() {
+
+    // 25 trades, newest first in pages of 10
+    List<String> ids =
+        iterator(history(25, null)).build().stream()
+            .map(UserTrade::getId)
+            .collect(Collectors.toList());
+
+    assertThat(ids).hasSize(25);
+    assertThat(ids.subList(0, 10))
+        .containsExactly("15", "16", "17", "18", "19", "20", "21", "22", "23", "24");
+    assertThat(ids.subList(20, 25)).containsExactly("0", "1", "2", "3", "4");
+    assertThat(offsets).containsExactly(0L, 10L, 20L);
+  }
+
+  @Test
+  public void testStopsAfterThePageBeyondTheBound() {
+
+    List<String> ids =
+        iterator(history(100, null)).sinceId(73).build().stream()
+            .map(UserTrade::getId)
+            .collect(Collectors.toList());
+
+    assertThat(ids)
+        .containsExactly(
+            "90", "91", "92", "93", "94", "95", "96", "97", "98", "99", "80", "81", "82", "83",
+            "84", "85", "86", "87", "88", "89", "73", "74", "75", "76", "77", "78", "79");
+    assertThat(offsets).containsExactly(0L, 10L, 20L);
+  }
+
+  @Test
+  public void testStopsAtTime() {
+
+    assertThat(iterator(history(100, null)).since(new Date(95_000)).build().stream().count())
+        .isEqualTo(5);
+    assertThat(offsets).containsExactly(0L);
+  }
+
+  @Test
+  public void testFiltersBoundBehindBackwardCursor() {
+
+    assertThat(iterator(history(100, null)).until(new Date(50_000)).build().stream().count())
+        .isEqualTo(51);
+    // on to the empty page past the oldest trade
+    assertThat(offsets).hasSize(11);
+  }
+
+  @Test
+  public void testReadsForwardAcrossPages() {
+
+    // a lower bound lies behind a forward cursor, so only filters
+    List<String> ids =
+        forward(forwardHistory(100)).since(new Date(35_000)).untilId(62).build().stream()
+            .map(UserTrade::getId)
+            .collect(Collectors.toList());
+
+    assertThat(ids).hasSize(28);
+    assertThat(ids.get(0)).isEqualTo("35");
+    assertThat(ids.get(27)).isEqualTo("62");
+    assertThat(offsets).containsExactly(0L, 10L, 20L, 30L, 40L, 50L, 60L);
+  }
+
+  @Test
+  public void testFetchesNextPageWhileCurrentIsRead() throws Exception {
+
+    CountDownLatch secondPage = new CountDownLatch(1);
+    TradeHistoryIterator iterator = iterator(history(25, secondPage)).build();
+
+    iterator.next();
+    assertThat(secondPage.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(offsets).containsExactly(0L, 10L);
+    iterator.close();
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test(expected = ExchangeException.class)
+  public void testWrapsIOException() {
+
+    TradeService failing =
+        new TradeService() {
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
+            throw new IOException("Unavailable");
+          }
+        };
+    try (Stream<UserTrade> trades =
+        new TradeHistoryIterator.Builder(
+                new AsyncTradeServiceAdapter(failing, executor),
+                TradeHistoryCursor.offset(10),
+                new OffsetParams())
+            .build().stream()) {
+      trades.count();
+    }
+  }
+
+  private TradeHistoryIterator.Builder iterator(TradeService service) {
+
+    return new TradeHistoryIterator.Builder(
+        new AsyncTradeServiceAdapter(service, executor),
+        TradeHistoryCursor.offset(10),
+        new OffsetParams());
+  }
+
+  private TradeHistoryIterator.Builder forward(TradeService service) {
+
+    TradeHistoryCursor offset = TradeHistoryCursor.offset(10);
+    return new TradeHistoryIterator.Builder(
+        new AsyncTradeServiceAdapter(service, executor),
+        new TradeHistoryCursor() {
+          @Override
+          public TradeHistoryParams next(TradeHistoryParams params, UserTrades page) {
+            return offset.next(params, page);
+          }
+
+          @Override
+          public Direction direction() {
+            return Direction.FORWARD;
+          }
+        },
+        new OffsetParams());
+  }
+
+  /** Trades with IDs and seconds from 0, served oldest first like Binance's. */
+  private TradeService forwardHistory(int count) {
+
+    return new TradeService() {
+      @Override
+      public UserTrades getTradeHistory(TradeHistoryParams params) {
+
+        long offset = ((TradeHistoryParamOffset) params).getOffset();
+        synchronized (offsets) {
+          offsets.add(offset);
+        }
+        List<UserTrade> trades = new ArrayList<>();
+        for (long id = offset; id < Math.min(count, offset + 10); id++) {
+          trades.add(trade(id));
+        }
+        return new UserTrades(trades, TradeSortType.SortByID);
+      }
+    };
+  }
+
+  private static UserTrade trade(long id) {
+
+    return new UserTrade(
+        OrderType.BID,
+        BigDecimal.ONE,
+        CurrencyPair.BTC_USD,
+        BigDecimal.TEN,
+        new Date(id * 1000),
+        Long.toString(id),
+        "order",
+        BigDecimal.ZERO,
+        CurrencyPair.BTC_USD.counter);
+  }
+
+  /** Trades with IDs and seconds from 0, served newest first like Kraken's. */
+  private TradeService history(int count, CountDownLatch secondPage) {
+
+    return new TradeService() {
+      @Override
+      public UserTrades getTradeHistory(TradeHistoryParams params) {
+
+        long offset = ((TradeHistoryParamOffset) params).getOffset();
+        synchronized (offsets) {
+          offsets.add(offset);
+        }
+        if (offset > 0 && secondPage != null) {
+          secondPage.countDown();
+        }
+        List<UserTrade> trades = new ArrayList<>();
+        for (long id = count - 1 - offset; id >= Math.max(0, count - 10 - offset); id--) {
+          trades.add(trade(id));
+        }
+        return new UserTrades(trades, TradeSortType.SortByTimestamp);
+      }
+    };
+  }
+
+  private static class OffsetParams implements TradeHistoryParamOffset {
+
+    private Long offset = 0L;
+
+    @Override
+    public Long getOffset() {
+      return offset;
+    }
+
+    @Override
+    public void setOffset(Long offset) {
+      this.offset = offset;
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package org.knowm.xchange.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.trade.AsyncTradeServiceAdapter;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
+import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamsTimeSpan;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamOffset;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsTimeSpan;
+
+public class TradeHistoryStoreTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @After
+  public void tearDown() {
+
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testStoresTradesOnceAndQueriesByTime() throws IOException {
+
+    File directory = folder.getRoot();
+    try (TradeHistoryStore store = TradeHistoryStore.open(directory)) {
+      TradeHistoryPartition partition = store.partition("Test", null, CurrencyPair.BTC_USD);
+      assertThat(partition.addTrades(Arrays.asList(trade(3), trade(1), trade(2)))).isEqualTo(3);
+      assertThat(partition.addTrades(Arrays.asList(trade(2), trade(4)))).isEqualTo(1);
+      assertThat(store.partition("Test", null, CurrencyPair.BTC_USD)).isSameAs(partition);
+    }
+
+    try (TradeHistoryStore store = TradeHistoryStore.open(directory)) {
+      TradeHistoryPartition partition = store.partition("Test", null, CurrencyPair.BTC_USD);
+      assertThat(partition.getTradeCount()).isEqualTo(4);
+      assertThat(ids(partition.getTrades(new Date(2000), new Date(3000))))
+          .containsExactly("2", "3");
+      assertThat(ids(partition.getTrades(null, null))).containsExactly("1", "2", "3", "4");
+      assertThat(partition.getLatestTrade().getId()).isEqualTo("4");
+
+      UserTrade trade = partition.getTrade("3");
+      assertThat(trade.getPrice()).isEqualByComparingTo("103.5");
+      assertThat(trade.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+      assertThat(trade.getFeeCurrency()).isEqualTo(Currency.USD);
+      assertThat(trade.getTimestampMillis()).isEqualTo(3000);
+      assertThat(partition.getTrade("5")).isNull();
+      assertThat(store.partition("Test", "other", CurrencyPair.BTC_USD).getTradeCount()).isZero();
+    }
+  }
+
+  @Test
+  public void testOpensOnceAtATime() throws IOException {
+
+    try (TradeHistoryStore store = TradeHistoryStore.open(folder.getRoot())) {
+      assertThatThrownBy(() -> TradeHistoryStore.open(folder.getRoot()))
+          .isInstanceOf(IOException.class);
+    }
+    TradeHistoryStore.open(folder.getRoot()).close();
+  }
+
+  @Test
+  public void testRollsSegmentsAndCutsOffTornRecord() throws IOException {
+
+    File directory = folder.getRoot();
+    TradeHistoryPartition partition = new TradeHistoryPartition(directory, 256);
+    List<UserTrade> trades = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      trades.add(trade(i));
+    }
+    partition.addTrades(trades);
+    partition.close();
+    File[] segments = new File(directory, "trades").listFiles();
+    Arrays.sort(segments);
+    assertThat(segments.length).isGreaterThan(10);
+
+    // a crash part way through writing the last record
+    File last = segments[segments.length - 1];
+    try (RandomAccessFile file = new RandomAccessFile(last, "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    partition = new TradeHistoryPartition(directory, 256);
+    assertThat(partition.getTradeCount()).isEqualTo(99);
+    assertThat(partition.addTrades(trades)).isEqualTo(1);
+    assertThat(ids(partition.getTrades(new Date(98_000), null))).containsExactly("98", "99");
+    partition.close();
+  }
+
+  @Test
+  public void testStoresFundingRecords() throws IOException {
+
+    try (TradeHistoryStore store = TradeHistoryStore.open(folder.getRoot())) {
+      TradeHistoryPartition partition = store.partition("Test", null, null);
+      FundingRecord deposit =
+          new FundingRecord(
+              "address",
+              new Date(1000),
+              Currency.BTC,
+              BigDecimal.ONE,
+              "d1",
+              null,
+              FundingRecord.Type.DEPOSIT,
+              FundingRecord.Status.COMPLETE,
+              null,
+              BigDecimal.ZERO,
+              "first");
+      assertThat(partition.addFundingRecords(Arrays.asList(deposit, deposit))).isEqualTo(1);
+
+      FundingRecord stored = partition.getLatestFundingRecord();
+      assertThat(stored.getInternalId()).isEqualTo("d1");
+      assertThat(stored.getType()).isEqualTo(FundingRecord.Type.DEPOSIT);
+      assertThat(stored.getStatus()).isEqualTo(FundingRecord.Status.COMPLETE);
+      assertThat(stored.getAmount()).isEqualByComparingTo("1");
+      assertThat(stored.getDescription()).isEqualTo("first");
+    }
+  }
+
+  @Test
+  public void testSyncResumesFromLatestTrade() throws IOException {
+
+    Venue venue = new Venue(25);
+    Exchange exchange = exchange(venue);
+    try (TradeHistoryStore store = TradeHistoryStore.open(folder.getRoot())) {
+      TradeHistoryPartition partition = store.partition(exchange, null, null);
+      assertThat(partition.syncTrades(exchange, new Params())).isEqualTo(25);
+      assertThat(venue.calls).isEqualTo(3);
+
+      venue.count = 32;
+      venue.calls = 0;
+      assertThat(partition.syncTrades(exchange, new Params())).isEqualTo(7);
+      assertThat(venue.calls).isEqualTo(1);
+      assertThat(partition.getTradeCount()).isEqualTo(32);
+    }
+  }
+
+  @Test
+  public void testSyncStartsAgainAfterFailure() throws IOException {
+
+    Venue venue = new Venue(25);
+    Exchange exchange = exchange(venue);
+    try (TradeHistoryStore store = TradeHistoryStore.open(folder.getRoot())) {
+      TradeHistoryPartition partition = store.partition(exchange, null, null);
+      partition.syncTrades(exchange, new Params());
+
+      // the newest page arrives, then the next fails
+      venue.count = 50;
+      venue.calls = 0;
+      venue.failAfter = 1;
+      try {
+        partition.syncTrades(exchange, new Params());
+      } catch (ExchangeException expected) {
+      }
+      venue.failAfter = Integer.MAX_VALUE;
+      assertThat(partition.syncTrades(exchange, new Params())).isEqualTo(15);
+      assertThat(partition.getTradeCount()).isEqualTo(50);
+    }
+  }
+
+  private Exchange exchange(Venue venue) {
+
+    Exchange exchange = mock(Exchange.class, RETURNS_DEEP_STUBS);
+    when(exchange.getExchangeSpecification().getExchangeName()).thenReturn("Test");
+    when(exchange.getTradeService()).thenReturn(venue);
+    when(exchange.getAsyncTradeService()).thenReturn(new AsyncTradeServiceAdapter(venue, executor));
+    return exchange;
+  }
+
+  private static List<String> ids(List<UserTrade> trades) {
+
+    return trades.stream().map(UserTrade::getId).collect(Collectors.toList());
+  }
+
+  private static UserTrade trade(long id) {
+
+    return new UserTrade(
+        OrderType.BID,
+        BigDecimal.ONE,
+        CurrencyPair.BTC_USD,
+        new BigDecimal("100.5").add(BigDecimal.valueOf(id)),
+        new Date(id * 1000),
+        Long.toString(id),
+        "order" + id,
+        new BigDecimal("0.01"),
+        Currency.USD);
+  }
+
+  /** Trades 0 to count - 1, a second apart, newest first in pages of 10 from the start time. */
+  private static class Venue implements TradeService {
+
+    int count;
+    int calls;
+    int failAfter = Integer.MAX_VALUE;
+
+    Venue(int count) {
+
+      this.count = count;
+    }
+
+    @Override
+    public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
+
+      if (calls++ >= failAfter) {
+        throw new IOException("Unavailable");
+      }
+      Date start = ((TradeHistoryParamsTimeSpan) params).getStartTime();
+      long offset = ((TradeHistoryParamOffset) params).getOffset();
+      List<UserTrade> trades = new ArrayList<>();
+      for (long id = count - 1 - offset; id >= Math.max(0, count - 10 - offset); id--) {
+        if (start == null || id * 1000 >= start.getTime()) {
+          trades.add(trade(id));
+        }
+      }
+      return new UserTrades(trades, TradeSortType.SortByTimestamp);
+    }
+
+    @Override
+    public TradeHistoryCursor getTradeHistoryCursor() {
+
+      return TradeHistoryCursor.offset(10);
+    }
+  }
+
+  private static class Params extends DefaultTradeHistoryParamsTimeSpan
+      implements TradeHistoryParamOffset {
+
+    private Long offset = 0L;
+
+    @Override
+    public Long getOffset() {
+      return offset;
+    }
+
+    @Override
+    public void setOffset(Long offset) {
+      this.offset = offset;
+    }
+  }
+}
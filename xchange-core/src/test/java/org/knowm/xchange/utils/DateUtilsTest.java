@@ -1,11 +1,13 @@
 package org.knowm.xchange.utils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 import java.util.TimeZone;
 import org.junit.Test;
 
@@ -46,4 +48,90 @@ public class DateUtilsTest {
 
     assertEquals(expectedOutput, DateUtils.fromRfc3339DateString(input));
   }
+
+  @Test
+  public void testFixedFormatsMatchSimpleDateFormat() throws Exception {
+
+    SimpleDateFormat iso = utc("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    SimpleDateFormat iso8601 = utc("yyyy-MM-dd'T'HH:mm:ss");
+    SimpleDateFormat rfc1123 = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+    rfc1123.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+    // every day over several leap years, at a different time each day
+    for (long millis = -86_400_000L * 365 * 3;
+        millis < 86_400_000L * 365 * 60;
+        millis += 86_399_999L) {
+      Date date = new Date(millis);
+      assertThat(DateUtils.fromISODateString(iso.format(date))).isEqualTo(date);
+      assertThat(DateUtils.fromISO8601DateString(iso8601.format(date)))
+          .isEqualTo(new Date(millis - Math.floorMod(millis, 1000)));
+      assertThat(DateUtils.fromRfc1123DateString(rfc1123.format(date), Locale.US))
+          .isEqualTo(new Date(millis - Math.floorMod(millis, 1000)));
+    }
+  }
+
+  @Test
+  public void testLenientInputsMatchSimpleDateFormat() throws Exception {
+
+    SimpleDateFormat iso = utc("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    for (String input :
+        new String[] {
+          "2016-06-10T12:16:11.7Z",
+          "2016-06-10T12:16:11.717123Z",
+          "2016-02-30T12:16:11.717Z",
+          "2016-06-10T24:00:00.000Z",
+          "2016-06-10T12:16:11.717Zand more"
+        }) {
+      assertThat(DateUtils.fromISODateString(input)).isEqualTo(iso.parse(input));
+    }
+
+    SimpleDateFormat iso8601 = utc("yyyy-MM-dd'T'HH:mm:ss");
+    for (String input :
+        new String[] {
+          "2016-06-10T12:16:11",
+          "2016-06-10T12:16:11.717Z",
+          "2016-06-10T12:16:110",
+          "2016-6-10T12:16:11"
+        }) {
+      assertThat(DateUtils.fromISO8601DateString(input)).isEqualTo(iso8601.parse(input));
+    }
+
+    SimpleDateFormat rfc1123 = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+    for (String input :
+        new String[] {
+          "Fri, 10 Jun 2016 12:16:11 GMT",
+          "Fri, 10 Jun 2016 12:16:11 GMT+01:00",
+          "Fri, 10 Jun 2016 12:16:11 PDT",
+          "Fri, 10 June 2016 12:16:11 GMT"
+        }) {
+      assertThat(DateUtils.fromRfc1123DateString(input, Locale.US)).isEqualTo(rfc1123.parse(input));
+    }
+  }
+
+  @Test
+  public void testRfc3339AcrossDaylightSavingMatchesSimpleDateFormat() throws Exception {
+
+    TimeZone original = TimeZone.getDefault();
+    try {
+      for (String zone : new String[] {"Europe/London", "America/New_York", "Australia/Sydney"}) {
+        TimeZone.setDefault(TimeZone.getTimeZone(zone));
+        SimpleDateFormat local = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        SimpleDateFormat utc = utc("yyyy-MM-dd HH:mm:ss");
+        // every half hour of a year, read as local times, including those skipped or repeated
+        for (long millis = 1514764800000L; millis < 1546300800000L; millis += 1_800_000) {
+          String input = utc.format(new Date(millis));
+          assertThat(DateUtils.fromRfc3339DateString(input)).isEqualTo(local.parse(input));
+        }
+      }
+    } finally {
+      TimeZone.setDefault(original);
+    }
+  }
+
+  private static SimpleDateFormat utc(String pattern) {
+
+    SimpleDateFormat format = new SimpleDateFormat(pattern);
+    format.setTimeZone(TimeZone.getTimeZone("UTC"));
+    return format;
+  }
 }
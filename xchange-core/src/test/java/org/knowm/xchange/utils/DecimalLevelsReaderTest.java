@@ -0,0 +1,110 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.Test;
+import org.knowm.xchange.utils.jackson.DecimalLevelsReader;
+import org.knowm.xchange.utils.jackson.PriceAmountListsDeserializer;
+
+public class DecimalLevelsReaderTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testReadsStringsAndNumbers() throws Exception {
+
+    List<Object[]> levels = read("[[\"100.50\", \"1.25\"], [99.5, 2], [\"1e-8\", \"0.00000001\"]]");
+
+    assertThat(levels).hasSize(3);
+    assertThat((BigDecimal) levels.get(0)[0]).isEqualByComparingTo("100.50");
+    assertThat(((BigDecimal) levels.get(0)[0]).scale()).isEqualTo(2);
+    assertThat((BigDecimal) levels.get(1)[0]).isEqualByComparingTo("99.5");
+    assertThat((BigDecimal) levels.get(1)[1]).isEqualByComparingTo("2");
+    assertThat((BigDecimal) levels.get(2)[0]).isEqualByComparingTo("0.00000001");
+    assertThat((long) levels.get(0)[2]).isZero();
+  }
+
+  @Test
+  public void testReadsNumericThirdElementAsTimestamp() throws Exception {
+
+    List<Object[]> levels =
+        read(
+            "[[\"5.1\", \"0.2\", 1546300800], [\"5.2\", \"0.3\", \"r\"], [\"5.3\", \"0.4\", 12.7]]");
+
+    assertThat((long) levels.get(0)[2]).isEqualTo(1546300800L);
+    assertThat((long) levels.get(1)[2]).isZero();
+    assertThat((long) levels.get(2)[2]).isEqualTo(12L);
+  }
+
+  @Test
+  public void testSkipsExtraElements() throws Exception {
+
+    List<Object[]> levels = read("[[\"1\", \"2\", 3, [4, {\"a\": [5]}], \"six\"], [\"7\", \"8\"]]");
+
+    assertThat(levels).hasSize(2);
+    assertThat((BigDecimal) levels.get(1)[0]).isEqualByComparingTo("7");
+    assertThat((BigDecimal) levels.get(1)[1]).isEqualByComparingTo("8");
+  }
+
+  @Test
+  public void testEmptyValues() throws Exception {
+
+    List<Object[]> levels = read("[[\"\", null]]");
+
+    assertThat(levels.get(0)[0]).isNull();
+    assertThat(levels.get(0)[1]).isNull();
+    assertThat(read("[]")).isEmpty();
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void testRejectsNonDecimal() throws Exception {
+
+    read("[[\"abc\", \"1\"]]");
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void testRejectsObjectLevel() throws Exception {
+
+    read("[{\"price\": \"1\"}]");
+  }
+
+  @Test
+  public void testBindsAnnotatedDto() throws Exception {
+
+    Depth depth =
+        mapper.readValue(
+            "{\"bids\": [[\"10\", \"1\"], [\"9\", \"2\"]], \"asks\": [[11, 3]]}", Depth.class);
+
+    assertThat(depth.bids).hasSize(2);
+    assertThat(depth.bids.get(1).get(0)).isEqualByComparingTo("9");
+    assertThat(depth.asks.get(0).get(1)).isEqualByComparingTo("3");
+  }
+
+  private List<Object[]> read(String json) throws Exception {
+
+    try (JsonParser parser = mapper.getFactory().createParser(json)) {
+      assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+      List<Object[]> levels =
+          DecimalLevelsReader.readLevels(
+              parser, (price, amount, timestamp) -> new Object[] {price, amount, timestamp});
+      assertThat(parser.nextToken()).isNull();
+      return levels;
+    }
+  }
+
+  static class Depth {
+
+    @JsonDeserialize(using = PriceAmountListsDeserializer.class)
+    public List<List<BigDecimal>> bids;
+
+    @JsonDeserialize(using = PriceAmountListsDeserializer.class)
+    public List<List<BigDecimal>> asks;
+  }
+}
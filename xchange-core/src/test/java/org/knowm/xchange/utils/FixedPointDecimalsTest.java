@@ -0,0 +1,71 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.junit.Test;
+
+public class FixedPointDecimalsTest {
+
+  @Test
+  public void testParse() {
+
+    assertThat(FixedPointDecimals.parse("123.45", 2)).isEqualTo(12345L);
+    assertThat(FixedPointDecimals.parse("123.45", 4)).isEqualTo(1234500L);
+    assertThat(FixedPointDecimals.parse("-0.00012300", 6)).isEqualTo(-123L);
+    assertThat(FixedPointDecimals.parse("+7", 0)).isEqualTo(7L);
+    assertThat(FixedPointDecimals.parse("100", 2)).isEqualTo(10000L);
+    assertThat(FixedPointDecimals.parse("0.00000000", 2)).isEqualTo(0L);
+    assertThat(FixedPointDecimals.parse("1.5e-3", 4)).isEqualTo(15L);
+    assertThat(FixedPointDecimals.parse("2E2", 1)).isEqualTo(2000L);
+    assertThat(FixedPointDecimals.parse(".5", 1)).isEqualTo(5L);
+    assertThat(FixedPointDecimals.parse("92233720368547758.07", 2)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void testParseChars() {
+
+    char[] chars = "[\"6543.21000\",\"0.5\"]".toCharArray();
+    assertThat(FixedPointDecimals.parse(chars, 2, 10, 2)).isEqualTo(654321L);
+    assertThat(FixedPointDecimals.parse(chars, 15, 3, 8)).isEqualTo(50000000L);
+  }
+
+  @Test
+  public void testParseRejectsPrecisionLoss() {
+
+    assertThatThrownBy(() -> FixedPointDecimals.parse("1.234", 2))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> FixedPointDecimals.parse("92233720368547758.08", 2))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  public void testParseRejectsGarbage() {
+
+    for (String invalid : new String[] {"", "-", ".", "1.2.3", "12a", "e5", "1e"}) {
+      assertThatThrownBy(() -> FixedPointDecimals.parse(invalid, 2))
+          .isInstanceOf(NumberFormatException.class);
+    }
+  }
+
+  @Test
+  public void testConversions() {
+
+    assertThat(FixedPointDecimals.fromBigDecimal(new BigDecimal("1.10"), 3)).isEqualTo(1100L);
+    assertThat(FixedPointDecimals.toBigDecimal(1100L, 3)).isEqualByComparingTo("1.1");
+    assertThat(FixedPointDecimals.rescale(1100L, 3, 1)).isEqualTo(11L);
+    assertThat(FixedPointDecimals.rescale(11L, 1, 3)).isEqualTo(1100L);
+    assertThatThrownBy(() -> FixedPointDecimals.rescale(1101L, 3, 1))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  public void testToString() {
+
+    assertThat(FixedPointDecimals.toString(12345L, 2)).isEqualTo("123.45");
+    assertThat(FixedPointDecimals.toString(-5L, 3)).isEqualTo("-0.005");
+    assertThat(FixedPointDecimals.toString(5L, 0)).isEqualTo("5");
+    assertThat(FixedPointDecimals.toString(Long.MIN_VALUE, 2)).isEqualTo("-92233720368547758.08");
+  }
+}
@@ -0,0 +1,170 @@
+package org.knowm.xchange.utils.nonce;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class ServerClockTest {
+
+  private final AtomicLong localMillis = new AtomicLong(1_000_000);
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger reads = new AtomicInteger();
+
+  /** The server is 5s ahead, and each read takes the given round trip. */
+  private ServerClock clock(long... roundTrips) {
+
+    return new ServerClock(
+        () -> {
+          long roundTrip = roundTrips[Math.min(reads.getAndIncrement(), roundTrips.length - 1)];
+          long serverTime = localMillis.get() + 5000 + roundTrip / 2;
+          nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(roundTrip));
+          localMillis.addAndGet(roundTrip);
+          return serverTime;
+        },
+        60_000,
+        localMillis::get,
+        nanos::get);
+  }
+
+  @Test
+  public void testAllowsForHalfTheRoundTrip() throws IOException {
+
+    ServerClock clock = clock(100);
+
+    assertThat(clock.getOffsetMillis()).isEqualTo(5000);
+    assertThat(clock.currentTimeMillis()).isEqualTo(localMillis.get() + 5000);
+    assertThat(clock.getRoundTripMillis()).isEqualTo(100.0);
+    assertThat(reads).hasValue(1);
+  }
+
+  @Test
+  public void testSyncsEveryInterval() throws IOException {
+
+    ServerClock clock = clock(100);
+    clock.currentTimeMillis();
+    localMillis.addAndGet(59_000);
+    clock.currentTimeMillis();
+    assertThat(reads).hasValue(1);
+
+    localMillis.addAndGet(1_000);
+    clock.currentTimeMillis();
+    assertThat(reads).hasValue(2);
+
+    clock.invalidate();
+    clock.currentTimeMillis();
+    assertThat(reads).hasValue(3);
+  }
+
+  @Test
+  public void testDiscardsSlowRoundTrips() throws IOException {
+
+    // an asymmetric slow read would skew the offset, so is not trusted
+    AtomicInteger count = new AtomicInteger();
+    ServerClock clock =
+        new ServerClock(
+            () -> {
+              long serverTime = localMillis.get() + (count.getAndIncrement() == 0 ? 5000 : 9000);
+              nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(count.get() == 1 ? 10 : 1000));
+              return serverTime;
+            },
+            60_000,
+            localMillis::get,
+            nanos::get);
+
+    assertThat(clock.getOffsetMillis()).isEqualTo(4995);
+    clock.invalidate();
+    assertThat(clock.getOffsetMillis()).isEqualTo(4995);
+    assertThat(clock.getRoundTripMillis()).isEqualTo(10 + 0.2 * (1000 - 10));
+  }
+
+  @Test
+  public void testKeepsOffsetWhenSyncFails() throws IOException {
+
+    AtomicInteger count = new AtomicInteger();
+    ServerClock clock =
+        new ServerClock(
+            () -> {
+              if (count.getAndIncrement() > 0) {
+                throw new IOException("Unavailable");
+              }
+              return localMillis.get() + 5000;
+            },
+            60_000,
+            localMillis::get,
+            nanos::get);
+
+    assertThat(clock.getOffsetMillis()).isEqualTo(5000);
+    clock.invalidate();
+    assertThat(clock.getOffsetMillis()).isEqualTo(5000);
+    assertThat(count).hasValue(2);
+
+    // retried after a second rather than on every call
+    clock.currentTimeMillis();
+    assertThat(count).hasValue(2);
+    localMillis.addAndGet(1000);
+    clock.currentTimeMillis();
+    assertThat(count).hasValue(3);
+  }
+
+  @Test(expected = IOException.class)
+  public void testFirstSyncFailurePropagates() throws IOException {
+
+    new ServerClock(
+            () -> {
+              throw new IOException("Unavailable");
+            },
+            60_000,
+            localMillis::get,
+            nanos::get)
+        .currentTimeMillis();
+  }
+
+  @Test
+  public void testNoncesStrictlyIncrease() throws Exception {
+
+    ServerClock clock = clock(0);
+    long first = clock.nextNonce();
+    assertThat(clock.nextNonce()).isEqualTo(first + 1);
+    localMillis.addAndGet(10);
+    assertThat(clock.nextNonce()).isEqualTo(first + 10);
+
+    Set<Long> nonces = ConcurrentHashMap.newKeySet();
+    ExecutorService threads = Executors.newFixedThreadPool(8);
+    try {
+      for (int i = 0; i < 8; i++) {
+        threads.execute(
+            () -> {
+              for (int j = 0; j < 10_000; j++) {
+                nonces.add(ServerClock.system().nonceFactory().createValue());
+              }
+            });
+      }
+    } finally {
+      threads.shutdown();
+      assertThat(threads.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+    assertThat(nonces).hasSize(80_000);
+  }
+
+  @Test
+  public void testLocalClocksAreIndependent() throws IOException {
+
+    ServerClock first = ServerClock.local();
+    ServerClock second = ServerClock.local();
+    assertThat(first).isNotSameAs(second).isNotSameAs(ServerClock.system());
+
+    long nonce = first.nextNonce();
+    for (int i = 0; i < 1000; i++) {
+      first.nextNonce();
+    }
+    assertThat(second.nextNonce()).isLessThan(nonce + 1000);
+  }
+}
@@ -0,0 +1,148 @@
+package org.knowm.xchange.utils.retries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.exceptions.ExchangeUnavailableException;
+import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.exceptions.NonceException;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+
+public class AsyncRetriesTest {
+
+  private final AsyncRetries retries = AsyncRetries.create();
+  private final RetryPolicy policy =
+      new RetryPolicy.Builder()
+          .maxAttempts(3)
+          .jitter(0)
+          .retryOn(ExchangeException.class, 10)
+          .retryOn(NonceException.class, 0)
+          .abortOn(FundsExceededException.class)
+          .build();
+
+  @Test
+  public void testRetriesUntilSuccess() {
+
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        retries
+            .call(
+                () -> {
+                  if (calls.incrementAndGet() < 3) {
+                    throw new ExchangeUnavailableException();
+                  }
+                  return "done";
+                },
+                policy,
+                null)
+            .join();
+
+    assertThat(result).isEqualTo("done");
+    assertThat(calls).hasValue(3);
+    assertThat(retries.getAttempts()).isEqualTo(3);
+    assertThat(retries.getRetries()).isEqualTo(2);
+    assertThat(retries.getSuccesses()).isEqualTo(1);
+  }
+
+  @Test
+  public void testGivesUpWithLastFailure() {
+
+    NonceException last = new NonceException("last");
+    AtomicInteger calls = new AtomicInteger();
+
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                retries
+                    .call(
+                        () -> {
+                          throw calls.incrementAndGet() < 3 ? new NonceException() : last;
+                        },
+                        policy,
+                        null)
+                    .join());
+
+    assertThat(thrown).isInstanceOf(CompletionException.class).hasCause(last);
+    assertThat(retries.getFailures()).isEqualTo(1);
+  }
+
+  @Test
+  public void testNotRetryable() {
+
+    AtomicInteger calls = new AtomicInteger();
+
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                retries
+                    .call(
+                        () -> {
+                          calls.incrementAndGet();
+                          throw new FundsExceededException();
+                        },
+                        policy,
+                        null)
+                    .join());
+
+    assertThat(thrown).hasCauseInstanceOf(FundsExceededException.class);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  public void testCircuitBreakerStopsCalls() {
+
+    CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000);
+    AtomicInteger calls = new AtomicInteger();
+
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                retries
+                    .call(
+                        () -> {
+                          calls.incrementAndGet();
+                          throw new ExchangeUnavailableException();
+                        },
+                        policy,
+                        circuitBreaker)
+                    .join());
+
+    assertThat(thrown)
+        .hasCauseInstanceOf(ExchangeUnavailableException.class)
+        .hasMessageContaining("circuit breaker open");
+    assertThat(calls).hasValue(2);
+    assertThat(circuitBreaker.isOpen()).isTrue();
+    assertThat(circuitBreaker.getRejections()).isEqualTo(1);
+  }
+
+  @Test
+  public void testPolicyDelays() {
+
+    RetryPolicy backoff =
+        new RetryPolicy.Builder()
+            .jitter(0)
+            .maxAttempts(10)
+            .maxDelayMillis(1000)
+            .retryOn(ExchangeException.class, 100)
+            .retryOn(RateLimitExceededException.class, 300)
+            .build();
+
+    assertThat(backoff.delayMillis(new ExchangeUnavailableException(), 1)).isEqualTo(100);
+    assertThat(backoff.delayMillis(new ExchangeUnavailableException(), 3)).isEqualTo(400);
+    assertThat(backoff.delayMillis(new RateLimitExceededException(), 2)).isEqualTo(600);
+    assertThat(backoff.delayMillis(new RateLimitExceededException(), 5)).isEqualTo(1000);
+    assertThat(backoff.delayMillis(new ExchangeUnavailableException(), 10)).isEqualTo(-1);
+    assertThat(backoff.delayMillis(new IllegalStateException(), 1)).isEqualTo(-1);
+
+    RetryPolicy jittered =
+        new RetryPolicy.Builder().jitter(0.5).retryOn(ExchangeException.class, 100).build();
+    for (int i = 0; i < 100; i++) {
+      assertThat(jittered.delayMillis(new ExchangeException("x"), 1)).isBetween(50L, 100L);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package org.knowm.xchange.utils.retries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class CircuitBreakerTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, 1000, clock::get);
+
+  @Test
+  public void testOpensAfterConsecutiveFailures() {
+
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.allowRequest()).isTrue();
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.isOpen()).isTrue();
+    assertThat(circuitBreaker.allowRequest()).isFalse();
+    assertThat(circuitBreaker.getTimesOpened()).isEqualTo(1);
+  }
+
+  @Test
+  public void testTrialCall() {
+
+    open();
+    advanceMillis(999);
+    assertThat(circuitBreaker.allowRequest()).isFalse();
+    advanceMillis(1);
+
+    assertThat(circuitBreaker.allowRequest()).isTrue();
+    assertThat(circuitBreaker.allowRequest()).isFalse();
+
+    // The trial fails, so the breaker stays open for another period
+    circuitBreaker.onFailure();
+    advanceMillis(500);
+    assertThat(circuitBreaker.allowRequest()).isFalse();
+    advanceMillis(500);
+    assertThat(circuitBreaker.allowRequest()).isTrue();
+
+    circuitBreaker.onSuccess();
+    assertThat(circuitBreaker.isOpen()).isFalse();
+    assertThat(circuitBreaker.allowRequest()).isTrue();
+    assertThat(circuitBreaker.getOpenNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2000));
+    assertThat(circuitBreaker.getRejections()).isEqualTo(3);
+  }
+
+  @Test
+  public void testAbandonedTrialExpires() {
+
+    open();
+    advanceMillis(1000);
+    assertThat(circuitBreaker.allowRequest()).isTrue();
+
+    // The trial never reports back
+    advanceMillis(999);
+    assertThat(circuitBreaker.allowRequest()).isFalse();
+    advanceMillis(1);
+    assertThat(circuitBreaker.allowRequest()).isTrue();
+    assertThat(circuitBreaker.allowRequest()).isFalse();
+
+    circuitBreaker.onSuccess();
+    assertThat(circuitBreaker.isOpen()).isFalse();
+  }
+
+  private void open() {
+
+    for (int i = 0; i < 3; i++) {
+      circuitBreaker.onFailure();
+    }
+  }
+
+  private void advanceMillis(long millis) {
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+}
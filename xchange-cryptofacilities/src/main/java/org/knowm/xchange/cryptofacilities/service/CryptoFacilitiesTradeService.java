@@ -1,13 +1,31 @@
 package org.knowm.xchange.cryptofacilities.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.cryptofacilities.CryptoFacilitiesAdapters;
+import org.knowm.xchange.cryptofacilities.dto.trade.BatchStatus;
+import org.knowm.xchange.cryptofacilities.dto.trade.BatchStatus.OrderStatus;
+import org.knowm.xchange.cryptofacilities.dto.trade.CryptoFacilitiesOrderFlags;
+import org.knowm.xchange.cryptofacilities.dto.trade.OrderCancellation;
+import org.knowm.xchange.cryptofacilities.dto.trade.OrderCommand;
+import org.knowm.xchange.cryptofacilities.dto.trade.OrderPlacement;
+import org.knowm.xchange.cryptofacilities.dto.trade.OrderSide;
+import org.knowm.xchange.cryptofacilities.dto.trade.OrderType;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.BatchResult;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.knowm.xchange.service.trade.OrderBatches;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
@@ -50,6 +68,54 @@ public class CryptoFacilitiesTradeService extends CryptoFacilitiesTradeServiceRa
     return CryptoFacilitiesAdapters.adaptOrderId(super.sendCryptoFacilitiesLimitOrder(limitOrder));
   }
 
+  /** Places the orders in one batch order request. */
+  @Override
+  public List<BatchResult<LimitOrder, String>> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws IOException {
+
+    if (limitOrders.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<OrderCommand> commands = new ArrayList<>(limitOrders.size());
+    for (int i = 0; i < limitOrders.size(); i++) {
+      LimitOrder limitOrder = limitOrders.get(i);
+      commands.add(
+          new OrderPlacement(
+              String.valueOf(i),
+              limitOrder.hasFlag(CryptoFacilitiesOrderFlags.POST_ONLY)
+                  ? OrderType.post
+                  : OrderType.lmt,
+              limitOrder.getCurrencyPair().base.toString(),
+              limitOrder.getType() == Order.OrderType.ASK ? OrderSide.sell : OrderSide.buy,
+              limitOrder.getOriginalAmount(),
+              limitOrder.getLimitPrice(),
+              null,
+              null));
+    }
+    Map<String, BatchStatus> statuses = new HashMap<>();
+    for (BatchStatus status : sendCryptoFacilitiesBatchOrder(commands).getBatchStatus()) {
+      if (status.orderTag != null) {
+        statuses.put(status.orderTag, status);
+      }
+    }
+
+    List<BatchResult<LimitOrder, String>> results = new ArrayList<>(limitOrders.size());
+    for (int i = 0; i < limitOrders.size(); i++) {
+      LimitOrder limitOrder = limitOrders.get(i);
+      BatchStatus status = statuses.get(String.valueOf(i));
+      if (status == null) {
+        results.add(BatchResult.failure(limitOrder, new ExchangeException("No order returned")));
+      } else if (status.status == OrderStatus.placed || status.status == OrderStatus.attempted) {
+        results.add(BatchResult.success(limitOrder, status.orderId));
+      } else {
+        results.add(
+            BatchResult.failure(
+                limitOrder, new ExchangeException("Order not placed: " + status.status)));
+      }
+    }
+    return results;
+  }
+
   @Override
   public boolean cancelOrder(String orderId) throws IOException {
 
@@ -66,6 +132,45 @@ public class CryptoFacilitiesTradeService extends CryptoFacilitiesTradeServiceRa
     }
   }
 
+  /** Cancels the orders given by ID in one batch order request, and any others one by one. */
+  @Override
+  public List<BatchResult<CancelOrderParams, Boolean>> cancelOrders(
+      Collection<CancelOrderParams> orderParams) throws IOException {
+
+    List<OrderCommand> commands = new ArrayList<>();
+    List<CancelOrderParams> others = new ArrayList<>();
+    for (CancelOrderParams params : orderParams) {
+      if (params instanceof CancelOrderByIdParams) {
+        commands.add(new OrderCancellation(((CancelOrderByIdParams) params).getOrderId(), null));
+      } else {
+        others.add(params);
+      }
+    }
+    Map<String, BatchStatus> statuses = new HashMap<>();
+    if (!commands.isEmpty()) {
+      for (BatchStatus status : sendCryptoFacilitiesBatchOrder(commands).getBatchStatus()) {
+        if (status.orderId != null) {
+          statuses.put(status.orderId, status);
+        }
+      }
+    }
+
+    Iterator<BatchResult<CancelOrderParams, Boolean>> otherResults =
+        OrderBatches.fanOut(others, this::cancelOrder).iterator();
+
+    List<BatchResult<CancelOrderParams, Boolean>> results = new ArrayList<>(orderParams.size());
+    for (CancelOrderParams params : orderParams) {
+      if (!(params instanceof CancelOrderByIdParams)) {
+        results.add(otherResults.next());
+        continue;
+      }
+      BatchStatus status = statuses.get(((CancelOrderByIdParams) params).getOrderId());
+      results.add(
+          BatchResult.success(params, status != null && status.status == OrderStatus.cancelled));
+    }
+    return results;
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
 
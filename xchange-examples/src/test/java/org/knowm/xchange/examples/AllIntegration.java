@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,11 +27,13 @@ import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.CurrencyMetaData;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.exceptions.FrequencyLimitExceededException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
 import org.knowm.xchange.service.marketdata.MarketDataService;
-import org.knowm.xchange.utils.retries.IPredicate;
-import org.knowm.xchange.utils.retries.Retries;
+import org.knowm.xchange.utils.retries.AsyncRetries;
+import org.knowm.xchange.utils.retries.RetryPolicy;
 import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,18 +41,16 @@ import org.slf4j.LoggerFactory;
 @RunWith(Parameterized.class)
 public class AllIntegration {
 
-  // Predicate specifies which exceptions indicate to retry the request
-  public static final IPredicate<Exception> RETRYABLE_REQUEST =
-      new IPredicate<Exception>() {
-        @Override
-        public boolean test(Exception e) {
-          return (e.getMessage() != null
-                  && e.getMessage().contains("{code=200, message=Too many requests}"))
-              || e instanceof SocketTimeoutException /*
-       * || e instanceof HttpStatusIOException
-       */;
-        }
-      };
+  // Policy specifies which exceptions indicate to retry the request
+  public static final RetryPolicy RETRYABLE_REQUEST =
+      new RetryPolicy.Builder()
+          .maxAttempts(8)
+          .retryOn(RateLimitExceededException.class, 1000)
+          .retryOn(FrequencyLimitExceededException.class, 1000)
+          .retryOn(SocketTimeoutException.class, 1000)
+          .build();
+
+  private static final AsyncRetries RETRIES = AsyncRetries.create();
   static final Logger logger = LoggerFactory.getLogger(AllIntegration.class);
 
   @Parameterized.Parameter(0)
@@ -141,7 +142,7 @@ public class AllIntegration {
 
       try {
 
-        R result = Retries.callWithRetries(8, 1, callMethod, RETRYABLE_REQUEST);
+        R result = callWithRetries(callMethod);
 
         assertThat(notAvailableFromExchangeThrown).isFalse();
         notAvailableFromExchangeNotThrown = true;
@@ -171,6 +172,16 @@ public class AllIntegration {
     return results;
   }
 
+  // Waits for the call, failing with the failure of its last attempt
+  private static <R> R callWithRetries(Callable<R> call) throws Throwable {
+
+    try {
+      return RETRIES.call(call, RETRYABLE_REQUEST, null).get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
   // Returns collection of currency pairs
   private Collection<CurrencyPair> getCurrencyPairs() throws IOException {
 
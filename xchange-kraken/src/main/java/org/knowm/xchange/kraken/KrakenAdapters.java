@@ -1,5 +1,9 @@
 package org.knowm.xchange.kraken;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -14,6 +18,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderStatus;
 import org.knowm.xchange.dto.Order.OrderType;
@@ -22,6 +27,7 @@ import org.knowm.xchange.dto.account.Fee;
 import org.knowm.xchange.dto.account.FundingRecord;
 import org.knowm.xchange.dto.account.Wallet;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.marketdata.Trades;
@@ -35,6 +41,7 @@ import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.kraken.dto.account.KrakenDepositAddress;
 import org.knowm.xchange.kraken.dto.account.KrakenLedger;
@@ -53,6 +60,7 @@ import org.knowm.xchange.kraken.dto.trade.KrakenOrderType;
 import org.knowm.xchange.kraken.dto.trade.KrakenTrade;
 import org.knowm.xchange.kraken.dto.trade.KrakenType;
 import org.knowm.xchange.kraken.dto.trade.KrakenUserTrade;
+import org.knowm.xchange.utils.jackson.FixedPointLevelsReader;
 
 public class KrakenAdapters {
 
@@ -84,17 +92,96 @@ public class KrakenAdapters {
     return new OrdersContainer(maxTimestamp * 1000, limitOrders);
   }
 
+  /**
+   * Reads a depth response, as returned by {@code /0/public/Depth}, straight from the JSON tokens
+   * into a fixed point order book, replacing its content. The book's timestamp is set from the
+   * latest level timestamp. Nothing is allocated once the book has grown to the depth of the
+   * response.
+   *
+   * @param parser a parser positioned before or on the response's {@link JsonToken#START_OBJECT}
+   * @param book the book to fill
+   */
+  public static void adaptOrderBook(JsonParser parser, ScaledOrderBook book) throws IOException {
+
+    if (parser.currentToken() == null) {
+      parser.nextToken();
+    }
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Expected a depth response object");
+    }
+    book.clear();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if ("error".equals(field)) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            throw new ExchangeException(parser.getText());
+          }
+          parser.skipChildren();
+        }
+      } else if ("result".equals(field)) {
+        long maxTimestamp = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          parser.nextToken();
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String side = parser.getCurrentName();
+            parser.nextToken();
+            if ("asks".equals(side)) {
+              maxTimestamp =
+                  Math.max(
+                      maxTimestamp, FixedPointLevelsReader.readLevels(parser, book, OrderType.ASK));
+            } else if ("bids".equals(side)) {
+              maxTimestamp =
+                  Math.max(
+                      maxTimestamp, FixedPointLevelsReader.readLevels(parser, book, OrderType.BID));
+            } else {
+              parser.skipChildren();
+            }
+          }
+        }
+        book.updateTimestamp(maxTimestamp * 1000);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * @deprecated Use {@link #adaptOrders(Map, SymbolMap)}, as this translates with the map shared by
+   *     all instances.
+   */
+  @Deprecated
   public static List<Order> adaptOrders(Map<String, KrakenOrder> krakenOrdersMap) {
 
+    return adaptOrders(krakenOrdersMap, KrakenUtils.getSymbolMap());
+  }
+
+  public static List<Order> adaptOrders(
+      Map<String, KrakenOrder> krakenOrdersMap, SymbolMap symbolMap) {
+
     return krakenOrdersMap.entrySet().stream()
-        .map(krakenOrderEntry -> adaptOrder(krakenOrderEntry.getKey(), krakenOrderEntry.getValue()))
+        .map(
+            krakenOrderEntry ->
+                adaptOrder(krakenOrderEntry.getKey(), krakenOrderEntry.getValue(), symbolMap))
         .collect(Collectors.toList());
   }
 
+  /**
+   * @deprecated Use {@link #adaptOrder(String, KrakenOrder, SymbolMap)}, as this translates with
+   *     the map shared by all instances.
+   */
+  @Deprecated
   public static Order adaptOrder(String orderId, KrakenOrder krakenOrder) {
 
+    return adaptOrder(orderId, krakenOrder, KrakenUtils.getSymbolMap());
+  }
+
+  public static Order adaptOrder(String orderId, KrakenOrder krakenOrder, SymbolMap symbolMap) {
+
     OrderType orderType = adaptOrderType(krakenOrder.getOrderDescription().getType());
-    CurrencyPair currencyPair = adaptCurrencyPair(krakenOrder.getOrderDescription().getAssetPair());
+    CurrencyPair currencyPair =
+        adaptCurrencyPair(krakenOrder.getOrderDescription().getAssetPair(), symbolMap);
 
     OrderStatus orderStatus = adaptOrderStatus(krakenOrder.getStatus());
     BigDecimal filledAmount = krakenOrder.getVolumeExecuted();
@@ -162,10 +249,20 @@ public class KrakenAdapters {
     return builder.build();
   }
 
+  /**
+   * @deprecated Use {@link #adaptTickers(Map, SymbolMap)}, as this translates with the map shared
+   *     by all instances.
+   */
+  @Deprecated
   public static List<Ticker> adaptTickers(Map<String, KrakenTicker> krackenTickers) {
+    return adaptTickers(krackenTickers, KrakenUtils.getSymbolMap());
+  }
+
+  public static List<Ticker> adaptTickers(
+      Map<String, KrakenTicker> krackenTickers, SymbolMap symbolMap) {
     List<Ticker> tickers = new ArrayList<>();
     for (Map.Entry<String, KrakenTicker> ticker : krackenTickers.entrySet()) {
-      CurrencyPair pair = KrakenUtils.translateKrakenCurrencyPair(ticker.getKey());
+      CurrencyPair pair = KrakenUtils.translateKrakenCurrencyPair(symbolMap, ticker.getKey());
       tickers.add(adaptTicker(ticker.getValue(), pair));
     }
     return tickers;
@@ -197,13 +294,23 @@ public class KrakenAdapters {
         String.valueOf((long) (krakenPublicTrade.getTime() * 10000L)));
   }
 
+  /**
+   * @deprecated Use {@link #adaptWallet(Map, SymbolMap)}, as this translates with the map shared by
+   *     all instances.
+   */
+  @Deprecated
   public static Wallet adaptWallet(Map<String, BigDecimal> krakenWallet) {
 
+    return adaptWallet(krakenWallet, KrakenUtils.getSymbolMap());
+  }
+
+  public static Wallet adaptWallet(Map<String, BigDecimal> krakenWallet, SymbolMap symbolMap) {
+
     List<Balance> balances = new ArrayList<>(krakenWallet.size());
     for (Entry<String, BigDecimal> balancePair : krakenWallet.entrySet()) {
       Currency currency;
       try {
-        currency = adaptCurrency(balancePair.getKey());
+        currency = adaptCurrency(balancePair.getKey(), symbolMap);
       } catch (Exception e) {
         currency = Currency.getInstance(balancePair.getKey());
       }
@@ -214,11 +321,22 @@ public class KrakenAdapters {
     return Wallet.Builder.from(balances).build();
   }
 
+  /**
+   * @deprecated Use {@link #adaptCurrencyPairs(Collection, SymbolMap)}, as this translates with the
+   *     map shared by all instances.
+   */
+  @Deprecated
   public static Set<CurrencyPair> adaptCurrencyPairs(Collection<String> krakenCurrencyPairs) {
 
+    return adaptCurrencyPairs(krakenCurrencyPairs, KrakenUtils.getSymbolMap());
+  }
+
+  public static Set<CurrencyPair> adaptCurrencyPairs(
+      Collection<String> krakenCurrencyPairs, SymbolMap symbolMap) {
+
     Set<CurrencyPair> currencyPairs = new HashSet<>();
     for (String krakenCurrencyPair : krakenCurrencyPairs) {
-      CurrencyPair currencyPair = adaptCurrencyPair(krakenCurrencyPair);
+      CurrencyPair currencyPair = adaptCurrencyPair(krakenCurrencyPair, symbolMap);
       if (currencyPair != null) {
         currencyPairs.add(currencyPair);
       }
@@ -226,16 +344,45 @@ public class KrakenAdapters {
     return currencyPairs;
   }
 
+  /**
+   * @deprecated Use {@link #adaptCurrency(String, SymbolMap)}, as this translates with the map
+   *     shared by all instances.
+   */
+  @Deprecated
   public static Currency adaptCurrency(String krakenCurrencyCode) {
-    return KrakenUtils.translateKrakenCurrencyCode(krakenCurrencyCode);
+    return adaptCurrency(krakenCurrencyCode, KrakenUtils.getSymbolMap());
   }
 
+  public static Currency adaptCurrency(String krakenCurrencyCode, SymbolMap symbolMap) {
+    return KrakenUtils.translateKrakenCurrencyCode(symbolMap, krakenCurrencyCode);
+  }
+
+  /**
+   * @deprecated Use {@link #adaptCurrencyPair(String, SymbolMap)}, as this translates with the map
+   *     shared by all instances.
+   */
+  @Deprecated
   public static CurrencyPair adaptCurrencyPair(String krakenCurrencyPair) {
-    return KrakenUtils.translateKrakenCurrencyPair(krakenCurrencyPair);
+    return adaptCurrencyPair(krakenCurrencyPair, KrakenUtils.getSymbolMap());
+  }
+
+  public static CurrencyPair adaptCurrencyPair(String krakenCurrencyPair, SymbolMap symbolMap) {
+    return KrakenUtils.translateKrakenCurrencyPair(symbolMap, krakenCurrencyPair);
   }
 
+  /**
+   * @deprecated Use {@link #adaptOpenOrders(Map, SymbolMap)}, as this translates with the map
+   *     shared by all instances.
+   */
+  @Deprecated
   public static OpenOrders adaptOpenOrders(Map<String, KrakenOrder> krakenOrders) {
 
+    return adaptOpenOrders(krakenOrders, KrakenUtils.getSymbolMap());
+  }
+
+  public static OpenOrders adaptOpenOrders(
+      Map<String, KrakenOrder> krakenOrders, SymbolMap symbolMap) {
+
     List<LimitOrder> limitOrders = new ArrayList<>();
     for (Entry<String, KrakenOrder> krakenOrderEntry : krakenOrders.entrySet()) {
       KrakenOrder krakenOrder = krakenOrderEntry.getValue();
@@ -247,27 +394,49 @@ public class KrakenAdapters {
         continue;
       }
 
-      limitOrders.add((LimitOrder) adaptOrder(krakenOrderEntry.getKey(), krakenOrder));
+      limitOrders.add((LimitOrder) adaptOrder(krakenOrderEntry.getKey(), krakenOrder, symbolMap));
     }
     return new OpenOrders(limitOrders);
   }
 
+  /**
+   * @deprecated Use {@link #adaptTradesHistory(Map, SymbolMap)}, as this translates with the map
+   *     shared by all instances.
+   */
+  @Deprecated
   public static UserTrades adaptTradesHistory(Map<String, KrakenTrade> krakenTrades) {
 
+    return adaptTradesHistory(krakenTrades, KrakenUtils.getSymbolMap());
+  }
+
+  public static UserTrades adaptTradesHistory(
+      Map<String, KrakenTrade> krakenTrades, SymbolMap symbolMap) {
+
     List<UserTrade> trades = new ArrayList<>();
     for (Entry<String, KrakenTrade> krakenTradeEntry : krakenTrades.entrySet()) {
-      trades.add(adaptTrade(krakenTradeEntry.getValue(), krakenTradeEntry.getKey()));
+      trades.add(adaptTrade(krakenTradeEntry.getValue(), krakenTradeEntry.getKey(), symbolMap));
     }
 
     return new UserTrades(trades, TradeSortType.SortByTimestamp);
   }
 
+  /**
+   * @deprecated Use {@link #adaptTrade(KrakenTrade, String, SymbolMap)}, as this translates with
+   *     the map shared by all instances.
+   */
+  @Deprecated
   public static KrakenUserTrade adaptTrade(KrakenTrade krakenTrade, String tradeId) {
 
+    return adaptTrade(krakenTrade, tradeId, KrakenUtils.getSymbolMap());
+  }
+
+  public static KrakenUserTrade adaptTrade(
+      KrakenTrade krakenTrade, String tradeId, SymbolMap symbolMap) {
+
     OrderType orderType = adaptOrderType(krakenTrade.getType());
     BigDecimal originalAmount = krakenTrade.getVolume();
     String krakenAssetPair = krakenTrade.getAssetPair();
-    CurrencyPair pair = adaptCurrencyPair(krakenAssetPair);
+    CurrencyPair pair = adaptCurrencyPair(krakenAssetPair, symbolMap);
     Date timestamp = new Date((long) (krakenTrade.getUnixTimestamp() * 1000L));
     BigDecimal averagePrice = krakenTrade.getAverageClosePrice();
     BigDecimal price = (averagePrice == null) ? krakenTrade.getPrice() : averagePrice;
@@ -305,19 +474,30 @@ public class KrakenAdapters {
       Map<String, KrakenAssetPair> krakenPairs,
       Map<String, KrakenAsset> krakenAssets) {
 
+    return adaptToExchangeMetaData(
+        originalMetaData,
+        krakenPairs,
+        krakenAssets,
+        KrakenUtils.compileSymbolMap(krakenPairs, krakenAssets));
+  }
+
+  /** @param symbolMap compiled from the pairs and assets */
+  public static ExchangeMetaData adaptToExchangeMetaData(
+      ExchangeMetaData originalMetaData,
+      Map<String, KrakenAssetPair> krakenPairs,
+      Map<String, KrakenAsset> krakenAssets,
+      SymbolMap symbolMap) {
+
     Map<CurrencyPair, CurrencyPairMetaData> pairs = new HashMap<>();
-    // add assets before pairs to Utils!
-    KrakenUtils.setKrakenAssets(krakenAssets);
-    KrakenUtils.setKrakenAssetPairs(krakenPairs);
 
     pairs.putAll(originalMetaData.getCurrencyPairs());
     for (String krakenPairCode : krakenPairs.keySet()) {
       //  skip dark markets!
       if (!krakenPairCode.endsWith(".d")) {
         KrakenAssetPair krakenPair = krakenPairs.get(krakenPairCode);
-        pairs.put(
-            adaptCurrencyPair(krakenPairCode),
-            adaptPair(krakenPair, pairs.get(adaptCurrencyPair(krakenPairCode))));
+        CurrencyPair currencyPair =
+            KrakenUtils.translateKrakenCurrencyPair(symbolMap, krakenPairCode);
+        pairs.put(currencyPair, adaptPair(krakenPair, pairs.get(currencyPair)));
       }
     }
 
@@ -325,7 +505,7 @@ public class KrakenAdapters {
     currencies.putAll(originalMetaData.getCurrencies());
     for (String krakenAssetCode : krakenAssets.keySet()) {
       KrakenAsset krakenAsset = krakenAssets.get(krakenAssetCode);
-      Currency currencyCode = KrakenAdapters.adaptCurrency(krakenAssetCode);
+      Currency currencyCode = KrakenUtils.translateKrakenCurrencyCode(symbolMap, krakenAssetCode);
       BigDecimal withdrawalFee =
           originalMetaData.getCurrencies().get(currencyCode) == null
               ? null
@@ -419,14 +599,25 @@ public class KrakenAdapters {
     }
   }
 
+  /**
+   * @deprecated Use {@link #adaptFundingHistory(Map, SymbolMap)}, as this translates with the map
+   *     shared by all instances.
+   */
+  @Deprecated
   public static List<FundingRecord> adaptFundingHistory(
       Map<String, KrakenLedger> krakenLedgerInfo) {
 
+    return adaptFundingHistory(krakenLedgerInfo, KrakenUtils.getSymbolMap());
+  }
+
+  public static List<FundingRecord> adaptFundingHistory(
+      Map<String, KrakenLedger> krakenLedgerInfo, SymbolMap symbolMap) {
+
     final List<FundingRecord> fundingRecords = new ArrayList<>();
     for (Entry<String, KrakenLedger> ledgerEntry : krakenLedgerInfo.entrySet()) {
       final KrakenLedger krakenLedger = ledgerEntry.getValue();
       if (krakenLedger.getLedgerType() != null) {
-        final Currency currency = adaptCurrency(krakenLedger.getAsset());
+        final Currency currency = adaptCurrency(krakenLedger.getAsset(), symbolMap);
         if (currency != null) {
           final Date timestamp = new Date((long) (krakenLedger.getUnixTime() * 1000L));
           final FundingRecord.Type type =
@@ -4,19 +4,20 @@ import java.io.IOException;
 import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPairs;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssets;
 import org.knowm.xchange.kraken.service.KrakenAccountService;
 import org.knowm.xchange.kraken.service.KrakenMarketDataService;
 import org.knowm.xchange.kraken.service.KrakenMarketDataServiceRaw;
 import org.knowm.xchange.kraken.service.KrakenTradeService;
-import org.knowm.xchange.utils.nonce.CurrentTimeNonceFactory;
+import org.knowm.xchange.utils.nonce.ServerClock;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 /** @author Benedikt Bünz */
 public class KrakenExchange extends BaseExchange implements Exchange {
 
-  private final SynchronizedValueFactory<Long> nonceFactory = new CurrentTimeNonceFactory();
+  private final SynchronizedValueFactory<Long> nonceFactory = ServerClock.local().nonceFactory();
 
   @Override
   protected void initServices() {
@@ -50,11 +51,24 @@ public class KrakenExchange extends BaseExchange implements Exchange {
     KrakenAssetPairs assetPairs =
         ((KrakenMarketDataServiceRaw) marketDataService).getKrakenAssetPairs();
     KrakenAssets assets = ((KrakenMarketDataServiceRaw) marketDataService).getKrakenAssets();
-    KrakenUtils.clearAssets();
+    SymbolMap symbolMap =
+        KrakenUtils.compileSymbolMap(assetPairs.getAssetPairMap(), assets.getAssetPairMap());
     // other endpoints?
     // hard-coded meta data from json file not available at an endpoint?
     exchangeMetaData =
         KrakenAdapters.adaptToExchangeMetaData(
-            exchangeMetaData, assetPairs.getAssetPairMap(), assets.getAssetPairMap());
+            exchangeMetaData, assetPairs.getAssetPairMap(), assets.getAssetPairMap(), symbolMap);
+    setSymbolMap(symbolMap);
+  }
+
+  /**
+   * Also shares the symbols with the deprecated {@link KrakenUtils} and {@link KrakenAdapters}
+   * methods which take no map. This exchange's services translate with its own map.
+   */
+  @Override
+  protected void setSymbolMap(SymbolMap symbolMap) {
+
+    super.setSymbolMap(symbolMap);
+    KrakenUtils.setSymbolMap(symbolMap);
   }
 }
@@ -1,74 +1,158 @@
 package org.knowm.xchange.kraken;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAsset;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPair;
 
-/** @author timmolter */
+/**
+ * Translates between Kraken's asset and asset pair codes and {@link Currency}s and {@link
+ * CurrencyPair}s, using a {@link SymbolMap} compiled from Kraken's listings.
+ *
+ * <p>Each {@link KrakenExchange} compiles its own map in {@link KrakenExchange#remoteInit()}, and
+ * its services pass that to the translations and to {@link KrakenAdapters}. The deprecated static
+ * methods which take no map use the map most recently compiled by any instance, so give the wrong
+ * answers when instances disagree. Maps are replaced whole, never modified, so these are safe to
+ * use from any thread.
+ *
+ * @author timmolter
+ */
 public class KrakenUtils {
 
-  private static Map<String, CurrencyPair> assetPairMap = new HashMap<String, CurrencyPair>();
-  private static Map<CurrencyPair, String> assetPairMapReverse =
-      new HashMap<CurrencyPair, String>();
-  private static Map<String, Currency> assetsMap = new HashMap<String, Currency>();
-  private static Map<Currency, String> assetsMapReverse = new HashMap<Currency, String>();
+  private static final AtomicReference<SymbolMap> symbolMap =
+      new AtomicReference<>(SymbolMap.empty());
 
   /** Private Constructor */
   private KrakenUtils() {}
 
+  /**
+   * @param pairs Kraken's asset pairs by code. Dark markets are skipped.
+   * @param assets Kraken's assets by code
+   * @return the translation between Kraken's codes and currencies and pairs
+   */
+  public static SymbolMap compileSymbolMap(
+      Map<String, KrakenAssetPair> pairs, Map<String, KrakenAsset> assets) {
+
+    SymbolMap.Builder builder = addAssets(new SymbolMap.Builder(), assets);
+    return addAssetPairs(
+            builder,
+            pairs,
+            code -> {
+              KrakenAsset asset = assets.get(code);
+              if (asset == null) {
+                throw new ExchangeException("Kraken does not support the currency code " + code);
+              }
+              return Currency.getInstance(asset.getAltName()).getCommonlyUsedCurrency();
+            })
+        .build();
+  }
+
+  /** @return the map most recently compiled by any instance */
+  public static SymbolMap getSymbolMap() {
+
+    return symbolMap.get();
+  }
+
+  /** @param map the map for the static translation methods to use from now on */
+  public static void setSymbolMap(SymbolMap map) {
+
+    symbolMap.set(map);
+  }
+
+  /** Replaces the asset pairs of the shared map, translating them with its assets. */
   public static void setKrakenAssetPairs(Map<String, KrakenAssetPair> pairs) {
-    if (assetPairMap.isEmpty()) {
-      for (Map.Entry<String, KrakenAssetPair> entry : pairs.entrySet()) {
-        //  skip dark markets!
-        if (!entry.getKey().endsWith(".d")) {
-          CurrencyPair pair =
-              new CurrencyPair(
-                  translateKrakenCurrencyCode(entry.getValue().getBase()),
-                  translateKrakenCurrencyCode(entry.getValue().getQuote()));
-          assetPairMap.put(entry.getKey(), pair);
-          assetPairMapReverse.put(pair, entry.getKey());
-        }
-      }
-    }
+
+    symbolMap.updateAndGet(
+        current ->
+            addAssetPairs(
+                    new SymbolMap.Builder(current).clearCurrencyPairs(),
+                    pairs,
+                    code -> translateKrakenCurrencyCode(current, code))
+                .build());
   }
 
+  /** Replaces the assets of the shared map. */
   public static void setKrakenAssets(Map<String, KrakenAsset> assetSource) {
-    if (assetsMap.isEmpty()) {
-      for (Map.Entry<String, KrakenAsset> entry : assetSource.entrySet()) {
-        assetsMap.put(entry.getKey(), Currency.getInstance(entry.getValue().getAltName()));
-        assetsMapReverse.put(Currency.getInstance(entry.getValue().getAltName()), entry.getKey());
+
+    symbolMap.updateAndGet(
+        current ->
+            addAssets(new SymbolMap.Builder(current).clearCurrencies(), assetSource).build());
+  }
+
+  private static SymbolMap.Builder addAssets(
+      SymbolMap.Builder builder, Map<String, KrakenAsset> assets) {
+
+    for (Map.Entry<String, KrakenAsset> entry : assets.entrySet()) {
+      builder.currency(entry.getKey(), Currency.getInstance(entry.getValue().getAltName()));
+    }
+    return builder;
+  }
+
+  private static SymbolMap.Builder addAssetPairs(
+      SymbolMap.Builder builder,
+      Map<String, KrakenAssetPair> pairs,
+      Function<String, Currency> translateAsset) {
+
+    for (Map.Entry<String, KrakenAssetPair> entry : pairs.entrySet()) {
+      //  skip dark markets!
+      if (!entry.getKey().endsWith(".d")) {
+        CurrencyPair pair =
+            new CurrencyPair(
+                translateAsset.apply(entry.getValue().getBase()),
+                translateAsset.apply(entry.getValue().getQuote()));
+        builder.currencyPair(entry.getKey(), pair);
       }
     }
+    return builder;
   }
 
+  /**
+   * @deprecated Use {@link #createKrakenCurrencyPair(SymbolMap, CurrencyPair)}, as this translates
+   *     with the map shared by all instances.
+   */
+  @Deprecated
   public static String createKrakenCurrencyPair(CurrencyPair currencyPair) {
-    return assetPairMapReverse.get(currencyPair);
+    return createKrakenCurrencyPair(symbolMap.get(), currencyPair);
+  }
+
+  public static String createKrakenCurrencyPair(SymbolMap map, CurrencyPair currencyPair) {
+    return map.getSymbol(currencyPair);
   }
 
+  /**
+   * @deprecated Use {@link #translateKrakenCurrencyPair(SymbolMap, String)}, as this translates
+   *     with the map shared by all instances.
+   */
+  @Deprecated
   public static CurrencyPair translateKrakenCurrencyPair(String currencyPairIn) {
-    CurrencyPair pair = assetPairMap.get(currencyPairIn);
+    return translateKrakenCurrencyPair(symbolMap.get(), currencyPairIn);
+  }
+
+  public static CurrencyPair translateKrakenCurrencyPair(SymbolMap map, String currencyPairIn) {
+    CurrencyPair pair = map.getCurrencyPair(currencyPairIn);
     if (pair == null) {
       // kraken can give short pairs back from open orders ?
       if (currencyPairIn.length() == 6) {
-        Currency base = Currency.getInstance(currencyPairIn.substring(0, 3));
+        Currency base = Currency.getInstance(currencyPairIn, 0, 3);
         if (base.getCommonlyUsedCurrency() != null) {
           base = base.getCommonlyUsedCurrency();
         }
-        Currency counter = Currency.getInstance(currencyPairIn.substring(3, 6));
+        Currency counter = Currency.getInstance(currencyPairIn, 3, 6);
         if (counter.getCommonlyUsedCurrency() != null) {
           counter = counter.getCommonlyUsedCurrency();
         }
         pair = new CurrencyPair(base, counter);
       } else if (currencyPairIn.length() == 7) {
-        Currency base = Currency.getInstance(currencyPairIn.substring(0, 4));
+        Currency base = Currency.getInstance(currencyPairIn, 0, 4);
         if (base.getCommonlyUsedCurrency() != null) {
           base = base.getCommonlyUsedCurrency();
         }
-        Currency counter = Currency.getInstance(currencyPairIn.substring(4, 7));
+        Currency counter = Currency.getInstance(currencyPairIn, 4, 7);
         if (counter.getCommonlyUsedCurrency() != null) {
           counter = counter.getCommonlyUsedCurrency();
         }
@@ -78,23 +162,46 @@ public class KrakenUtils {
     return pair;
   }
 
+  /**
+   * @deprecated Use {@link #createKrakenCurrencyPair(SymbolMap, CurrencyPair)}, as this translates
+   *     with the map shared by all instances.
+   */
+  @Deprecated
   public static String createKrakenCurrencyPair(Currency tradableIdentifier, Currency currency) {
     return createKrakenCurrencyPair(new CurrencyPair(tradableIdentifier, currency));
   }
 
+  /**
+   * @deprecated Use {@link #getKrakenCurrencyCode(SymbolMap, Currency)}, as this translates with
+   *     the map shared by all instances.
+   */
+  @Deprecated
   public static String getKrakenCurrencyCode(Currency currency) {
+    return getKrakenCurrencyCode(symbolMap.get(), currency);
+  }
+
+  public static String getKrakenCurrencyCode(SymbolMap map, Currency currency) {
     if (currency.getIso4217Currency() != null) {
       currency = currency.getIso4217Currency();
     }
-    String krakenCode = assetsMapReverse.get(currency);
+    String krakenCode = map.getSymbol(currency);
     if (krakenCode == null) {
       throw new ExchangeException("Kraken does not support the currency code " + currency);
     }
     return krakenCode;
   }
 
+  /**
+   * @deprecated Use {@link #translateKrakenCurrencyCode(SymbolMap, String)}, as this translates
+   *     with the map shared by all instances.
+   */
+  @Deprecated
   public static Currency translateKrakenCurrencyCode(String currencyIn) {
-    Currency currencyOut = assetsMap.get(currencyIn);
+    return translateKrakenCurrencyCode(symbolMap.get(), currencyIn);
+  }
+
+  public static Currency translateKrakenCurrencyCode(SymbolMap map, String currencyIn) {
+    Currency currencyOut = map.getCurrency(currencyIn);
     if (currencyOut == null) {
       throw new ExchangeException("Kraken does not support the currency code " + currencyIn);
     }
@@ -102,9 +209,6 @@ public class KrakenUtils {
   }
 
   public static void clearAssets() {
-    assetPairMap.clear();
-    assetPairMapReverse.clear();
-    assetsMap.clear();
-    assetsMapReverse.clear();
+    symbolMap.set(SymbolMap.empty());
   }
 }
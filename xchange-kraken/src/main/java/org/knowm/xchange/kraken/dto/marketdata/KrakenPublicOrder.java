@@ -2,14 +2,14 @@ package org.knowm.xchange.kraken.dto.marketdata;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.IOException;
 import java.math.BigDecimal;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicOrder.KrakenOrderDeserializer;
+import org.knowm.xchange.utils.jackson.DecimalLevelsReader;
 
 @JsonDeserialize(using = KrakenOrderDeserializer.class)
 public class KrakenPublicOrder {
@@ -52,17 +52,11 @@ public class KrakenPublicOrder {
     public KrakenPublicOrder deserialize(JsonParser jsonParser, DeserializationContext ctxt)
         throws IOException, JsonProcessingException {
 
-      ObjectCodec oc = jsonParser.getCodec();
-      JsonNode node = oc.readTree(jsonParser);
-      if (node.isArray()) {
-        BigDecimal price = new BigDecimal(node.path(0).asText());
-        BigDecimal volume = new BigDecimal(node.path(1).asText());
-        long timestamp = node.path(2).asLong();
-
-        return new KrakenPublicOrder(price, volume, timestamp);
+      if (jsonParser.currentToken() != JsonToken.START_ARRAY) {
+        jsonParser.skipChildren();
+        return null;
       }
-
-      return null;
+      return DecimalLevelsReader.readLevel(jsonParser, KrakenPublicOrder::new);
     }
   }
 }
@@ -38,7 +38,7 @@ public class KrakenAccountService extends KrakenAccountServiceRaw implements Acc
   public AccountInfo getAccountInfo() throws IOException {
 
     KrakenTradeBalanceInfo krakenTradeBalanceInfo = getKrakenTradeBalance();
-    Wallet tradingWallet = KrakenAdapters.adaptWallet(getKrakenBalance());
+    Wallet tradingWallet = KrakenAdapters.adaptWallet(getKrakenBalance(), symbolMap());
 
     Wallet marginWallet =
         Wallet.Builder.from(tradingWallet.getBalances().values())
@@ -163,10 +163,10 @@ public class KrakenAccountService extends KrakenAccountServiceRaw implements Acc
           getKrakenLedgerInfo(LedgerType.DEPOSIT, startTime, endTime, offset, currencies);
       ledgerEntries.putAll(
           getKrakenLedgerInfo(LedgerType.WITHDRAWAL, startTime, endTime, offset, currencies));
-      return KrakenAdapters.adaptFundingHistory(ledgerEntries);
+      return KrakenAdapters.adaptFundingHistory(ledgerEntries, symbolMap());
     } else {
       return KrakenAdapters.adaptFundingHistory(
-          getKrakenLedgerInfo(ledgerType, startTime, endTime, offset, currencies));
+          getKrakenLedgerInfo(ledgerType, startTime, endTime, offset, currencies), symbolMap());
     }
   }
 
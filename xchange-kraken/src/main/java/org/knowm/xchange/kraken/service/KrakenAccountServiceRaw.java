@@ -154,7 +154,7 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
     String valuationCurrencyCode = null;
 
     if (valuationCurrency != null) {
-      valuationCurrencyCode = KrakenUtils.getKrakenCurrencyCode(valuationCurrency);
+      valuationCurrencyCode = KrakenUtils.getKrakenCurrencyCode(symbolMap(), valuationCurrency);
     }
 
     KrakenTradeBalanceInfoResult balanceResult =
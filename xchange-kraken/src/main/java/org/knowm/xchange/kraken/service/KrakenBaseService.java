@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.Order.IOrderFlags;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.ExchangeUnavailableException;
@@ -28,7 +29,7 @@ import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestProxyFactory;
 
-public class KrakenBaseService extends BaseExchangeService implements BaseService {
+public class KrakenBaseService extends BaseExchangeService<Exchange> implements BaseService {
 
   protected KrakenAuthenticated kraken;
   protected ParamsDigest signatureCreator;
@@ -46,7 +47,8 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
         RestProxyFactory.createProxy(
             KrakenAuthenticated.class,
             exchange.getExchangeSpecification().getSslUri(),
-            getClientConfig());
+            getClientConfig(),
+            getInterceptors());
     signatureCreator =
         KrakenDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
@@ -65,6 +67,12 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
     return new KrakenAssets(checkResult(assetPairsResult));
   }
 
+  /** @return the symbol map compiled by this service's exchange */
+  protected SymbolMap symbolMap() {
+
+    return exchange.getSymbolMap();
+  }
+
   protected <R> R checkResult(KrakenResult<R> krakenResult) {
 
     if (!krakenResult.isSuccess()) {
@@ -120,7 +128,7 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
       for (Currency asset : assets) {
         commaDelimitedAssets
             .append((started) ? "," : "")
-            .append(KrakenUtils.getKrakenCurrencyCode(asset));
+            .append(KrakenUtils.getKrakenCurrencyCode(symbolMap(), asset));
         started = true;
       }
 
@@ -131,9 +139,10 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
   }
 
   protected String delimitAssetPairs(CurrencyPair[] currencyPairs) throws IOException {
+    SymbolMap symbolMap = symbolMap();
     return currencyPairs != null && currencyPairs.length > 0
         ? Arrays.stream(currencyPairs)
-            .map(KrakenUtils::createKrakenCurrencyPair)
+            .map(currencyPair -> KrakenUtils.createKrakenCurrencyPair(symbolMap, currencyPair))
             .filter(Objects::nonNull)
             .collect(Collectors.joining(","))
         : null;
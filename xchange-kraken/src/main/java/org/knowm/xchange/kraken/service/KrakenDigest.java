@@ -1,11 +1,9 @@
 package org.knowm.xchange.kraken.service;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
-import javax.crypto.Mac;
 import javax.ws.rs.FormParam;
 import org.knowm.xchange.service.BaseParamsDigest;
+import org.knowm.xchange.service.Signer;
 import si.mazi.rescu.RestInvocation;
 
 /** @author Benedikt Bünz */
@@ -33,20 +31,18 @@ public class KrakenDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    MessageDigest sha256;
-    try {
-      sha256 = MessageDigest.getInstance("SHA-256");
-    } catch (NoSuchAlgorithmException e) {
-      throw new RuntimeException(
-          "Illegal algorithm for post body digest. Check the implementation.");
+    Signer signer = getSigner();
+    Object nonce = restInvocation.getParamValue(FormParam.class, "nonce");
+    if (nonce instanceof Long) {
+      signer.append((long) nonce);
+    } else {
+      signer.append(nonce.toString());
     }
-    sha256.update(restInvocation.getParamValue(FormParam.class, "nonce").toString().getBytes());
-    sha256.update(restInvocation.getRequestBody().getBytes());
-
-    Mac mac512 = getMac();
-    mac512.update(("/" + restInvocation.getPath()).getBytes());
-    mac512.update(sha256.digest());
-
-    return Base64.getEncoder().encodeToString(mac512.doFinal()).trim();
+    byte[] sha256 = signer.append(restInvocation.getRequestBody()).sha256();
+    return signer
+        .append('/')
+        .append(restInvocation.getPath())
+        .append(sha256, 0, sha256.length)
+        .hmacBase64();
   }
 }
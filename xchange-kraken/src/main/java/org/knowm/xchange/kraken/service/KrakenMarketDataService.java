@@ -5,13 +5,12 @@ import java.util.Collection;
 import java.util.List;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.kraken.KrakenAdapters;
-import org.knowm.xchange.kraken.dto.marketdata.KrakenDepth;
-import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrades;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
 import org.knowm.xchange.service.marketdata.params.Params;
@@ -32,7 +31,9 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
   @Override
   public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
 
-    return KrakenAdapters.adaptTicker(getKrakenTicker(currencyPair), currencyPair);
+    return adapted(
+        () -> getKrakenTicker(currencyPair),
+        ticker -> KrakenAdapters.adaptTicker(ticker, currencyPair));
   }
 
   @Override
@@ -42,7 +43,9 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
     }
     Collection<CurrencyPair> pairs = ((CurrencyPairsParam) params).getCurrencyPairs();
     CurrencyPair[] pair = pairs.toArray(new CurrencyPair[pairs.size()]);
-    return KrakenAdapters.adaptTickers(getKrakenTickers(pair));
+    SymbolMap symbolMap = symbolMap();
+    return adapted(
+        () -> getKrakenTickers(pair), tickers -> KrakenAdapters.adaptTickers(tickers, symbolMap));
   }
 
   @Override
@@ -61,9 +64,10 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
       }
     }
 
-    KrakenDepth krakenDepth = getKrakenDepth(currencyPair, count);
-
-    return KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair);
+    long depth = count;
+    return adapted(
+        () -> getKrakenDepth(currencyPair, depth),
+        krakenDepth -> KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair));
   }
 
   @Override
@@ -80,8 +84,11 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
       }
     }
 
-    KrakenPublicTrades krakenTrades = getKrakenTrades(currencyPair, since);
-    return KrakenAdapters.adaptTrades(
-        krakenTrades.getTrades(), currencyPair, krakenTrades.getLast());
+    Long from = since;
+    return adapted(
+        () -> getKrakenTrades(currencyPair, from),
+        krakenTrades ->
+            KrakenAdapters.adaptTrades(
+                krakenTrades.getTrades(), currencyPair, krakenTrades.getLast()));
   }
 }
@@ -37,14 +37,14 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
 
   public KrakenOHLCs getKrakenOHLC(CurrencyPair currencyPair, Integer interval, Long since)
       throws IOException {
-    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(symbolMap(), currencyPair);
     KrakenOHLCResult OHLCResult = kraken.getOHLC(krakenCurrencyPair, interval, since);
     return checkResult(OHLCResult);
   }
 
   public KrakenTicker getKrakenTicker(CurrencyPair currencyPair) throws IOException {
 
-    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(symbolMap(), currencyPair);
     KrakenTickerResult tickerResult = kraken.getTicker(krakenCurrencyPair);
 
     return checkResult(tickerResult).get(krakenCurrencyPair);
@@ -60,7 +60,7 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
 
   public KrakenDepth getKrakenDepth(CurrencyPair currencyPair, long count) throws IOException {
 
-    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(symbolMap(), currencyPair);
     KrakenDepthResult result = kraken.getDepth(krakenCurrencyPair, count);
 
     return checkResult(result).get(krakenCurrencyPair);
@@ -74,7 +74,7 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
   public KrakenPublicTrades getKrakenTrades(CurrencyPair currencyPair, Long since)
       throws IOException {
 
-    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(symbolMap(), currencyPair);
     KrakenPublicTradesResult result = kraken.getTrades(krakenCurrencyPair, since);
 
     return checkResult(result);
@@ -89,7 +89,9 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
   private KrakenSpreads getKrakenSpreads(Currency tradableIdentifier, Currency currency, Long since)
       throws IOException {
 
-    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(tradableIdentifier, currency);
+    String krakenCurrencyPair =
+        KrakenUtils.createKrakenCurrencyPair(
+            symbolMap(), new CurrencyPair(tradableIdentifier, currency));
     KrakenSpreadsResult spreadsResult = kraken.getSpread(krakenCurrencyPair, since);
 
     return checkResult(spreadsResult);
@@ -3,6 +3,7 @@ package org.knowm.xchange.kraken.service;
 import java.io.IOException;
 import java.util.Collection;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
@@ -10,6 +11,7 @@ import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.kraken.KrakenAdapters;
+import org.knowm.xchange.service.trade.TradeHistoryCursor;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.*;
 import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
@@ -34,7 +36,9 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
 
   @Override
   public OpenOrders getOpenOrders(OpenOrdersParams params) throws IOException {
-    return KrakenAdapters.adaptOpenOrders(super.getKrakenOpenOrders());
+    SymbolMap symbolMap = symbolMap();
+    return adapted(
+        super::getKrakenOpenOrders, orders -> KrakenAdapters.adaptOpenOrders(orders, symbolMap));
   }
 
   @Override
@@ -90,8 +94,9 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
       offset = null;
     }
 
-    return KrakenAdapters.adaptTradesHistory(
-        getKrakenTradeHistory(null, false, startTime, endTime, offset).getTrades());
+    return adapted(
+        () -> getKrakenTradeHistory(null, false, startTime, endTime, offset),
+        history -> KrakenAdapters.adaptTradesHistory(history.getTrades(), symbolMap()));
   }
 
   @Override
@@ -100,6 +105,13 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
     return new KrakenTradeHistoryParams();
   }
 
+  /** Pages by offset, 50 trades at a time, back from the most recent. */
+  @Override
+  public TradeHistoryCursor getTradeHistoryCursor() {
+
+    return TradeHistoryCursor.offset(50);
+  }
+
   @Override
   public OpenOrdersParams createOpenOrdersParams() {
     return null;
@@ -108,7 +120,9 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
   @Override
   public Collection<Order> getOrder(String... orderIds) throws IOException {
 
-    return KrakenAdapters.adaptOrders(super.getOrders(orderIds));
+    SymbolMap symbolMap = symbolMap();
+    return adapted(
+        () -> super.getOrders(orderIds), orders -> KrakenAdapters.adaptOrders(orders, symbolMap));
   }
 
   public static class KrakenTradeHistoryParams extends DefaultTradeHistoryParamsTimeSpan
@@ -216,7 +216,7 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
     if (!krakenStandardOrder.isValidateOnly()) {
       result =
           kraken.addOrder(
-              KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
+              KrakenUtils.createKrakenCurrencyPair(symbolMap(), krakenStandardOrder.getAssetPair()),
               krakenStandardOrder.getType().toString(),
               krakenStandardOrder.getOrderType().toApiFormat(),
               krakenStandardOrder.getPrice(),
@@ -235,7 +235,7 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
     } else {
       result =
           kraken.addOrderValidateOnly(
-              KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
+              KrakenUtils.createKrakenCurrencyPair(symbolMap(), krakenStandardOrder.getAssetPair()),
               krakenStandardOrder.getType().toString(),
               krakenStandardOrder.getOrderType().toApiFormat(),
               krakenStandardOrder.getPrice(),
@@ -3,6 +3,7 @@ package org.knowm.xchange.kraken;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -18,11 +19,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.account.FundingRecord;
 import org.knowm.xchange.dto.account.Wallet;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.ScaledOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.dto.meta.FeeTier;
@@ -101,6 +104,20 @@ public class KrakenAdaptersTest {
         .isEqualTo(currencyPair.base.getCurrencyCode());
   }
 
+  @Test
+  public void testAdaptCurrencyPairWithOwnSymbolMap() {
+
+    SymbolMap symbolMap =
+        new SymbolMap.Builder()
+            .currencyPair("XXBTZUSD", CurrencyPair.ETH_USD)
+            .currency("XXBT", Currency.ETH)
+            .build();
+
+    assertThat(KrakenAdapters.adaptCurrencyPair("XXBTZUSD", symbolMap))
+        .isEqualTo(CurrencyPair.ETH_USD);
+    assertThat(KrakenAdapters.adaptCurrency("XXBT", symbolMap)).isEqualTo(Currency.ETH);
+  }
+
   @Test
   public void testAdaptCurrencyPairs() throws IOException {
 
@@ -172,6 +189,27 @@ public class KrakenAdaptersTest {
     assertThat(order.getTimestamp()).isEqualTo(new Date(1391825343000L));
   }
 
+  @Test
+  public void testAdaptScaledOrderBook() throws IOException {
+
+    ScaledOrderBook book = new ScaledOrderBook(CurrencyPair.BTC_EUR, 5, 3);
+    try (JsonParser parser =
+        new ObjectMapper()
+            .getFactory()
+            .createParser(
+                KrakenAdaptersTest.class.getResourceAsStream(
+                    "/org/knowm/xchange/kraken/dto/marketdata/example-depth-data.json"))) {
+      KrakenAdapters.adaptOrderBook(parser, book);
+    }
+
+    assertThat(book.getDepth(OrderType.ASK)).isEqualTo(3);
+    assertThat(book.getDepth(OrderType.BID)).isEqualTo(3);
+    assertThat(book.getPrice(OrderType.ASK, 0)).isEqualTo(53075513L);
+    assertThat(book.getAmount(OrderType.ASK, 0)).isEqualTo(248L);
+    assertThat(book.getPrice(OrderType.BID, 0)).isEqualTo(52626000L);
+    assertThat(book.getTimestamp()).isEqualTo(1391825343000L);
+  }
+
   @Test
   public void testAdaptBalance() throws IOException {
 
@@ -0,0 +1,104 @@
+package org.knowm.xchange.kraken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.MetaDataRefresher;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAsset;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPair;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetPairsResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetsResult;
+
+public class KrakenMetaDataSnapshotTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @After
+  public void tearDown() {
+
+    LocalKrakenExchange.unavailable = false;
+    KrakenUtils.setSymbolMap(SymbolMap.empty());
+  }
+
+  @Test
+  public void testStartsFromSnapshot() throws Exception {
+
+    try (MetaDataRefresher refresher =
+        new MetaDataRefresher.Builder().snapshotDirectory(folder.getRoot()).build()) {
+      create(refresher);
+    }
+
+    // a new process, while Kraken is down
+    LocalKrakenExchange.unavailable = true;
+    KrakenUtils.setSymbolMap(SymbolMap.empty());
+    try (MetaDataRefresher refresher =
+        new MetaDataRefresher.Builder()
+            .snapshotDirectory(folder.getRoot())
+            .refreshInterval(1, TimeUnit.HOURS)
+            .build()) {
+      KrakenExchange exchange = create(refresher);
+
+      assertThat(exchange.getSymbolMap().getCurrencyPair("XXBTZUSD"))
+          .isEqualTo(CurrencyPair.BTC_USD);
+      assertThat(KrakenAdapters.adaptCurrencyPair("XXBTZUSD")).isEqualTo(CurrencyPair.BTC_USD);
+      assertThat(KrakenAdapters.adaptCurrency("XXBT")).isEqualTo(Currency.BTC);
+    }
+  }
+
+  private static KrakenExchange create(MetaDataRefresher refresher) {
+
+    ExchangeSpecification specification = new ExchangeSpecification(LocalKrakenExchange.class);
+    specification.setMetaDataRefresher(refresher);
+    KrakenExchange exchange = new LocalKrakenExchange();
+    exchange.applySpecification(specification);
+    return exchange;
+  }
+
+  /** Loads Kraken's listings from the example resources rather than the API. */
+  public static class LocalKrakenExchange extends KrakenExchange {
+
+    static volatile boolean unavailable;
+
+    @Override
+    public void remoteInit() throws IOException {
+
+      if (unavailable) {
+        throw new ExchangeException("Unavailable");
+      }
+      ObjectMapper mapper = new ObjectMapper();
+      KrakenAssetPairsResult pairs;
+      try (InputStream is = resource("example-assetpairs-data.json")) {
+        pairs = mapper.readValue(is, KrakenAssetPairsResult.class);
+      }
+      KrakenAssetsResult assets;
+      try (InputStream is = resource("example-assets-data.json")) {
+        assets = mapper.readValue(is, KrakenAssetsResult.class);
+      }
+      Map<String, KrakenAssetPair> pairMap = pairs.getResult();
+      Map<String, KrakenAsset> assetMap = assets.getResult();
+      SymbolMap symbolMap = KrakenUtils.compileSymbolMap(pairMap, assetMap);
+      exchangeMetaData =
+          KrakenAdapters.adaptToExchangeMetaData(exchangeMetaData, pairMap, assetMap, symbolMap);
+      setSymbolMap(symbolMap);
+    }
+
+    private static InputStream resource(String name) {
+
+      return KrakenMetaDataSnapshotTest.class.getResourceAsStream(
+          "/org/knowm/xchange/kraken/dto/marketdata/" + name);
+    }
+  }
+}
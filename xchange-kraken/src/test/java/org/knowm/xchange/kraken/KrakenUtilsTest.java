@@ -0,0 +1,103 @@
+package org.knowm.xchange.kraken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolMap;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAsset;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPair;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetPairsResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetsResult;
+
+public class KrakenUtilsTest {
+
+  private Map<String, KrakenAsset> assets;
+  private Map<String, KrakenAssetPair> pairs;
+
+  @Before
+  public void before() throws IOException {
+
+    ObjectMapper mapper = new ObjectMapper();
+    try (InputStream is =
+        KrakenUtilsTest.class.getResourceAsStream(
+            "/org/knowm/xchange/kraken/dto/marketdata/example-assets-data.json")) {
+      assets = mapper.readValue(is, KrakenAssetsResult.class).getResult();
+    }
+    try (InputStream is =
+        KrakenUtilsTest.class.getResourceAsStream(
+            "/org/knowm/xchange/kraken/dto/marketdata/example-assetpairs-data.json")) {
+      pairs = mapper.readValue(is, KrakenAssetPairsResult.class).getResult();
+    }
+  }
+
+  @After
+  public void after() {
+
+    KrakenUtils.clearAssets();
+  }
+
+  @Test
+  public void testCompileSymbolMap() {
+
+    SymbolMap symbolMap = KrakenUtils.compileSymbolMap(pairs, assets);
+
+    assertThat(KrakenUtils.translateKrakenCurrencyPair(symbolMap, "XXBTZUSD"))
+        .isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(symbolMap.getCurrencyPair("xxbtzusd")).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(KrakenUtils.createKrakenCurrencyPair(symbolMap, CurrencyPair.BTC_USD))
+        .isEqualTo("XXBTZUSD");
+    assertThat(KrakenUtils.translateKrakenCurrencyCode(symbolMap, "XXBT")).isEqualTo(Currency.BTC);
+    assertThat(KrakenUtils.getKrakenCurrencyCode(symbolMap, Currency.BTC)).isEqualTo("XXBT");
+    assertThat(symbolMap.getCurrencyPairSymbols().keySet()).noneMatch(code -> code.endsWith(".d"));
+
+    // not compiled into this map, nor set as the shared one
+    assertThat(KrakenUtils.getSymbolMap().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testInstancesKeepTheirOwnMaps() {
+
+    SymbolMap all = KrakenUtils.compileSymbolMap(pairs, assets);
+    SymbolMap one =
+        KrakenUtils.compileSymbolMap(
+            Collections.singletonMap("XXBTZUSD", pairs.get("XXBTZUSD")), assets);
+    KrakenUtils.setSymbolMap(one);
+
+    assertThat(KrakenUtils.createKrakenCurrencyPair(CurrencyPair.ETH_BTC)).isNull();
+    assertThat(KrakenUtils.createKrakenCurrencyPair(all, CurrencyPair.ETH_BTC))
+        .isEqualTo("XETHXXBT");
+    assertThat(KrakenUtils.createKrakenCurrencyPair(CurrencyPair.BTC_USD)).isEqualTo("XXBTZUSD");
+  }
+
+  @Test
+  public void testSettersReplaceSharedMap() {
+
+    KrakenUtils.setKrakenAssets(assets);
+    KrakenUtils.setKrakenAssetPairs(pairs);
+    SymbolMap first = KrakenUtils.getSymbolMap();
+    assertThat(KrakenUtils.translateKrakenCurrencyPair("XXBTZUSD")).isEqualTo(CurrencyPair.BTC_USD);
+
+    KrakenUtils.setKrakenAssetPairs(Collections.singletonMap("XXBTZUSD", pairs.get("XXBTZUSD")));
+
+    assertThat(KrakenUtils.getSymbolMap().getCurrencyPairSymbols()).hasSize(1);
+    assertThat(KrakenUtils.getSymbolMap().getCurrencySymbols()).hasSameSizeAs(assets);
+    // readers holding the earlier map are unaffected
+    assertThat(first.getSymbol(CurrencyPair.ETH_BTC)).isEqualTo("XETHXXBT");
+  }
+
+  @Test(expected = ExchangeException.class)
+  public void testUnknownAsset() {
+
+    KrakenUtils.compileSymbolMap(pairs, Collections.emptyMap());
+  }
+}
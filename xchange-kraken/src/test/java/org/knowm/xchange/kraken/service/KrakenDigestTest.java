@@ -0,0 +1,53 @@
+package org.knowm.xchange.kraken.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.ws.rs.FormParam;
+import org.junit.Test;
+import si.mazi.rescu.RestInvocation;
+
+public class KrakenDigestTest {
+
+  /** The example from Kraken's REST API authentication documentation. */
+  @Test
+  public void testDigestParams() {
+
+    KrakenDigest digest =
+        KrakenDigest.createInstance(
+            "kQH5HW/8p1uGOVjbgWA7FunAmGO8lsSUXNsu3eow76sz84Q18fWxnyRzBHCd3pd5nE9qa99HAZtuZuj6F1huXg==");
+
+    String signature = digest.digestParams(addOrder());
+
+    assertThat(signature)
+        .isEqualTo(
+            "4/dpxb3iT4tp/ZCVEwSnEsLxx0bqyhLpdfOpc6fn7OR8+UClSV5n9E6aSS8MPtnRfp32bAb0nmbRn6H8ndwLUQ==");
+    assertThat(digest.digestParams(addOrder())).isEqualTo(signature);
+  }
+
+  static RestInvocation addOrder() {
+
+    return new RestInvocation(null, null, null, null, null, null, null, null) {
+
+      @Override
+      public Object getParamValue(
+          Class<? extends java.lang.annotation.Annotation> annotationClass, String paramName) {
+
+        return FormParam.class.equals(annotationClass) && "nonce".equals(paramName)
+            ? 1616492376594L
+            : null;
+      }
+
+      @Override
+      public String getRequestBody() {
+
+        return "nonce=1616492376594&ordertype=limit&pair=XBTUSD&price=37500&type=buy&volume=1.25";
+      }
+
+      @Override
+      public String getPath() {
+
+        return "0/private/AddOrder";
+      }
+    };
+  }
+}
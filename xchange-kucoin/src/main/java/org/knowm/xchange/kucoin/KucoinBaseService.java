@@ -53,7 +53,10 @@ public class KucoinBaseService extends BaseExchangeService<KucoinExchange> imple
 
   private <T> T service(KucoinExchange exchange, Class<T> clazz) {
     return RestProxyFactory.createProxy(
-        clazz, exchange.getExchangeSpecification().getSslUri(), getClientConfig());
+        clazz,
+        exchange.getExchangeSpecification().getSslUri(),
+        getClientConfig(),
+        getInterceptors());
   }
 
   protected void checkAuthenticated() {
@@ -25,25 +25,28 @@ public class KucoinMarketDataService extends KucoinMarketDataServiceRaw
 
   @Override
   public Ticker getTicker(CurrencyPair currencyPair, Object... args) throws IOException {
-    return KucoinAdapters.adaptTickerFull(currencyPair, getKucoin24hrStats(currencyPair)).build();
+    return adapted(
+        () -> getKucoin24hrStats(currencyPair),
+        stats -> KucoinAdapters.adaptTickerFull(currencyPair, stats).build());
   }
 
   @Override
   public List<Ticker> getTickers(Params params) throws IOException {
-    return KucoinAdapters.adaptAllTickers(getKucoinTickers());
+    return adapted(this::getKucoinTickers, KucoinAdapters::adaptAllTickers);
   }
 
   @Override
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
-    if (Arrays.asList(args).contains(PARAM_FULL_ORDERBOOK)) {
-      return KucoinAdapters.adaptOrderBook(currencyPair, getKucoinOrderBookFull(currencyPair));
-    } else {
-      return KucoinAdapters.adaptOrderBook(currencyPair, getKucoinOrderBookPartial(currencyPair));
-    }
+    boolean full = Arrays.asList(args).contains(PARAM_FULL_ORDERBOOK);
+    return adapted(
+        () -> full ? getKucoinOrderBookFull(currencyPair) : getKucoinOrderBookPartial(currencyPair),
+        orderBook -> KucoinAdapters.adaptOrderBook(currencyPair, orderBook));
   }
 
   @Override
   public Trades getTrades(CurrencyPair currencyPair, Object... args) throws IOException {
-    return KucoinAdapters.adaptTrades(currencyPair, getKucoinTrades(currencyPair));
+    return adapted(
+        () -> getKucoinTrades(currencyPair),
+        trades -> KucoinAdapters.adaptTrades(currencyPair, trades));
   }
 }
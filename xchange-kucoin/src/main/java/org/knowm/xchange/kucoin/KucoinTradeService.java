@@ -41,7 +41,9 @@ public class KucoinTradeService extends KucoinTradeServiceRaw implements TradeSe
 
   @Override
   public OpenOrders getOpenOrders() throws IOException {
-    return convertOpenOrders(getKucoinOpenOrders(null, 1, ORDERS_TO_FETCH).getItems(), null);
+    return adapted(
+        () -> getKucoinOpenOrders(null, 1, ORDERS_TO_FETCH),
+        orders -> convertOpenOrders(orders.getItems(), null));
   }
 
   @Override
@@ -51,8 +53,10 @@ public class KucoinTradeService extends KucoinTradeServiceRaw implements TradeSe
       OpenOrdersParamCurrencyPair pairParams = (OpenOrdersParamCurrencyPair) params;
       symbol = KucoinAdapters.adaptCurrencyPair(pairParams.getCurrencyPair());
     }
-    return convertOpenOrders(
-        getKucoinOpenOrders(symbol, 1, TRADE_HISTORIES_TO_FETCH).getItems(), params);
+    String pair = symbol;
+    return adapted(
+        () -> getKucoinOpenOrders(pair, 1, TRADE_HISTORIES_TO_FETCH),
+        orders -> convertOpenOrders(orders.getItems(), params));
   }
 
   @Override
@@ -65,7 +69,10 @@ public class KucoinTradeService extends KucoinTradeServiceRaw implements TradeSe
       TradeHistoryParamCurrencyPair params = (TradeHistoryParamCurrencyPair) genericParams;
       symbol = KucoinAdapters.adaptCurrencyPair(params.getCurrencyPair());
     }
-    return convertUserTrades(getKucoinFills(symbol, 1, TRADE_HISTORIES_TO_FETCH).getItems());
+    String pair = symbol;
+    return adapted(
+        () -> getKucoinFills(pair, 1, TRADE_HISTORIES_TO_FETCH),
+        fills -> convertUserTrades(fills.getItems()));
   }
 
   @Override
@@ -7,7 +7,9 @@ import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -18,31 +20,27 @@ import org.knowm.xchange.lgo.dto.order.LgoPlaceOrder;
 
 public final class CryptoUtils {
 
+  private static final ThreadLocal<OrderCipher> ORDER_CIPHERS =
+      ThreadLocal.withInitial(OrderCipher::new);
+
   private CryptoUtils() {}
 
   public static String encryptOrder(LgoKey lgoKey, LgoPlaceOrder lgoPlaceOrder) {
-    try {
-      String pub = lgoKey.getValue();
-      KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-      byte[] keyBytes = Base64.getDecoder().decode(pub.getBytes(StandardCharsets.UTF_8));
-      X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
-      RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(spec);
+    return ORDER_CIPHERS.get().encrypt(lgoKey, lgoPlaceOrder);
+  }
 
-      Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
-      cipher.init(Cipher.ENCRYPT_MODE, publicKey);
-      byte[] cipherData =
-          cipher.doFinal(lgoPlaceOrder.toPayload().getBytes(StandardCharsets.UTF_8));
-      return Base64.getEncoder().encodeToString(cipherData);
-    } catch (NoSuchAlgorithmException e) {
-      throw new ExchangeException("Error encrypting order: algorithm instance not available", e);
-    } catch (NoSuchPaddingException e) {
-      throw new ExchangeException("Error encrypting order: padding instance not available", e);
-    } catch (IllegalBlockSizeException
-        | BadPaddingException
-        | InvalidKeySpecException
-        | InvalidKeyException e) {
-      throw new ExchangeException("Error encrypting order: provided data invalid", e);
+  /**
+   * Encrypts several orders with the same key, as {@link #encryptOrder(LgoKey, LgoPlaceOrder)}
+   * would one by one.
+   */
+  public static List<String> encryptOrders(
+      LgoKey lgoKey, List<? extends LgoPlaceOrder> lgoPlaceOrders) {
+    OrderCipher cipher = ORDER_CIPHERS.get();
+    List<String> result = new ArrayList<>(lgoPlaceOrders.size());
+    for (LgoPlaceOrder lgoPlaceOrder : lgoPlaceOrders) {
+      result.add(cipher.encrypt(lgoKey, lgoPlaceOrder));
     }
+    return result;
   }
 
   static String parsePrivateKey(String key) {
@@ -56,4 +54,51 @@ public final class CryptoUtils {
         .replaceAll("-----BEGIN PUBLIC KEY-----", "")
         .replaceAll("\n", "");
   }
+
+  /**
+   * A {@link Cipher} initialized with the public key it last encrypted with, so that neither the
+   * cipher nor the key is rebuilt until LGO rotates its key.
+   */
+  private static final class OrderCipher {
+
+    private Cipher cipher;
+    private String keyValue;
+
+    String encrypt(LgoKey lgoKey, LgoPlaceOrder lgoPlaceOrder) {
+      try {
+        if (!lgoKey.getValue().equals(keyValue)) {
+          init(lgoKey.getValue());
+        }
+        byte[] cipherData =
+            cipher.doFinal(lgoPlaceOrder.toPayload().getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(cipherData);
+      } catch (NoSuchAlgorithmException e) {
+        throw new ExchangeException("Error encrypting order: algorithm instance not available", e);
+      } catch (NoSuchPaddingException e) {
+        throw new ExchangeException("Error encrypting order: padding instance not available", e);
+      } catch (IllegalBlockSizeException
+          | BadPaddingException
+          | InvalidKeySpecException
+          | InvalidKeyException e) {
+        keyValue = null;
+        throw new ExchangeException("Error encrypting order: provided data invalid", e);
+      }
+    }
+
+    private void init(String pub)
+        throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeySpecException,
+            InvalidKeyException {
+      keyValue = null;
+      KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+      byte[] keyBytes = Base64.getDecoder().decode(pub.getBytes(StandardCharsets.UTF_8));
+      X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
+      RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(spec);
+
+      if (cipher == null) {
+        cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+      }
+      cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+      keyValue = pub;
+    }
+  }
 }
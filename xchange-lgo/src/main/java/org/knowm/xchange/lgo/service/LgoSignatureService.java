@@ -1,11 +1,16 @@
 package org.knowm.xchange.lgo.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.lgo.Lgo;
 import org.knowm.xchange.lgo.LgoEnv;
 import org.knowm.xchange.lgo.LgoEnv.SignatureService;
+import org.knowm.xchange.lgo.dto.key.LgoKey;
+import org.knowm.xchange.lgo.dto.order.LgoEncryptedOrder;
 import org.knowm.xchange.lgo.dto.order.LgoOrderSignature;
+import org.knowm.xchange.lgo.dto.order.LgoPlaceOrder;
 import si.mazi.rescu.ParamsDigest;
 import si.mazi.rescu.RestInvocation;
 
@@ -39,4 +44,27 @@ public interface LgoSignatureService extends ParamsDigest {
   String digestHeader(String urlToSign, String timestamp);
 
   LgoOrderSignature signOrder(String encryptedOrder);
+
+  /**
+   * Encrypts and signs a batch of orders with the same key, ready to be placed.
+   *
+   * @param lgoKey the LGO public key to encrypt with
+   * @param orders the orders
+   * @return the encrypted orders, in the same order
+   */
+  default List<LgoEncryptedOrder> encryptAndSignOrders(
+      LgoKey lgoKey, List<? extends LgoPlaceOrder> orders) {
+    List<String> encryptedOrders = CryptoUtils.encryptOrders(lgoKey, orders);
+    List<LgoEncryptedOrder> result = new ArrayList<>(orders.size());
+    for (int i = 0; i < orders.size(); i++) {
+      String encryptedOrder = encryptedOrders.get(i);
+      result.add(
+          new LgoEncryptedOrder(
+              lgoKey.getId(),
+              encryptedOrder,
+              signOrder(encryptedOrder),
+              orders.get(i).getReference()));
+    }
+    return result;
+  }
 }
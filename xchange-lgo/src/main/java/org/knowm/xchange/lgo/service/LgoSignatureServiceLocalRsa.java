@@ -1,29 +1,45 @@
 package org.knowm.xchange.lgo.service;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
+import java.security.PrivateKey;
 import java.security.Signature;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.Base64;
 import lombok.NonNull;
 import org.knowm.xchange.lgo.dto.order.LgoOrderSignature;
+import org.knowm.xchange.utils.DigestUtils;
 
 public class LgoSignatureServiceLocalRsa implements LgoSignatureService {
 
   private final String apiKey;
-  private final String privKey;
+  private final ThreadLocal<Signature> signatures;
 
   LgoSignatureServiceLocalRsa(@NonNull String apiKey, @NonNull String privKey) {
     this.apiKey = apiKey;
-    this.privKey = CryptoUtils.parsePrivateKey(privKey);
+    PrivateKey privateKey = parsePrivateKey(CryptoUtils.parsePrivateKey(privKey));
+    this.signatures =
+        ThreadLocal.withInitial(
+            () -> {
+              try {
+                Signature signature = Signature.getInstance("SHA256withRSA");
+                signature.initSign(privateKey);
+                return signature;
+              } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Error initializing RSA signature", e);
+              }
+            });
   }
 
-  private static String byteArrayToHex(byte[] a) {
-    StringBuilder sb = new StringBuilder(a.length * 2);
-    for (byte b : a) {
-      sb.append(String.format("%02x", b));
+  private static PrivateKey parsePrivateKey(String privKey) {
+    try {
+      byte[] b1 = Base64.getDecoder().decode(privKey);
+      PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(b1);
+      return KeyFactory.getInstance("RSA").generatePrivate(spec);
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid RSA private key", e);
     }
-    return sb.toString();
   }
 
   @Override
@@ -35,8 +51,8 @@ public class LgoSignatureServiceLocalRsa implements LgoSignatureService {
               .replace("https://", "")
               .replace("wss://", "")
               .replace("ws://", "");
-      String signed = signSHA256RSA(String.format("%s\n%s", timestamp, urlToSign));
-      return String.format("LGO %s:%s", apiKey, signed);
+      String signed = signSHA256RSA(timestamp + "\n" + urlToSign);
+      return "LGO " + apiKey + ":" + signed;
     } catch (Exception e) {
       throw new RuntimeException("Error signing request", e);
     }
@@ -52,12 +68,14 @@ public class LgoSignatureServiceLocalRsa implements LgoSignatureService {
   }
 
   private String signSHA256RSA(String input) throws Exception {
-    byte[] b1 = Base64.getDecoder().decode(privKey);
-    PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(b1);
-    KeyFactory kf = KeyFactory.getInstance("RSA");
-    Signature privateSignature = Signature.getInstance("SHA256withRSA");
-    privateSignature.initSign(kf.generatePrivate(spec));
-    privateSignature.update(input.getBytes(StandardCharsets.UTF_8));
-    return byteArrayToHex(privateSignature.sign());
+    Signature privateSignature = signatures.get();
+    try {
+      privateSignature.update(input.getBytes(StandardCharsets.UTF_8));
+      return DigestUtils.bytesToHex(privateSignature.sign());
+    } catch (Exception e) {
+      // the signature may have been left part way through a message
+      signatures.remove();
+      throw e;
+    }
   }
 }
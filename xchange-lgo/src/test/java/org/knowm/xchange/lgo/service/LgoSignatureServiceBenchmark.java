@@ -0,0 +1,133 @@
+package org.knowm.xchange.lgo.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import org.knowm.xchange.lgo.dto.key.LgoKey;
+import org.knowm.xchange.lgo.dto.order.LgoEncryptedOrder;
+import org.knowm.xchange.lgo.dto.order.LgoOrderSignature;
+import org.knowm.xchange.lgo.dto.order.LgoPlaceLimitOrder;
+import org.knowm.xchange.lgo.dto.order.LgoPlaceOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Orders encrypted and signed per second, through {@link
+ * LgoSignatureService#encryptAndSignOrders(LgoKey, List)} and through the previous code, which
+ * parsed both keys and built a new {@link Cipher} and {@link Signature} for every order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LgoSignatureServiceBenchmark {
+
+  private static final int BATCH = 10;
+
+  private final List<LgoPlaceOrder> orders = new ArrayList<>(BATCH);
+  private LgoSignatureServiceLocalRsa signatureService;
+  private String privKey;
+  private LgoKey lgoKey;
+
+  @Setup
+  public void setUp() throws Exception {
+    String pKeyAsString = LgoSignatureServiceLocalRsaTest.readPrivateKey();
+    signatureService = new LgoSignatureServiceLocalRsa("apiKey", pKeyAsString);
+    privKey = CryptoUtils.parsePrivateKey(pKeyAsString);
+    PrivateKey privateKey =
+        KeyFactory.getInstance("RSA")
+            .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privKey)));
+    lgoKey = LgoSignatureServiceLocalRsaTest.publicKey("key-id", privateKey);
+    for (int i = 0; i < BATCH; i++) {
+      orders.add(
+          new LgoPlaceLimitOrder(
+              i,
+              "B",
+              "BTC-USD",
+              new BigDecimal("1.5"),
+              BigDecimal.valueOf(500000 + i, 2),
+              Instant.now()));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public List<LgoEncryptedOrder> encryptAndSign() {
+    return signatureService.encryptAndSignOrders(lgoKey, orders);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public List<LgoEncryptedOrder> encryptAndSignLegacy() throws Exception {
+    List<LgoEncryptedOrder> result = new ArrayList<>(BATCH);
+    for (LgoPlaceOrder order : orders) {
+      String encryptedOrder = encryptOrderLegacy(order);
+      result.add(
+          new LgoEncryptedOrder(
+              lgoKey.getId(),
+              encryptedOrder,
+              new LgoOrderSignature(signLegacy(encryptedOrder)),
+              order.getReference()));
+    }
+    return result;
+  }
+
+  private String encryptOrderLegacy(LgoPlaceOrder order) throws Exception {
+    KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+    byte[] keyBytes =
+        Base64.getDecoder().decode(lgoKey.getValue().getBytes(StandardCharsets.UTF_8));
+    RSAPublicKey publicKey =
+        (RSAPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(keyBytes));
+    Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+    cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+    return Base64.getEncoder()
+        .encodeToString(cipher.doFinal(order.toPayload().getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private String signLegacy(String input) throws Exception {
+    PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privKey));
+    KeyFactory kf = KeyFactory.getInstance("RSA");
+    Signature privateSignature = Signature.getInstance("SHA256withRSA");
+    privateSignature.initSign(kf.generatePrivate(spec));
+    privateSignature.update(input.getBytes(StandardCharsets.UTF_8));
+    byte[] a = privateSignature.sign();
+    StringBuilder sb = new StringBuilder(a.length * 2);
+    for (byte b : a) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(LgoSignatureServiceBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
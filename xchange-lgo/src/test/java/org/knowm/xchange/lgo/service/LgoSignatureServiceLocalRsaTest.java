@@ -3,20 +3,42 @@ package org.knowm.xchange.lgo.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Cipher;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
+import org.knowm.xchange.lgo.dto.key.LgoKey;
+import org.knowm.xchange.lgo.dto.order.LgoEncryptedOrder;
+import org.knowm.xchange.lgo.dto.order.LgoPlaceLimitOrder;
+import org.knowm.xchange.lgo.dto.order.LgoPlaceMarketOrder;
+import org.knowm.xchange.lgo.dto.order.LgoPlaceOrder;
 
 public class LgoSignatureServiceLocalRsaTest {
 
   private final String apiKey = "b34edb11-eb03-4da5-af84-496e42d8a92c";
   private LgoSignatureServiceLocalRsa signatureService;
+  private PrivateKey privateKey;
 
   @Before
   public void setUp() throws Exception {
-    InputStream pKey = LgoSignatureServiceLocalRsa.class.getResourceAsStream("/private_key.pem");
-    String pKeyAsString = IOUtils.toString(pKey, "utf8");
+    String pKeyAsString = readPrivateKey();
     signatureService = new LgoSignatureServiceLocalRsa(apiKey, pKeyAsString);
+    privateKey =
+        KeyFactory.getInstance("RSA")
+            .generatePrivate(
+                new PKCS8EncodedKeySpec(
+                    Base64.getDecoder().decode(CryptoUtils.parsePrivateKey(pKeyAsString))));
   }
 
   @Test
@@ -28,4 +50,58 @@ public class LgoSignatureServiceLocalRsaTest {
         .endsWith(
             "49fc528952ac62c7fd18524df714c7929900e8da66532cd99f4e7bda74eb22913120f85902afe7d48b1a50639f8a0748b9ffb2c1736189c5a01d9de4c79131dd3911feeb4a5c91290d754bb78700a9b12377059611b21b8853b5ae684d065d1e024a8d0d928bf6e44312620ca586173d838523b4cfd829d3b212a9013064424d832bca63303841def4a922ea777d52e3e1e0ad871278c44a60dfc827dacb25355028a6ef92c449b0ab779ae481c6f7247c0d07707989ac922d7151736c38ab4fe728e36a148851da5b9226ce9ed03cd7ffe66292c79109817a66fff03e1cb71c0f5ab88cb631d0cb776d96727e7d7938cd0c1f4095fc8949960da212e319ec1e");
   }
+
+  @Test
+  public void signsOrdersRepeatably() {
+    String first = signatureService.signOrder("encryptedOrder").getValue();
+
+    assertThat(signatureService.signOrder("anotherOrder").getValue()).isNotEqualTo(first);
+    assertThat(signatureService.signOrder("encryptedOrder").getValue()).isEqualTo(first);
+  }
+
+  @Test
+  public void encryptsAndSignsABatchOfOrders() throws Exception {
+    LgoKey key = publicKey("key-id", privateKey);
+    Instant now = Instant.ofEpochMilli(1555000000000L);
+    List<LgoPlaceOrder> orders =
+        Arrays.asList(
+            new LgoPlaceLimitOrder(
+                1L, "B", "BTC-USD", new BigDecimal("2"), new BigDecimal("5000.5"), now),
+            new LgoPlaceMarketOrder(2L, "S", "BTC-USD", new BigDecimal("1.5"), now));
+
+    List<LgoEncryptedOrder> encrypted = signatureService.encryptAndSignOrders(key, orders);
+
+    assertThat(encrypted).hasSize(2);
+    Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+    for (int i = 0; i < orders.size(); i++) {
+      LgoEncryptedOrder order = encrypted.get(i);
+      assertThat(order.getKeyId()).isEqualTo("key-id");
+      assertThat(order.getReference()).isEqualTo(orders.get(i).getReference());
+      assertThat(order.getSignature().getValue())
+          .isEqualTo(signatureService.signOrder(order.getOrder()).getValue());
+      cipher.init(Cipher.DECRYPT_MODE, privateKey);
+      assertThat(
+              new String(
+                  cipher.doFinal(Base64.getDecoder().decode(order.getOrder())),
+                  StandardCharsets.UTF_8))
+          .isEqualTo(orders.get(i).toPayload());
+    }
+  }
+
+  static String readPrivateKey() throws Exception {
+    InputStream pKey = LgoSignatureServiceLocalRsa.class.getResourceAsStream("/private_key.pem");
+    return IOUtils.toString(pKey, "utf8");
+  }
+
+  /** @return a key LGO could have issued for the public half of the given key pair */
+  static LgoKey publicKey(String id, PrivateKey privateKey) throws Exception {
+    RSAPrivateCrtKey crtKey = (RSAPrivateCrtKey) privateKey;
+    byte[] encoded =
+        KeyFactory.getInstance("RSA")
+            .generatePublic(new RSAPublicKeySpec(crtKey.getModulus(), crtKey.getPublicExponent()))
+            .getEncoded();
+    LgoKey key = new LgoKey(id, Instant.EPOCH, Instant.now().plusSeconds(3600));
+    key.setValue(Base64.getEncoder().encodeToString(encoded));
+    return key;
+  }
 }
@@ -4,13 +4,23 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.trade.BatchResult;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.UserTrade;
@@ -23,12 +33,14 @@ import org.knowm.xchange.okcoin.v3.dto.trade.OkexOpenOrder;
 import org.knowm.xchange.okcoin.v3.dto.trade.OkexOrderFlags;
 import org.knowm.xchange.okcoin.v3.dto.trade.OkexTradeHistoryParams;
 import org.knowm.xchange.okcoin.v3.dto.trade.OkexTransaction;
+import org.knowm.xchange.okcoin.v3.dto.trade.OrderBatchCancellationRequest;
 import org.knowm.xchange.okcoin.v3.dto.trade.OrderCancellationRequest;
 import org.knowm.xchange.okcoin.v3.dto.trade.OrderCancellationResponse;
 import org.knowm.xchange.okcoin.v3.dto.trade.OrderPlacementResponse;
 import org.knowm.xchange.okcoin.v3.dto.trade.OrderPlacementType;
 import org.knowm.xchange.okcoin.v3.dto.trade.Side;
 import org.knowm.xchange.okcoin.v3.dto.trade.SpotOrderPlacementRequest;
+import org.knowm.xchange.service.trade.OrderBatches;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByCurrencyPair;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
@@ -43,6 +55,8 @@ public class OkexTradeService extends OkexTradeServiceRaw implements TradeServic
 
   private static final int orders_limit = 100;
   private static final int transactions_limit = 100;
+  private static final int batch_orders_limit = 10;
+  private static final int batch_instruments_limit = 4;
 
   public OkexTradeService(OkexExchangeV3 exchange) {
     super(exchange);
@@ -50,6 +64,59 @@ public class OkexTradeService extends OkexTradeServiceRaw implements TradeServic
 
   @Override
   public String placeLimitOrder(LimitOrder o) throws IOException {
+    OrderPlacementResponse placed = spotPlaceOrder(spotOrderPlacementRequest(o));
+    return placed.getOrderId();
+  }
+
+  /**
+   * Places the orders in as few requests as the batch endpoint allows. A request which fails
+   * records a failure for its own orders only.
+   */
+  @Override
+  public List<BatchResult<LimitOrder, String>> placeLimitOrders(List<LimitOrder> limitOrders)
+      throws IOException {
+    List<BatchResult<LimitOrder, String>> results = new ArrayList<>(limitOrders.size());
+    for (List<LimitOrder> batch :
+        batches(limitOrders, o -> OkexAdaptersV3.toSpotInstrument(o.getCurrencyPair()))) {
+      Map<String, List<OrderPlacementResponse>> placed;
+      try {
+        placed =
+            spotPlaceMultipleOrders(
+                batch.stream()
+                    .map(OkexTradeService::spotOrderPlacementRequest)
+                    .collect(Collectors.toList()));
+      } catch (IOException | RuntimeException e) {
+        batch.forEach(o -> results.add(BatchResult.failure(o, e)));
+        continue;
+      }
+
+      // the orders of each instrument are returned in the order they were sent
+      Map<String, Integer> next = new HashMap<>();
+      for (LimitOrder o : batch) {
+        String instrument = OkexAdaptersV3.toSpotInstrument(o.getCurrencyPair());
+        int i = next.merge(instrument, 1, Integer::sum) - 1;
+        List<OrderPlacementResponse> responses = placed.get(instrument);
+        OrderPlacementResponse response =
+            responses != null && i < responses.size() ? responses.get(i) : null;
+        if (response == null) {
+          results.add(BatchResult.failure(o, new ExchangeException("No order returned")));
+          continue;
+        }
+        try {
+          response.checkResult();
+          if (Boolean.FALSE.equals(response.getResult())) {
+            throw new ExchangeException("Order not placed");
+          }
+          results.add(BatchResult.success(o, response.getOrderId()));
+        } catch (RuntimeException e) {
+          results.add(BatchResult.failure(o, e));
+        }
+      }
+    }
+    return results;
+  }
+
+  private static SpotOrderPlacementRequest spotOrderPlacementRequest(LimitOrder o) {
 
     // 0: Normal limit order (Unfilled and 0 represent normal limit order) 1: Post only 2: Fill Or
     // Kill 3: Immediatel Or Cancel
@@ -66,8 +133,7 @@ public class OkexTradeService extends OkexTradeServiceRaw implements TradeServic
             .side(o.getType() == OrderType.ASK ? Side.sell : Side.buy)
             .orderType(orderType)
             .build();
-    OrderPlacementResponse placed = spotPlaceOrder(req);
-    return placed.getOrderId();
+    return req;
   }
 
   @Override
@@ -94,6 +160,108 @@ public class OkexTradeService extends OkexTradeServiceRaw implements TradeServic
     return true;
   }
 
+  /**
+   * Cancels the orders given by ID and currency pair in as few requests as the batch endpoint
+   * allows, and any others one by one. A request which fails records a failure for its own orders
+   * only.
+   */
+  @Override
+  public List<BatchResult<CancelOrderParams, Boolean>> cancelOrders(
+      Collection<CancelOrderParams> orderParams) throws IOException {
+    List<CancelOrderParams> byInstrument = new ArrayList<>();
+    List<CancelOrderParams> others = new ArrayList<>();
+    for (CancelOrderParams params : orderParams) {
+      if (params instanceof CancelOrderByIdParams && params instanceof CancelOrderByCurrencyPair) {
+        byInstrument.add(params);
+      } else {
+        others.add(params);
+      }
+    }
+    Map<CancelOrderParams, BatchResult<CancelOrderParams, Boolean>> cancelled =
+        new IdentityHashMap<>();
+    for (List<CancelOrderParams> batch : batches(byInstrument, OkexTradeService::instrument)) {
+      Map<String, List<String>> orderIds = new LinkedHashMap<>();
+      for (CancelOrderParams params : batch) {
+        orderIds
+            .computeIfAbsent(instrument(params), instrument -> new ArrayList<>())
+            .add(((CancelOrderByIdParams) params).getOrderId());
+      }
+      Map<String, List<OrderCancellationResponse>> responses;
+      try {
+        responses =
+            spotCancelMultipleOrders(
+                orderIds.entrySet().stream()
+                    .map(
+                        e ->
+                            OrderBatchCancellationRequest.builder()
+                                .instrumentId(e.getKey())
+                                .orderIds(e.getValue())
+                                .build())
+                    .collect(Collectors.toList()));
+      } catch (IOException | RuntimeException e) {
+        batch.forEach(params -> cancelled.put(params, BatchResult.failure(params, e)));
+        continue;
+      }
+
+      Map<String, OrderCancellationResponse> byOrderId = new HashMap<>();
+      responses
+          .values()
+          .forEach(l -> l.forEach(response -> byOrderId.put(response.getOrderId(), response)));
+      for (CancelOrderParams params : batch) {
+        OrderCancellationResponse response =
+            byOrderId.get(((CancelOrderByIdParams) params).getOrderId());
+        try {
+          if (response != null) {
+            response.checkResult();
+          }
+          cancelled.put(
+              params,
+              BatchResult.success(
+                  params, response != null && Boolean.TRUE.equals(response.getResult())));
+        } catch (RuntimeException e) {
+          cancelled.put(params, BatchResult.failure(params, e));
+        }
+      }
+    }
+    Iterator<BatchResult<CancelOrderParams, Boolean>> otherResults =
+        OrderBatches.fanOut(others, this::cancelOrder).iterator();
+
+    List<BatchResult<CancelOrderParams, Boolean>> results = new ArrayList<>(orderParams.size());
+    for (CancelOrderParams params : orderParams) {
+      results.add(cancelled.containsKey(params) ? cancelled.get(params) : otherResults.next());
+    }
+    return results;
+  }
+
+  private static String instrument(CancelOrderParams params) {
+    return OkexAdaptersV3.toSpotInstrument(((CancelOrderByCurrencyPair) params).getCurrencyPair());
+  }
+
+  /**
+   * Splits the requests into batches the batch endpoints accept, of at most {@link
+   * #batch_orders_limit} orders across at most {@link #batch_instruments_limit} instruments.
+   */
+  private static <T> List<List<T>> batches(List<T> requests, Function<T, String> instrument) {
+    List<List<T>> batches = new ArrayList<>();
+    List<T> batch = new ArrayList<>();
+    Set<String> instruments = new HashSet<>();
+    for (T request : requests) {
+      String i = instrument.apply(request);
+      if (batch.size() == batch_orders_limit
+          || (!instruments.contains(i) && instruments.size() == batch_instruments_limit)) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+        instruments.clear();
+      }
+      batch.add(request);
+      instruments.add(i);
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+
   @Override
   public OpenOrders getOpenOrders() throws IOException {
     throw new NotAvailableFromExchangeException();
@@ -0,0 +1,143 @@
+package org.knowm.xchange.okcoin.v3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeFactory;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.BatchResult;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.okcoin.OkexExchangeV3;
+import org.knowm.xchange.okcoin.v3.dto.trade.OrderBatchCancellationRequest;
+import org.knowm.xchange.okcoin.v3.dto.trade.OrderCancellationResponse;
+import org.knowm.xchange.okcoin.v3.dto.trade.OrderPlacementResponse;
+import org.knowm.xchange.okcoin.v3.dto.trade.SpotOrderPlacementRequest;
+import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.DefaultCancelOrderByPairAndIfParams;
+
+public class OkexTradeServiceTest {
+
+  private LocalTradeService service;
+
+  @Before
+  public void setUp() {
+
+    ExchangeSpecification specification = new ExchangeSpecification(OkexExchangeV3.class);
+    specification.setShouldLoadRemoteMetaData(false);
+    service =
+        new LocalTradeService(
+            (OkexExchangeV3) ExchangeFactory.INSTANCE.createExchange(specification));
+  }
+
+  @Test
+  public void testPlacesEveryBatchWhenOneFails() throws Exception {
+
+    List<LimitOrder> orders = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      orders.add(
+          new LimitOrder.Builder(OrderType.BID, CurrencyPair.BTC_USDT)
+              .originalAmount(BigDecimal.ONE)
+              .limitPrice(BigDecimal.valueOf(100 + i))
+              .build());
+    }
+
+    List<BatchResult<LimitOrder, String>> results = service.placeLimitOrders(orders);
+
+    assertThat(service.requests).isEqualTo(3);
+    assertThat(results).hasSize(25);
+    for (int i = 0; i < 25; i++) {
+      BatchResult<LimitOrder, String> result = results.get(i);
+      assertThat(result.getRequest()).isSameAs(orders.get(i));
+      if (i >= 10 && i < 20) {
+        assertThat(result.getError()).hasMessage("Unavailable");
+      } else {
+        assertThat(result.getResult()).isEqualTo("order" + orders.get(i).getLimitPrice());
+      }
+    }
+  }
+
+  @Test
+  public void testCancelsEveryBatchWhenOneFails() throws Exception {
+
+    List<CancelOrderParams> params = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      params.add(new DefaultCancelOrderByPairAndIfParams(CurrencyPair.BTC_USDT, "order" + i));
+    }
+
+    List<BatchResult<CancelOrderParams, Boolean>> results = service.cancelOrders(params);
+
+    assertThat(service.requests).isEqualTo(3);
+    assertThat(results).hasSize(25);
+    for (int i = 0; i < 25; i++) {
+      BatchResult<CancelOrderParams, Boolean> result = results.get(i);
+      assertThat(result.getRequest()).isSameAs(params.get(i));
+      if (i >= 10 && i < 20) {
+        assertThat(result.getError()).hasMessage("Unavailable");
+      } else {
+        assertThat(result.getResult()).isTrue();
+      }
+    }
+  }
+
+  /** Accepts every order, but fails the second request. */
+  private static class LocalTradeService extends OkexTradeService {
+
+    int requests;
+
+    LocalTradeService(OkexExchangeV3 exchange) {
+
+      super(exchange);
+    }
+
+    @Override
+    public Map<String, List<OrderPlacementResponse>> spotPlaceMultipleOrders(
+        List<SpotOrderPlacementRequest> req) {
+
+      if (++requests == 2) {
+        throw new ExchangeException("Unavailable");
+      }
+      return Collections.singletonMap(
+          "BTC-USDT",
+          req.stream()
+              .map(
+                  o -> {
+                    OrderPlacementResponse response = new OrderPlacementResponse();
+                    response.setResult(true);
+                    response.setOrderId("order" + o.getPrice());
+                    return response;
+                  })
+              .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Map<String, List<OrderCancellationResponse>> spotCancelMultipleOrders(
+        List<OrderBatchCancellationRequest> req) {
+
+      if (++requests == 2) {
+        throw new ExchangeException("Unavailable");
+      }
+      return Collections.singletonMap(
+          "BTC-USDT",
+          req.stream()
+              .flatMap(r -> r.getOrderIds().stream())
+              .map(
+                  id -> {
+                    OrderCancellationResponse response = new OrderCancellationResponse();
+                    response.setResult(true);
+                    response.setOrderId(id);
+                    return response;
+                  })
+              .collect(Collectors.toList()));
+    }
+  }
+}
@@ -6,12 +6,14 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Generated;
+import org.knowm.xchange.utils.jackson.PriceAmountListsDeserializer;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Generated("org.jsonschema2pojo")
@@ -19,9 +21,11 @@ import javax.annotation.Generated;
 public class PoloniexDepth {
 
   @JsonProperty("asks")
+  @JsonDeserialize(using = PriceAmountListsDeserializer.class)
   private List<List<BigDecimal>> asks = new ArrayList<List<BigDecimal>>();
 
   @JsonProperty("bids")
+  @JsonDeserialize(using = PriceAmountListsDeserializer.class)
   private List<List<BigDecimal>> bids = new ArrayList<List<BigDecimal>>();
 
   @JsonProperty("isFrozen")
@@ -1,7 +1,5 @@
 package org.knowm.xchange.poloniex.service;
 
-import java.math.BigInteger;
-import javax.crypto.Mac;
 import org.knowm.xchange.service.BaseParamsDigest;
 import si.mazi.rescu.RestInvocation;
 
@@ -27,11 +25,6 @@ public class PoloniexDigest extends BaseParamsDigest {
   @Override
   public String digestParams(RestInvocation restInvocation) {
 
-    String postBody = restInvocation.getRequestBody();
-
-    Mac mac = getMac();
-    mac.update(postBody.getBytes());
-
-    return String.format("%0128x", new BigInteger(1, mac.doFinal()));
+    return getSigner().append(restInvocation.getRequestBody()).hmacHex();
   }
 }
@@ -1,7 +1,9 @@
 package org.knowm.xchange.poloniex.service;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -88,6 +90,37 @@ public class PoloniexMarketDataService extends PoloniexMarketDataServiceRaw
     }
   }
 
+  /**
+   * Fetches the order books of all pairs in one call, whichever are asked for.
+   *
+   * @param args optional depth, as an Integer
+   */
+  @Override
+  public Map<CurrencyPair, OrderBook> getOrderBooks(Params params, Object... args)
+      throws IOException {
+
+    try {
+      Map<String, PoloniexDepth> depths;
+      if (args != null && args.length > 0) {
+        if (!(args[0] instanceof Integer)) {
+          throw new ExchangeException("Orderbook size argument must be an Integer!");
+        }
+        depths = getAllPoloniexDepths((Integer) args[0]);
+      } else {
+        depths = getAllPoloniexDepths();
+      }
+      Map<CurrencyPair, OrderBook> orderBooks = new LinkedHashMap<>();
+      for (Map.Entry<String, PoloniexDepth> entry : depths.entrySet()) {
+        CurrencyPair currencyPair = PoloniexUtils.toCurrencyPair(entry.getKey());
+        orderBooks.put(
+            currencyPair, PoloniexAdapters.adaptPoloniexDepth(entry.getValue(), currencyPair));
+      }
+      return orderBooks;
+    } catch (PoloniexException e) {
+      throw PoloniexErrorAdapter.adapt(e);
+    }
+  }
+
   @Override
   public Trades getTrades(CurrencyPair currencyPair, Object... args)
       throws ExchangeException, IOException {
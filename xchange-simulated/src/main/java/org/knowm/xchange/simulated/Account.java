@@ -2,12 +2,16 @@ package org.knowm.xchange.simulated;
 
 import static java.math.BigDecimal.ZERO;
 
-import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Striped;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.function.UnaryOperator;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.account.Balance;
@@ -17,18 +21,25 @@ import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.FundsExceededException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
 
+/**
+ * A user's balances. Balances are immutable and replaced on every change, so they can be read
+ * without locking. Changes are serialised per currency by a set of lock stripes rather than retried
+ * on contention, so engines for pairs with no currency in common never wait for each other, and the
+ * two legs of a fill are applied together.
+ */
 class Account {
 
-  private final ConcurrentMap<Currency, AtomicReference<Balance>> balances =
-      new ConcurrentHashMap<>();
+  private static final int STRIPES = 16;
+
+  private final ConcurrentMap<Currency, Balance> balances = new ConcurrentHashMap<>();
+  private final Striped<Lock> locks = Striped.lock(STRIPES);
 
   void initialize(Iterable<Currency> currencies) {
-    currencies.forEach(
-        currency -> balances.put(currency, new AtomicReference<>(new Balance(currency, ZERO))));
+    currencies.forEach(currency -> update(currency, b -> new Balance(currency, ZERO)));
   }
 
   public Collection<Balance> balances() {
-    return Collections2.transform(balances.values(), AtomicReference::get);
+    return Collections.unmodifiableCollection(balances.values());
   }
 
   public void checkBalance(LimitOrder order) {
@@ -39,13 +50,11 @@ class Account {
     switch (order.getType()) {
       case ASK:
         BigDecimal askAmount = order.getRemainingAmount();
-        Balance askBalance =
-            balances.computeIfAbsent(order.getCurrencyPair().base, this::defaultBalance).get();
+        Balance askBalance = balance(order.getCurrencyPair().base);
         checkBalance(order, askAmount, askBalance);
         break;
       case BID:
-        Balance bidBalance =
-            balances.computeIfAbsent(order.getCurrencyPair().counter, this::defaultBalance).get();
+        Balance bidBalance = balance(order.getCurrencyPair().counter);
         checkBalance(order, bidAmount, bidBalance);
         break;
       default:
@@ -74,53 +83,49 @@ class Account {
     reserve(order, true);
   }
 
-  private AtomicReference<Balance> defaultBalance(Currency currency) {
-    return new AtomicReference<>(new Balance(currency, ZERO));
-  }
-
   private void reserve(LimitOrder order, boolean negate) {
     switch (order.getType()) {
       case ASK:
         BigDecimal askAmount =
             negate ? order.getRemainingAmount().negate() : order.getRemainingAmount();
-        balance(order.getCurrencyPair().base)
-            .updateAndGet(
-                b -> {
-                  if (b.getAvailable().compareTo(askAmount) < 0) {
-                    throw new ExchangeException(
-                        "Insufficient balance: "
-                            + askAmount.toPlainString()
-                            + order.getCurrencyPair().base
-                            + " required but only "
-                            + b.getAvailable()
-                            + " available");
-                  }
-                  return Balance.Builder.from(b)
-                      .available(b.getAvailable().subtract(askAmount))
-                      .frozen(b.getFrozen().add(askAmount))
-                      .build();
-                });
+        update(
+            order.getCurrencyPair().base,
+            b -> {
+              if (b.getAvailable().compareTo(askAmount) < 0) {
+                throw new ExchangeException(
+                    "Insufficient balance: "
+                        + askAmount.toPlainString()
+                        + order.getCurrencyPair().base
+                        + " required but only "
+                        + b.getAvailable()
+                        + " available");
+              }
+              return Balance.Builder.from(b)
+                  .available(b.getAvailable().subtract(askAmount))
+                  .frozen(b.getFrozen().add(askAmount))
+                  .build();
+            });
         break;
       case BID:
         BigDecimal bid = order.getRemainingAmount().multiply(order.getLimitPrice());
         BigDecimal bidAmount = negate ? bid.negate() : bid;
-        balance(order.getCurrencyPair().counter)
-            .updateAndGet(
-                b -> {
-                  if (b.getAvailable().compareTo(bidAmount) < 0) {
-                    throw new ExchangeException(
-                        "Insufficient balance: "
-                            + bidAmount.toPlainString()
-                            + order.getCurrencyPair().counter
-                            + " required but only "
-                            + b.getAvailable()
-                            + " available");
-                  }
-                  return Balance.Builder.from(b)
-                      .available(b.getAvailable().subtract(bidAmount))
-                      .frozen(b.getFrozen().add(bidAmount))
-                      .build();
-                });
+        update(
+            order.getCurrencyPair().counter,
+            b -> {
+              if (b.getAvailable().compareTo(bidAmount) < 0) {
+                throw new ExchangeException(
+                    "Insufficient balance: "
+                        + bidAmount.toPlainString()
+                        + order.getCurrencyPair().counter
+                        + " required but only "
+                        + b.getAvailable()
+                        + " available");
+              }
+              return Balance.Builder.from(b)
+                  .available(b.getAvailable().subtract(bidAmount))
+                  .frozen(b.getFrozen().add(bidAmount))
+                  .build();
+            });
         break;
       default:
         throw new NotAvailableFromExchangeException(
@@ -132,45 +137,43 @@ class Account {
     BigDecimal counterAmount = userTrade.getOriginalAmount().multiply(userTrade.getPrice());
     switch (userTrade.getType()) {
       case ASK:
-        balance(userTrade.getCurrencyPair().base)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .available(
-                            reserved
-                                ? b.getAvailable()
-                                : b.getAvailable().subtract(userTrade.getOriginalAmount()))
-                        .frozen(
-                            reserved
-                                ? b.getFrozen().subtract(userTrade.getOriginalAmount())
-                                : b.getFrozen())
-                        .total(b.getTotal().subtract(userTrade.getOriginalAmount()))
-                        .build());
-        balance(userTrade.getCurrencyPair().counter)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .total(b.getTotal().add(counterAmount))
-                        .available(b.getAvailable().add(counterAmount))
-                        .build());
+        update(
+            userTrade.getCurrencyPair().base,
+            b ->
+                Balance.Builder.from(b)
+                    .available(
+                        reserved
+                            ? b.getAvailable()
+                            : b.getAvailable().subtract(userTrade.getOriginalAmount()))
+                    .frozen(
+                        reserved
+                            ? b.getFrozen().subtract(userTrade.getOriginalAmount())
+                            : b.getFrozen())
+                    .total(b.getTotal().subtract(userTrade.getOriginalAmount()))
+                    .build(),
+            userTrade.getCurrencyPair().counter,
+            b ->
+                Balance.Builder.from(b)
+                    .total(b.getTotal().add(counterAmount))
+                    .available(b.getAvailable().add(counterAmount))
+                    .build());
         break;
       case BID:
-        balance(userTrade.getCurrencyPair().base)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .total(b.getTotal().add(userTrade.getOriginalAmount()))
-                        .available(b.getAvailable().add(userTrade.getOriginalAmount()))
-                        .build());
-        balance(userTrade.getCurrencyPair().counter)
-            .updateAndGet(
-                b ->
-                    Balance.Builder.from(b)
-                        .available(
-                            reserved ? b.getAvailable() : b.getAvailable().subtract(counterAmount))
-                        .frozen(reserved ? b.getFrozen().subtract(counterAmount) : b.getFrozen())
-                        .total(b.getTotal().subtract(counterAmount))
-                        .build());
+        update(
+            userTrade.getCurrencyPair().base,
+            b ->
+                Balance.Builder.from(b)
+                    .total(b.getTotal().add(userTrade.getOriginalAmount()))
+                    .available(b.getAvailable().add(userTrade.getOriginalAmount()))
+                    .build(),
+            userTrade.getCurrencyPair().counter,
+            b ->
+                Balance.Builder.from(b)
+                    .available(
+                        reserved ? b.getAvailable() : b.getAvailable().subtract(counterAmount))
+                    .frozen(reserved ? b.getFrozen().subtract(counterAmount) : b.getFrozen())
+                    .total(b.getTotal().subtract(counterAmount))
+                    .build());
         break;
       default:
         throw new NotAvailableFromExchangeException(
@@ -178,17 +181,47 @@ class Account {
     }
   }
 
-  private AtomicReference<Balance> balance(Currency currency) {
-    return balances.computeIfAbsent(currency, this::defaultBalance);
+  public void deposit(Currency currency, BigDecimal amount) {
+    update(
+        currency,
+        b ->
+            Balance.Builder.from(b)
+                .total(b.getTotal().add(amount))
+                .available(b.getAvailable().add(amount))
+                .build());
   }
 
-  public void deposit(Currency currency, BigDecimal amount) {
-    balance(currency)
-        .updateAndGet(
-            b ->
-                Balance.Builder.from(b)
-                    .total(b.getTotal().add(amount))
-                    .available(b.getAvailable().add(amount))
-                    .build());
+  private Balance balance(Currency currency) {
+    Balance balance = balances.get(currency);
+    return balance == null ? new Balance(currency, ZERO) : balance;
+  }
+
+  private void update(Currency currency, UnaryOperator<Balance> change) {
+    Lock lock = locks.get(currency);
+    lock.lock();
+    try {
+      balances.put(currency, change.apply(balance(currency)));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Locks both currencies, in a consistent order to avoid deadlock, so that neither change is
+  // visible without the other.
+  private void update(
+      Currency first,
+      UnaryOperator<Balance> firstChange,
+      Currency second,
+      UnaryOperator<Balance> secondChange) {
+    List<Lock> stripes = ImmutableList.copyOf(locks.bulkGet(ImmutableList.of(first, second)));
+    stripes.forEach(Lock::lock);
+    try {
+      Balance firstBalance = firstChange.apply(balance(first));
+      Balance secondBalance = secondChange.apply(balance(second));
+      balances.put(first, firstBalance);
+      balances.put(second, secondBalance);
+    } finally {
+      stripes.forEach(Lock::unlock);
+    }
   }
 }
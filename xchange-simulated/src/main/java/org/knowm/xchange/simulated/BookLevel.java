@@ -1,12 +1,12 @@
 package org.knowm.xchange.simulated;
 
 import java.math.BigDecimal;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import lombok.Data;
 
 @Data
 final class BookLevel {
   private final BigDecimal price;
-  private final List<BookOrder> orders = new LinkedList<>();
+  private final Deque<BookOrder> orders = new ArrayDeque<>();
 }
@@ -1,11 +1,11 @@
 package org.knowm.xchange.simulated;
 
 import static java.math.BigDecimal.ZERO;
-import static java.util.UUID.randomUUID;
 import static org.knowm.xchange.dto.Order.OrderType.ASK;
 
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Data;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -24,11 +24,12 @@ import org.knowm.xchange.dto.trade.LimitOrder;
 final class BookOrder {
 
   private static final BigDecimal INF = BigDecimal.valueOf(Long.MAX_VALUE);
+  private static final AtomicLong ID_SEQUENCE = new AtomicLong();
 
   static BookOrder fromOrder(Order original, String apiKey) {
     return BookOrder.builder()
         .apiKey(apiKey)
-        .id(randomUUID().toString())
+        .id(Long.toString(ID_SEQUENCE.incrementAndGet()))
         .limitPrice(
             original instanceof LimitOrder
                 ? ((LimitOrder) original).getLimitPrice()
@@ -0,0 +1,117 @@
+package org.knowm.xchange.simulated;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single thread which executes every change to a {@link MatchingEngine}, taking work from a
+ * bounded queue. Submitters block while the queue is full, so a producer which outpaces the engine
+ * is slowed down rather than exhausting memory.
+ *
+ * <p>Submitting and closing are mutually exclusive: a task is either queued before the loop is
+ * closed, and then run, or rejected. Closing also releases any submitters blocked on a full queue.
+ */
+final class EngineEventLoop implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EngineEventLoop.class);
+
+  private final int queueCapacity;
+  private final Thread thread;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+
+  // guarded by lock
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  private boolean running = true;
+
+  EngineEventLoop(String name, int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+    this.thread = new Thread(this::run, name);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Queues a task. Tasks submitted from the loop's own thread, such as by a fill listener, are run
+   * immediately.
+   *
+   * @param task the task
+   * @return the result of the task once it has run
+   * @throws IllegalStateException if the loop has been closed, including while waiting for space in
+   *     the queue
+   */
+  <T> CompletableFuture<T> submit(Supplier<T> task) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Runnable runnable =
+        () -> {
+          try {
+            result.complete(task.get());
+          } catch (Throwable t) {
+            result.completeExceptionally(t);
+          }
+        };
+    if (Thread.currentThread() == thread) {
+      runnable.run();
+      return result;
+    }
+    lock.lock();
+    try {
+      while (running && queue.size() >= queueCapacity) {
+        notFull.await();
+      }
+      if (!running) {
+        throw new IllegalStateException(thread.getName() + " has been closed");
+      }
+      queue.add(runnable);
+      notEmpty.signal();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.completeExceptionally(e);
+    } finally {
+      lock.unlock();
+    }
+    return result;
+  }
+
+  private void run() {
+    LOGGER.debug("{} started", thread.getName());
+    while (true) {
+      Runnable task;
+      lock.lock();
+      try {
+        while (running && queue.isEmpty()) {
+          notEmpty.awaitUninterruptibly();
+        }
+        task = queue.poll();
+        if (task == null) {
+          break;
+        }
+        notFull.signal();
+      } finally {
+        lock.unlock();
+      }
+      task.run();
+    }
+    LOGGER.debug("{} stopped", thread.getName());
+  }
+
+  /** Stops the loop once the tasks already queued have run. Later submissions are rejected. */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      running = false;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
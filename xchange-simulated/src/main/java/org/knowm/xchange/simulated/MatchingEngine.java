@@ -2,17 +2,36 @@ package org.knowm.xchange.simulated;
 
 import static java.math.BigDecimal.ZERO;
 import static java.math.RoundingMode.HALF_UP;
-import static java.util.UUID.randomUUID;
 import static java.util.stream.Collectors.toList;
 import static org.knowm.xchange.dto.Order.OrderType.ASK;
 import static org.knowm.xchange.dto.Order.OrderType.BID;
 
-import com.google.common.collect.*;
+import com.google.common.base.Throwables;
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
 import java.math.BigDecimal;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
@@ -29,6 +48,18 @@ import org.slf4j.LoggerFactory;
 /**
  * The "exchange" which backs {@link SimulatedExchange}.
  *
+ * <p>Each side of the book is a map of price levels sorted best price first, so matching and
+ * insertion cost O(log levels) regardless of the depth of the book. Changes to the book are
+ * serialised by a lock held by this engine alone, so engines for different currency pairs never
+ * contend. Readers of the ticker, order book and trade history do not take the lock: the ticker is
+ * replaced on every change, and the order books are immutable snapshots which are only rebuilt
+ * (under the lock) the first time they are requested after a change.
+ *
+ * <p>If created with an {@link EngineEventLoop}, every change to the book is made on the loop's
+ * thread, so the book is only ever written by one thread and callers posting orders to different
+ * pairs do not hold each other up. The {@code Async} methods allow many orders to be in flight at
+ * once; fill listeners are called on the loop's thread.
+ *
  * @author Graham Crockford
  */
 final class MatchingEngine {
@@ -37,18 +68,28 @@ final class MatchingEngine {
   private static final BigDecimal FEE_RATE = new BigDecimal("0.001");
   private static final int TRADE_HISTORY_SIZE = 50;
 
+  /** Shared by all engines so that trade ids are unique across currency pairs. */
+  private static final AtomicLong TRADE_SEQUENCE = new AtomicLong();
+
   private final AccountFactory accountFactory;
   private final CurrencyPair currencyPair;
   private final int priceScale;
   private final BigDecimal minimumAmount;
   private final Consumer<Fill> onFill;
+  private final EngineEventLoop eventLoop;
 
-  private final List<BookLevel> asks = new LinkedList<>();
-  private final List<BookLevel> bids = new LinkedList<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final NavigableMap<BigDecimal, BookLevel> asks = new TreeMap<>();
+  private final NavigableMap<BigDecimal, BookLevel> bids = new TreeMap<>(Comparator.reverseOrder());
+  private final Map<String, BookOrder> ordersById = new HashMap<>();
   private final Deque<Trade> publicTrades = new ConcurrentLinkedDeque<>();
-  private final Multimap<String, UserTrade> userTrades = LinkedListMultimap.create();
+  private final Map<String, Queue<UserTrade>> userTrades = new ConcurrentHashMap<>();
+  /** Guarded by {@link #lock}. Saves walking {@link #publicTrades} to count it. */
+  private int publicTradesSize;
 
   private volatile Ticker ticker = new Ticker.Builder().build();
+  private volatile Level3OrderBook level3Snapshot;
+  private volatile OrderBook level2Snapshot;
 
   MatchingEngine(
       AccountFactory accountFactory,
@@ -64,44 +105,79 @@ final class MatchingEngine {
       int priceScale,
       BigDecimal minimumAmount,
       Consumer<Fill> onFill) {
+    this(accountFactory, currencyPair, priceScale, minimumAmount, onFill, null);
+  }
+
+  MatchingEngine(
+      AccountFactory accountFactory,
+      CurrencyPair currencyPair,
+      int priceScale,
+      BigDecimal minimumAmount,
+      Consumer<Fill> onFill,
+      EngineEventLoop eventLoop) {
     this.accountFactory = accountFactory;
     this.currencyPair = currencyPair;
     this.priceScale = priceScale;
     this.minimumAmount = minimumAmount;
     this.onFill = onFill;
+    this.eventLoop = eventLoop;
   }
 
-  public synchronized LimitOrder postOrder(String apiKey, Order original) {
+  public LimitOrder postOrder(String apiKey, Order original) {
+    if (eventLoop == null) {
+      return doPostOrder(apiKey, original);
+    }
+    return await(postOrderAsync(apiKey, original));
+  }
+
+  /**
+   * Posts an order without waiting for it to be matched if running on an event loop.
+   *
+   * @param apiKey the user
+   * @param original the order
+   * @return the order as it stands after matching, or the reason it was rejected
+   */
+  public CompletableFuture<LimitOrder> postOrderAsync(String apiKey, Order original) {
+    return execute(() -> doPostOrder(apiKey, original));
+  }
+
+  private LimitOrder doPostOrder(String apiKey, Order original) {
     LOGGER.debug("User {} posting order: {}", apiKey, original);
     validate(original);
     Account account = accountFactory.get(apiKey);
-    checkBalance(original, account);
-    BookOrder takerOrder = BookOrder.fromOrder(original, apiKey);
-    switch (takerOrder.getType()) {
-      case ASK:
-        LOGGER.debug("Matching against bids");
-        chewBook(bids, takerOrder);
-        if (!takerOrder.isDone()) {
-          if (original instanceof MarketOrder) {
-            throw new ExchangeException("Cannot fulfil order. No buyers.");
+    lock.lock();
+    try {
+      checkBalance(original, account);
+      BookOrder takerOrder = BookOrder.fromOrder(original, apiKey);
+      switch (takerOrder.getType()) {
+        case ASK:
+          LOGGER.debug("Matching against bids");
+          chewBook(bids, takerOrder);
+          if (!takerOrder.isDone()) {
+            if (original instanceof MarketOrder) {
+              throw new ExchangeException("Cannot fulfil order. No buyers.");
+            }
+            insertIntoBook(asks, takerOrder, account);
           }
-          insertIntoBook(asks, takerOrder, ASK, account);
-        }
-        break;
-      case BID:
-        LOGGER.debug("Matching against asks");
-        chewBook(asks, takerOrder);
-        if (!takerOrder.isDone()) {
-          if (original instanceof MarketOrder) {
-            throw new ExchangeException("Cannot fulfil order. No sellers.");
+          break;
+        case BID:
+          LOGGER.debug("Matching against asks");
+          chewBook(asks, takerOrder);
+          if (!takerOrder.isDone()) {
+            if (original instanceof MarketOrder) {
+              throw new ExchangeException("Cannot fulfil order. No sellers.");
+            }
+            insertIntoBook(bids, takerOrder, account);
           }
-          insertIntoBook(bids, takerOrder, BID, account);
-        }
-        break;
-      default:
-        throw new ExchangeException("Unsupported order type: " + takerOrder.getType());
+          break;
+        default:
+          throw new ExchangeException("Unsupported order type: " + takerOrder.getType());
+      }
+      return takerOrder.toOrder(currencyPair);
+    } finally {
+      bookChanged();
+      lock.unlock();
     }
-    return takerOrder.toOrder(currencyPair);
   }
 
   private void validate(Order order) {
@@ -138,42 +214,32 @@ final class MatchingEngine {
   }
 
   private void insertIntoBook(
-      List<BookLevel> book, BookOrder order, OrderType type, Account account) {
+      NavigableMap<BigDecimal, BookLevel> book, BookOrder order, Account account) {
 
-    int i = 0;
-    boolean insert = false;
+    ordersById.put(order.getId(), order);
 
-    Iterator<BookLevel> iter = book.iterator();
-    while (iter.hasNext()) {
-      BookLevel level = iter.next();
-      int signum = level.getPrice().compareTo(order.getLimitPrice());
-      if (signum == 0) {
-        level.getOrders().add(order);
-        return;
-      } else if (signum < 0 && type == BID || signum > 0 && type == ASK) {
-        insert = true;
-        break;
-      }
-      i++;
+    BookLevel level = book.get(order.getLimitPrice());
+    if (level != null) {
+      level.getOrders().add(order);
+      return;
     }
 
     account.reserve(order.toOrder(currencyPair));
 
     BookLevel newLevel = new BookLevel(order.getLimitPrice());
     newLevel.getOrders().add(order);
-    if (insert) {
-      book.add(i, newLevel);
-    } else {
-      book.add(newLevel);
-    }
+    book.put(order.getLimitPrice(), newLevel);
 
     ticker = newTickerFromBook().last(ticker.getLast()).build();
   }
 
   private Ticker.Builder newTickerFromBook() {
-    return new Ticker.Builder()
-        .ask(asks.isEmpty() ? null : asks.get(0).getPrice())
-        .bid(bids.isEmpty() ? null : bids.get(0).getPrice());
+    return new Ticker.Builder().ask(bestPrice(asks)).bid(bestPrice(bids));
+  }
+
+  private static BigDecimal bestPrice(NavigableMap<BigDecimal, BookLevel> book) {
+    Map.Entry<BigDecimal, BookLevel> best = book.firstEntry();
+    return best == null ? null : best.getKey();
   }
 
   /**
@@ -185,31 +251,52 @@ final class MatchingEngine {
    * @throws ExchangeException If there is insufficient liquidity.
    */
   public BigDecimal marketCostOrProceeds(OrderType orderType, BigDecimal amount) {
-    BigDecimal remaining = amount;
-    BigDecimal cost = ZERO;
-    List<BookLevel> orderbookSide = orderType.equals(BID) ? asks : bids;
-    for (BookOrder order :
-        FluentIterable.from(orderbookSide).transformAndConcat(BookLevel::getOrders)) {
-      BigDecimal available = order.getRemainingAmount();
-      BigDecimal tradeAmount = remaining.compareTo(available) >= 0 ? available : remaining;
-      BigDecimal tradeCost = tradeAmount.multiply(order.getLimitPrice());
-      cost = cost.add(tradeCost);
-      remaining = remaining.subtract(tradeAmount);
-      if (remaining.compareTo(ZERO) == 0) return cost;
+    lock.lock();
+    try {
+      BigDecimal remaining = amount;
+      BigDecimal cost = ZERO;
+      NavigableMap<BigDecimal, BookLevel> orderbookSide = orderType.equals(BID) ? asks : bids;
+      for (BookLevel level : orderbookSide.values()) {
+        for (BookOrder order : level.getOrders()) {
+          BigDecimal available = order.getRemainingAmount();
+          BigDecimal tradeAmount = remaining.compareTo(available) >= 0 ? available : remaining;
+          BigDecimal tradeCost = tradeAmount.multiply(order.getLimitPrice());
+          cost = cost.add(tradeCost);
+          remaining = remaining.subtract(tradeAmount);
+          if (remaining.compareTo(ZERO) == 0) return cost;
+        }
+      }
+      throw new ExchangeException("Insufficient liquidity in book");
+    } finally {
+      lock.unlock();
     }
-    throw new ExchangeException("Insufficient liquidity in book");
   }
 
-  public synchronized Level3OrderBook book() {
-    return new Level3OrderBook(
-        FluentIterable.from(asks)
-            .transformAndConcat(BookLevel::getOrders)
-            .transform(o -> o.toOrder(currencyPair))
-            .toList(),
-        FluentIterable.from(bids)
-            .transformAndConcat(BookLevel::getOrders)
-            .transform(o -> o.toOrder(currencyPair))
-            .toList());
+  /** @return a snapshot of every order on the book. Does not block while the book is unchanged. */
+  public Level3OrderBook book() {
+    Level3OrderBook result = level3Snapshot;
+    if (result != null) {
+      return result;
+    }
+    lock.lock();
+    try {
+      if (level3Snapshot == null) {
+        level3Snapshot = new Level3OrderBook(level3BookSide(asks), level3BookSide(bids));
+      }
+      return level3Snapshot;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private List<LimitOrder> level3BookSide(NavigableMap<BigDecimal, BookLevel> book) {
+    List<LimitOrder> result = new ArrayList<>();
+    for (BookLevel level : book.values()) {
+      for (BookOrder order : level.getOrders()) {
+        result.add(order.toOrder(currencyPair));
+      }
+    }
+    return Collections.unmodifiableList(result);
   }
 
   public Ticker ticker() {
@@ -220,23 +307,26 @@ final class MatchingEngine {
     return FluentIterable.from(publicTrades).transform(t -> Trade.Builder.from(t).build()).toList();
   }
 
-  public synchronized List<UserTrade> tradeHistory(String apiKey) {
-    return ImmutableList.copyOf(userTrades.get(apiKey));
+  public List<UserTrade> tradeHistory(String apiKey) {
+    Queue<UserTrade> trades = userTrades.get(apiKey);
+    return trades == null ? ImmutableList.of() : ImmutableList.copyOf(trades);
   }
 
-  private void chewBook(Iterable<BookLevel> makerOrders, BookOrder takerOrder) {
-    Iterator<BookLevel> levelIter = makerOrders.iterator();
-    while (levelIter.hasNext()) {
+  private void chewBook(NavigableMap<BigDecimal, BookLevel> makerOrders, BookOrder takerOrder) {
+    Iterator<BookLevel> levelIter = makerOrders.values().iterator();
+    while (levelIter.hasNext() && !takerOrder.isDone()) {
       BookLevel level = levelIter.next();
-      Iterator<BookOrder> orderIter = level.getOrders().iterator();
-      while (orderIter.hasNext() && !takerOrder.isDone()) {
-        BookOrder makerOrder = orderIter.next();
+      Deque<BookOrder> orders = level.getOrders();
+
+      LOGGER.debug("Matching against level {}", level.getPrice());
+      if (!orders.getFirst().matches(takerOrder)) {
+        LOGGER.debug("Ran out of maker orders at this price");
+        return;
+      }
 
+      while (!orders.isEmpty() && !takerOrder.isDone()) {
+        BookOrder makerOrder = orders.getFirst();
         LOGGER.debug("Matching against maker order {}", makerOrder);
-        if (!makerOrder.matches(takerOrder)) {
-          LOGGER.debug("Ran out of maker orders at this price");
-          return;
-        }
 
         BigDecimal tradeAmount =
             takerOrder.getRemainingAmount().compareTo(makerOrder.getRemainingAmount()) > 0
@@ -248,12 +338,14 @@ final class MatchingEngine {
 
         if (makerOrder.isDone()) {
           LOGGER.debug("Maker order removed from book");
-          orderIter.remove();
-          if (level.getOrders().isEmpty()) {
-            levelIter.remove();
-          }
+          orders.removeFirst();
+          ordersById.remove(makerOrder.getId());
         }
       }
+
+      if (orders.isEmpty()) {
+        levelIter.remove();
+      }
     }
   }
 
@@ -263,7 +355,7 @@ final class MatchingEngine {
     UserTrade takerTrade =
         new UserTrade.Builder()
             .currencyPair(currencyPair)
-            .id(randomUUID().toString())
+            .id(Long.toString(TRADE_SEQUENCE.incrementAndGet()))
             .originalAmount(tradeAmount)
             .price(makerOrder.getLimitPrice())
             .timestamp(timestamp)
@@ -284,7 +376,7 @@ final class MatchingEngine {
     UserTrade makerTrade =
         new UserTrade.Builder()
             .currencyPair(currencyPair)
-            .id(randomUUID().toString())
+            .id(Long.toString(TRADE_SEQUENCE.incrementAndGet()))
             .originalAmount(tradeAmount)
             .price(makerOrder.getLimitPrice())
             .timestamp(timestamp)
@@ -326,42 +418,51 @@ final class MatchingEngine {
     bookOrder.setFee(bookOrder.getFee().add(trade.getFeeAmount()));
   }
 
-  public synchronized List<LimitOrder> openOrders(String apiKey) {
-    return Stream.concat(asks.stream(), bids.stream())
-        .flatMap(v -> v.getOrders().stream())
-        .filter(o -> o.getApiKey().equals(apiKey))
-        .sorted(Ordering.natural().onResultOf(BookOrder::getTimestamp).reversed())
-        .map(o -> o.toOrder(currencyPair))
-        .collect(toList());
+  public List<LimitOrder> openOrders(String apiKey) {
+    lock.lock();
+    try {
+      return ordersById.values().stream()
+          .filter(o -> o.getApiKey().equals(apiKey))
+          .sorted(Ordering.natural().onResultOf(BookOrder::getTimestamp).reversed())
+          .map(o -> o.toOrder(currencyPair))
+          .collect(toList());
+    } finally {
+      lock.unlock();
+    }
   }
 
-  public synchronized OrderBook level2() {
-    return new OrderBook(new Date(), accumulateBookSide(asks), accumulateBookSide(bids));
+  /**
+   * @return a snapshot of the book aggregated by price. Does not block while the book is unchanged.
+   */
+  public OrderBook level2() {
+    OrderBook result = level2Snapshot;
+    if (result != null) {
+      return result;
+    }
+    lock.lock();
+    try {
+      if (level2Snapshot == null) {
+        level2Snapshot =
+            new OrderBook(new Date(), accumulateBookSide(asks, ASK), accumulateBookSide(bids, BID));
+      }
+      return level2Snapshot;
+    } finally {
+      lock.unlock();
+    }
   }
 
-  private List<LimitOrder> accumulateBookSide(List<BookLevel> book) {
-    BigDecimal price = null;
-    BigDecimal amount = ZERO;
-    List<LimitOrder> result = new ArrayList<>();
-    Iterator<BookOrder> iter = book.stream().flatMap(v -> v.getOrders().stream()).iterator();
-    while (iter.hasNext()) {
-      BookOrder bookOrder = iter.next();
-      amount = amount.add(bookOrder.getRemainingAmount());
-      if (price != null && bookOrder.getLimitPrice().compareTo(price) != 0) {
-        result.add(
-            new LimitOrder.Builder(ASK, currencyPair)
-                .originalAmount(amount)
-                .limitPrice(price)
-                .build());
-        amount = ZERO;
+  private List<LimitOrder> accumulateBookSide(
+      NavigableMap<BigDecimal, BookLevel> book, OrderType type) {
+    List<LimitOrder> result = new ArrayList<>(book.size());
+    for (BookLevel level : book.values()) {
+      BigDecimal amount = ZERO;
+      for (BookOrder bookOrder : level.getOrders()) {
+        amount = amount.add(bookOrder.getRemainingAmount());
       }
-      price = bookOrder.getLimitPrice();
-    }
-    if (price != null) {
       result.add(
-          new LimitOrder.Builder(ASK, currencyPair)
+          new LimitOrder.Builder(type, currencyPair)
               .originalAmount(amount)
-              .limitPrice(price)
+              .limitPrice(level.getPrice())
               .build());
     }
     return result;
@@ -371,33 +472,99 @@ final class MatchingEngine {
     // XChange is unusual in this respect (see https://github.com/knowm/XChange/issues/2468)
     if (!fill.isTaker()) {
       publicTrades.push(fill.getTrade());
-      if (publicTrades.size() > TRADE_HISTORY_SIZE) {
+      if (++publicTradesSize > TRADE_HISTORY_SIZE) {
         publicTrades.removeLast();
+        publicTradesSize--;
       }
     }
-    userTrades.put(fill.getApiKey(), fill.getTrade());
+    userTrades
+        .computeIfAbsent(fill.getApiKey(), k -> new ConcurrentLinkedQueue<>())
+        .add(fill.getTrade());
     accountFactory.get(fill.getApiKey()).fill(fill.getTrade(), !fill.isTaker());
     onFill.accept(fill);
   }
 
   public void cancelOrder(String orderId, Order.OrderType type) {
+    if (eventLoop == null) {
+      doCancelOrder(orderId, type);
+    } else {
+      await(cancelOrderAsync(orderId, type));
+    }
+  }
 
+  /**
+   * Cancels an order without waiting if running on an event loop.
+   *
+   * @param orderId the order id
+   * @param type the side of the book
+   * @return completes once the order has been removed
+   */
+  public CompletableFuture<Void> cancelOrderAsync(String orderId, Order.OrderType type) {
+    return execute(
+        () -> {
+          doCancelOrder(orderId, type);
+          return null;
+        });
+  }
+
+  private void doCancelOrder(String orderId, Order.OrderType type) {
+
+    NavigableMap<BigDecimal, BookLevel> book;
     switch (type) {
       case ASK:
-        asks.stream()
-            .forEach(
-                bookLevel ->
-                    bookLevel.getOrders().removeIf(bookOrder -> bookOrder.getId().equals(orderId)));
+        book = asks;
         break;
       case BID:
-        bids.stream()
-            .forEach(
-                bookLevel ->
-                    bookLevel.getOrders().removeIf(bookOrder -> bookOrder.getId().equals(orderId)));
-
+        book = bids;
         break;
       default:
         throw new ExchangeException("Unsupported order type: " + type);
     }
+
+    lock.lock();
+    try {
+      BookOrder order = ordersById.get(orderId);
+      if (order == null || order.getType() != type) {
+        return;
+      }
+      ordersById.remove(orderId);
+      BookLevel level = book.get(order.getLimitPrice());
+      level.getOrders().remove(order);
+      if (level.getOrders().isEmpty()) {
+        book.remove(level.getPrice());
+        ticker = newTickerFromBook().last(ticker.getLast()).build();
+      }
+    } finally {
+      bookChanged();
+      lock.unlock();
+    }
+  }
+
+  private <T> CompletableFuture<T> execute(Supplier<T> task) {
+    if (eventLoop != null) {
+      return eventLoop.submit(task);
+    }
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      result.complete(task.get());
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new ExchangeException(e.getCause());
+    }
+  }
+
+  /** Invalidates the read snapshots. Must be called while holding the lock. */
+  private void bookChanged() {
+    level3Snapshot = null;
+    level2Snapshot = null;
   }
 }
@@ -13,27 +13,58 @@ import org.knowm.xchange.currency.CurrencyPair;
  * <p>If shared between instances of {@link SimulatedExchange}, this ensures that all users will be
  * trading against the same order books and thus each other.
  *
+ * <p>By default, orders are matched on the caller's thread. Construct with a queue capacity to run
+ * each currency pair's engine on its own thread instead, which allows backtests over many pairs to
+ * use all available cores. In that case, {@link #close()} the factory when finished with it.
+ *
  * @author Graham Crockford
  */
-public class MatchingEngineFactory {
+public class MatchingEngineFactory implements AutoCloseable {
 
   private final ConcurrentMap<CurrencyPair, MatchingEngine> engines = new ConcurrentHashMap<>();
+  private final ConcurrentMap<CurrencyPair, EngineEventLoop> eventLoops = new ConcurrentHashMap<>();
 
   private final AccountFactory accountFactory;
+  private final int queueCapacity;
 
   public MatchingEngineFactory(AccountFactory accountFactory) {
+    this(accountFactory, 0);
+  }
+
+  /**
+   * @param accountFactory the user accounts
+   * @param queueCapacity if positive, each currency pair's engine runs on a dedicated thread,
+   *     accepting up to this many orders before callers are made to wait.
+   */
+  public MatchingEngineFactory(AccountFactory accountFactory, int queueCapacity) {
     this.accountFactory = accountFactory;
+    this.queueCapacity = queueCapacity;
   }
 
   MatchingEngine create(
       CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount, Consumer<Fill> onFill) {
     return engines.computeIfAbsent(
         currencyPair,
-        pair -> new MatchingEngine(accountFactory, pair, priceScale, minimumAmount, onFill));
+        pair ->
+            new MatchingEngine(
+                accountFactory, pair, priceScale, minimumAmount, onFill, eventLoop(pair)));
   }
 
   MatchingEngine create(CurrencyPair currencyPair, int priceScale, BigDecimal minimumAmount) {
-    return engines.computeIfAbsent(
-        currencyPair, pair -> new MatchingEngine(accountFactory, pair, priceScale, minimumAmount));
+    return create(currencyPair, priceScale, minimumAmount, f -> {});
+  }
+
+  private EngineEventLoop eventLoop(CurrencyPair currencyPair) {
+    if (queueCapacity <= 0) {
+      return null;
+    }
+    return eventLoops.computeIfAbsent(
+        currencyPair, pair -> new EngineEventLoop("simulated-engine-" + pair, queueCapacity));
+  }
+
+  /** Stops any engine threads once their queued orders have been processed. */
+  @Override
+  public void close() {
+    eventLoops.values().forEach(EngineEventLoop::close);
   }
 }
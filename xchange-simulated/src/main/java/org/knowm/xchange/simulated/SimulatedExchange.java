@@ -46,6 +46,9 @@ public class SimulatedExchange extends BaseExchange {
    *       and share it between {@link SimulatedExchange} instances to allow those specific
    *       instances to share the same order books and thus trade against each other. Recommended
    *       for integration testing.
+   *   <li>{@code new MatchingEngineFactory(accountFactory, queueCapacity)} - As either of the
+   *       above, but matching the orders for each currency pair on its own thread. Recommended for
+   *       backtests over many currency pairs.
    * </ul>
    */
   public static final String ENGINE_FACTORY_PARAM = "MatchingEngineFactory";
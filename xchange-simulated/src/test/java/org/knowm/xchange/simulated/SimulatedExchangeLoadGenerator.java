@@ -0,0 +1,121 @@
+package org.knowm.xchange.simulated;
+
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Drives random limit orders into many currency pairs at once and reports the throughput of the
+ * simulated exchange, comparing matching on the callers' threads with matching on per-pair event
+ * loops. All pairs share the same counter currency and accounts, so the account ledger is contended
+ * as it would be in a multi-pair backtest.
+ *
+ * <p>Arguments, all optional: number of pairs (default: available processors / 2), orders per pair
+ * (default 200000), event loop queue capacity (default 1024).
+ */
+public class SimulatedExchangeLoadGenerator {
+
+  private static final String[] TRADERS = {"trader-0", "trader-1", "trader-2", "trader-3"};
+  private static final BigDecimal DEPOSIT = new BigDecimal("1000000000000");
+  private static final int PRICE_SCALE = 2;
+
+  private final int pairs;
+  private final int ordersPerPair;
+
+  private SimulatedExchangeLoadGenerator(int pairs, int ordersPerPair) {
+    this.pairs = pairs;
+    this.ordersPerPair = ordersPerPair;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int pairs =
+        args.length > 0
+            ? Integer.parseInt(args[0])
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    int ordersPerPair = args.length > 1 ? Integer.parseInt(args[1]) : 200000;
+    int queueCapacity = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+
+    SimulatedExchangeLoadGenerator generator =
+        new SimulatedExchangeLoadGenerator(pairs, ordersPerPair);
+    for (int round = 0; round < 2; round++) {
+      String suffix = round == 0 ? " (warm-up)" : "";
+      generator.run("caller threads" + suffix, 0);
+      generator.run("event loops" + suffix, queueCapacity);
+    }
+  }
+
+  private void run(String mode, int queueCapacity) throws InterruptedException {
+    AccountFactory accountFactory = new AccountFactory();
+    LongAdder fills = new LongAdder();
+    List<Thread> producers = new ArrayList<>(pairs);
+    try (MatchingEngineFactory engineFactory =
+        new MatchingEngineFactory(accountFactory, queueCapacity)) {
+      for (int i = 0; i < pairs; i++) {
+        CurrencyPair pair = new CurrencyPair(Currency.getInstance("SIM" + i), Currency.USD);
+        for (String trader : TRADERS) {
+          accountFactory.get(trader).deposit(pair.base, DEPOSIT);
+          accountFactory.get(trader).deposit(pair.counter, DEPOSIT);
+        }
+        MatchingEngine engine =
+            engineFactory.create(pair, PRICE_SCALE, BigDecimal.ONE, f -> fills.increment());
+        List<LimitOrder> orders = randomOrders(pair, new Random(i));
+        producers.add(
+            new Thread(() -> produce(engine, orders, queueCapacity > 0), "load-generator-" + pair));
+      }
+
+      long start = System.nanoTime();
+      producers.forEach(Thread::start);
+      for (Thread producer : producers) {
+        producer.join();
+      }
+      double seconds = (System.nanoTime() - start) / 1e9;
+
+      long orders = (long) pairs * ordersPerPair;
+      System.out.printf(
+          "%-26s %3d pairs %,12d orders %8.2fs %,12.0f orders/s %,12.0f fills/s%n",
+          mode, pairs, orders, seconds, orders / seconds, fills.sum() / 2 / seconds);
+    }
+  }
+
+  private void produce(MatchingEngine engine, List<LimitOrder> orders, boolean async) {
+    CompletableFuture<LimitOrder> last = null;
+    for (int i = 0; i < orders.size(); i++) {
+      String trader = TRADERS[i % TRADERS.length];
+      if (async) {
+        last = engine.postOrderAsync(trader, orders.get(i));
+      } else {
+        engine.postOrder(trader, orders.get(i));
+      }
+    }
+    if (last != null) {
+      last.join();
+    }
+  }
+
+  // Prices random-walk around 100.00, with each order priced within a few ticks of the current
+  // mid so that roughly half of them cross the spread.
+  private List<LimitOrder> randomOrders(CurrencyPair pair, Random random) {
+    List<LimitOrder> result = new ArrayList<>(ordersPerPair);
+    long mid = 10000;
+    for (int i = 0; i < ordersPerPair; i++) {
+      mid = Math.max(100, mid + random.nextInt(3) - 1);
+      boolean bid = random.nextBoolean();
+      long price = mid + (bid ? 1 : -1) * (random.nextInt(20) - 5);
+      result.add(
+          new LimitOrder.Builder(bid ? BID : ASK, pair)
+              .limitPrice(BigDecimal.valueOf(price, PRICE_SCALE))
+              .originalAmount(BigDecimal.valueOf(1 + random.nextInt(10)))
+              .build());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,156 @@
+package org.knowm.xchange.simulated;
+
+import static java.math.BigDecimal.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.knowm.xchange.currency.Currency.BTC;
+import static org.knowm.xchange.currency.Currency.ETH;
+import static org.knowm.xchange.currency.Currency.USD;
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+import static org.knowm.xchange.currency.CurrencyPair.ETH_USD;
+import static org.knowm.xchange.dto.Order.OrderStatus.FILLED;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.knowm.xchange.dto.Order.OrderType.BID;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.Balance;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
+
+public class TestMatchingEngineEventLoop {
+
+  private static final BigDecimal INITIAL_BALANCE = new BigDecimal(1000000);
+  private static final String MAKER = "MAKER";
+  private static final String TAKER = "TAKER";
+
+  private AccountFactory accountFactory;
+  private MatchingEngineFactory matchingEngineFactory;
+
+  @Before
+  public void setup() {
+    accountFactory = new AccountFactory();
+    matchingEngineFactory = new MatchingEngineFactory(accountFactory, 64);
+    for (String apiKey : new String[] {MAKER, TAKER}) {
+      for (Currency currency : new Currency[] {BTC, ETH, USD}) {
+        accountFactory.get(apiKey).deposit(currency, INITIAL_BALANCE);
+      }
+    }
+  }
+
+  @After
+  public void tearDown() {
+    matchingEngineFactory.close();
+  }
+
+  @Test
+  public void testMatchesOnEventLoop() {
+    MatchingEngine engine = matchingEngineFactory.create(BTC_USD, 2, new BigDecimal("0.001"));
+
+    engine.postOrder(MAKER, limitOrder(ASK, BTC_USD, "100", "2"));
+    LimitOrder taker = engine.postOrder(TAKER, limitOrder(BID, BTC_USD, "100", "2"));
+
+    assertThat(taker.getStatus()).isEqualTo(FILLED);
+    assertThat(engine.tradeHistory(TAKER)).hasSize(1);
+    assertThat(engine.book().getAsks()).isEmpty();
+    assertThat(engine.ticker().getLast()).isEqualTo(new BigDecimal("100"));
+  }
+
+  @Test(expected = ExchangeException.class)
+  public void testRejectionRethrownToCaller() {
+    MatchingEngine engine = matchingEngineFactory.create(BTC_USD, 2, new BigDecimal("0.001"));
+    engine.postOrder(TAKER, limitOrder(BID, BTC_USD, "100.001", "1"));
+  }
+
+  @Test
+  public void testParallelPairsConserveBalances() {
+    MatchingEngine btc = matchingEngineFactory.create(BTC_USD, 2, new BigDecimal("0.001"));
+    MatchingEngine eth = matchingEngineFactory.create(ETH_USD, 2, new BigDecimal("0.001"));
+
+    List<CompletableFuture<LimitOrder>> results = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      String price = Integer.toString(100 + i % 5);
+      for (MatchingEngine engine : new MatchingEngine[] {btc, eth}) {
+        CurrencyPair pair = engine == btc ? BTC_USD : ETH_USD;
+        results.add(engine.postOrderAsync(MAKER, limitOrder(ASK, pair, price, "1")));
+        results.add(engine.postOrderAsync(TAKER, limitOrder(BID, pair, price, "1")));
+      }
+    }
+    results.forEach(CompletableFuture::join);
+
+    assertThat(btc.tradeHistory(TAKER)).hasSize(500);
+    assertThat(eth.tradeHistory(TAKER)).hasSize(500);
+    for (Currency currency : new Currency[] {BTC, ETH, USD}) {
+      BigDecimal total = ZERO;
+      for (String apiKey : new String[] {MAKER, TAKER}) {
+        Balance balance = balance(apiKey, currency);
+        assertThat(balance.getFrozen()).isEqualByComparingTo(ZERO);
+        total = total.add(balance.getTotal());
+      }
+      assertThat(total).isEqualByComparingTo(INITIAL_BALANCE.multiply(new BigDecimal(2)));
+    }
+  }
+
+  @Test
+  public void testCloseRunsQueuedTasksAndReleasesBlockedSubmitters() throws Exception {
+    EngineEventLoop loop = new EngineEventLoop("test-loop", 1);
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Integer> first =
+        loop.submit(
+            () -> {
+              running.countDown();
+              awaitUninterruptibly(release);
+              return 1;
+            });
+    running.await(5, TimeUnit.SECONDS);
+    CompletableFuture<Integer> queued = loop.submit(() -> 2);
+
+    CompletableFuture<CompletableFuture<Integer>> blocked =
+        CompletableFuture.supplyAsync(() -> loop.submit(() -> 3));
+    Thread.sleep(100);
+    assertThat(blocked).isNotDone();
+
+    loop.close();
+    assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> loop.submit(() -> 4)).isInstanceOf(IllegalStateException.class);
+
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Balance balance(String apiKey, Currency currency) {
+    return accountFactory.get(apiKey).balances().stream()
+        .filter(b -> b.getCurrency().equals(currency))
+        .findFirst()
+        .get();
+  }
+
+  private static LimitOrder limitOrder(
+      OrderType type, CurrencyPair pair, String price, String amount) {
+    return new LimitOrder.Builder(type, pair)
+        .limitPrice(new BigDecimal(price))
+        .originalAmount(new BigDecimal(amount))
+        .build();
+  }
+}